@@ -0,0 +1,182 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilder;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameBuilder;
+
+/**
+ * Measures the hot paths of the game lifecycle.
+ * <p>
+ * Run with {@code mvn -Pbenchmark verify}; the results including the allocation rates of the GC profiler are written
+ * to {@code target/jmh-result.json}. Set {@code -Djmh.includes=<regex>} to run a subset.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GefangenenDilemmaLifecycleBenchmark {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The number of rounds played in the state used by the state benchmarks.
+     */
+    private static final int PLAYED_ROUNDS = 1000;
+
+    /**
+     * The strategy of the first player.
+     */
+    private GefangenenDilemmaStrategy firstPlayerStrategy;
+    /**
+     * The strategy of the second player.
+     */
+    private GefangenenDilemmaStrategy secondPlayerStrategy;
+    /**
+     * A state after {@link #PLAYED_ROUNDS} rounds, waiting for the answers of the next round.
+     */
+    private GefangenenDilemmaStateImpl state;
+
+    /**
+     * Creates the strategies and the state.
+     */
+    @Setup
+    public void setUp() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        this.firstPlayerStrategy = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        this.secondPlayerStrategy = new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory);
+
+        final GefangenenDilemmaPlayer firstPlayer = new GefangenenDilemmaPlayerImpl("A", FIRST_PLAYER_OUTCOMES);
+        final GefangenenDilemmaPlayer secondPlayer = new GefangenenDilemmaPlayerImpl("B", SECOND_PLAYER_OUTCOMES);
+        this.state = new GefangenenDilemmaStateImpl(firstPlayer, secondPlayer, PLAYED_ROUNDS + 1);
+        for (int round = 0; round < PLAYED_ROUNDS; ++round) {
+            firstPlayer.setAnswer(round % 3 == 0 ? GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH
+                    : GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT);
+            secondPlayer.setAnswer(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT);
+            this.state.nextTurn();
+        }
+    }
+
+    /**
+     * Measures creating a game builder.
+     */
+    @Benchmark
+    public GefangenenDilemmaGameBuilder createBuilder() {
+        return new GefangenenDilemmaGameBuilderImpl();
+    }
+
+    /**
+     * Measures building a game including its players.
+     *
+     * @param blackhole Consumes the game.
+     */
+    @Benchmark
+    public void buildGame(final Blackhole blackhole) throws Exception {
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame()) {
+            blackhole.consume(game);
+        }
+    }
+
+    /**
+     * Measures building and playing a single-round game using the game engine.
+     */
+    @Benchmark
+    public GefangenenDilemmaState playSingleRoundGame() throws Exception {
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame()) {
+            game.start();
+            while (!game.isFinished()) {
+                game.makeMove();
+            }
+            return game.getState();
+        }
+    }
+
+    /**
+     * Measures copying a state.
+     */
+    @Benchmark
+    public GefangenenDilemmaState deepCopyState() {
+        return this.state.deepCopy();
+    }
+
+    /**
+     * Measures computing the players to move next.
+     */
+    @Benchmark
+    public Set<GefangenenDilemmaPlayer> computeNextPlayers() {
+        return this.state.computeNextPlayers();
+    }
+
+    /**
+     * Measures computing the next move of a strategy.
+     */
+    @Benchmark
+    public Optional<GefangenenDilemmaMove> computeNextMove() throws Exception {
+        return this.firstPlayerStrategy.computeNextMove(1, this.state.getFirstPlayer(), this.state,
+                GameBuilder.DEFAULT_MAX_COMPUTATION_TIME_PER_MOVE);
+    }
+
+    /**
+     * Creates a single-round game between the strategies.
+     */
+    private Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+            GefangenenDilemmaStrategy> createGame() throws Exception {
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        builder.addPlayer(builder.createPlayerBuilder().changeName("A").changePayoffMatrix(FIRST_PLAYER_OUTCOMES)
+                .build(), this.firstPlayerStrategy);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("B").changePayoffMatrix(SECOND_PLAYER_OUTCOMES)
+                .build(), this.secondPlayerStrategy);
+        return builder.build(1);
+    }
+}
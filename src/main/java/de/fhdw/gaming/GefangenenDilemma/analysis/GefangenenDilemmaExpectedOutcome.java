@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.analysis;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * The expected outcomes of an infinitely repeated game computed by a {@link GefangenenDilemmaOutcomeEvaluator}.
+ */
+public final class GefangenenDilemmaExpectedOutcome {
+
+    /**
+     * The long-run frequencies of the combinations of answers, indexed by
+     * {@link GefangenenDilemmaPayoffMatrix#indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+     * GefangenenDilemmaGameBuilderFactoryImpl.MOVES)}.
+     */
+    private final double[] stationaryDistribution;
+    /**
+     * The expected outcome of the first player per round in the long run.
+     */
+    private final double firstPlayerAverageOutcome;
+    /**
+     * The expected outcome of the second player per round in the long run.
+     */
+    private final double secondPlayerAverageOutcome;
+    /**
+     * The expected sum of the discounted outcomes of the first player.
+     */
+    private final double firstPlayerDiscountedOutcome;
+    /**
+     * The expected sum of the discounted outcomes of the second player.
+     */
+    private final double secondPlayerDiscountedOutcome;
+
+    /**
+     * Creates expected outcomes.
+     *
+     * @param stationaryDistribution        The long-run frequencies of the combinations of answers. The array is
+     *                                      copied.
+     * @param firstPlayerAverageOutcome     The expected outcome of the first player per round in the long run.
+     * @param secondPlayerAverageOutcome    The expected outcome of the second player per round in the long run.
+     * @param firstPlayerDiscountedOutcome  The expected sum of the discounted outcomes of the first player.
+     * @param secondPlayerDiscountedOutcome The expected sum of the discounted outcomes of the second player.
+     */
+    public GefangenenDilemmaExpectedOutcome(final double[] stationaryDistribution,
+            final double firstPlayerAverageOutcome, final double secondPlayerAverageOutcome,
+            final double firstPlayerDiscountedOutcome, final double secondPlayerDiscountedOutcome) {
+        if (stationaryDistribution.length != GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES) {
+            throw new IllegalArgumentException(String.format("A distribution over %d combinations was expected.",
+                    GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES));
+        }
+        this.stationaryDistribution = stationaryDistribution.clone();
+        this.firstPlayerAverageOutcome = firstPlayerAverageOutcome;
+        this.secondPlayerAverageOutcome = secondPlayerAverageOutcome;
+        this.firstPlayerDiscountedOutcome = firstPlayerDiscountedOutcome;
+        this.secondPlayerDiscountedOutcome = secondPlayerDiscountedOutcome;
+    }
+
+    /**
+     * Returns the long-run frequency of a combination of answers.
+     *
+     * @param answerOfFirstPlayer  The answer of the first player.
+     * @param answerOfSecondPlayer The answer of the second player.
+     */
+    public double getStationaryProbability(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer) {
+        return this.stationaryDistribution[GefangenenDilemmaPayoffMatrix.indexOf(answerOfFirstPlayer,
+                answerOfSecondPlayer)];
+    }
+
+    /**
+     * Returns the expected outcome of the first player per round in the long run (limit of means).
+     */
+    public double getFirstPlayerAverageOutcome() {
+        return this.firstPlayerAverageOutcome;
+    }
+
+    /**
+     * Returns the expected outcome of the second player per round in the long run (limit of means).
+     */
+    public double getSecondPlayerAverageOutcome() {
+        return this.secondPlayerAverageOutcome;
+    }
+
+    /**
+     * Returns the expected sum of the discounted outcomes of the first player.
+     */
+    public double getFirstPlayerDiscountedOutcome() {
+        return this.firstPlayerDiscountedOutcome;
+    }
+
+    /**
+     * Returns the expected sum of the discounted outcomes of the second player.
+     */
+    public double getSecondPlayerDiscountedOutcome() {
+        return this.secondPlayerDiscountedOutcome;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ExpectedOutcome[stationaryDistribution=%s, firstPlayerAverageOutcome=%s, "
+                        + "secondPlayerAverageOutcome=%s, firstPlayerDiscountedOutcome=%s, "
+                        + "secondPlayerDiscountedOutcome=%s]",
+                Arrays.toString(this.stationaryDistribution),
+                this.firstPlayerAverageOutcome,
+                this.secondPlayerAverageOutcome,
+                this.firstPlayerDiscountedOutcome,
+                this.secondPlayerDiscountedOutcome);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaExpectedOutcome) {
+            final GefangenenDilemmaExpectedOutcome other = (GefangenenDilemmaExpectedOutcome) obj;
+            return Arrays.equals(this.stationaryDistribution, other.stationaryDistribution)
+                    && Double.compare(this.firstPlayerAverageOutcome, other.firstPlayerAverageOutcome) == 0
+                    && Double.compare(this.secondPlayerAverageOutcome, other.secondPlayerAverageOutcome) == 0
+                    && Double.compare(this.firstPlayerDiscountedOutcome, other.firstPlayerDiscountedOutcome) == 0
+                    && Double.compare(this.secondPlayerDiscountedOutcome, other.secondPlayerDiscountedOutcome) == 0;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.stationaryDistribution) ^ Objects.hash(this.firstPlayerAverageOutcome,
+                this.secondPlayerAverageOutcome, this.firstPlayerDiscountedOutcome,
+                this.secondPlayerDiscountedOutcome);
+    }
+}
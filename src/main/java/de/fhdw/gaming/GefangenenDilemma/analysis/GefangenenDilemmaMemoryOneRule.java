@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.analysis;
+
+import java.util.Arrays;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * A memory-one strategy given by the probabilities of remaining silent in the first round and after each combination
+ * of answers in the previous round. Rules are immutable.
+ */
+public final class GefangenenDilemmaMemoryOneRule {
+
+    /**
+     * The probability of remaining silent in the first round.
+     */
+    private final double initialSilenceProbability;
+    /**
+     * The probabilities of remaining silent after the previous round, indexed by
+     * {@link GefangenenDilemmaPayoffMatrix#indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+     * GefangenenDilemmaGameBuilderFactoryImpl.MOVES)} with the own answer first.
+     */
+    private final double[] silenceProbabilities;
+
+    /**
+     * Creates a memory-one rule.
+     *
+     * @param initialSilenceProbability The probability of remaining silent in the first round.
+     * @param afterSnitchSnitch         The probability of remaining silent after both players snitched.
+     * @param afterSnitchStaySilent     The probability of remaining silent after the player snitched and the
+     *                                 opponent remained silent.
+     * @param afterStaySilentSnitch     The probability of remaining silent after the player remained silent and
+     *                                 the opponent snitched.
+     * @param afterStaySilentStaySilent The probability of remaining silent after both players remained silent.
+     * @throws IllegalArgumentException if a probability is not between 0 and 1.
+     */
+    public GefangenenDilemmaMemoryOneRule(final double initialSilenceProbability, final double afterSnitchSnitch,
+            final double afterSnitchStaySilent, final double afterStaySilentSnitch,
+            final double afterStaySilentStaySilent) {
+        this.initialSilenceProbability = GefangenenDilemmaMemoryOneRule.checkProbability(initialSilenceProbability);
+        this.silenceProbabilities = new double[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES];
+        this.silenceProbabilities[GefangenenDilemmaPayoffMatrix.indexOf(
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH)] =
+                        GefangenenDilemmaMemoryOneRule.checkProbability(afterSnitchSnitch);
+        this.silenceProbabilities[GefangenenDilemmaPayoffMatrix.indexOf(
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT)] =
+                        GefangenenDilemmaMemoryOneRule.checkProbability(afterSnitchStaySilent);
+        this.silenceProbabilities[GefangenenDilemmaPayoffMatrix.indexOf(
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH)] =
+                        GefangenenDilemmaMemoryOneRule.checkProbability(afterStaySilentSnitch);
+        this.silenceProbabilities[GefangenenDilemmaPayoffMatrix.indexOf(
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT)] =
+                        GefangenenDilemmaMemoryOneRule.checkProbability(afterStaySilentStaySilent);
+    }
+
+    /**
+     * Checks that a value is a probability.
+     *
+     * @param probability The value to check.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is not between 0 and 1.
+     */
+    private static double checkProbability(final double probability) {
+        if (!(probability >= 0.0 && probability <= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("A probability must be between 0 and 1, but %s was passed.", probability));
+        }
+        return probability;
+    }
+
+    /**
+     * Returns the probability of remaining silent in the first round.
+     */
+    public double getInitialSilenceProbability() {
+        return this.initialSilenceProbability;
+    }
+
+    /**
+     * Returns the probability of remaining silent after a round.
+     *
+     * @param ownAnswer      The answer of the player in the previous round.
+     * @param opponentAnswer The answer of the opponent in the previous round.
+     */
+    public double getSilenceProbability(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES ownAnswer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES opponentAnswer) {
+        return this.silenceProbabilities[GefangenenDilemmaPayoffMatrix.indexOf(ownAnswer, opponentAnswer)];
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoryOneRule[initial=%s, afterSnitchSnitch=%s, afterSnitchStaySilent=%s, "
+                + "afterStaySilentSnitch=%s, afterStaySilentStaySilent=%s]", this.initialSilenceProbability,
+                this.silenceProbabilities[0], this.silenceProbabilities[1], this.silenceProbabilities[2],
+                this.silenceProbabilities[3]);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaMemoryOneRule) {
+            final GefangenenDilemmaMemoryOneRule other = (GefangenenDilemmaMemoryOneRule) obj;
+            return Double.compare(this.initialSilenceProbability, other.initialSilenceProbability) == 0
+                    && Arrays.equals(this.silenceProbabilities, other.silenceProbabilities);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(this.initialSilenceProbability) + Arrays.hashCode(this.silenceProbabilities);
+    }
+}
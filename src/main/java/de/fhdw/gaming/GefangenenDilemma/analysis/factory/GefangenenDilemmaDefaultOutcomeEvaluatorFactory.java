@@ -0,0 +1,40 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.analysis.factory;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaOutcomeEvaluator;
+import de.fhdw.gaming.GefangenenDilemma.analysis.impl.GefangenenDilemmaMarkovOutcomeEvaluator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+
+/**
+ * Implements {@link GefangenenDilemmaOutcomeEvaluatorFactory} by creating evaluators which solve the Markov chain over
+ * the combinations of answers.
+ */
+public final class GefangenenDilemmaDefaultOutcomeEvaluatorFactory implements GefangenenDilemmaOutcomeEvaluatorFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultOutcomeEvaluatorFactory}.
+     */
+    public GefangenenDilemmaDefaultOutcomeEvaluatorFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaOutcomeEvaluator create(final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes, final double discountFactor) {
+        return new GefangenenDilemmaMarkovOutcomeEvaluator(firstPlayerOutcomes, secondPlayerOutcomes, discountFactor);
+    }
+}
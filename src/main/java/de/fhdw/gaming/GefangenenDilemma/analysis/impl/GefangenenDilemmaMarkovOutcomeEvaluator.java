@@ -0,0 +1,270 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.analysis.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaExpectedOutcome;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaMemoryOneRule;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaOutcomeEvaluator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * Implements {@link GefangenenDilemmaOutcomeEvaluator} by solving the Markov chain over the combinations of answers.
+ * <p>
+ * The states of the chain are the combinations of answers of the previous round, indexed like the outcomes of a
+ * {@link GefangenenDilemmaPayoffMatrix}. The stationary distribution is the solution of a 4×4 linear system if it is
+ * unique. Otherwise, e.g. for deterministic strategies locking into different cycles depending on the first round, the
+ * long-run frequencies depend on the first round and are obtained by iterating the lazy chain {@code (I + P) / 2},
+ * which has the same stationary distributions but no periodic behaviour. Discounted outcomes are the solution of
+ * {@code x (I - δP) = v0}, where {@code v0} is the distribution of the first round.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class GefangenenDilemmaMarkovOutcomeEvaluator implements GefangenenDilemmaOutcomeEvaluator {
+
+    /**
+     * The number of states of the Markov chain.
+     */
+    private static final int NUMBER_OF_STATES = GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES;
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+    /**
+     * Pivots below this value are considered zero.
+     */
+    private static final double SINGULARITY_THRESHOLD = 1e-12;
+    /**
+     * Iterating the lazy chain stops once a step changes the distribution by less than this value.
+     */
+    private static final double CONVERGENCE_THRESHOLD = 1e-15;
+    /**
+     * The maximum number of steps of the lazy chain.
+     */
+    private static final int MAX_ITERATIONS = 10_000_000;
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes;
+    /**
+     * The payoff matrix of the second player.
+     */
+    private final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes;
+    /**
+     * The factor by which the outcomes of each round are discounted relative to the previous round.
+     */
+    private final double discountFactor;
+
+    /**
+     * Creates an evaluator.
+     *
+     * @param firstPlayerOutcomes  The payoff matrix of the first player.
+     * @param secondPlayerOutcomes The payoff matrix of the second player.
+     * @param discountFactor       The factor by which the outcomes of each round are discounted relative to the
+     *                             previous round.
+     * @throws IllegalArgumentException if the discount factor is not at least 0 and less than 1.
+     */
+    public GefangenenDilemmaMarkovOutcomeEvaluator(final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes, final double discountFactor) {
+        this.firstPlayerOutcomes = Objects.requireNonNull(firstPlayerOutcomes, "firstPlayerOutcomes");
+        this.secondPlayerOutcomes = Objects.requireNonNull(secondPlayerOutcomes, "secondPlayerOutcomes");
+        if (!(discountFactor >= 0.0 && discountFactor < 1.0)) {
+            throw new IllegalArgumentException(String.format(
+                    "The discount factor must be at least 0 and less than 1, but %s was passed.", discountFactor));
+        }
+        this.discountFactor = discountFactor;
+    }
+
+    @Override
+    public GefangenenDilemmaExpectedOutcome evaluate(final GefangenenDilemmaMemoryOneRule firstPlayerRule,
+            final GefangenenDilemmaMemoryOneRule secondPlayerRule) {
+        final double[] initial = GefangenenDilemmaMarkovOutcomeEvaluator.jointDistribution(
+                firstPlayerRule.getInitialSilenceProbability(), secondPlayerRule.getInitialSilenceProbability());
+        final double[][] transitions = new double[NUMBER_OF_STATES][];
+        for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES first : ANSWERS) {
+            for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES second : ANSWERS) {
+                transitions[GefangenenDilemmaPayoffMatrix.indexOf(first, second)] =
+                        GefangenenDilemmaMarkovOutcomeEvaluator.jointDistribution(
+                                firstPlayerRule.getSilenceProbability(first, second),
+                                secondPlayerRule.getSilenceProbability(second, first));
+            }
+        }
+
+        final double[] stationary = GefangenenDilemmaMarkovOutcomeEvaluator.stationaryDistribution(transitions)
+                .orElseGet(() -> GefangenenDilemmaMarkovOutcomeEvaluator.limitDistribution(transitions, initial));
+        final double[] discounted = this.discountedOccupancy(transitions, initial);
+        return new GefangenenDilemmaExpectedOutcome(
+                stationary,
+                GefangenenDilemmaMarkovOutcomeEvaluator.expectedOutcome(stationary, this.firstPlayerOutcomes),
+                GefangenenDilemmaMarkovOutcomeEvaluator.expectedOutcome(stationary, this.secondPlayerOutcomes),
+                GefangenenDilemmaMarkovOutcomeEvaluator.expectedOutcome(discounted, this.firstPlayerOutcomes),
+                GefangenenDilemmaMarkovOutcomeEvaluator.expectedOutcome(discounted, this.secondPlayerOutcomes));
+    }
+
+    /**
+     * Returns the distribution of the combinations of answers of two players answering independently.
+     *
+     * @param firstSilenceProbability  The probability that the first player remains silent.
+     * @param secondSilenceProbability The probability that the second player remains silent.
+     */
+    private static double[] jointDistribution(final double firstSilenceProbability,
+            final double secondSilenceProbability) {
+        final double[] result = new double[NUMBER_OF_STATES];
+        for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES first : ANSWERS) {
+            final double firstProbability = first == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                    ? firstSilenceProbability
+                    : 1.0 - firstSilenceProbability;
+            for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES second : ANSWERS) {
+                final double secondProbability = second == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                        ? secondSilenceProbability
+                        : 1.0 - secondSilenceProbability;
+                result[GefangenenDilemmaPayoffMatrix.indexOf(first, second)] = firstProbability * secondProbability;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the stationary distribution of a Markov chain if it is unique.
+     *
+     * @param transitions The transition matrix, indexed by source and target state.
+     */
+    private static Optional<double[]> stationaryDistribution(final double[][] transitions) {
+        // pi (P - I) = 0 transposed, with the last equation replaced by sum(pi) = 1
+        final double[][] system = new double[NUMBER_OF_STATES][NUMBER_OF_STATES];
+        final double[] rightHandSide = new double[NUMBER_OF_STATES];
+        for (int row = 0; row < NUMBER_OF_STATES - 1; ++row) {
+            for (int column = 0; column < NUMBER_OF_STATES; ++column) {
+                system[row][column] = transitions[column][row] - (row == column ? 1.0 : 0.0);
+            }
+        }
+        for (int column = 0; column < NUMBER_OF_STATES; ++column) {
+            system[NUMBER_OF_STATES - 1][column] = 1.0;
+        }
+        rightHandSide[NUMBER_OF_STATES - 1] = 1.0;
+        return GefangenenDilemmaMarkovOutcomeEvaluator.solve(system, rightHandSide);
+    }
+
+    /**
+     * Returns the long-run frequencies of the states of a Markov chain for a given initial distribution.
+     *
+     * @param transitions The transition matrix, indexed by source and target state.
+     * @param initial     The initial distribution.
+     */
+    private static double[] limitDistribution(final double[][] transitions, final double[] initial) {
+        double[] current = initial.clone();
+        double[] next = new double[NUMBER_OF_STATES];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; ++iteration) {
+            double change = 0.0;
+            for (int target = 0; target < NUMBER_OF_STATES; ++target) {
+                double probability = current[target];
+                for (int source = 0; source < NUMBER_OF_STATES; ++source) {
+                    probability += current[source] * transitions[source][target];
+                }
+                next[target] = probability / 2.0;
+                change += Math.abs(next[target] - current[target]);
+            }
+            final double[] previous = current;
+            current = next;
+            next = previous;
+            if (change < CONVERGENCE_THRESHOLD) {
+                break;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Returns the expected discounted number of visits of each state of a Markov chain.
+     *
+     * @param transitions The transition matrix, indexed by source and target state.
+     * @param initial     The initial distribution.
+     */
+    private double[] discountedOccupancy(final double[][] transitions, final double[] initial) {
+        // x (I - dP) = v0 transposed; regular as the discount factor is less than 1
+        final double[][] system = new double[NUMBER_OF_STATES][NUMBER_OF_STATES];
+        for (int row = 0; row < NUMBER_OF_STATES; ++row) {
+            for (int column = 0; column < NUMBER_OF_STATES; ++column) {
+                system[row][column] = (row == column ? 1.0 : 0.0) - this.discountFactor * transitions[column][row];
+            }
+        }
+        return GefangenenDilemmaMarkovOutcomeEvaluator.solve(system, initial.clone()).orElseThrow();
+    }
+
+    /**
+     * Returns the outcome expected for a distribution over the combinations of answers.
+     *
+     * @param distribution The (possibly scaled) distribution.
+     * @param outcomes     The payoff matrix.
+     */
+    private static double expectedOutcome(final double[] distribution, final GefangenenDilemmaPayoffMatrix outcomes) {
+        double result = 0.0;
+        for (int index = 0; index < NUMBER_OF_STATES; ++index) {
+            result += distribution[index] * outcomes.getOutcome(index);
+        }
+        return result;
+    }
+
+    /**
+     * Solves a linear system by Gaussian elimination with partial pivoting. Both arguments are overwritten.
+     *
+     * @param system        The coefficients.
+     * @param rightHandSide The right-hand side.
+     * @return The solution, or an empty {@link Optional} if the system is singular.
+     */
+    private static Optional<double[]> solve(final double[][] system, final double[] rightHandSide) {
+        final int size = rightHandSide.length;
+        for (int pivot = 0; pivot < size; ++pivot) {
+            int best = pivot;
+            for (int row = pivot + 1; row < size; ++row) {
+                if (Math.abs(system[row][pivot]) > Math.abs(system[best][pivot])) {
+                    best = row;
+                }
+            }
+            if (Math.abs(system[best][pivot]) < SINGULARITY_THRESHOLD) {
+                return Optional.empty();
+            }
+            final double[] row = system[best];
+            system[best] = system[pivot];
+            system[pivot] = row;
+            final double value = rightHandSide[best];
+            rightHandSide[best] = rightHandSide[pivot];
+            rightHandSide[pivot] = value;
+
+            for (int other = pivot + 1; other < size; ++other) {
+                final double factor = system[other][pivot] / system[pivot][pivot];
+                for (int column = pivot; column < size; ++column) {
+                    system[other][column] -= factor * system[pivot][column];
+                }
+                rightHandSide[other] -= factor * rightHandSide[pivot];
+            }
+        }
+        final double[] solution = new double[size];
+        for (int row = size - 1; row >= 0; --row) {
+            double value = rightHandSide[row];
+            for (int column = row + 1; column < size; ++column) {
+                value -= system[row][column] * solution[column];
+            }
+            solution[row] = value / system[row][row];
+        }
+        return Optional.of(solution);
+    }
+}
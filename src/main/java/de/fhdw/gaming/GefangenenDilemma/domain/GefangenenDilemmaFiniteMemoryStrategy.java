@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+/**
+ * A deterministic strategy whose moves depend only on the answers of both players in a bounded number of previous
+ * rounds.
+ * <p>
+ * Given the same answers in the last {@link #getMemoryDepth()} rounds, an implementation must always return the same
+ * move, regardless of the game ID, the number of rounds played before, the outcomes, or the time available. This
+ * allows simulators to detect when a match between two such strategies repeats itself and to extrapolate the
+ * remaining rounds instead of playing them.
+ */
+public interface GefangenenDilemmaFiniteMemoryStrategy extends GefangenenDilemmaStrategy {
+
+    /**
+     * Returns the number of previous rounds the moves of this strategy depend on. Moves in the first rounds of a match,
+     * while fewer rounds have been played, may differ.
+     */
+    int getMemoryDepth();
+}
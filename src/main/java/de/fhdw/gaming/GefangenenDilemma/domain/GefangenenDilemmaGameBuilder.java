@@ -15,6 +15,8 @@
  */
 package de.fhdw.gaming.GefangenenDilemma.domain;
 
+import java.util.concurrent.ExecutorService;
+
 import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
 import de.fhdw.gaming.core.domain.Game;
 import de.fhdw.gaming.core.domain.GameBuilder;
@@ -26,6 +28,11 @@ import de.fhdw.gaming.core.domain.ObserverFactoryProvider;
  */
 public interface GefangenenDilemmaGameBuilder extends GameBuilder {
 
+    /**
+     * The default number of rounds.
+     */
+    int DEFAULT_NUMBER_OF_ROUNDS = 1;
+
     /**
      * Creates an {@link GefangenenDilemmaPlayerBuilder} which allows to create and add a player to the game together
      * with her
@@ -51,6 +58,41 @@ public interface GefangenenDilemmaGameBuilder extends GameBuilder {
      */
     GefangenenDilemmaGameBuilder changeObserverFactoryProvider(ObserverFactoryProvider newObserverFactoryProvider);
 
+    /**
+     * Changes the number of rounds to be played. After each round, both players answer again, and their outcomes are
+     * summed up over all rounds.
+     * <p>
+     * Defaults to {@link #DEFAULT_NUMBER_OF_ROUNDS}.
+     *
+     * @param newNumberOfRounds The new number of rounds.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGameBuilder changeNumberOfRounds(int newNumberOfRounds);
+
+    /**
+     * Changes the executor computing the moves of the strategies. Each move is computed by a task of the executor,
+     * which is abandoned if it exceeds the maximum computation time per move; the player then makes a generated move.
+     * The rounds are driven by the thread playing the game, without the threads the game engine creates per game.
+     * <p>
+     * By default, the game engine computes the moves.
+     *
+     * @param newExecutor The new executor.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGameBuilder changeExecutor(ExecutorService newExecutor);
+
+    /**
+     * Changes whether both players compute their moves of a round concurrently. If enabled, the moves of both players
+     * of a round are computed at once on the same state and share the deadline given by the maximum computation time
+     * per move. This requires an executor, see {@link #changeExecutor(ExecutorService)}.
+     * <p>
+     * Disabled by default.
+     *
+     * @param newSimultaneousMoves {@code true} if both players compute their moves concurrently.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGameBuilder changeSimultaneousMoves(boolean newSimultaneousMoves);
+
     @Override
     Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove, GefangenenDilemmaStrategy> build(
             int id) throws GameException, InterruptedException;
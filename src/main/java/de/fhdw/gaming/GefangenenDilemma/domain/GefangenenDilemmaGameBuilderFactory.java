@@ -44,6 +44,11 @@ public interface GefangenenDilemmaGameBuilderFactory extends GameBuilderFactory
      */
     String PARAM_PLAYER_OUTCOME_ON_STAYSILENT_STAYSILENT = "playerOutcomeOnStaySilentStaySilent";
 
+    /**
+     * Number of rounds.
+     */
+    String PARAM_NUMBER_OF_ROUNDS = "numberOfRounds";
+
     @Override
     GefangenenDilemmaGameBuilder createGameBuilder(InputProvider inputProvider) throws GameException;
 }
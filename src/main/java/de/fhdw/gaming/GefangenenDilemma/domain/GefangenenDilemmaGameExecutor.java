@@ -0,0 +1,153 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.core.domain.Game;
+
+/**
+ * Plays games to completion as tasks of an {@link ExecutorService}, by default one running each task on a virtual
+ * thread.
+ * <p>
+ * Pass {@link #getExecutorService()} to {@link GefangenenDilemmaGameBuilder#changeExecutor(ExecutorService)} as well,
+ * so that the strategies of the games compute their moves on the same executor. Blocked virtual threads release their
+ * carrier thread, so a hundred thousand games waiting for strategies occupy no more platform threads than there are
+ * carrier threads, which default to the number of processors and can be limited by the system property
+ * {@code jdk.virtualThreadScheduler.parallelism}.
+ * <p>
+ * Virtual threads are looked up at run time, as the project is compiled for a Java version without them. On older
+ * runtimes, a cached pool of daemon platform threads is used instead, which offers the same behaviour but not the same
+ * scalability.
+ */
+public final class GefangenenDilemmaGameExecutor implements AutoCloseable {
+
+    /**
+     * The number of threads created by the fallback pools so far.
+     */
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    /**
+     * The executor running the games.
+     */
+    private final ExecutorService executorService;
+    /**
+     * Whether the executor runs its tasks on virtual threads.
+     */
+    private final boolean usingVirtualThreads;
+
+    /**
+     * Creates a game executor running each task on a new virtual thread if supported by the runtime, or on a cached
+     * pool of platform threads otherwise.
+     */
+    public GefangenenDilemmaGameExecutor() {
+        final Optional<ExecutorService> virtualThreadExecutor = GefangenenDilemmaGameExecutor
+                .createVirtualThreadExecutor();
+        this.executorService = virtualThreadExecutor.orElseGet(() -> Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable,
+                    "GefangenenDilemmaGame-" + GefangenenDilemmaGameExecutor.THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        this.usingVirtualThreads = virtualThreadExecutor.isPresent();
+    }
+
+    /**
+     * Creates a game executor using a given executor.
+     *
+     * @param executorService The executor running the games. It is shut down when this game executor is closed.
+     */
+    public GefangenenDilemmaGameExecutor(final ExecutorService executorService) {
+        this.executorService = Objects.requireNonNull(executorService, "executorService");
+        this.usingVirtualThreads = false;
+    }
+
+    /**
+     * Returns whether the executor has been created for virtual threads.
+     */
+    public boolean isUsingVirtualThreads() {
+        return this.usingVirtualThreads;
+    }
+
+    /**
+     * Returns the executor running the games.
+     */
+    public ExecutorService getExecutorService() {
+        return this.executorService;
+    }
+
+    /**
+     * Plays a game to completion and closes it.
+     *
+     * @param game The game, not started yet.
+     * @return The final state of the game. Exceptions thrown by the game are reported by the future.
+     */
+    public Future<GefangenenDilemmaState> play(final Game<GefangenenDilemmaPlayer, GefangenenDilemmaState,
+            GefangenenDilemmaMove, GefangenenDilemmaStrategy> game) {
+        return this.executorService.submit(() -> {
+            try (game) {
+                game.start();
+                while (!game.isFinished()) {
+                    game.makeMove();
+                }
+                return game.getState();
+            }
+        });
+    }
+
+    /**
+     * Shuts the executor down and waits for the games still running.
+     */
+    @Override
+    public void close() {
+        this.executorService.shutdown();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (this.executorService.awaitTermination(1, TimeUnit.DAYS)) {
+                    break;
+                }
+            } catch (final InterruptedException e) {
+                this.executorService.shutdownNow();
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Creates an executor starting a new virtual thread per task, if supported by the runtime.
+     */
+    private static Optional<ExecutorService> createVirtualThreadExecutor() {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of((ExecutorService) factory.invoke(null));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException e) {
+            // virtual threads are missing or a disabled preview feature of this runtime
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import java.util.Objects;
+
+/**
+ * The result of a match played by a {@link GefangenenDilemmaMatchSimulator}.
+ */
+public final class GefangenenDilemmaMatchResult {
+
+    /**
+     * The number of rounds played.
+     */
+    private final int numberOfRounds;
+    /**
+     * The total outcome of the first player.
+     */
+    private final double firstPlayerOutcome;
+    /**
+     * The total outcome of the second player.
+     */
+    private final double secondPlayerOutcome;
+    /**
+     * The number of rounds in which the first player remained silent.
+     */
+    private final int firstPlayerSilentAnswers;
+    /**
+     * The number of rounds in which the second player remained silent.
+     */
+    private final int secondPlayerSilentAnswers;
+
+    /**
+     * Creates a match result.
+     *
+     * @param numberOfRounds            The number of rounds played.
+     * @param firstPlayerOutcome        The total outcome of the first player.
+     * @param secondPlayerOutcome       The total outcome of the second player.
+     * @param firstPlayerSilentAnswers  The number of rounds in which the first player remained silent.
+     * @param secondPlayerSilentAnswers The number of rounds in which the second player remained silent.
+     */
+    public GefangenenDilemmaMatchResult(final int numberOfRounds, final double firstPlayerOutcome,
+            final double secondPlayerOutcome, final int firstPlayerSilentAnswers, final int secondPlayerSilentAnswers) {
+        this.numberOfRounds = numberOfRounds;
+        this.firstPlayerOutcome = firstPlayerOutcome;
+        this.secondPlayerOutcome = secondPlayerOutcome;
+        this.firstPlayerSilentAnswers = firstPlayerSilentAnswers;
+        this.secondPlayerSilentAnswers = secondPlayerSilentAnswers;
+    }
+
+    /**
+     * Returns the number of rounds played.
+     */
+    public int getNumberOfRounds() {
+        return this.numberOfRounds;
+    }
+
+    /**
+     * Returns the total outcome of the first player.
+     */
+    public double getFirstPlayerOutcome() {
+        return this.firstPlayerOutcome;
+    }
+
+    /**
+     * Returns the total outcome of the second player.
+     */
+    public double getSecondPlayerOutcome() {
+        return this.secondPlayerOutcome;
+    }
+
+    /**
+     * Returns the number of rounds in which the first player remained silent.
+     */
+    public int getFirstPlayerSilentAnswers() {
+        return this.firstPlayerSilentAnswers;
+    }
+
+    /**
+     * Returns the number of rounds in which the second player remained silent.
+     */
+    public int getSecondPlayerSilentAnswers() {
+        return this.secondPlayerSilentAnswers;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "MatchResult[numberOfRounds=%d, firstPlayerOutcome=%s, secondPlayerOutcome=%s, "
+                        + "firstPlayerSilentAnswers=%d, secondPlayerSilentAnswers=%d]",
+                this.numberOfRounds,
+                this.firstPlayerOutcome,
+                this.secondPlayerOutcome,
+                this.firstPlayerSilentAnswers,
+                this.secondPlayerSilentAnswers);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaMatchResult) {
+            final GefangenenDilemmaMatchResult other = (GefangenenDilemmaMatchResult) obj;
+            return this.numberOfRounds == other.numberOfRounds
+                    && Double.compare(this.firstPlayerOutcome, other.firstPlayerOutcome) == 0
+                    && Double.compare(this.secondPlayerOutcome, other.secondPlayerOutcome) == 0
+                    && this.firstPlayerSilentAnswers == other.firstPlayerSilentAnswers
+                    && this.secondPlayerSilentAnswers == other.secondPlayerSilentAnswers;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.numberOfRounds, this.firstPlayerOutcome, this.secondPlayerOutcome,
+                this.firstPlayerSilentAnswers, this.secondPlayerSilentAnswers);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Plays complete matches between two strategies without setting up a {@link de.fhdw.gaming.core.domain.Game}.
+ * <p>
+ * A simulator neither notifies observers nor runs strategies in separate threads, so it is suited to playing a large
+ * number of matches. Apart from that, the rules are the same as for games created by a
+ * {@link GefangenenDilemmaGameBuilder}.
+ */
+public interface GefangenenDilemmaMatchSimulator {
+
+    /**
+     * Returns the payoff matrix of the first player.
+     */
+    GefangenenDilemmaPayoffMatrix getFirstPlayerOutcomes();
+
+    /**
+     * Returns the payoff matrix of the second player.
+     */
+    GefangenenDilemmaPayoffMatrix getSecondPlayerOutcomes();
+
+    /**
+     * Plays a match.
+     *
+     * @param gameId               The ID of the match, passed on to the strategies.
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @return The result of the match.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    GefangenenDilemmaMatchResult simulate(int gameId, GefangenenDilemmaStrategy firstPlayerStrategy,
+            GefangenenDilemmaStrategy secondPlayerStrategy) throws GameException, InterruptedException;
+
+    /**
+     * Plays a match and reports each round to a listener. All rounds are played, even if they could be extrapolated.
+     *
+     * @param gameId               The ID of the match, passed on to the strategies.
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @param listener             The listener receiving the rounds.
+     * @return The result of the match.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    GefangenenDilemmaMatchResult simulate(int gameId, GefangenenDilemmaStrategy firstPlayerStrategy,
+            GefangenenDilemmaStrategy secondPlayerStrategy, GefangenenDilemmaRoundListener listener)
+            throws GameException, InterruptedException;
+}
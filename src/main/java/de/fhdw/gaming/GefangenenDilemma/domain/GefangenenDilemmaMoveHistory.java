@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * The answers given by one player in the rounds played so far.
+ * <p>
+ * The answers are stored bit-packed: bit {@code i} holds the {@link Enum#ordinal() ordinal} of the answer given in
+ * round {@code i}, so a round costs a single bit regardless of the length of the game.
+ * <p>
+ * Copies share their storage with the source, so copying a history takes constant time. Storage is copied on write:
+ * the first history appending to the end of the shared storage writes in place, every other one switches to a private
+ * copy first. Bits written in place never change the rounds visible to the other histories, so histories sharing
+ * storage may be used from different threads.
+ * <p>
+ * The answers of the most recent rounds are additionally kept in a rolling integer which is shifted by one bit per
+ * round, so strategies with a finite memory can read their recent past in constant time.
+ */
+public final class GefangenenDilemmaMoveHistory {
+
+    /**
+     * The number of rounds stored in one word.
+     */
+    private static final int ROUNDS_PER_WORD = Long.SIZE;
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+
+    /**
+     * The storage, possibly shared with other histories.
+     */
+    private Storage storage;
+    /**
+     * The number of rounds stored.
+     */
+    private int size;
+    /**
+     * The answers of the most recent rounds, the last round in the lowest bit. Rounds before the first round count as
+     * remaining silent.
+     */
+    private int recentAnswers;
+
+    /**
+     * Creates an empty history.
+     */
+    public GefangenenDilemmaMoveHistory() {
+        this.storage = new Storage(new long[1], 0);
+        this.size = 0;
+        this.recentAnswers = -1;
+    }
+
+    /**
+     * Creates a history by copying an existing one. The copy shares the storage of the source.
+     *
+     * @param source The history to copy.
+     */
+    public GefangenenDilemmaMoveHistory(final GefangenenDilemmaMoveHistory source) {
+        this.storage = source.storage;
+        this.size = source.size;
+        this.recentAnswers = source.recentAnswers;
+    }
+
+    /**
+     * Returns the number of rounds stored.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Appends the answer given in the next round.
+     *
+     * @param answer The answer.
+     */
+    public void add(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answer) {
+        final long bit = (long) Objects.requireNonNull(answer, "answer").ordinal()
+                << this.size % GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD;
+        final int word = this.size / GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD;
+        if (word < this.storage.words.length && this.storage.claim(this.size)) {
+            this.storage.words[word] |= bit;
+        } else {
+            final int capacity = word < this.storage.words.length ? this.storage.words.length
+                    : this.storage.words.length * 2;
+            final long[] words = Arrays.copyOf(this.storage.words, capacity);
+            // drop rounds appended to the shared storage by other histories
+            words[word] &= GefangenenDilemmaMoveHistory
+                    .lowBits(this.size % GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD);
+            Arrays.fill(words, word + 1, capacity, 0L);
+            words[word] |= bit;
+            this.storage = new Storage(words, this.size + 1);
+        }
+        this.size++;
+        this.recentAnswers = this.recentAnswers << 1 | answer.ordinal();
+    }
+
+    /**
+     * Returns the answer given in a round.
+     *
+     * @param round The round, starting at zero.
+     * @throws IndexOutOfBoundsException if the round has not been played yet.
+     */
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES get(final int round) {
+        Objects.checkIndex(round, this.size);
+        final long word = this.storage.words[round / GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD];
+        final int bit = round % GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD;
+        return GefangenenDilemmaMoveHistory.ANSWERS[(int) (word >>> bit) & 1];
+    }
+
+    /**
+     * Returns the answer given in the last round played, if any.
+     */
+    public Optional<GefangenenDilemmaGameBuilderFactoryImpl.MOVES> getLast() {
+        return this.size == 0 ? Optional.empty() : Optional.of(this.get(this.size - 1));
+    }
+
+    /**
+     * Returns the answers given in the most recent rounds as bits: bit {@code i} holds the
+     * {@link Enum#ordinal() ordinal} of the answer given {@code i} rounds before the last round. Rounds before the
+     * first round count as remaining silent.
+     *
+     * @param count The number of rounds, at most {@link Integer#SIZE}.
+     * @throws IllegalArgumentException if the number of rounds is negative or too large.
+     */
+    public int getRecentAnswers(final int count) {
+        if (count < 0 || count > Integer.SIZE) {
+            throw new IllegalArgumentException(String.format("Invalid number of recent rounds: %d.", count));
+        }
+        return count == Integer.SIZE ? this.recentAnswers : this.recentAnswers & (1 << count) - 1;
+    }
+
+    /**
+     * Returns how often a given answer has been given.
+     *
+     * @param answer The answer.
+     */
+    public int count(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answer) {
+        int silent = 0;
+        for (int word = 0; word < this.usedWords(); ++word) {
+            silent += Long.bitCount(this.word(word));
+        }
+        return answer == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT ? silent : this.size - silent;
+    }
+
+    /**
+     * Returns in how many rounds a given answer has been given together with a given answer of an opponent. Only the
+     * rounds contained in both histories are considered.
+     *
+     * @param answer          The answer given in this history.
+     * @param opponentHistory The history of the opponent.
+     * @param opponentAnswer  The answer given in the history of the opponent.
+     */
+    public int count(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answer,
+            final GefangenenDilemmaMoveHistory opponentHistory,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES opponentAnswer) {
+        // inverting the bits of snitching lets set bits mark the answers looked for
+        final long ownInversion = answer == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT ? 0L : -1L;
+        final long opponentInversion = opponentAnswer == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                ? 0L
+                : -1L;
+        final int rounds = Math.min(this.size, opponentHistory.size);
+        int result = 0;
+        for (int word = 0; word * GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD < rounds; ++word) {
+            final long valid = GefangenenDilemmaMoveHistory.lowBits(Math.min(
+                    rounds - word * GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD,
+                    GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD));
+            result += Long.bitCount((this.storage.words[word] ^ ownInversion)
+                    & (opponentHistory.storage.words[word] ^ opponentInversion) & valid);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of words holding rounds of this history.
+     */
+    private int usedWords() {
+        return (this.size + GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD - 1)
+                / GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD;
+    }
+
+    /**
+     * Returns a word of this history without the bits of rounds appended by other histories sharing the storage.
+     *
+     * @param index The index of the word.
+     */
+    private long word(final int index) {
+        final int rounds = Math.min(this.size - index * GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD,
+                GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD);
+        return this.storage.words[index] & GefangenenDilemmaMoveHistory.lowBits(rounds);
+    }
+
+    /**
+     * Returns a mask of the lowest bits of a word.
+     *
+     * @param count The number of bits, at most {@link #ROUNDS_PER_WORD}.
+     */
+    private static long lowBits(final int count) {
+        return count == GefangenenDilemmaMoveHistory.ROUNDS_PER_WORD ? -1L : (1L << count) - 1;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("MoveHistory[");
+        for (int round = 0; round < this.size; ++round) {
+            result.append(this.get(round) == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH ? 'S' : 'R');
+        }
+        return result.append(']').toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaMoveHistory) {
+            final GefangenenDilemmaMoveHistory other = (GefangenenDilemmaMoveHistory) obj;
+            if (this.size != other.size) {
+                return false;
+            }
+            for (int word = 0; word < this.usedWords(); ++word) {
+                if (this.word(word) != other.word(word)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = this.size;
+        for (int word = 0; word < this.usedWords(); ++word) {
+            result = 31 * result + Long.hashCode(this.word(word));
+        }
+        return result;
+    }
+
+    /**
+     * Bit-packed rounds shared by histories. Only the history holding the claim on the next round may write to it.
+     */
+    private static final class Storage {
+
+        /**
+         * The bit-packed answers. The length of the array never changes.
+         */
+        private final long[] words;
+        /**
+         * The number of rounds claimed so far.
+         */
+        private final AtomicInteger claimed;
+
+        /**
+         * Creates storage.
+         *
+         * @param words   The bit-packed answers.
+         * @param claimed The number of rounds already written.
+         */
+        Storage(final long[] words, final int claimed) {
+            this.words = words;
+            this.claimed = new AtomicInteger(claimed);
+        }
+
+        /**
+         * Claims the right to write the next round, which succeeds only for a history ending where the storage ends.
+         *
+         * @param round The round to write.
+         * @return {@code true} if the round has been claimed.
+         */
+        boolean claim(final int round) {
+            return this.claimed.compareAndSet(round, round + 1);
+        }
+    }
+}
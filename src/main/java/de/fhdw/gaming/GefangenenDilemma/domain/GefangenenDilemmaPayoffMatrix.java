@@ -0,0 +1,279 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * The outcomes of a player for all combinations of answers. Payoff matrices are immutable.
+ * <p>
+ * The outcomes are stored in a flat array indexed by {@link #indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+ * GefangenenDilemmaGameBuilderFactoryImpl.MOVES)}, so looking up an outcome needs neither hashing nor unboxing.
+ * <p>
+ * Payoff matrices are interned: all factory methods return the same instance for the same outcomes, so players of
+ * any number of games can share one matrix and equality is identity. Matrices are interned weakly: a matrix no longer
+ * referenced elsewhere is released, so parameter sweeps over many outcomes do not accumulate matrices. Creating a
+ * matrix for the same outcomes again afterwards yields a new instance, so matrices have no identity that outlives
+ * them; code persisting or exchanging matrices uses their outcomes.
+ */
+public final class GefangenenDilemmaPayoffMatrix {
+
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+    /**
+     * The number of possible answers of a player.
+     */
+    private static final int NUMBER_OF_ANSWERS = GefangenenDilemmaPayoffMatrix.ANSWERS.length;
+    /**
+     * The number of combinations of answers.
+     */
+    public static final int NUMBER_OF_OUTCOMES = NUMBER_OF_ANSWERS * NUMBER_OF_ANSWERS;
+    /**
+     * Weak references to the interned payoff matrices by their outcomes.
+     */
+    private static final ConcurrentMap<Key, InternedReference> INTERNED = new ConcurrentHashMap<>();
+    /**
+     * The queue receiving references to released payoff matrices.
+     */
+    private static final ReferenceQueue<GefangenenDilemmaPayoffMatrix> RELEASED = new ReferenceQueue<>();
+    /**
+     * The outcomes, indexed by {@link #indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+     * GefangenenDilemmaGameBuilderFactoryImpl.MOVES)}.
+     */
+    private final double[] outcomes;
+
+    /**
+     * Creates a payoff matrix.
+     *
+     * @param outcomes The outcomes. The array is not copied.
+     */
+    private GefangenenDilemmaPayoffMatrix(final double[] outcomes) {
+        this.outcomes = outcomes;
+    }
+
+    /**
+     * Returns the canonical payoff matrix for some outcomes.
+     *
+     * @param outcomes The outcomes. The array must not be modified afterwards.
+     */
+    private static GefangenenDilemmaPayoffMatrix intern(final double[] outcomes) {
+        GefangenenDilemmaPayoffMatrix.removeReleased();
+        final Key key = new Key(outcomes);
+        while (true) {
+            final InternedReference existing = GefangenenDilemmaPayoffMatrix.INTERNED.get(key);
+            if (existing != null) {
+                final GefangenenDilemmaPayoffMatrix matrix = existing.get();
+                if (matrix != null) {
+                    return matrix;
+                }
+                GefangenenDilemmaPayoffMatrix.INTERNED.remove(key, existing);
+            } else {
+                final GefangenenDilemmaPayoffMatrix matrix = new GefangenenDilemmaPayoffMatrix(outcomes);
+                final InternedReference reference = new InternedReference(matrix, key);
+                if (GefangenenDilemmaPayoffMatrix.INTERNED.putIfAbsent(key, reference) == null) {
+                    return matrix;
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the entries of released payoff matrices.
+     */
+    private static void removeReleased() {
+        InternedReference reference = (InternedReference) GefangenenDilemmaPayoffMatrix.RELEASED.poll();
+        while (reference != null) {
+            GefangenenDilemmaPayoffMatrix.INTERNED.remove(reference.key, reference);
+            reference = (InternedReference) GefangenenDilemmaPayoffMatrix.RELEASED.poll();
+        }
+    }
+
+    /**
+     * Returns a payoff matrix.
+     *
+     * @param outcomeOnSnitchSnitch         The outcome if both players snitch.
+     * @param outcomeOnSnitchStaySilent     The outcome if the first player snitches and the second one remains silent.
+     * @param outcomeOnStaySilentSnitch     The outcome if the first player remains silent and the second one snitches.
+     * @param outcomeOnStaySilentStaySilent The outcome if both players remain silent.
+     */
+    public static GefangenenDilemmaPayoffMatrix of(final double outcomeOnSnitchSnitch,
+            final double outcomeOnSnitchStaySilent, final double outcomeOnStaySilentSnitch,
+            final double outcomeOnStaySilentStaySilent) {
+        final double[] outcomes = new double[NUMBER_OF_OUTCOMES];
+        outcomes[indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH)] = outcomeOnSnitchSnitch;
+        outcomes[indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT)] = outcomeOnSnitchStaySilent;
+        outcomes[indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH)] = outcomeOnStaySilentSnitch;
+        outcomes[indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT,
+                GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT)] = outcomeOnStaySilentStaySilent;
+        return GefangenenDilemmaPayoffMatrix.intern(outcomes);
+    }
+
+    /**
+     * Returns a payoff matrix for possible outcomes given as nested maps.
+     *
+     * @param possibleOutcomes The possible outcomes. The key for the first-level map is the answer of the first
+     *                         player, the key for the second-level map is the answer of the second player.
+     * @throws IllegalArgumentException if an outcome is missing.
+     */
+    public static GefangenenDilemmaPayoffMatrix fromMap(
+            final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+                    Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> possibleOutcomes) {
+        final double[] outcomes = new double[NUMBER_OF_OUTCOMES];
+        for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES first : GefangenenDilemmaPayoffMatrix.ANSWERS) {
+            for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES second : GefangenenDilemmaPayoffMatrix.ANSWERS) {
+                final Double outcome = possibleOutcomes.getOrDefault(first, Collections.emptyMap()).get(second);
+                if (outcome == null) {
+                    throw new IllegalArgumentException(
+                            String.format("No outcome defined for combination %s/%s.", first, second));
+                }
+                outcomes[indexOf(first, second)] = outcome;
+            }
+        }
+        return GefangenenDilemmaPayoffMatrix.intern(outcomes);
+    }
+
+    /**
+     * Returns the index of a combination of answers.
+     *
+     * @param answerOfFirstPlayer  The answer of the first player.
+     * @param answerOfSecondPlayer The answer of the second player.
+     */
+    public static int indexOf(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer) {
+        return answerOfFirstPlayer.ordinal() * NUMBER_OF_ANSWERS + answerOfSecondPlayer.ordinal();
+    }
+
+    /**
+     * Returns the outcome for a combination of answers.
+     *
+     * @param answerOfFirstPlayer  The answer of the first player.
+     * @param answerOfSecondPlayer The answer of the second player.
+     */
+    public double getOutcome(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer) {
+        return this.outcomes[indexOf(answerOfFirstPlayer, answerOfSecondPlayer)];
+    }
+
+    /**
+     * Returns the outcome for a combination of answers.
+     *
+     * @param index The index of the combination as returned by
+     *              {@link #indexOf(GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+     *              GefangenenDilemmaGameBuilderFactoryImpl.MOVES)}.
+     */
+    public double getOutcome(final int index) {
+        return this.outcomes[index];
+    }
+
+    /**
+     * Returns the outcomes as nested maps. The key for the first-level map is the answer of the first player, the key
+     * for the second-level map is the answer of the second player.
+     * <p>
+     * The maps are created on each call and only serve as an adapter for code expecting the former representation.
+     */
+    public Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+            Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> asMap() {
+        final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
+                Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> result = new EnumMap<>(
+                        GefangenenDilemmaGameBuilderFactoryImpl.MOVES.class);
+        for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES first : GefangenenDilemmaPayoffMatrix.ANSWERS) {
+            final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double> row = new EnumMap<>(
+                    GefangenenDilemmaGameBuilderFactoryImpl.MOVES.class);
+            for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES second : GefangenenDilemmaPayoffMatrix.ANSWERS) {
+                row.put(second, this.getOutcome(first, second));
+            }
+            result.put(first, Collections.unmodifiableMap(row));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PayoffMatrix[snitchSnitch=%s, snitchStaySilent=%s, staySilentSnitch=%s, "
+                + "staySilentStaySilent=%s]", this.outcomes[0], this.outcomes[1], this.outcomes[2], this.outcomes[3]);
+    }
+
+    /**
+     * A weak reference to an interned payoff matrix which remembers its key for removal once the matrix is released.
+     */
+    private static final class InternedReference extends WeakReference<GefangenenDilemmaPayoffMatrix> {
+
+        /**
+         * The key of the payoff matrix.
+         */
+        private final Key key;
+
+        /**
+         * Creates a reference.
+         *
+         * @param matrix The payoff matrix.
+         * @param key    The key of the payoff matrix.
+         */
+        InternedReference(final GefangenenDilemmaPayoffMatrix matrix, final Key key) {
+            super(matrix, GefangenenDilemmaPayoffMatrix.RELEASED);
+            this.key = key;
+        }
+    }
+
+    /**
+     * The outcomes of a payoff matrix used as key for interning. Outcomes are compared by their bit patterns.
+     */
+    private static final class Key {
+
+        /**
+         * The outcomes.
+         */
+        private final double[] outcomes;
+
+        /**
+         * Creates a key.
+         *
+         * @param outcomes The outcomes.
+         */
+        Key(final double[] outcomes) {
+            this.outcomes = outcomes;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Key) {
+                final Key other = (Key) obj;
+                return Arrays.equals(this.outcomes, other.outcomes);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.outcomes);
+        }
+    }
+}
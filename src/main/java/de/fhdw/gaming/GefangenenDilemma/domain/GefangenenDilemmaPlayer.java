@@ -26,9 +26,16 @@ import de.fhdw.gaming.core.domain.Player;
  */
 public interface GefangenenDilemmaPlayer extends Player<GefangenenDilemmaPlayer> {
 
+    /**
+     * Returns the payoff matrix of this player.
+     */
+    GefangenenDilemmaPayoffMatrix getPayoffMatrix();
+
     /**
      * Returns the possible outcomes of this player. The key for the first-level map is the answer of the first player,
      * the key for the second-level map is the answer of the second player.
+     * <p>
+     * The maps are created on each call; prefer {@link #getPayoffMatrix()}.
      */
     Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
             Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> getPossibleOutcomes();
@@ -46,6 +53,11 @@ public interface GefangenenDilemmaPlayer extends Player<GefangenenDilemmaPlayer>
      */
     void setAnswer(GefangenenDilemmaGameBuilderFactoryImpl.MOVES newAnswer);
 
+    /**
+     * Removes the answer of this player so that she can answer again in the next round of an iterated game.
+     */
+    void resetAnswer();
+
     @Override
     GefangenenDilemmaPlayer deepCopy();
 }
@@ -47,6 +47,16 @@ public interface GefangenenDilemmaPlayerBuilder {
             @SuppressWarnings("exports") Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
                     Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> possibleOutcomes);
 
+    /**
+     * Changes the possible outcomes of the player.
+     * <p>
+     * There is no default.
+     *
+     * @param payoffMatrix The payoff matrix of the player.
+     * @return {@code this}
+     */
+    GefangenenDilemmaPlayerBuilder changePayoffMatrix(GefangenenDilemmaPayoffMatrix payoffMatrix);
+
     /**
      * Builds the player.
      *
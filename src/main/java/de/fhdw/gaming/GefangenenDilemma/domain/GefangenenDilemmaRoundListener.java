@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * Receives the rounds of a match played by a {@link GefangenenDilemmaMatchSimulator}, one after the other.
+ */
+@FunctionalInterface
+public interface GefangenenDilemmaRoundListener {
+
+    /**
+     * Called after a round has been played.
+     *
+     * @param gameId             The ID of the match.
+     * @param round              The round, starting at zero.
+     * @param firstPlayerAnswer  The answer of the first player.
+     * @param secondPlayerAnswer The answer of the second player.
+     * @param firstPlayerPayoff  The payoff of the first player in this round.
+     * @param secondPlayerPayoff The payoff of the second player in this round.
+     */
+    void roundPlayed(int gameId, int round, GefangenenDilemmaGameBuilderFactoryImpl.MOVES firstPlayerAnswer,
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES secondPlayerAnswer, double firstPlayerPayoff,
+            double secondPlayerPayoff);
+}
@@ -31,4 +31,34 @@ public interface GefangenenDilemmaState extends State<GefangenenDilemmaPlayer, G
      * Returns the second player.
      */
     GefangenenDilemmaPlayer getSecondPlayer();
+
+    /**
+     * Returns the number of rounds to be played.
+     */
+    int getNumberOfRounds();
+
+    /**
+     * Returns the number of rounds that have already been completed.
+     */
+    int getNumberOfPlayedRounds();
+
+    /**
+     * Returns the answers the first player has given in the completed rounds.
+     */
+    GefangenenDilemmaMoveHistory getFirstPlayerHistory();
+
+    /**
+     * Returns the answers the second player has given in the completed rounds.
+     */
+    GefangenenDilemmaMoveHistory getSecondPlayerHistory();
+
+    /**
+     * Returns the sum of the outcomes the first player has received in the completed rounds.
+     */
+    double getFirstPlayerTotalOutcome();
+
+    /**
+     * Returns the sum of the outcomes the second player has received in the completed rounds.
+     */
+    double getSecondPlayerTotalOutcome();
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.factory;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+
+/**
+ * Represents a factory creating {@link GefangenenDilemmaMatchSimulator match simulators}.
+ */
+@FunctionalInterface
+public interface GefangenenDilemmaMatchSimulatorFactory {
+
+    /**
+     * Creates a match simulator.
+     *
+     * @param firstPlayerOutcomes  The payoff matrix of the first player.
+     * @param secondPlayerOutcomes The payoff matrix of the second player.
+     * @param numberOfRounds       The number of rounds per match.
+     * @return The match simulator.
+     * @throws IllegalArgumentException if the number of rounds is not positive.
+     */
+    GefangenenDilemmaMatchSimulator create(GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            GefangenenDilemmaPayoffMatrix secondPlayerOutcomes, int numberOfRounds);
+}
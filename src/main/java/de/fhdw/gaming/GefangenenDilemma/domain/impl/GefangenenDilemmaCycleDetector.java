@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+
+/**
+ * Detects that a match between two {@link GefangenenDilemmaFiniteMemoryStrategy finite-memory strategies} repeats
+ * itself and extrapolates the result of the remaining rounds.
+ * <p>
+ * Once the answers of the last rounds covering the memory of both strategies occur a second time, all following
+ * rounds repeat the rounds played since their first occurrence. The outcomes of the remaining rounds are then computed
+ * from the running totals recorded for each round. Detection gives up after {@link #MAX_RECORDED_ROUNDS} rounds
+ * without repetition.
+ */
+final class GefangenenDilemmaCycleDetector {
+
+    /**
+     * The maximum memory depth supported, limited by the number of rounds fitting into a {@code long} window.
+     */
+    static final int MAX_MEMORY_DEPTH = (Long.SIZE - 1) / 2;
+    /**
+     * The maximum number of rounds recorded before giving up.
+     */
+    private static final int MAX_RECORDED_ROUNDS = 1 << 16;
+    /**
+     * The initial capacity of the running totals.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The number of rounds per match.
+     */
+    private final int numberOfRounds;
+    /**
+     * The number of previous rounds determining the next round.
+     */
+    private final int memoryDepth;
+    /**
+     * The mask selecting the last rounds in {@link #window}.
+     */
+    private final long windowMask;
+    /**
+     * The number of rounds played when a window has been seen first, by window.
+     */
+    private final Map<Long, Integer> firstOccurrences;
+    /**
+     * The answers of the last rounds, two bits per round with the last round in the lowest bits.
+     */
+    private long window;
+    /**
+     * The number of rounds recorded.
+     */
+    private int recordedRounds;
+    /**
+     * The total outcome of the first player after each number of rounds.
+     */
+    private double[] firstPlayerOutcomes;
+    /**
+     * The total outcome of the second player after each number of rounds.
+     */
+    private double[] secondPlayerOutcomes;
+    /**
+     * The number of silent answers of the first player after each number of rounds.
+     */
+    private int[] firstPlayerSilentAnswers;
+    /**
+     * The number of silent answers of the second player after each number of rounds.
+     */
+    private int[] secondPlayerSilentAnswers;
+    /**
+     * Whether detection has been given up.
+     */
+    private boolean disabled;
+
+    /**
+     * Creates a cycle detector.
+     *
+     * @param memoryDepth    The number of previous rounds determining the next round.
+     * @param numberOfRounds The number of rounds per match.
+     * @throws IllegalArgumentException if the memory depth is negative or exceeds {@link #MAX_MEMORY_DEPTH}.
+     */
+    GefangenenDilemmaCycleDetector(final int memoryDepth, final int numberOfRounds) {
+        if (memoryDepth < 0 || memoryDepth > GefangenenDilemmaCycleDetector.MAX_MEMORY_DEPTH) {
+            throw new IllegalArgumentException(String.format("Unsupported memory depth %d.", memoryDepth));
+        }
+        this.numberOfRounds = numberOfRounds;
+        this.memoryDepth = memoryDepth;
+        this.windowMask = (1L << 2 * memoryDepth) - 1;
+        this.firstOccurrences = new HashMap<>();
+        this.firstPlayerOutcomes = new double[GefangenenDilemmaCycleDetector.INITIAL_CAPACITY];
+        this.secondPlayerOutcomes = new double[GefangenenDilemmaCycleDetector.INITIAL_CAPACITY];
+        this.firstPlayerSilentAnswers = new int[GefangenenDilemmaCycleDetector.INITIAL_CAPACITY];
+        this.secondPlayerSilentAnswers = new int[GefangenenDilemmaCycleDetector.INITIAL_CAPACITY];
+    }
+
+    /**
+     * Records the last round if it has not been recorded yet.
+     *
+     * @param state The state of the match.
+     * @return The result of the whole match if the remaining rounds can be extrapolated.
+     */
+    Optional<GefangenenDilemmaMatchResult> update(final GefangenenDilemmaState state) {
+        if (this.disabled || state.getNumberOfPlayedRounds() == this.recordedRounds) {
+            return Optional.empty();
+        }
+        final int firstAnswer = state.getFirstPlayerHistory().getLast().orElseThrow().ordinal();
+        final int secondAnswer = state.getSecondPlayerHistory().getLast().orElseThrow().ordinal();
+        final int silent = GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT.ordinal();
+
+        final int rounds = ++this.recordedRounds;
+        if (rounds == this.firstPlayerOutcomes.length) {
+            this.grow();
+        }
+        this.firstPlayerOutcomes[rounds] = state.getFirstPlayerTotalOutcome();
+        this.secondPlayerOutcomes[rounds] = state.getSecondPlayerTotalOutcome();
+        this.firstPlayerSilentAnswers[rounds] = this.firstPlayerSilentAnswers[rounds - 1]
+                + (firstAnswer == silent ? 1 : 0);
+        this.secondPlayerSilentAnswers[rounds] = this.secondPlayerSilentAnswers[rounds - 1]
+                + (secondAnswer == silent ? 1 : 0);
+        this.window = (this.window << 2 | firstAnswer << 1 | secondAnswer) & this.windowMask;
+
+        if (rounds < this.memoryDepth || rounds >= this.numberOfRounds) {
+            return Optional.empty();
+        }
+        final Integer firstOccurrence = this.firstOccurrences.putIfAbsent(this.window, rounds);
+        if (firstOccurrence != null) {
+            return Optional.of(this.extrapolate(firstOccurrence, rounds));
+        }
+        if (rounds >= GefangenenDilemmaCycleDetector.MAX_RECORDED_ROUNDS) {
+            this.disabled = true;
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Computes the result of the whole match from a cycle.
+     *
+     * @param cycleStart The number of rounds played when the cycle started.
+     * @param cycleEnd   The number of rounds played when the cycle ended.
+     */
+    private GefangenenDilemmaMatchResult extrapolate(final int cycleStart, final int cycleEnd) {
+        final int cycleLength = cycleEnd - cycleStart;
+        final int remainingRounds = this.numberOfRounds - cycleEnd;
+        final int cycles = remainingRounds / cycleLength;
+        final int rest = cycleStart + remainingRounds % cycleLength;
+        return new GefangenenDilemmaMatchResult(
+                this.numberOfRounds,
+                GefangenenDilemmaCycleDetector.extrapolate(this.firstPlayerOutcomes, cycleStart, cycleEnd, cycles,
+                        rest),
+                GefangenenDilemmaCycleDetector.extrapolate(this.secondPlayerOutcomes, cycleStart, cycleEnd, cycles,
+                        rest),
+                GefangenenDilemmaCycleDetector.extrapolate(this.firstPlayerSilentAnswers, cycleStart, cycleEnd, cycles,
+                        rest),
+                GefangenenDilemmaCycleDetector.extrapolate(this.secondPlayerSilentAnswers, cycleStart, cycleEnd,
+                        cycles, rest));
+    }
+
+    /**
+     * Extrapolates a running total.
+     *
+     * @param totals     The running totals.
+     * @param cycleStart The number of rounds played when the cycle started.
+     * @param cycleEnd   The number of rounds played when the cycle ended.
+     * @param cycles     The number of complete cycles remaining.
+     * @param rest       The number of rounds played when the cycle started plus the rounds of the incomplete cycle.
+     */
+    private static double extrapolate(final double[] totals, final int cycleStart, final int cycleEnd,
+            final int cycles, final int rest) {
+        return totals[cycleEnd] + cycles * (totals[cycleEnd] - totals[cycleStart]) + totals[rest]
+                - totals[cycleStart];
+    }
+
+    /**
+     * Extrapolates a running count.
+     *
+     * @param counts     The running counts.
+     * @param cycleStart The number of rounds played when the cycle started.
+     * @param cycleEnd   The number of rounds played when the cycle ended.
+     * @param cycles     The number of complete cycles remaining.
+     * @param rest       The number of rounds played when the cycle started plus the rounds of the incomplete cycle.
+     */
+    private static int extrapolate(final int[] counts, final int cycleStart, final int cycleEnd, final int cycles,
+            final int rest) {
+        return Math.toIntExact(counts[cycleEnd] + (long) cycles * (counts[cycleEnd] - counts[cycleStart])
+                + counts[rest] - counts[cycleStart]);
+    }
+
+    /**
+     * Doubles the capacity of the running totals.
+     */
+    private void grow() {
+        final int capacity = this.firstPlayerOutcomes.length * 2;
+        this.firstPlayerOutcomes = Arrays.copyOf(this.firstPlayerOutcomes, capacity);
+        this.secondPlayerOutcomes = Arrays.copyOf(this.secondPlayerOutcomes, capacity);
+        this.firstPlayerSilentAnswers = Arrays.copyOf(this.firstPlayerSilentAnswers, capacity);
+        this.secondPlayerSilentAnswers = Arrays.copyOf(this.secondPlayerSilentAnswers, capacity);
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveChecker;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveGenerator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameException;
+import de.fhdw.gaming.core.domain.Observer;
+import de.fhdw.gaming.core.domain.ObserverFactory;
+import de.fhdw.gaming.core.domain.ObserverFactoryProvider;
+
+/**
+ * A game computing the moves of its strategies as tasks of an {@link ExecutorService}.
+ * <p>
+ * The rounds are driven by the thread calling {@link #makeMove()}, which only waits for the tasks. Unlike the
+ * {@code DefaultGame} of the game engine, the game has no threads of its own: if both the game and the strategies
+ * run on virtual threads, a game waiting for a strategy occupies no platform thread at all.
+ * <p>
+ * A move is awaited at most for the maximum computation time per move. If the strategy takes longer, its task is
+ * cancelled and the player makes a generated move, as does a player whose strategy chooses no move or an illegal one.
+ * <p>
+ * With simultaneous moves, the moves of all players of a round are submitted at once, computed on copies of the same
+ * state and awaited until one shared deadline. They are applied only after all of them have been collected, so a
+ * round takes as long as the slower strategy and no strategy sees the answer of the other player.
+ */
+final class GefangenenDilemmaExecutingGame implements Game<GefangenenDilemmaPlayer, GefangenenDilemmaState,
+        GefangenenDilemmaMove, GefangenenDilemmaStrategy> {
+
+    /**
+     * The ID of the game.
+     */
+    private final int id;
+    /**
+     * The state of the game.
+     */
+    private final GefangenenDilemmaState state;
+    /**
+     * The strategies of the players by the names of the players.
+     */
+    private final Map<String, GefangenenDilemmaStrategy> strategies;
+    /**
+     * The maximum computation time per move in seconds.
+     */
+    private final long maxComputationTimePerMove;
+    /**
+     * The checker rejecting illegal moves.
+     */
+    private final GefangenenDilemmaMoveChecker moveChecker;
+    /**
+     * The generator for moves replacing missing, illegal and overdue ones.
+     */
+    private final GefangenenDilemmaMoveGenerator moveGenerator;
+    /**
+     * The executor computing the moves.
+     */
+    private final ExecutorService executor;
+    /**
+     * {@code true} if all players of a round compute their moves concurrently.
+     */
+    private final boolean simultaneousMoves;
+    /**
+     * The clock the deadlines refer to, in nanoseconds.
+     */
+    private final LongSupplier clock;
+    /**
+     * The observers of the game.
+     */
+    private final List<Observer> observers;
+    /**
+     * {@code true} if the game has been started.
+     */
+    private boolean started;
+
+    /**
+     * Creates a game.
+     *
+     * @param id                        The ID of the game.
+     * @param initialState              The initial state of the game.
+     * @param strategies                The strategies of the players by the names of the players.
+     * @param maxComputationTimePerMove The maximum computation time per move in seconds.
+     * @param moveChecker               The checker rejecting illegal moves.
+     * @param moveGenerator             The generator for moves replacing missing, illegal and overdue ones.
+     * @param observerFactoryProvider   The provider of the factories creating the observers of the game.
+     * @param executor                  The executor computing the moves.
+     * @param simultaneousMoves         {@code true} if all players of a round compute their moves concurrently.
+     * @param clock                     The clock the deadlines refer to, in nanoseconds.
+     */
+    GefangenenDilemmaExecutingGame(final int id, final GefangenenDilemmaState initialState,
+            final Map<String, GefangenenDilemmaStrategy> strategies, final long maxComputationTimePerMove,
+            final GefangenenDilemmaMoveChecker moveChecker, final GefangenenDilemmaMoveGenerator moveGenerator,
+            final ObserverFactoryProvider observerFactoryProvider, final ExecutorService executor,
+            final boolean simultaneousMoves, final LongSupplier clock) {
+        this.id = id;
+        this.state = Objects.requireNonNull(initialState, "initialState");
+        this.strategies = Collections.unmodifiableMap(new LinkedHashMap<>(strategies));
+        this.maxComputationTimePerMove = maxComputationTimePerMove;
+        this.moveChecker = Objects.requireNonNull(moveChecker, "moveChecker");
+        this.moveGenerator = Objects.requireNonNull(moveGenerator, "moveGenerator");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.simultaneousMoves = simultaneousMoves;
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.observers = new ArrayList<>();
+        for (final ObserverFactory factory : observerFactoryProvider.getObserverFactories()) {
+            this.observers.add(factory.createObserver());
+        }
+    }
+
+    @Override
+    public int getId() {
+        return this.id;
+    }
+
+    @Override
+    public Map<String, GefangenenDilemmaPlayer> getPlayers() {
+        return this.state.getPlayers();
+    }
+
+    @Override
+    public Map<String, GefangenenDilemmaStrategy> getStrategies() {
+        return this.strategies;
+    }
+
+    @Override
+    public GefangenenDilemmaState getState() {
+        return this.state;
+    }
+
+    @Override
+    public void addObserver(final Observer observer) {
+        this.observers.add(Objects.requireNonNull(observer, "observer"));
+    }
+
+    @Override
+    public void removeObserver(final Observer observer) {
+        this.observers.remove(observer);
+    }
+
+    @Override
+    public void start() throws GameException, InterruptedException {
+        if (this.started) {
+            return;
+        }
+        this.started = true;
+        for (final Observer observer : this.observers) {
+            observer.started(this, this.state.deepCopy());
+        }
+    }
+
+    @Override
+    public void makeMove() throws GameException, InterruptedException {
+        if (!this.started) {
+            throw new IllegalStateException("The game has not been started.");
+        }
+        final Set<GefangenenDilemmaPlayer> nextPlayers = this.state.computeNextPlayers();
+        if (nextPlayers.isEmpty()) {
+            return;
+        }
+        for (final Observer observer : this.observers) {
+            observer.nextPlayersComputed(this, this.state.deepCopy(), nextPlayers);
+        }
+
+        final List<GefangenenDilemmaPlayer> players = new ArrayList<>(nextPlayers);
+        if (!this.simultaneousMoves) {
+            players.subList(1, players.size()).clear();
+        }
+        final long deadline = this.clock.getAsLong() + TimeUnit.SECONDS.toNanos(this.maxComputationTimePerMove);
+        final List<Future<Optional<GefangenenDilemmaMove>>> futures = new ArrayList<>(players.size());
+        final List<Optional<GefangenenDilemmaMove>> moves = new ArrayList<>(players.size());
+        try {
+            for (final GefangenenDilemmaPlayer player : players) {
+                futures.add(this.submitMove(player));
+            }
+            for (int i = 0; i < players.size(); ++i) {
+                moves.add(this.awaitMove(players.get(i), futures.get(i), deadline));
+            }
+        } finally {
+            // stops the computations not collected due to an exception
+            for (final Future<Optional<GefangenenDilemmaMove>> future : futures) {
+                future.cancel(true);
+            }
+        }
+        for (int i = 0; i < players.size(); ++i) {
+            this.applyMove(players.get(i), moves.get(i));
+        }
+        this.state.nextTurn();
+
+        if (this.isFinished()) {
+            for (final Observer observer : this.observers) {
+                observer.finished(this, this.state.deepCopy());
+            }
+        }
+    }
+
+    @Override
+    public boolean isStarted() {
+        return this.started;
+    }
+
+    @Override
+    public boolean isFinished() {
+        return this.started && this.state.computeNextPlayers().isEmpty();
+    }
+
+    @Override
+    public void close() {
+        // nothing to do, the executor belongs to the caller
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GefangenenDilemmaExecutingGame[id=%d, state=%s, strategies=%s]", this.id, this.state,
+                this.strategies);
+    }
+
+    /**
+     * Starts computing the next move of a player on a copy of the current state.
+     *
+     * @param player The player.
+     */
+    private Future<Optional<GefangenenDilemmaMove>> submitMove(final GefangenenDilemmaPlayer player) {
+        final GefangenenDilemmaStrategy strategy = this.strategies.get(player.getName());
+        final GefangenenDilemmaPlayer playerCopy = player.deepCopy();
+        final GefangenenDilemmaState stateCopy = this.state.deepCopy();
+        return this.executor.submit(
+                () -> strategy.computeNextMove(this.id, playerCopy, stateCopy, this.maxComputationTimePerMove));
+    }
+
+    /**
+     * Waits for the next move of a player. An overdue computation is cancelled and yields no move.
+     *
+     * @param player   The player.
+     * @param future   The computation of the move.
+     * @param deadline The time of the clock at which the computation is overdue.
+     * @throws GameException        if the strategy fails.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private Optional<GefangenenDilemmaMove> awaitMove(final GefangenenDilemmaPlayer player,
+            final Future<Optional<GefangenenDilemmaMove>> future, final long deadline)
+            throws GameException, InterruptedException {
+        try {
+            return future.get(deadline - this.clock.getAsLong(), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            future.cancel(true);
+            for (final Observer observer : this.observers) {
+                observer.overdueMoveRejected(this, this.state.deepCopy(), player, Optional.empty());
+            }
+            return Optional.empty();
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof GameException) {
+                throw (GameException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new GameException(String.format("Computing the next move failed: %s", cause.getMessage()), cause);
+        }
+    }
+
+    /**
+     * Applies the move of a player, replacing a missing or illegal move by a generated one.
+     *
+     * @param player The player.
+     * @param move   The move chosen by the strategy of the player, if any.
+     * @throws GameException        if the move cannot be applied.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private void applyMove(final GefangenenDilemmaPlayer player, final Optional<GefangenenDilemmaMove> move)
+            throws GameException, InterruptedException {
+        Optional<GefangenenDilemmaMove> legalMove = move;
+        if (move.isPresent() && !this.moveChecker.check(move.get())) {
+            for (final Observer observer : this.observers) {
+                observer.illegalMoveRejected(this, this.state.deepCopy(), player, Optional.of(move.get()),
+                        "Unsupported move.");
+            }
+            legalMove = Optional.empty();
+        }
+        if (legalMove.isEmpty()) {
+            legalMove = this.moveGenerator.generate(player, this.state);
+        }
+        legalMove.orElseThrow().applyTo(this.state, player);
+        for (final Observer observer : this.observers) {
+            observer.legalMoveApplied(this, this.state.deepCopy(), player, legalMove.get());
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package de.fhdw.gaming.GefangenenDilemma.domain.impl;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +25,7 @@ import java.util.regex.Pattern;
 
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilder;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilderFactory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayerBuilder;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
@@ -61,6 +61,14 @@ public final class GefangenenDilemmaGameBuilderFactoryImpl implements Gefangenen
      * Largest allowed maximum computation time per move in seconds.
      */
     private static final int MAX_MAX_COMPUTATION_TIME_PER_MOVE = 3600;
+    /**
+     * Smallest allowed number of rounds.
+     */
+    private static final int MIN_NUMBER_OF_ROUNDS = 1;
+    /**
+     * Largest allowed number of rounds.
+     */
+    private static final int MAX_NUMBER_OF_ROUNDS = 1_000_000;
 
     /**
      * Implements {@link MOVES}.
@@ -140,10 +148,20 @@ public final class GefangenenDilemmaGameBuilderFactoryImpl implements Gefangenen
                                     GefangenenDilemmaGameBuilderFactoryImpl.MIN_MAX_COMPUTATION_TIME_PER_MOVE),
                             new MaxValueValidator<>(
                                     GefangenenDilemmaGameBuilderFactoryImpl.MAX_MAX_COMPUTATION_TIME_PER_MOVE))
+                            .needInteger(
+                                    GefangenenDilemmaGameBuilderFactory.PARAM_NUMBER_OF_ROUNDS,
+                                    "Number of rounds",
+                                    Optional.of(GefangenenDilemmaGameBuilder.DEFAULT_NUMBER_OF_ROUNDS),
+                                    new MinValueValidator<>(
+                                            GefangenenDilemmaGameBuilderFactoryImpl.MIN_NUMBER_OF_ROUNDS),
+                                    new MaxValueValidator<>(
+                                            GefangenenDilemmaGameBuilderFactoryImpl.MAX_NUMBER_OF_ROUNDS))
                             .requestData("Game properties");
 
             gameBuilder.changeMaximumComputationTimePerMove(
                     (Integer) gameData.get(GameBuilderFactory.PARAM_MAX_COMPUTATION_TIME_PER_MOVE));
+            gameBuilder.changeNumberOfRounds(
+                    (Integer) gameData.get(GefangenenDilemmaGameBuilderFactory.PARAM_NUMBER_OF_ROUNDS));
 
             final InputProvider firstPlayerInputProvider = inputProvider.getNext(gameData);
             final Map<String, Object> firstPlayerData = this.requestPlayerData(firstPlayerInputProvider, "Player 1");
@@ -216,31 +234,14 @@ public final class GefangenenDilemmaGameBuilderFactoryImpl implements Gefangenen
     private GefangenenDilemmaPlayer createPlayer(final GefangenenDilemmaPlayerBuilder playerBuilder,
             final Map<String, Object> playerData) throws GameException, InputProviderException {
 
-        final Map<MOVES, Map<MOVES, Double>> possibleOutcomes = new LinkedHashMap<>();
-
-        final Map<MOVES, Double> possibleOutcomesSnitch = new LinkedHashMap<>();
-        possibleOutcomesSnitch.put(
-                MOVES.SNITCH,
-                (double) (Integer) playerData
-                        .get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_SNITCH));
-        possibleOutcomesSnitch.put(
-                MOVES.REMAINSILENT,
-                (double) (Integer) playerData
-                        .get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_STAYSILENT));
-        possibleOutcomes.put(MOVES.SNITCH, possibleOutcomesSnitch);
-
-        final Map<MOVES, Double> possibleOutcomesStaySilent = new LinkedHashMap<>();
-        possibleOutcomesStaySilent.put(
-                MOVES.SNITCH,
-                (double) (Integer) playerData
-                        .get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_STAYSILENT_SNITCH));
-        possibleOutcomesStaySilent.put(
-                MOVES.REMAINSILENT,
-                (double) (Integer) playerData
+        final GefangenenDilemmaPayoffMatrix payoffMatrix = GefangenenDilemmaPayoffMatrix.of(
+                (Integer) playerData.get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_SNITCH),
+                (Integer) playerData.get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_STAYSILENT),
+                (Integer) playerData.get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_STAYSILENT_SNITCH),
+                (Integer) playerData
                         .get(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_STAYSILENT_STAYSILENT));
-        possibleOutcomes.put(MOVES.REMAINSILENT, possibleOutcomesStaySilent);
         return playerBuilder.changeName((String) playerData.get(GameBuilderFactory.PARAM_PLAYER_NAME))
-                .changePossibleOutcomes(possibleOutcomes).build();
+                .changePayoffMatrix(payoffMatrix).build();
     }
 
     /**
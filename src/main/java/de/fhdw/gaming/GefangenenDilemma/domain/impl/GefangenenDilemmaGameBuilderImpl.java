@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilder;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
@@ -63,6 +64,18 @@ final class GefangenenDilemmaGameBuilderImpl implements GefangenenDilemmaGameBui
      * The maximum computation time per move in seconds.
      */
     private int maxComputationTimePerMove;
+    /**
+     * The number of rounds to be played.
+     */
+    private int numberOfRounds;
+    /**
+     * The executor computing the moves of the strategies, if any.
+     */
+    private Optional<ExecutorService> executor;
+    /**
+     * {@code true} if both players compute their moves of a round concurrently.
+     */
+    private boolean simultaneousMoves;
 
     /**
      * Creates a Demo game builder.
@@ -74,6 +87,9 @@ final class GefangenenDilemmaGameBuilderImpl implements GefangenenDilemmaGameBui
         this.secondPlayer = Optional.empty();
         this.secondPlayerStrategy = Optional.empty();
         this.maxComputationTimePerMove = GameBuilder.DEFAULT_MAX_COMPUTATION_TIME_PER_MOVE;
+        this.numberOfRounds = GefangenenDilemmaGameBuilder.DEFAULT_NUMBER_OF_ROUNDS;
+        this.executor = Optional.empty();
+        this.simultaneousMoves = false;
     }
 
     @Override
@@ -111,6 +127,24 @@ final class GefangenenDilemmaGameBuilderImpl implements GefangenenDilemmaGameBui
         return this;
     }
 
+    @Override
+    public GefangenenDilemmaGameBuilder changeNumberOfRounds(final int newNumberOfRounds) {
+        this.numberOfRounds = newNumberOfRounds;
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGameBuilder changeExecutor(final ExecutorService newExecutor) {
+        this.executor = Optional.of(Objects.requireNonNull(newExecutor, "newExecutor"));
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGameBuilder changeSimultaneousMoves(final boolean newSimultaneousMoves) {
+        this.simultaneousMoves = newSimultaneousMoves;
+        return this;
+    }
+
     @Override
     public Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
             GefangenenDilemmaStrategy> build(final int id)
@@ -118,13 +152,29 @@ final class GefangenenDilemmaGameBuilderImpl implements GefangenenDilemmaGameBui
         if (!this.firstPlayer.isPresent() || !this.secondPlayer.isPresent()) {
             throw new GameException("A Demo game needs two players.");
         }
+        if (this.simultaneousMoves && this.executor.isEmpty()) {
+            throw new GameException("Simultaneous moves need an executor.");
+        }
 
         final GefangenenDilemmaStateImpl initialState = new GefangenenDilemmaStateImpl(this.firstPlayer.get(),
-                this.secondPlayer.get());
+                this.secondPlayer.get(), this.numberOfRounds);
 
         final Map<String, GefangenenDilemmaStrategy> strategies = new LinkedHashMap<>();
         strategies.put(initialState.getFirstPlayer().getName(), this.firstPlayerStrategy.orElseThrow());
         strategies.put(initialState.getSecondPlayer().getName(), this.secondPlayerStrategy.orElseThrow());
+        if (this.executor.isPresent()) {
+            return new GefangenenDilemmaExecutingGame(
+                    id,
+                    initialState,
+                    strategies,
+                    this.maxComputationTimePerMove,
+                    AbstractGefangenenDilemmaMove.class::isInstance,
+                    new GefangenenDilemmaMoveGeneratorImpl(),
+                    this.observerFactoryProvider,
+                    this.executor.get(),
+                    this.simultaneousMoves,
+                    System::nanoTime);
+        }
         return new DefaultGame<>(
                 id,
                 initialState,
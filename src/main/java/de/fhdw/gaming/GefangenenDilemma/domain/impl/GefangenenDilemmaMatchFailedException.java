@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Transports a checked exception of a match out of a {@link ForkJoinPool}, whose tasks cannot throw checked
+ * exceptions. The pool may wrap the exception again when rethrowing it in the invoking thread, so the original
+ * exception is recovered by {@link #rethrowCause()}.
+ */
+public final class GefangenenDilemmaMatchFailedException extends RuntimeException {
+
+    /**
+     * The serial version UID.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates an exception.
+     *
+     * @param cause The exception thrown by the match.
+     */
+    public GefangenenDilemmaMatchFailedException(final Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Creates an exception for a match which has been interrupted, restoring the interrupt status of the current
+     * thread.
+     *
+     * @param cause The exception thrown by the match.
+     */
+    public static GefangenenDilemmaMatchFailedException interrupted(final InterruptedException cause) {
+        Thread.currentThread().interrupt();
+        return new GefangenenDilemmaMatchFailedException(cause);
+    }
+
+    /**
+     * Throws the {@link GameException} or {@link InterruptedException} this exception has been created for.
+     *
+     * @return This exception if it does not transport one of them, to be thrown by the caller.
+     * @throws GameException        if a match has failed.
+     * @throws InterruptedException if a match has been interrupted.
+     */
+    public RuntimeException rethrowCause() throws GameException, InterruptedException {
+        for (Throwable cause = this; cause != null; cause = cause.getCause()) {
+            if (cause instanceof GameException) {
+                throw (GameException) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException) cause;
+            }
+        }
+        return this;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveGenerator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaRoundListener;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.AbstractGefangenenDilemmaMove;
+import de.fhdw.gaming.core.domain.GameBuilder;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Implements {@link GefangenenDilemmaMatchSimulator} by driving a {@link GefangenenDilemmaStateImpl} directly.
+ * <p>
+ * Moves are requested in the same order as by the game engine: the first player answers before the second one, and
+ * the state advances after each move. If a strategy does not return a move, the move of the
+ * {@link GefangenenDilemmaMoveGenerator} is applied instead. In contrast to the game engine, strategies are called in
+ * the current thread and receive the live state rather than a copy, so they must not modify it.
+ * <p>
+ * If both strategies are {@link GefangenenDilemmaFiniteMemoryStrategy finite-memory strategies}, the match stops as
+ * soon as it starts repeating itself, and the outcomes of the remaining rounds are extrapolated. This does not apply to
+ * matches reported to a {@link GefangenenDilemmaRoundListener}, which need every round.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class GefangenenDilemmaMatchSimulatorImpl implements GefangenenDilemmaMatchSimulator {
+
+    /**
+     * The name of the first player.
+     */
+    private static final String FIRST_PLAYER_NAME = "Player 1";
+    /**
+     * The name of the second player.
+     */
+    private static final String SECOND_PLAYER_NAME = "Player 2";
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes;
+    /**
+     * The payoff matrix of the second player.
+     */
+    private final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes;
+    /**
+     * The number of rounds per match.
+     */
+    private final int numberOfRounds;
+    /**
+     * The generator for moves of strategies not returning a move.
+     */
+    private final GefangenenDilemmaMoveGenerator moveGenerator;
+
+    /**
+     * Creates a match simulator.
+     *
+     * @param firstPlayerOutcomes  The payoff matrix of the first player.
+     * @param secondPlayerOutcomes The payoff matrix of the second player.
+     * @param numberOfRounds       The number of rounds per match.
+     */
+    public GefangenenDilemmaMatchSimulatorImpl(
+            final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes,
+            final int numberOfRounds) {
+        this.firstPlayerOutcomes = Objects.requireNonNull(firstPlayerOutcomes, "firstPlayerOutcomes");
+        this.secondPlayerOutcomes = Objects.requireNonNull(secondPlayerOutcomes, "secondPlayerOutcomes");
+        if (numberOfRounds < 1) {
+            throw new IllegalArgumentException(
+                    String.format("At least one round must be played, but %d rounds were requested.", numberOfRounds));
+        }
+        this.numberOfRounds = numberOfRounds;
+        this.moveGenerator = new GefangenenDilemmaMoveGeneratorImpl();
+    }
+
+    @Override
+    public GefangenenDilemmaPayoffMatrix getFirstPlayerOutcomes() {
+        return this.firstPlayerOutcomes;
+    }
+
+    @Override
+    public GefangenenDilemmaPayoffMatrix getSecondPlayerOutcomes() {
+        return this.secondPlayerOutcomes;
+    }
+
+    @Override
+    public GefangenenDilemmaMatchResult simulate(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy) throws GameException, InterruptedException {
+        return this.play(gameId, firstPlayerStrategy, secondPlayerStrategy, Optional.empty());
+    }
+
+    @Override
+    public GefangenenDilemmaMatchResult simulate(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy, final GefangenenDilemmaRoundListener listener)
+            throws GameException, InterruptedException {
+        return this.play(gameId, firstPlayerStrategy, secondPlayerStrategy,
+                Optional.of(Objects.requireNonNull(listener, "listener")));
+    }
+
+    /**
+     * Plays a match.
+     *
+     * @param gameId               The ID of the match.
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @param listener             The listener receiving the rounds, if any.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private GefangenenDilemmaMatchResult play(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy,
+            final Optional<GefangenenDilemmaRoundListener> listener) throws GameException, InterruptedException {
+
+        final GefangenenDilemmaPlayer firstPlayer = new GefangenenDilemmaPlayerImpl(
+                GefangenenDilemmaMatchSimulatorImpl.FIRST_PLAYER_NAME,
+                this.firstPlayerOutcomes);
+        final GefangenenDilemmaPlayer secondPlayer = new GefangenenDilemmaPlayerImpl(
+                GefangenenDilemmaMatchSimulatorImpl.SECOND_PLAYER_NAME,
+                this.secondPlayerOutcomes);
+        final GefangenenDilemmaStateImpl state = new GefangenenDilemmaStateImpl(firstPlayer, secondPlayer,
+                this.numberOfRounds);
+        final Optional<GefangenenDilemmaCycleDetector> cycleDetector = listener.isPresent() ? Optional.empty()
+                : GefangenenDilemmaMatchSimulatorImpl.createCycleDetector(firstPlayerStrategy, secondPlayerStrategy,
+                        this.numberOfRounds);
+
+        while (true) {
+            if (firstPlayer.getAnswer().isEmpty()) {
+                this.makeMove(gameId, firstPlayer, firstPlayerStrategy, state);
+            } else if (secondPlayer.getAnswer().isEmpty()) {
+                this.makeMove(gameId, secondPlayer, secondPlayerStrategy, state);
+            } else {
+                break;
+            }
+            final int playedRounds = state.getNumberOfPlayedRounds();
+            state.nextTurn();
+            if (listener.isPresent() && state.getNumberOfPlayedRounds() > playedRounds) {
+                this.reportRound(gameId, state, listener.get());
+            }
+            if (cycleDetector.isPresent()) {
+                final Optional<GefangenenDilemmaMatchResult> extrapolated = cycleDetector.get().update(state);
+                if (extrapolated.isPresent()) {
+                    return extrapolated.get();
+                }
+            }
+        }
+
+        return new GefangenenDilemmaMatchResult(
+                state.getNumberOfPlayedRounds(),
+                state.getFirstPlayerTotalOutcome(),
+                state.getSecondPlayerTotalOutcome(),
+                state.getFirstPlayerHistory().count(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT),
+                state.getSecondPlayerHistory().count(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT));
+    }
+
+    /**
+     * Reports the round played last to a listener.
+     *
+     * @param gameId   The ID of the match.
+     * @param state    The state of the match.
+     * @param listener The listener.
+     */
+    private void reportRound(final int gameId, final GefangenenDilemmaStateImpl state,
+            final GefangenenDilemmaRoundListener listener) {
+        final GefangenenDilemmaGameBuilderFactoryImpl.MOVES firstPlayerAnswer = state.getFirstPlayerHistory()
+                .getLast().orElseThrow();
+        final GefangenenDilemmaGameBuilderFactoryImpl.MOVES secondPlayerAnswer = state.getSecondPlayerHistory()
+                .getLast().orElseThrow();
+        final int outcomeIndex = GefangenenDilemmaPayoffMatrix.indexOf(firstPlayerAnswer, secondPlayerAnswer);
+        listener.roundPlayed(gameId, state.getNumberOfPlayedRounds() - 1, firstPlayerAnswer, secondPlayerAnswer,
+                this.firstPlayerOutcomes.getOutcome(outcomeIndex), this.secondPlayerOutcomes.getOutcome(outcomeIndex));
+    }
+
+    /**
+     * Returns a cycle detector if both strategies have a finite memory.
+     *
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @param numberOfRounds       The number of rounds per match.
+     */
+    private static Optional<GefangenenDilemmaCycleDetector> createCycleDetector(
+            final GefangenenDilemmaStrategy firstPlayerStrategy, final GefangenenDilemmaStrategy secondPlayerStrategy,
+            final int numberOfRounds) {
+        if (firstPlayerStrategy instanceof GefangenenDilemmaFiniteMemoryStrategy
+                && secondPlayerStrategy instanceof GefangenenDilemmaFiniteMemoryStrategy) {
+            final int memoryDepth = Math.max(
+                    ((GefangenenDilemmaFiniteMemoryStrategy) firstPlayerStrategy).getMemoryDepth(),
+                    ((GefangenenDilemmaFiniteMemoryStrategy) secondPlayerStrategy).getMemoryDepth());
+            if (memoryDepth <= GefangenenDilemmaCycleDetector.MAX_MEMORY_DEPTH) {
+                return Optional.of(new GefangenenDilemmaCycleDetector(memoryDepth, numberOfRounds));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Asks a strategy for the next move of a player and applies it.
+     *
+     * @param gameId   The ID of the match.
+     * @param player   The player.
+     * @param strategy The strategy of the player.
+     * @param state    The state of the match.
+     * @throws GameException        if the strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private void makeMove(final int gameId, final GefangenenDilemmaPlayer player,
+            final GefangenenDilemmaStrategy strategy, final GefangenenDilemmaStateImpl state)
+            throws GameException, InterruptedException {
+
+        Optional<GefangenenDilemmaMove> move = strategy.computeNextMove(gameId, player, state,
+                GameBuilder.DEFAULT_MAX_COMPUTATION_TIME_PER_MOVE);
+        if (move.isEmpty()) {
+            move = this.moveGenerator.generate(player, state);
+        }
+        if (!(move.orElseThrow() instanceof AbstractGefangenenDilemmaMove)) {
+            throw new GameException(
+                    String.format("Strategy %s chose an illegal move %s for player '%s'.", strategy, move.get(),
+                            player.getName()));
+        }
+        move.get().applyTo(state, player);
+    }
+}
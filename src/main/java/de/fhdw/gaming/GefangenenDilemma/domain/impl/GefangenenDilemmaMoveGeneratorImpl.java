@@ -21,7 +21,6 @@ import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveGenerator;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
 import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
-import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
 import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
 
 /**
@@ -30,14 +29,15 @@ import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveF
 final class GefangenenDilemmaMoveGeneratorImpl implements GefangenenDilemmaMoveGenerator {
 
     /**
-     * The move factory.
+     * The move to generate.
      */
-    private final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+    private final Optional<GefangenenDilemmaMove> move = Optional
+            .of(new GefangenenDilemmaDefaultMoveFactory().createSnitchMove());
 
     @Override
     public Optional<GefangenenDilemmaMove> generate(final GefangenenDilemmaPlayer player,
             final GefangenenDilemmaState state) {
         // choose "no" to punish lame strategies
-        return Optional.of(this.moveFactory.createSnitchMove());
+        return this.move;
     }
 }
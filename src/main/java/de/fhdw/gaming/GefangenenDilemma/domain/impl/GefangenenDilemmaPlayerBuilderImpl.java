@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayerBuilder;
 import de.fhdw.gaming.core.domain.GameException;
@@ -33,18 +34,16 @@ final class GefangenenDilemmaPlayerBuilderImpl implements GefangenenDilemmaPlaye
      */
     private Optional<String> name;
     /**
-     * The possible outcomes of this player. The key for the first-level map is the answer of the first player, the key
-     * for the second-level map is the answer of the second player.
+     * The payoff matrix of this player.
      */
-    private Optional<Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
-            Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>>> possibleOutcomes;
+    private Optional<GefangenenDilemmaPayoffMatrix> payoffMatrix;
 
     /**
      * Creates an {@link GefangenenDilemmaPlayerBuilderImpl}.
      */
     GefangenenDilemmaPlayerBuilderImpl() {
         this.name = Optional.empty();
-        this.possibleOutcomes = Optional.empty();
+        this.payoffMatrix = Optional.empty();
     }
 
     @Override
@@ -57,15 +56,20 @@ final class GefangenenDilemmaPlayerBuilderImpl implements GefangenenDilemmaPlaye
     public GefangenenDilemmaPlayerBuilder changePossibleOutcomes(
             final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
                     Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> newPossibleOutcomes) {
-        this.possibleOutcomes = Optional.of(newPossibleOutcomes);
+        this.payoffMatrix = Optional
+                .of(GefangenenDilemmaPayoffMatrix.fromMap(this.checkPossibleOutcomes(newPossibleOutcomes)));
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaPlayerBuilder changePayoffMatrix(final GefangenenDilemmaPayoffMatrix newPayoffMatrix) {
+        this.payoffMatrix = Optional.of(newPayoffMatrix);
         return this;
     }
 
     @Override
     public GefangenenDilemmaPlayer build() throws GameException {
-        return new GefangenenDilemmaPlayerImpl(
-                this.name.orElseThrow(),
-                this.checkPossibleOutcomes(this.possibleOutcomes.orElseThrow()));
+        return new GefangenenDilemmaPlayerImpl(this.name.orElseThrow(), this.payoffMatrix.orElseThrow());
     }
 
     /**
@@ -15,12 +15,14 @@
  */
 package de.fhdw.gaming.GefangenenDilemma.domain.impl;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.core.domain.AbstractPlayer;
 
@@ -31,11 +33,17 @@ final class GefangenenDilemmaPlayerImpl
         extends AbstractPlayer<GefangenenDilemmaPlayer> implements GefangenenDilemmaPlayer {
 
     /**
-     * The possible outcomes of this player. The key for the first-level map is the answer of the first player, the key
-     * for the second-level map is the answer of the second player.
+     * The possible answers wrapped into {@link Optional}s, indexed by their ordinal, so setting an answer allocates
+     * nothing.
      */
-    private final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
-            Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> possibleOutcomes;
+    private static final List<Optional<GefangenenDilemmaGameBuilderFactoryImpl.MOVES>> ANSWERS = Arrays
+            .stream(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values()).map(Optional::of)
+            .collect(Collectors.toUnmodifiableList());
+
+    /**
+     * The payoff matrix of this player.
+     */
+    private final GefangenenDilemmaPayoffMatrix payoffMatrix;
     /**
      * The answer of the player.
      */
@@ -51,9 +59,18 @@ final class GefangenenDilemmaPlayerImpl
     GefangenenDilemmaPlayerImpl(final String name,
             final Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
                     Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> possibleOutcomes) {
+        this(name, GefangenenDilemmaPayoffMatrix.fromMap(Objects.requireNonNull(possibleOutcomes, "possibleOutcomes")));
+    }
+
+    /**
+     * Creates a Demo player.
+     *
+     * @param name         The name of the player.
+     * @param payoffMatrix The payoff matrix of this player.
+     */
+    GefangenenDilemmaPlayerImpl(final String name, final GefangenenDilemmaPayoffMatrix payoffMatrix) {
         super(name);
-        this.possibleOutcomes = Collections
-                .unmodifiableMap(new LinkedHashMap<>(Objects.requireNonNull(possibleOutcomes, "possibleOutcomes")));
+        this.payoffMatrix = Objects.requireNonNull(payoffMatrix, "payoffMatrix");
         this.answer = Optional.empty();
     }
 
@@ -64,7 +81,7 @@ final class GefangenenDilemmaPlayerImpl
      */
     GefangenenDilemmaPlayerImpl(final GefangenenDilemmaPlayer source) {
         super(source);
-        this.possibleOutcomes = source.getPossibleOutcomes();
+        this.payoffMatrix = source.getPayoffMatrix();
         this.answer = source.getAnswer();
     }
 
@@ -81,7 +98,7 @@ final class GefangenenDilemmaPlayerImpl
         if (obj instanceof GefangenenDilemmaPlayerImpl) {
             final GefangenenDilemmaPlayerImpl other = (GefangenenDilemmaPlayerImpl) obj;
             return super.equals(obj) && this.answer.equals(other.answer)
-                    && this.possibleOutcomes.equals(other.possibleOutcomes);
+                    && this.payoffMatrix == other.payoffMatrix;
         }
         return false;
     }
@@ -89,13 +106,18 @@ final class GefangenenDilemmaPlayerImpl
     @SuppressWarnings("PMD.UselessOverridingMethod")
     @Override
     public int hashCode() {
-        return super.hashCode() ^ Objects.hash(this.answer, this.possibleOutcomes);
+        return super.hashCode() ^ Objects.hash(this.answer, this.payoffMatrix);
+    }
+
+    @Override
+    public GefangenenDilemmaPayoffMatrix getPayoffMatrix() {
+        return this.payoffMatrix;
     }
 
     @Override
     public Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES,
             Map<GefangenenDilemmaGameBuilderFactoryImpl.MOVES, Double>> getPossibleOutcomes() {
-        return this.possibleOutcomes;
+        return this.payoffMatrix.asMap();
     }
 
     @Override
@@ -108,7 +130,12 @@ final class GefangenenDilemmaPlayerImpl
         if (this.answer.isPresent()) {
             throw new IllegalStateException(String.format("Player %s tried to change her answer.", this.getName()));
         }
-        this.answer = Optional.of(newAnswer);
+        this.answer = GefangenenDilemmaPlayerImpl.ANSWERS.get(newAnswer.ordinal());
+    }
+
+    @Override
+    public void resetAnswer() {
+        this.answer = Optional.empty();
     }
 
     @Override
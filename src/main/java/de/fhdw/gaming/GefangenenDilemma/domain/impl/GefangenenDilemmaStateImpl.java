@@ -21,6 +21,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
 import de.fhdw.gaming.core.domain.GameException;
@@ -39,9 +41,29 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
      * The second player.
      */
     private final GefangenenDilemmaPlayer secondPlayer;
+    /**
+     * The number of rounds to be played.
+     */
+    private final int numberOfRounds;
+    /**
+     * The answers of the first player in the completed rounds.
+     */
+    private final GefangenenDilemmaMoveHistory firstPlayerHistory;
+    /**
+     * The answers of the second player in the completed rounds.
+     */
+    private final GefangenenDilemmaMoveHistory secondPlayerHistory;
+    /**
+     * The sum of the outcomes of the first player in the completed rounds.
+     */
+    private double firstPlayerTotalOutcome;
+    /**
+     * The sum of the outcomes of the second player in the completed rounds.
+     */
+    private double secondPlayerTotalOutcome;
 
     /**
-     * Creates a Demo state.
+     * Creates a Demo state for a game consisting of a single round.
      *
      * @param firstPlayer  The first player.
      * @param secondPlayer The second player.
@@ -49,6 +71,19 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
      */
     GefangenenDilemmaStateImpl(final GefangenenDilemmaPlayer firstPlayer, final GefangenenDilemmaPlayer secondPlayer)
             throws GameException {
+        this(firstPlayer, secondPlayer, 1);
+    }
+
+    /**
+     * Creates a Demo state.
+     *
+     * @param firstPlayer    The first player.
+     * @param secondPlayer   The second player.
+     * @param numberOfRounds The number of rounds to be played.
+     * @throws GameException if the state cannot be created according to the rules of the game.
+     */
+    GefangenenDilemmaStateImpl(final GefangenenDilemmaPlayer firstPlayer, final GefangenenDilemmaPlayer secondPlayer,
+            final int numberOfRounds) throws GameException {
 
         this.firstPlayer = Objects.requireNonNull(firstPlayer, "firstPlayer");
         this.secondPlayer = Objects.requireNonNull(secondPlayer, "secondPlayer");
@@ -57,16 +92,34 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
             throw new IllegalArgumentException(
                     String.format("Both players have the same name '%s'.", this.firstPlayer.getName()));
         }
+        if (numberOfRounds < 1) {
+            throw new IllegalArgumentException(
+                    String.format("At least one round must be played, but %d rounds were requested.", numberOfRounds));
+        }
+
+        this.numberOfRounds = numberOfRounds;
+        this.firstPlayerHistory = new GefangenenDilemmaMoveHistory();
+        this.secondPlayerHistory = new GefangenenDilemmaMoveHistory();
+        this.firstPlayerTotalOutcome = 0.0;
+        this.secondPlayerTotalOutcome = 0.0;
     }
 
     /**
      * Creates a Demo state by copying an existing one.
+     * <p>
+     * Copying takes constant time regardless of the number of rounds played: the players hold only references to
+     * immutable values, and the histories share their storage until one of the copies is changed.
      *
      * @param source The state to copy.
      */
     GefangenenDilemmaStateImpl(final GefangenenDilemmaStateImpl source) {
         this.firstPlayer = source.firstPlayer.deepCopy();
         this.secondPlayer = source.secondPlayer.deepCopy();
+        this.numberOfRounds = source.numberOfRounds;
+        this.firstPlayerHistory = new GefangenenDilemmaMoveHistory(source.firstPlayerHistory);
+        this.secondPlayerHistory = new GefangenenDilemmaMoveHistory(source.secondPlayerHistory);
+        this.firstPlayerTotalOutcome = source.firstPlayerTotalOutcome;
+        this.secondPlayerTotalOutcome = source.secondPlayerTotalOutcome;
     }
 
     /**
@@ -85,6 +138,36 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
         return this.secondPlayer;
     }
 
+    @Override
+    public int getNumberOfRounds() {
+        return this.numberOfRounds;
+    }
+
+    @Override
+    public int getNumberOfPlayedRounds() {
+        return this.firstPlayerHistory.size();
+    }
+
+    @Override
+    public GefangenenDilemmaMoveHistory getFirstPlayerHistory() {
+        return this.firstPlayerHistory;
+    }
+
+    @Override
+    public GefangenenDilemmaMoveHistory getSecondPlayerHistory() {
+        return this.secondPlayerHistory;
+    }
+
+    @Override
+    public double getFirstPlayerTotalOutcome() {
+        return this.firstPlayerTotalOutcome;
+    }
+
+    @Override
+    public double getSecondPlayerTotalOutcome() {
+        return this.secondPlayerTotalOutcome;
+    }
+
     @Override
     public String toString() {
         return String.format("DemoState[firstPlayer=%s, secondPlayer=%s]", this.firstPlayer, this.secondPlayer);
@@ -94,7 +177,12 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
     public boolean equals(final Object obj) {
         if (obj instanceof GefangenenDilemmaStateImpl) {
             final GefangenenDilemmaStateImpl other = (GefangenenDilemmaStateImpl) obj;
-            return this.firstPlayer.equals(other.firstPlayer) && this.secondPlayer.equals(other.secondPlayer);
+            return this.firstPlayer.equals(other.firstPlayer) && this.secondPlayer.equals(other.secondPlayer)
+                    && this.numberOfRounds == other.numberOfRounds
+                    && this.firstPlayerHistory.equals(other.firstPlayerHistory)
+                    && this.secondPlayerHistory.equals(other.secondPlayerHistory)
+                    && Double.compare(this.firstPlayerTotalOutcome, other.firstPlayerTotalOutcome) == 0
+                    && Double.compare(this.secondPlayerTotalOutcome, other.secondPlayerTotalOutcome) == 0;
         }
         return false;
     }
@@ -106,7 +194,8 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.firstPlayer, this.secondPlayer);
+        return Objects.hash(this.firstPlayer, this.secondPlayer, this.numberOfRounds, this.firstPlayerHistory,
+                this.secondPlayerHistory, this.firstPlayerTotalOutcome, this.secondPlayerTotalOutcome);
     }
 
     @Override
@@ -131,22 +220,31 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
 
     @Override
     public void nextTurn() {
-        final Set<GefangenenDilemmaPlayer> playersWithoutMove = this.computeNextPlayers();
-        if (playersWithoutMove.isEmpty()) {
-            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer = this.firstPlayer.getAnswer()
-                    .orElseThrow();
-            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer = this.secondPlayer.getAnswer()
-                    .orElseThrow();
-
-            final Double outcomeOfFirstPlayer = this.firstPlayer.getPossibleOutcomes().get(answerOfFirstPlayer)
-                    .get(answerOfSecondPlayer);
-            this.firstPlayer.setState(outcomeToState(outcomeOfFirstPlayer));
-            this.firstPlayer.setOutcome(outcomeOfFirstPlayer);
-
-            final Double outcomeOfSecondPlayer = this.secondPlayer.getPossibleOutcomes().get(answerOfFirstPlayer)
-                    .get(answerOfSecondPlayer);
-            this.secondPlayer.setState(outcomeToState(outcomeOfSecondPlayer));
-            this.secondPlayer.setOutcome(outcomeOfSecondPlayer);
+        if (this.getNumberOfPlayedRounds() == this.numberOfRounds || this.firstPlayer.getAnswer().isEmpty()
+                || this.secondPlayer.getAnswer().isEmpty()) {
+            return;
+        }
+
+        final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer = this.firstPlayer.getAnswer()
+                .orElseThrow();
+        final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer = this.secondPlayer.getAnswer()
+                .orElseThrow();
+
+        this.firstPlayerHistory.add(answerOfFirstPlayer);
+        this.secondPlayerHistory.add(answerOfSecondPlayer);
+        final int outcomeIndex = GefangenenDilemmaPayoffMatrix.indexOf(answerOfFirstPlayer, answerOfSecondPlayer);
+        this.firstPlayerTotalOutcome += this.firstPlayer.getPayoffMatrix().getOutcome(outcomeIndex);
+        this.secondPlayerTotalOutcome += this.secondPlayer.getPayoffMatrix().getOutcome(outcomeIndex);
+
+        if (this.getNumberOfPlayedRounds() < this.numberOfRounds) {
+            // both players answer again in the next round
+            this.firstPlayer.resetAnswer();
+            this.secondPlayer.resetAnswer();
+        } else {
+            this.firstPlayer.setState(outcomeToState(this.firstPlayerTotalOutcome));
+            this.firstPlayer.setOutcome(this.firstPlayerTotalOutcome);
+            this.secondPlayer.setState(outcomeToState(this.secondPlayerTotalOutcome));
+            this.secondPlayer.setOutcome(this.secondPlayerTotalOutcome);
         }
     }
 
@@ -155,7 +253,7 @@ final class GefangenenDilemmaStateImpl implements GefangenenDilemmaState {
      *
      * @param outcome The player's outcome.
      */
-    private static PlayerState outcomeToState(final Double outcome) {
+    private static PlayerState outcomeToState(final double outcome) {
         return outcome > 0.0 ? PlayerState.WON : outcome < 0.0 ? PlayerState.LOST : PlayerState.DRAW;
     }
 }
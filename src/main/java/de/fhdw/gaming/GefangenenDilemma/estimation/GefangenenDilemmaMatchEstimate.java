@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation;
+
+import java.util.Objects;
+
+/**
+ * The expected outcomes of a pair of strategies as estimated by a {@link GefangenenDilemmaMatchEstimator}.
+ * <p>
+ * Each outcome is given by the mean over all matches played and the half-width of its confidence interval, i.e. the
+ * expected outcome lies in {@code mean ± halfWidth} at the confidence level of the estimator.
+ */
+public final class GefangenenDilemmaMatchEstimate {
+
+    /**
+     * The number of matches played.
+     */
+    private final long numberOfMatches;
+    /**
+     * The mean outcome of the first player.
+     */
+    private final double firstPlayerMean;
+    /**
+     * The half-width of the confidence interval of the outcome of the first player.
+     */
+    private final double firstPlayerHalfWidth;
+    /**
+     * The mean outcome of the second player.
+     */
+    private final double secondPlayerMean;
+    /**
+     * The half-width of the confidence interval of the outcome of the second player.
+     */
+    private final double secondPlayerHalfWidth;
+    /**
+     * Whether the requested width of the confidence intervals has been reached.
+     */
+    private final boolean converged;
+
+    /**
+     * Creates an estimate.
+     *
+     * @param numberOfMatches       The number of matches played.
+     * @param firstPlayerMean       The mean outcome of the first player.
+     * @param firstPlayerHalfWidth  The half-width of the confidence interval of the outcome of the first player.
+     * @param secondPlayerMean      The mean outcome of the second player.
+     * @param secondPlayerHalfWidth The half-width of the confidence interval of the outcome of the second player.
+     * @param converged             Whether the requested width of the confidence intervals has been reached.
+     */
+    public GefangenenDilemmaMatchEstimate(final long numberOfMatches, final double firstPlayerMean,
+            final double firstPlayerHalfWidth, final double secondPlayerMean, final double secondPlayerHalfWidth,
+            final boolean converged) {
+        this.numberOfMatches = numberOfMatches;
+        this.firstPlayerMean = firstPlayerMean;
+        this.firstPlayerHalfWidth = firstPlayerHalfWidth;
+        this.secondPlayerMean = secondPlayerMean;
+        this.secondPlayerHalfWidth = secondPlayerHalfWidth;
+        this.converged = converged;
+    }
+
+    /**
+     * Returns the number of matches played.
+     */
+    public long getNumberOfMatches() {
+        return this.numberOfMatches;
+    }
+
+    /**
+     * Returns the mean outcome of the first player.
+     */
+    public double getFirstPlayerMean() {
+        return this.firstPlayerMean;
+    }
+
+    /**
+     * Returns the half-width of the confidence interval of the outcome of the first player.
+     */
+    public double getFirstPlayerHalfWidth() {
+        return this.firstPlayerHalfWidth;
+    }
+
+    /**
+     * Returns the mean outcome of the second player.
+     */
+    public double getSecondPlayerMean() {
+        return this.secondPlayerMean;
+    }
+
+    /**
+     * Returns the half-width of the confidence interval of the outcome of the second player.
+     */
+    public double getSecondPlayerHalfWidth() {
+        return this.secondPlayerHalfWidth;
+    }
+
+    /**
+     * Returns whether the requested width of the confidence intervals has been reached. Otherwise, the estimator has
+     * stopped after the maximum number of matches.
+     */
+    public boolean isConverged() {
+        return this.converged;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MatchEstimate[numberOfMatches=%d, firstPlayer=%s±%s, secondPlayer=%s±%s, converged=%s]",
+                this.numberOfMatches, this.firstPlayerMean, this.firstPlayerHalfWidth, this.secondPlayerMean,
+                this.secondPlayerHalfWidth, this.converged);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaMatchEstimate) {
+            final GefangenenDilemmaMatchEstimate other = (GefangenenDilemmaMatchEstimate) obj;
+            return this.numberOfMatches == other.numberOfMatches
+                    && Double.compare(this.firstPlayerMean, other.firstPlayerMean) == 0
+                    && Double.compare(this.firstPlayerHalfWidth, other.firstPlayerHalfWidth) == 0
+                    && Double.compare(this.secondPlayerMean, other.secondPlayerMean) == 0
+                    && Double.compare(this.secondPlayerHalfWidth, other.secondPlayerHalfWidth) == 0
+                    && this.converged == other.converged;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.numberOfMatches, this.firstPlayerMean, this.firstPlayerHalfWidth,
+                this.secondPlayerMean, this.secondPlayerHalfWidth, this.converged);
+    }
+}
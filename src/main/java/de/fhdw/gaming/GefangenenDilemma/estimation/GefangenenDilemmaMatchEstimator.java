@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Estimates the expected outcomes of a pair of strategies by playing repeated matches.
+ * <p>
+ * This is needed for strategies making random decisions, whose matches end differently depending on the game ID.
+ */
+public interface GefangenenDilemmaMatchEstimator {
+
+    /**
+     * Plays matches between two strategies until the expected outcomes of both players are known precisely enough.
+     *
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @return The estimated outcomes.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    GefangenenDilemmaMatchEstimate estimate(GefangenenDilemmaStrategy firstPlayerStrategy,
+            GefangenenDilemmaStrategy secondPlayerStrategy) throws GameException, InterruptedException;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimator;
+import de.fhdw.gaming.GefangenenDilemma.estimation.impl.GefangenenDilemmaMonteCarloEstimator;
+
+/**
+ * Implements {@link GefangenenDilemmaEstimatorFactory} by creating estimators which play their matches on a
+ * {@link ForkJoinPool}.
+ */
+public final class GefangenenDilemmaDefaultEstimatorFactory implements GefangenenDilemmaEstimatorFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultEstimatorFactory}.
+     */
+    public GefangenenDilemmaDefaultEstimatorFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaMatchEstimator createMonteCarloEstimator(final GefangenenDilemmaMatchSimulator simulator,
+            final double confidenceLevel, final double targetWidth, final int maxMatches) {
+        return new GefangenenDilemmaMonteCarloEstimator(simulator, confidenceLevel, targetWidth, maxMatches);
+    }
+
+    @Override
+    public GefangenenDilemmaMatchEstimator createMonteCarloEstimator(final GefangenenDilemmaMatchSimulator simulator,
+            final double confidenceLevel, final double targetWidth, final int maxMatches, final int batchSize,
+            final ForkJoinPool pool) {
+        return new GefangenenDilemmaMonteCarloEstimator(simulator, confidenceLevel, targetWidth, maxMatches,
+                batchSize, pool);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimator;
+
+/**
+ * Represents a factory creating {@link GefangenenDilemmaMatchEstimator match estimators}.
+ */
+public interface GefangenenDilemmaEstimatorFactory {
+
+    /**
+     * Creates a Monte Carlo estimator using the default batch size and the common {@link ForkJoinPool}. It plays
+     * batches of matches until the confidence intervals of both expected outcomes are narrow enough.
+     *
+     * @param simulator       The simulator playing the matches.
+     * @param confidenceLevel The confidence level of the confidence intervals, e.g. 0.95.
+     * @param targetWidth     The requested width of the confidence intervals.
+     * @param maxMatches      The maximum number of matches.
+     * @return The estimator.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    GefangenenDilemmaMatchEstimator createMonteCarloEstimator(GefangenenDilemmaMatchSimulator simulator,
+            double confidenceLevel, double targetWidth, int maxMatches);
+
+    /**
+     * Creates a Monte Carlo estimator. It plays batches of matches until the confidence intervals of both expected
+     * outcomes are narrow enough.
+     *
+     * @param simulator       The simulator playing the matches.
+     * @param confidenceLevel The confidence level of the confidence intervals, e.g. 0.95.
+     * @param targetWidth     The requested width of the confidence intervals.
+     * @param maxMatches      The maximum number of matches.
+     * @param batchSize       The number of matches played between two checks of the confidence intervals, which is
+     *                        also the least number of matches played.
+     * @param pool            The pool executing the matches.
+     * @return The estimator.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    GefangenenDilemmaMatchEstimator createMonteCarloEstimator(GefangenenDilemmaMatchSimulator simulator,
+            double confidenceLevel, double targetWidth, int maxMatches, int batchSize, ForkJoinPool pool);
+}
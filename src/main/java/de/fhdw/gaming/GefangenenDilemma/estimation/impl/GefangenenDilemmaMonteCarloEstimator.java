@@ -0,0 +1,323 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchFailedException;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimate;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimator;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Implements {@link GefangenenDilemmaMatchEstimator} by playing batches of matches in parallel until the confidence
+ * intervals of both players are narrow enough.
+ * <p>
+ * Match {@code i} is played with game ID {@code i}, so strategies deriving their random decisions from the game ID
+ * yield independent matches. The matches of a batch are split into ranges of a fixed size and played by the tasks of a
+ * {@link ForkJoinPool}; the running statistics of the ranges are merged along the fixed tree of ranges and then into
+ * the statistics of the preceding batches. The result therefore neither depends on the number of workers nor on their
+ * scheduling. After each batch, the confidence intervals are computed from the normal approximation, and the estimator
+ * stops as soon as both are at most as wide as requested, so pairs with little variance only cost a single batch.
+ * <p>
+ * Instances are immutable and can be shared between threads if the simulator can.
+ */
+public final class GefangenenDilemmaMonteCarloEstimator implements GefangenenDilemmaMatchEstimator {
+
+    /**
+     * The default number of matches played between two checks of the confidence intervals.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    /**
+     * The number of matches below which a range is not split any further.
+     */
+    private static final int MATCHES_PER_TASK = 16;
+    /**
+     * The probability below which the tail approximation of the normal quantile is used.
+     */
+    private static final double QUANTILE_TAIL = 0.02425;
+    /**
+     * The numerator coefficients of the central approximation of the normal quantile.
+     */
+    private static final double[] CENTRAL_NUMERATOR = {-3.969683028665376e+01, 2.209460984245205e+02,
+        -2.759285104469687e+02, 1.383577518672690e+02, -3.066479806614716e+01, 2.506628277459239e+00 };
+    /**
+     * The denominator coefficients of the central approximation of the normal quantile.
+     */
+    private static final double[] CENTRAL_DENOMINATOR = {-5.447609879822406e+01, 1.615858368580409e+02,
+        -1.556989798598866e+02, 6.680131188771972e+01, -1.328068155288572e+01, 1.0 };
+    /**
+     * The numerator coefficients of the tail approximation of the normal quantile.
+     */
+    private static final double[] TAIL_NUMERATOR = {-7.784894002430293e-03, -3.223964580411365e-01,
+        -2.400758277161838e+00, -2.549732539343734e+00, 4.374664141464968e+00, 2.938163982698783e+00 };
+    /**
+     * The denominator coefficients of the tail approximation of the normal quantile.
+     */
+    private static final double[] TAIL_DENOMINATOR = {7.784695709041462e-03, 3.224671290700398e-01,
+        2.445134137142996e+00, 3.754408661907416e+00, 1.0 };
+
+    /**
+     * The simulator playing the matches.
+     */
+    private final GefangenenDilemmaMatchSimulator simulator;
+    /**
+     * The factor turning a standard error into the half-width of a confidence interval.
+     */
+    private final double criticalValue;
+    /**
+     * The requested width of the confidence intervals.
+     */
+    private final double targetWidth;
+    /**
+     * The maximum number of matches.
+     */
+    private final int maxMatches;
+    /**
+     * The number of matches played between two checks of the confidence intervals.
+     */
+    private final int batchSize;
+    /**
+     * The pool executing the matches.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an estimator using the default batch size and the common {@link ForkJoinPool}.
+     *
+     * @param simulator       The simulator playing the matches.
+     * @param confidenceLevel The confidence level of the confidence intervals, e.g. 0.95.
+     * @param targetWidth     The requested width of the confidence intervals.
+     * @param maxMatches      The maximum number of matches.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public GefangenenDilemmaMonteCarloEstimator(final GefangenenDilemmaMatchSimulator simulator,
+            final double confidenceLevel, final double targetWidth, final int maxMatches) {
+        this(simulator, confidenceLevel, targetWidth, maxMatches,
+                GefangenenDilemmaMonteCarloEstimator.DEFAULT_BATCH_SIZE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an estimator.
+     *
+     * @param simulator       The simulator playing the matches.
+     * @param confidenceLevel The confidence level of the confidence intervals, e.g. 0.95.
+     * @param targetWidth     The requested width of the confidence intervals.
+     * @param maxMatches      The maximum number of matches.
+     * @param batchSize       The number of matches played between two checks of the confidence intervals, which is
+     *                        also the least number of matches played.
+     * @param pool            The pool executing the matches.
+     * @throws IllegalArgumentException if a parameter is out of range.
+     */
+    public GefangenenDilemmaMonteCarloEstimator(final GefangenenDilemmaMatchSimulator simulator,
+            final double confidenceLevel, final double targetWidth, final int maxMatches, final int batchSize,
+            final ForkJoinPool pool) {
+        this.simulator = Objects.requireNonNull(simulator, "simulator");
+        if (!(confidenceLevel > 0.0 && confidenceLevel < 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("The confidence level must be between 0 and 1, but is %f.", confidenceLevel));
+        }
+        if (!(targetWidth > 0.0)) {
+            throw new IllegalArgumentException(
+                    String.format("The target width must be positive, but is %f.", targetWidth));
+        }
+        if (batchSize < 2 || maxMatches < batchSize) {
+            throw new IllegalArgumentException(String.format(
+                    "Batches must consist of at least two matches and fit into the maximum of %d matches, but have %d.",
+                    maxMatches, batchSize));
+        }
+        this.criticalValue = GefangenenDilemmaMonteCarloEstimator.normalQuantile((1.0 + confidenceLevel) / 2.0);
+        this.targetWidth = targetWidth;
+        this.maxMatches = maxMatches;
+        this.batchSize = batchSize;
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    @Override
+    public GefangenenDilemmaMatchEstimate estimate(final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy) throws GameException, InterruptedException {
+        final Totals totals = new Totals();
+        boolean converged = false;
+        while (!converged && totals.first.getCount() < this.maxMatches) {
+            final int from = (int) totals.first.getCount();
+            final int to = (int) Math.min((long) from + this.batchSize, this.maxMatches);
+            final Totals batch;
+            try {
+                batch = this.pool.invoke(new MatchRangeTask(firstPlayerStrategy, secondPlayerStrategy, from, to));
+            } catch (final GefangenenDilemmaMatchFailedException e) {
+                throw e.rethrowCause();
+            }
+            totals.merge(batch);
+            converged = 2.0 * this.criticalValue * totals.first.getStandardError() <= this.targetWidth
+                    && 2.0 * this.criticalValue * totals.second.getStandardError() <= this.targetWidth;
+        }
+        return new GefangenenDilemmaMatchEstimate(totals.first.getCount(), totals.first.getMean(),
+                this.criticalValue * totals.first.getStandardError(), totals.second.getMean(),
+                this.criticalValue * totals.second.getStandardError(), converged);
+    }
+
+    /**
+     * Returns the quantile of the standard normal distribution, using the rational approximation of Acklam with a
+     * relative error below {@code 1.2e-9}.
+     *
+     * @param probability The probability, strictly between zero and one.
+     */
+    static double normalQuantile(final double probability) {
+        if (probability < GefangenenDilemmaMonteCarloEstimator.QUANTILE_TAIL) {
+            final double q = Math.sqrt(-2.0 * Math.log(probability));
+            return GefangenenDilemmaMonteCarloEstimator.polynomial(
+                    GefangenenDilemmaMonteCarloEstimator.TAIL_NUMERATOR, q)
+                    / GefangenenDilemmaMonteCarloEstimator.polynomial(
+                            GefangenenDilemmaMonteCarloEstimator.TAIL_DENOMINATOR, q);
+        }
+        if (probability > 1.0 - GefangenenDilemmaMonteCarloEstimator.QUANTILE_TAIL) {
+            return -GefangenenDilemmaMonteCarloEstimator.normalQuantile(1.0 - probability);
+        }
+        final double q = probability - 0.5;
+        final double r = q * q;
+        return q * GefangenenDilemmaMonteCarloEstimator.polynomial(
+                GefangenenDilemmaMonteCarloEstimator.CENTRAL_NUMERATOR, r)
+                / GefangenenDilemmaMonteCarloEstimator.polynomial(
+                        GefangenenDilemmaMonteCarloEstimator.CENTRAL_DENOMINATOR, r);
+    }
+
+    /**
+     * Evaluates a polynomial by Horner's scheme.
+     *
+     * @param coefficients The coefficients, highest degree first.
+     * @param x            The argument.
+     */
+    private static double polynomial(final double[] coefficients, final double x) {
+        double result = 0.0;
+        for (final double coefficient : coefficients) {
+            result = result * x + coefficient;
+        }
+        return result;
+    }
+
+    /**
+     * The running statistics of the outcomes of both players.
+     */
+    private static final class Totals {
+
+        /**
+         * The statistics of the outcomes of the first player.
+         */
+        private final GefangenenDilemmaRunningStatistics first = new GefangenenDilemmaRunningStatistics();
+        /**
+         * The statistics of the outcomes of the second player.
+         */
+        private final GefangenenDilemmaRunningStatistics second = new GefangenenDilemmaRunningStatistics();
+
+        /**
+         * Adds the outcomes of other totals to these ones.
+         *
+         * @param other The totals to add.
+         * @return {@code this}
+         */
+        Totals merge(final Totals other) {
+            this.first.merge(other.first);
+            this.second.merge(other.second);
+            return this;
+        }
+    }
+
+    /**
+     * Plays a consecutive range of matches.
+     */
+    private final class MatchRangeTask extends RecursiveTask<Totals> {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The strategy of the first player.
+         */
+        private final GefangenenDilemmaStrategy firstPlayerStrategy;
+        /**
+         * The strategy of the second player.
+         */
+        private final GefangenenDilemmaStrategy secondPlayerStrategy;
+        /**
+         * The first match of the range (inclusive).
+         */
+        private final int from;
+        /**
+         * The last match of the range (exclusive).
+         */
+        private final int to;
+
+        /**
+         * Creates a task.
+         *
+         * @param firstPlayerStrategy  The strategy of the first player.
+         * @param secondPlayerStrategy The strategy of the second player.
+         * @param from                 The first match of the range (inclusive).
+         * @param to                   The last match of the range (exclusive).
+         */
+        MatchRangeTask(final GefangenenDilemmaStrategy firstPlayerStrategy,
+                final GefangenenDilemmaStrategy secondPlayerStrategy, final int from, final int to) {
+            this.firstPlayerStrategy = firstPlayerStrategy;
+            this.secondPlayerStrategy = secondPlayerStrategy;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (this.to - this.from > GefangenenDilemmaMonteCarloEstimator.MATCHES_PER_TASK) {
+                final int middle = (this.from + this.to) >>> 1;
+                final MatchRangeTask left = new MatchRangeTask(this.firstPlayerStrategy, this.secondPlayerStrategy,
+                        this.from, middle);
+                left.fork();
+                final Totals right = new MatchRangeTask(this.firstPlayerStrategy, this.secondPlayerStrategy, middle,
+                        this.to).compute();
+                return left.join().merge(right);
+            }
+
+            final Totals totals = new Totals();
+            for (int match = this.from; match < this.to; ++match) {
+                final GefangenenDilemmaMatchResult result = this.simulate(match);
+                totals.first.add(result.getFirstPlayerOutcome());
+                totals.second.add(result.getSecondPlayerOutcome());
+            }
+            return totals;
+        }
+
+        /**
+         * Plays a single match.
+         *
+         * @param gameId The ID of the match.
+         */
+        private GefangenenDilemmaMatchResult simulate(final int gameId) {
+            try {
+                return GefangenenDilemmaMonteCarloEstimator.this.simulator.simulate(gameId, this.firstPlayerStrategy,
+                        this.secondPlayerStrategy);
+            } catch (final GameException e) {
+                throw new GefangenenDilemmaMatchFailedException(e);
+            } catch (final InterruptedException e) {
+                throw GefangenenDilemmaMatchFailedException.interrupted(e);
+            }
+        }
+    }
+}
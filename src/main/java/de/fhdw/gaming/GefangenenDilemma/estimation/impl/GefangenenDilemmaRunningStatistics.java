@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.estimation.impl;
+
+/**
+ * The running mean and variance of a sequence of values, computed by Welford's algorithm.
+ * <p>
+ * Statistics of separate parts of a sequence can be merged using the formulas of Chan et al. Merging in a fixed order
+ * yields the same result regardless of which thread computed which part.
+ */
+final class GefangenenDilemmaRunningStatistics {
+
+    /**
+     * The number of values.
+     */
+    private long count;
+    /**
+     * The mean of the values.
+     */
+    private double mean;
+    /**
+     * The sum of the squared deviations of the values from their mean.
+     */
+    private double sumOfSquaredDeviations;
+
+    /**
+     * Adds a value.
+     *
+     * @param value The value.
+     */
+    void add(final double value) {
+        this.count++;
+        final double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.sumOfSquaredDeviations += delta * (value - this.mean);
+    }
+
+    /**
+     * Adds the values of other statistics.
+     *
+     * @param other The other statistics.
+     * @return {@code this}
+     */
+    GefangenenDilemmaRunningStatistics merge(final GefangenenDilemmaRunningStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        final long total = this.count + other.count;
+        final double delta = other.mean - this.mean;
+        this.mean += delta * other.count / total;
+        this.sumOfSquaredDeviations += other.sumOfSquaredDeviations
+                + delta * delta * ((double) this.count * other.count / total);
+        this.count = total;
+        return this;
+    }
+
+    /**
+     * Returns the number of values.
+     */
+    long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the values, or zero if there are none.
+     */
+    double getMean() {
+        return this.mean;
+    }
+
+    /**
+     * Returns the sample variance of the values, or zero if there are less than two values.
+     */
+    double getVariance() {
+        return this.count < 2 ? 0.0 : this.sumOfSquaredDeviations / (this.count - 1);
+    }
+
+    /**
+     * Returns the standard error of the mean, or zero if there are less than two values.
+     */
+    double getStandardError() {
+        return this.count < 2 ? 0.0 : Math.sqrt(this.getVariance() / this.count);
+    }
+}
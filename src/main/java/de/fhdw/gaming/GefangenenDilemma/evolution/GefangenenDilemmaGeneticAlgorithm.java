@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+
+/**
+ * Evolves a population of {@link GefangenenDilemmaDecisionTable decision tables} by a genetic algorithm.
+ * <p>
+ * The fitness of an individual is its average outcome when playing as first player against every decision table of an
+ * opponent pool. In each generation, the fittest individuals survive unchanged, and the remaining individuals are
+ * bred from parents chosen by tournament selection, using uniform crossover and mutation of single entries.
+ * Individuals are identified by their index in the population, the fittest individual coming first after each
+ * generation.
+ */
+public interface GefangenenDilemmaGeneticAlgorithm {
+
+    /**
+     * Returns the number of generations computed so far.
+     */
+    long getGeneration();
+
+    /**
+     * Returns the number of individuals.
+     */
+    int getPopulationSize();
+
+    /**
+     * Returns the decision table of an individual.
+     *
+     * @param individual The index of the individual.
+     * @throws IndexOutOfBoundsException if the individual does not exist.
+     */
+    GefangenenDilemmaDecisionTable getIndividual(int individual);
+
+    /**
+     * Returns the fitness of an individual.
+     *
+     * @param individual The index of the individual.
+     * @throws IndexOutOfBoundsException if the individual does not exist.
+     */
+    double getFitness(int individual);
+
+    /**
+     * Returns the number of decision tables whose fitness has been computed by playing matches so far. Decision tables
+     * whose fitness has been taken from the cache are not counted.
+     */
+    long getNumberOfEvaluations();
+
+    /**
+     * Computes the next generations.
+     *
+     * @param generations The number of generations to compute.
+     * @throws IllegalArgumentException if the number of generations is negative.
+     */
+    void advance(int generations);
+}
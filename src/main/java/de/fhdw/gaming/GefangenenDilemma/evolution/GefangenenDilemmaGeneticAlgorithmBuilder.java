@@ -0,0 +1,200 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+
+/**
+ * A builder which allows to create a {@link GefangenenDilemmaGeneticAlgorithm}.
+ */
+public interface GefangenenDilemmaGeneticAlgorithmBuilder {
+
+    /**
+     * The default number of individuals.
+     */
+    int DEFAULT_POPULATION_SIZE = 100;
+    /**
+     * The default memory depth of the individuals.
+     */
+    int DEFAULT_MEMORY_DEPTH = 3;
+    /**
+     * The default number of individuals competing for becoming a parent.
+     */
+    int DEFAULT_TOURNAMENT_SIZE = 2;
+    /**
+     * The default probability of breeding a child by crossover rather than by copying a parent.
+     */
+    double DEFAULT_CROSSOVER_PROBABILITY = 0.9;
+    /**
+     * The default probability of each entry of a child to be flipped.
+     */
+    double DEFAULT_MUTATION_PROBABILITY = 0.01;
+    /**
+     * The default number of fittest individuals surviving unchanged.
+     */
+    int DEFAULT_NUMBER_OF_ELITES = 1;
+    /**
+     * The default maximum number of fitness values cached.
+     */
+    int DEFAULT_CACHE_CAPACITY = 1 << 20;
+
+    /**
+     * Changes the simulator playing the matches. Its payoff matrices and number of rounds define the fitness, so it is
+     * usually created from the parameters of a Gefangenen-Dilemma game. The simulator is used by several threads at
+     * once.
+     * <p>
+     * Must be set before building.
+     *
+     * @param newSimulator The new simulator.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeSimulator(GefangenenDilemmaDecisionTableSimulator newSimulator);
+
+    /**
+     * Changes the fixed part of the opponent pool.
+     * <p>
+     * Empty by default.
+     *
+     * @param newOpponents The new opponents. The list is copied.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeOpponents(List<GefangenenDilemmaDecisionTable> newOpponents);
+
+    /**
+     * Changes the number of individuals added to the opponent pool for co-evolution. If positive, the fittest
+     * individuals of each generation join the opponent pool of the next generation; the initial population is
+     * evaluated against its first individuals. As the pool then changes in each generation, cached fitness values
+     * only last for a single generation.
+     * <p>
+     * Defaults to zero, i.e. evolution against the fixed opponents only.
+     *
+     * @param newCoevolvingOpponents The new number of individuals in the opponent pool.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeCoevolvingOpponents(int newCoevolvingOpponents);
+
+    /**
+     * Changes the number of individuals.
+     * <p>
+     * Defaults to {@link #DEFAULT_POPULATION_SIZE}.
+     *
+     * @param newPopulationSize The new number of individuals.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the number is not positive.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changePopulationSize(int newPopulationSize);
+
+    /**
+     * Changes the memory depth of the individuals.
+     * <p>
+     * Defaults to {@link #DEFAULT_MEMORY_DEPTH}.
+     *
+     * @param newMemoryDepth The new memory depth.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the memory depth is not supported by decision tables.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeMemoryDepth(int newMemoryDepth);
+
+    /**
+     * Changes the number of randomly chosen individuals competing for becoming a parent.
+     * <p>
+     * Defaults to {@link #DEFAULT_TOURNAMENT_SIZE}.
+     *
+     * @param newTournamentSize The new tournament size.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the tournament size is not positive.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeTournamentSize(int newTournamentSize);
+
+    /**
+     * Changes the probability of breeding a child by crossover of two parents rather than by copying one parent.
+     * <p>
+     * Defaults to {@link #DEFAULT_CROSSOVER_PROBABILITY}.
+     *
+     * @param newCrossoverProbability The new probability.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the probability is not between zero and one.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeCrossoverProbability(double newCrossoverProbability);
+
+    /**
+     * Changes the probability of each entry of a child to be flipped.
+     * <p>
+     * Defaults to {@link #DEFAULT_MUTATION_PROBABILITY}.
+     *
+     * @param newMutationProbability The new probability.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the probability is not between zero and one.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeMutationProbability(double newMutationProbability);
+
+    /**
+     * Changes the number of fittest individuals surviving unchanged.
+     * <p>
+     * Defaults to {@link #DEFAULT_NUMBER_OF_ELITES}.
+     *
+     * @param newNumberOfElites The new number of elites.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the number is negative.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeNumberOfElites(int newNumberOfElites);
+
+    /**
+     * Changes the maximum number of fitness values cached. Once the cache is full, the least recently used fitness
+     * value is evicted.
+     * <p>
+     * Defaults to {@link #DEFAULT_CACHE_CAPACITY}.
+     *
+     * @param newCacheCapacity The new capacity, zero disabling the cache.
+     * @return {@code this}
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeCacheCapacity(int newCacheCapacity);
+
+    /**
+     * Changes the seed of the source of randomness. Equal seeds and parameters yield equal populations, regardless of
+     * the number of workers.
+     * <p>
+     * Defaults to zero.
+     *
+     * @param newSeed The new seed.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changeSeed(long newSeed);
+
+    /**
+     * Changes the pool evaluating the fitness of the individuals in parallel.
+     * <p>
+     * Defaults to the common {@link ForkJoinPool}.
+     *
+     * @param newPool The new pool.
+     * @return {@code this}
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder changePool(ForkJoinPool newPool);
+
+    /**
+     * Creates the genetic algorithm with a random initial population, whose fitness is evaluated at once.
+     *
+     * @throws IllegalArgumentException if no simulator has been set, the opponent pool is empty, or the numbers of
+     *                                  elites or co-evolving opponents exceed the population size.
+     */
+    GefangenenDilemmaGeneticAlgorithm build();
+}
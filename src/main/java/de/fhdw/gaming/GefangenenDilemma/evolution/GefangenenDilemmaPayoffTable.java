@@ -0,0 +1,144 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaExpectedOutcome;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaMemoryOneRule;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaOutcomeEvaluator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * The outcomes of matches between all pairs of a fixed set of strategies. Payoff tables are immutable.
+ * <p>
+ * The outcome of strategy {@code i} against strategy {@code j} is the average of its outcomes as first and as second
+ * player, so the seat does not matter. Population dynamics look outcomes up in the table instead of playing matches
+ * between the members of a population.
+ */
+public final class GefangenenDilemmaPayoffTable {
+
+    /**
+     * The outcomes, indexed by the strategy and its opponent.
+     */
+    private final double[][] outcomes;
+
+    /**
+     * Creates a payoff table.
+     *
+     * @param outcomes The outcomes, indexed by the strategy and its opponent. The array is copied.
+     * @throws IllegalArgumentException if the array is empty or not square.
+     */
+    public GefangenenDilemmaPayoffTable(final double[][] outcomes) {
+        if (outcomes.length == 0) {
+            throw new IllegalArgumentException("A payoff table needs at least one strategy.");
+        }
+        this.outcomes = new double[outcomes.length][];
+        for (int strategy = 0; strategy < outcomes.length; ++strategy) {
+            if (outcomes[strategy].length != outcomes.length) {
+                throw new IllegalArgumentException(
+                        String.format("Row %d of the payoff table has %d instead of %d entries.", strategy,
+                                outcomes[strategy].length, outcomes.length));
+            }
+            this.outcomes[strategy] = outcomes[strategy].clone();
+        }
+    }
+
+    /**
+     * Computes a payoff table by simulating one match per ordered pair of strategies.
+     *
+     * @param strategies The strategies.
+     * @param simulator  The simulator playing the matches.
+     * @throws GameException        if a match fails.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    public static GefangenenDilemmaPayoffTable compute(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator) throws GameException, InterruptedException {
+        final int size = strategies.size();
+        final double[][] outcomes = new double[size][size];
+        int gameId = 0;
+        for (int first = 0; first < size; ++first) {
+            for (int second = 0; second < size; ++second) {
+                final GefangenenDilemmaMatchResult result = simulator.simulate(gameId++, strategies.get(first),
+                        strategies.get(second));
+                outcomes[first][second] += result.getFirstPlayerOutcome() / 2.0;
+                outcomes[second][first] += result.getSecondPlayerOutcome() / 2.0;
+            }
+        }
+        return new GefangenenDilemmaPayoffTable(outcomes);
+    }
+
+    /**
+     * Computes a payoff table from the exact average outcomes per round of memory-one strategies.
+     *
+     * @param rules     The rules of the memory-one strategies.
+     * @param evaluator The evaluator computing the expected outcomes.
+     */
+    public static GefangenenDilemmaPayoffTable evaluate(final List<GefangenenDilemmaMemoryOneRule> rules,
+            final GefangenenDilemmaOutcomeEvaluator evaluator) {
+        final int size = rules.size();
+        final double[][] outcomes = new double[size][size];
+        for (int first = 0; first < size; ++first) {
+            for (int second = 0; second < size; ++second) {
+                final GefangenenDilemmaExpectedOutcome outcome = evaluator.evaluate(rules.get(first),
+                        rules.get(second));
+                outcomes[first][second] += outcome.getFirstPlayerAverageOutcome() / 2.0;
+                outcomes[second][first] += outcome.getSecondPlayerAverageOutcome() / 2.0;
+            }
+        }
+        return new GefangenenDilemmaPayoffTable(outcomes);
+    }
+
+    /**
+     * Returns the number of strategies.
+     */
+    public int getNumberOfStrategies() {
+        return this.outcomes.length;
+    }
+
+    /**
+     * Returns the outcome of a strategy against an opponent.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     */
+    public double getOutcome(final int strategy, final int opponent) {
+        return this.outcomes[strategy][opponent];
+    }
+
+    @Override
+    public String toString() {
+        return "PayoffTable" + Arrays.deepToString(this.outcomes);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaPayoffTable) {
+            final GefangenenDilemmaPayoffTable other = (GefangenenDilemmaPayoffTable) obj;
+            return Arrays.deepEquals(this.outcomes, other.outcomes);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(this.outcomes);
+    }
+}
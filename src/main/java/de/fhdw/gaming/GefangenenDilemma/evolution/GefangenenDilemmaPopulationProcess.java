@@ -0,0 +1,34 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+/**
+ * Evolves a population of strategies whose outcomes are given by a {@link GefangenenDilemmaPayoffTable}.
+ * <p>
+ * A population is given by the number of individuals playing each strategy, indexed like the payoff table. The size
+ * of the population never changes.
+ */
+public interface GefangenenDilemmaPopulationProcess {
+
+    /**
+     * Evolves a population.
+     *
+     * @param counts The number of individuals per strategy. The array is updated in place.
+     * @param steps  The number of steps to perform.
+     * @throws IllegalArgumentException if the counts do not describe a valid population.
+     */
+    void advance(int[] counts, int steps);
+}
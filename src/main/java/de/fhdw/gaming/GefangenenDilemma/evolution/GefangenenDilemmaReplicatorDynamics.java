@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+/**
+ * Integrates the replicator equation of an infinitely large population whose outcomes are given by a
+ * {@link GefangenenDilemmaPayoffTable}.
+ * <p>
+ * The share {@code x_i} of strategy {@code i} changes at the rate {@code x_i * (f_i - φ)}, where {@code f_i} is the
+ * average outcome of strategy {@code i} against the population and {@code φ} the average outcome of the population.
+ */
+public interface GefangenenDilemmaReplicatorDynamics {
+
+    /**
+     * Computes the shares of the strategies at given points in time.
+     *
+     * @param initialShares The shares at time zero, indexed like the payoff table. They are normalised to sum up to
+     *                      one.
+     * @param times         The points in time, in ascending order and not negative.
+     * @return The shares at each point in time.
+     * @throws IllegalArgumentException if the shares or the points in time are invalid.
+     */
+    double[][] solve(double[] initialShares, double[] times);
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.factory;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithmBuilder;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPopulationProcess;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaReplicatorDynamics;
+import de.fhdw.gaming.GefangenenDilemma.evolution.impl.GefangenenDilemmaAdaptiveReplicatorDynamics;
+import de.fhdw.gaming.GefangenenDilemma.evolution.impl.GefangenenDilemmaGeneticAlgorithmBuilderImpl;
+import de.fhdw.gaming.GefangenenDilemma.evolution.impl.GefangenenDilemmaMoranProcess;
+import de.fhdw.gaming.GefangenenDilemma.evolution.impl.GefangenenDilemmaWrightFisherProcess;
+
+/**
+ * Implements {@link GefangenenDilemmaEvolutionFactory} by creating the default implementations.
+ */
+public final class GefangenenDilemmaDefaultEvolutionFactory implements GefangenenDilemmaEvolutionFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultEvolutionFactory}.
+     */
+    public GefangenenDilemmaDefaultEvolutionFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaPopulationProcess createMoranProcess(final GefangenenDilemmaPayoffTable payoffTable,
+            final double selectionIntensity, final long seed) {
+        return new GefangenenDilemmaMoranProcess(payoffTable, selectionIntensity, seed);
+    }
+
+    @Override
+    public GefangenenDilemmaPopulationProcess createWrightFisherProcess(final GefangenenDilemmaPayoffTable payoffTable,
+            final double selectionIntensity, final long seed) {
+        return new GefangenenDilemmaWrightFisherProcess(payoffTable, selectionIntensity, seed);
+    }
+
+    @Override
+    public GefangenenDilemmaReplicatorDynamics createReplicatorDynamics(final GefangenenDilemmaPayoffTable payoffTable,
+            final double tolerance) {
+        return new GefangenenDilemmaAdaptiveReplicatorDynamics(payoffTable, tolerance);
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilder createGeneticAlgorithmBuilder() {
+        return new GefangenenDilemmaGeneticAlgorithmBuilderImpl();
+    }
+}
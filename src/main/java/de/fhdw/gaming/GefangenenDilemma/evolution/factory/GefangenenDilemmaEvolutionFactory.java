@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.factory;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithmBuilder;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPopulationProcess;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaReplicatorDynamics;
+
+/**
+ * Represents a factory creating the evolutionary models of the Gefangenen-Dilemma.
+ */
+public interface GefangenenDilemmaEvolutionFactory {
+
+    /**
+     * Creates a Moran process replacing one individual per step.
+     *
+     * @param payoffTable        The payoff table.
+     * @param selectionIntensity The selection intensity, not negative.
+     * @param seed               The seed of the source of randomness.
+     * @return The population process.
+     * @throws IllegalArgumentException if the selection intensity is negative or not finite.
+     */
+    GefangenenDilemmaPopulationProcess createMoranProcess(GefangenenDilemmaPayoffTable payoffTable,
+            double selectionIntensity, long seed);
+
+    /**
+     * Creates a Wright-Fisher process replacing the whole population per step.
+     *
+     * @param payoffTable        The payoff table.
+     * @param selectionIntensity The selection intensity, not negative.
+     * @param seed               The seed of the source of randomness.
+     * @return The population process.
+     * @throws IllegalArgumentException if the selection intensity is negative or not finite.
+     */
+    GefangenenDilemmaPopulationProcess createWrightFisherProcess(GefangenenDilemmaPayoffTable payoffTable,
+            double selectionIntensity, long seed);
+
+    /**
+     * Creates replicator dynamics integrated with adaptive step sizes.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param tolerance   The relative tolerance of the local error per step, between zero and one (exclusive).
+     * @return The replicator dynamics.
+     * @throws IllegalArgumentException if the tolerance is invalid.
+     */
+    GefangenenDilemmaReplicatorDynamics createReplicatorDynamics(GefangenenDilemmaPayoffTable payoffTable,
+            double tolerance);
+
+    /**
+     * Creates a builder for genetic algorithms evolving decision tables.
+     *
+     * @return The builder.
+     */
+    GefangenenDilemmaGeneticAlgorithmBuilder createGeneticAlgorithmBuilder();
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPopulationProcess;
+
+/**
+ * Base class of population processes with exponential fitness.
+ * <p>
+ * The payoff of an individual is its average outcome against all other individuals of the population, looked up in the
+ * payoff table. Its fitness is {@code exp(selectionIntensity * payoff)}, which is positive for negative outcomes as
+ * well; a selection intensity of zero yields neutral drift.
+ */
+abstract class GefangenenDilemmaAbstractPopulationProcess implements GefangenenDilemmaPopulationProcess {
+
+    /**
+     * The payoff table.
+     */
+    private final GefangenenDilemmaPayoffTable payoffTable;
+    /**
+     * The selection intensity.
+     */
+    private final double selectionIntensity;
+    /**
+     * The source of randomness.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Creates a population process.
+     *
+     * @param payoffTable        The payoff table.
+     * @param selectionIntensity The selection intensity, not negative.
+     * @param seed               The seed of the source of randomness.
+     */
+    GefangenenDilemmaAbstractPopulationProcess(final GefangenenDilemmaPayoffTable payoffTable,
+            final double selectionIntensity, final long seed) {
+        this.payoffTable = Objects.requireNonNull(payoffTable, "payoffTable");
+        if (!(selectionIntensity >= 0.0) || Double.isInfinite(selectionIntensity)) {
+            throw new IllegalArgumentException(
+                    String.format("The selection intensity must be finite and not negative, but is %f.",
+                            selectionIntensity));
+        }
+        this.selectionIntensity = selectionIntensity;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public final void advance(final int[] counts, final int steps) {
+        if (steps < 0) {
+            throw new IllegalArgumentException(
+                    String.format("The number of steps must not be negative, but is %d.", steps));
+        }
+        final int populationSize = this.checkPopulation(counts);
+        final double[] payoffSums = new double[counts.length];
+        final double[] weights = new double[counts.length];
+        this.advance(counts, populationSize, payoffSums, weights, steps);
+    }
+
+    /**
+     * Evolves a valid population.
+     *
+     * @param counts         The number of individuals per strategy, updated in place.
+     * @param populationSize The size of the population.
+     * @param payoffSums     Scratch space for {@link #computePayoffSums(int[], double[])}.
+     * @param weights        Scratch space for {@link #computeWeights(int[], int, double[], double[])}.
+     * @param steps          The number of steps to perform.
+     */
+    abstract void advance(int[] counts, int populationSize, double[] payoffSums, double[] weights, int steps);
+
+    /**
+     * Returns the payoff table.
+     */
+    final GefangenenDilemmaPayoffTable getPayoffTable() {
+        return this.payoffTable;
+    }
+
+    /**
+     * Returns the source of randomness.
+     */
+    final SplittableRandom getRandom() {
+        return this.random;
+    }
+
+    /**
+     * Computes for each strategy the sum of its outcomes against all individuals, including itself.
+     *
+     * @param counts     The number of individuals per strategy.
+     * @param payoffSums Receives the sums.
+     */
+    final void computePayoffSums(final int[] counts, final double[] payoffSums) {
+        for (int strategy = 0; strategy < counts.length; ++strategy) {
+            double sum = 0.0;
+            for (int opponent = 0; opponent < counts.length; ++opponent) {
+                sum += counts[opponent] * this.payoffTable.getOutcome(strategy, opponent);
+            }
+            payoffSums[strategy] = sum;
+        }
+    }
+
+    /**
+     * Computes for each strategy the total fitness of its individuals, up to a common factor.
+     *
+     * @param counts         The number of individuals per strategy.
+     * @param populationSize The size of the population.
+     * @param payoffSums     The sums computed by {@link #computePayoffSums(int[], double[])}.
+     * @param weights        Receives the weights.
+     * @return The sum of all weights.
+     */
+    final double computeWeights(final int[] counts, final int populationSize, final double[] payoffSums,
+            final double[] weights) {
+        double maximumPayoff = Double.NEGATIVE_INFINITY;
+        for (int strategy = 0; strategy < counts.length; ++strategy) {
+            if (counts[strategy] > 0) {
+                weights[strategy] = (payoffSums[strategy] - this.payoffTable.getOutcome(strategy, strategy))
+                        / (populationSize - 1);
+                maximumPayoff = Math.max(maximumPayoff, weights[strategy]);
+            }
+        }
+        double total = 0.0;
+        for (int strategy = 0; strategy < counts.length; ++strategy) {
+            // subtracting the maximum keeps the exponent from overflowing
+            weights[strategy] = counts[strategy] > 0
+                    ? counts[strategy] * Math.exp(this.selectionIntensity * (weights[strategy] - maximumPayoff))
+                    : 0.0;
+            total += weights[strategy];
+        }
+        return total;
+    }
+
+    /**
+     * Returns whether all individuals play the same strategy.
+     *
+     * @param counts         The number of individuals per strategy.
+     * @param populationSize The size of the population.
+     */
+    static boolean isFixated(final int[] counts, final int populationSize) {
+        for (final int count : counts) {
+            if (count == populationSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks a population.
+     *
+     * @param counts The number of individuals per strategy.
+     * @return The size of the population.
+     * @throws IllegalArgumentException if the population is invalid.
+     */
+    private int checkPopulation(final int[] counts) {
+        if (counts.length != this.payoffTable.getNumberOfStrategies()) {
+            throw new IllegalArgumentException(String.format("%d counts were passed for %d strategies.",
+                    counts.length, this.payoffTable.getNumberOfStrategies()));
+        }
+        long populationSize = 0;
+        for (final int count : counts) {
+            if (count < 0) {
+                throw new IllegalArgumentException(
+                        String.format("The number of individuals must not be negative, but is %d.", count));
+            }
+            populationSize += count;
+        }
+        if (populationSize < 2 || populationSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("A population must consist of 2 to %d individuals, but has %d.",
+                            Integer.MAX_VALUE, populationSize));
+        }
+        return (int) populationSize;
+    }
+}
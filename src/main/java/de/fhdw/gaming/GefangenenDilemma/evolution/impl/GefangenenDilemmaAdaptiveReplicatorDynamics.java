@@ -0,0 +1,334 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaReplicatorDynamics;
+
+/**
+ * Implements {@link GefangenenDilemmaReplicatorDynamics} using the Dormand-Prince method, an explicit Runge-Kutta
+ * method of order five with an embedded error estimate of order four.
+ * <p>
+ * The step size is adapted so that the estimated local error stays below the tolerance relative to the shares, so
+ * fast transients are resolved and slow convergence is crossed in few steps. Each step ends exactly at a requested
+ * point in time if it would otherwise step over it. The payoff table is stored as a single row-major array, so the
+ * average outcomes of all strategies are computed by one pass over contiguous memory per stage, which dominates the
+ * cost for thousands of strategies. After each step, the shares are projected back onto the simplex to cancel rounding
+ * errors.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class GefangenenDilemmaAdaptiveReplicatorDynamics implements GefangenenDilemmaReplicatorDynamics {
+
+    /**
+     * The shares below which the absolute error is controlled rather than the relative one.
+     */
+    private static final double ABSOLUTE_TOLERANCE_FACTOR = 1e-3;
+    /**
+     * The factor applied to the optimal step size to make rejected steps unlikely.
+     */
+    private static final double SAFETY = 0.9;
+    /**
+     * The smallest factor a step size is changed by.
+     */
+    private static final double MINIMUM_FACTOR = 0.2;
+    /**
+     * The largest factor a step size is changed by.
+     */
+    private static final double MAXIMUM_FACTOR = 5.0;
+
+    /**
+     * The weights of the preceding stages per stage of the Dormand-Prince method. The last row also yields the
+     * result of a step, so the last stage of a step is the first one of the next step.
+     */
+    private static final double[][] TABLEAU = {
+        {1.0 / 5.0 },
+        {3.0 / 40.0, 9.0 / 40.0 },
+        {44.0 / 45.0, -56.0 / 15.0, 32.0 / 9.0 },
+        {19372.0 / 6561.0, -25360.0 / 2187.0, 64448.0 / 6561.0, -212.0 / 729.0 },
+        {9017.0 / 3168.0, -355.0 / 33.0, 46732.0 / 5247.0, 49.0 / 176.0, -5103.0 / 18656.0 },
+        {35.0 / 384.0, 0.0, 500.0 / 1113.0, 125.0 / 192.0, -2187.0 / 6784.0, 11.0 / 84.0 } };
+
+    /**
+     * The outcomes, indexed by {@code strategy * numberOfStrategies + opponent}.
+     */
+    private final double[] outcomes;
+    /**
+     * The number of strategies.
+     */
+    private final int numberOfStrategies;
+    /**
+     * The relative tolerance of the local error per step.
+     */
+    private final double tolerance;
+
+    /**
+     * Creates replicator dynamics.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param tolerance   The relative tolerance of the local error per step, between zero and one (exclusive).
+     */
+    public GefangenenDilemmaAdaptiveReplicatorDynamics(final GefangenenDilemmaPayoffTable payoffTable,
+            final double tolerance) {
+        if (!(tolerance > 0.0 && tolerance < 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("The tolerance must be between 0 and 1, but is %f.", tolerance));
+        }
+        this.numberOfStrategies = payoffTable.getNumberOfStrategies();
+        this.outcomes = new double[this.numberOfStrategies * this.numberOfStrategies];
+        for (int strategy = 0; strategy < this.numberOfStrategies; ++strategy) {
+            for (int opponent = 0; opponent < this.numberOfStrategies; ++opponent) {
+                this.outcomes[strategy * this.numberOfStrategies + opponent] = payoffTable.getOutcome(strategy,
+                        opponent);
+            }
+        }
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public double[][] solve(final double[] initialShares, final double[] times) {
+        final double[] shares = this.normalise(initialShares);
+        double previousTime = 0.0;
+        for (final double time : times) {
+            if (!(time >= previousTime) || Double.isInfinite(time)) {
+                throw new IllegalArgumentException("The points in time must be finite, ascending and not negative.");
+            }
+            previousTime = time;
+        }
+
+        final Integrator integrator = new Integrator(shares);
+        final double[][] result = new double[times.length][];
+        for (int index = 0; index < times.length; ++index) {
+            integrator.advanceTo(times[index]);
+            result[index] = integrator.shares.clone();
+        }
+        return result;
+    }
+
+    /**
+     * Checks and normalises shares.
+     *
+     * @param shares The shares.
+     * @return A normalised copy.
+     */
+    private double[] normalise(final double[] shares) {
+        if (shares.length != this.numberOfStrategies) {
+            throw new IllegalArgumentException(String.format("%d shares were passed for %d strategies.",
+                    shares.length, this.numberOfStrategies));
+        }
+        double sum = 0.0;
+        for (final double share : shares) {
+            if (!(share >= 0.0) || Double.isInfinite(share)) {
+                throw new IllegalArgumentException(
+                        String.format("A share must be finite and not negative, but is %f.", share));
+            }
+            sum += share;
+        }
+        if (sum == 0.0) {
+            throw new IllegalArgumentException("At least one share must be positive.");
+        }
+        final double[] result = new double[shares.length];
+        for (int strategy = 0; strategy < shares.length; ++strategy) {
+            result[strategy] = shares[strategy] / sum;
+        }
+        return result;
+    }
+
+    /**
+     * Computes the rates of change of the shares.
+     *
+     * @param shares   The shares.
+     * @param payoffs  Scratch space receiving the average outcome of each strategy.
+     * @param rates    Receives the rates of change.
+     */
+    private void computeRates(final double[] shares, final double[] payoffs, final double[] rates) {
+        final int size = this.numberOfStrategies;
+        double average = 0.0;
+        for (int strategy = 0; strategy < size; ++strategy) {
+            final int row = strategy * size;
+            double payoff = 0.0;
+            for (int opponent = 0; opponent < size; ++opponent) {
+                payoff += this.outcomes[row + opponent] * shares[opponent];
+            }
+            payoffs[strategy] = payoff;
+            average += shares[strategy] * payoff;
+        }
+        for (int strategy = 0; strategy < size; ++strategy) {
+            rates[strategy] = shares[strategy] * (payoffs[strategy] - average);
+        }
+    }
+
+    /**
+     * The state of a single integration.
+     */
+    private final class Integrator {
+
+        /**
+         * The current shares.
+         */
+        private double[] shares;
+        /**
+         * The shares after a tentative step.
+         */
+        private double[] nextShares;
+        /**
+         * The shares at which a stage is evaluated.
+         */
+        private final double[] stageShares;
+        /**
+         * The rates of change at the stages of a step; the last one equals the first one of the next step.
+         */
+        private final double[][] stages;
+        /**
+         * The estimated local error of a step.
+         */
+        private final double[] error;
+        /**
+         * Scratch space for the average outcomes.
+         */
+        private final double[] payoffs;
+        /**
+         * The current point in time.
+         */
+        private double time;
+        /**
+         * The size of the next step.
+         */
+        private double stepSize;
+
+        /**
+         * Creates an integrator.
+         *
+         * @param shares The shares at time zero.
+         */
+        Integrator(final double[] shares) {
+            final int size = shares.length;
+            this.shares = shares;
+            this.nextShares = new double[size];
+            this.stageShares = new double[size];
+            this.stages = new double[7][size];
+            this.error = new double[size];
+            this.payoffs = new double[size];
+            this.time = 0.0;
+            GefangenenDilemmaAdaptiveReplicatorDynamics.this.computeRates(this.shares, this.payoffs, this.stages[0]);
+            double maximumRate = 0.0;
+            for (final double rate : this.stages[0]) {
+                maximumRate = Math.max(maximumRate, Math.abs(rate));
+            }
+            this.stepSize = 0.01 / Math.max(maximumRate, 1e-3);
+        }
+
+        /**
+         * Integrates up to a point in time.
+         *
+         * @param target The point in time, not before the current one.
+         */
+        void advanceTo(final double target) {
+            while (this.time < target) {
+                final boolean last = this.time + this.stepSize >= target;
+                final double step = last ? target - this.time : this.stepSize;
+                final double errorNorm = this.attempt(step);
+                if (errorNorm <= 1.0) {
+                    final double[] swap = this.shares;
+                    this.shares = this.nextShares;
+                    this.nextShares = swap;
+                    this.time = last ? target : this.time + step;
+                    final double[] first = this.stages[0];
+                    this.stages[0] = this.stages[6];
+                    this.stages[6] = first;
+                }
+                final double factor = errorNorm == 0.0
+                        ? GefangenenDilemmaAdaptiveReplicatorDynamics.MAXIMUM_FACTOR
+                        : GefangenenDilemmaAdaptiveReplicatorDynamics.SAFETY * Math.pow(errorNorm, -0.2);
+                final double newStepSize = step * Math.min(GefangenenDilemmaAdaptiveReplicatorDynamics.MAXIMUM_FACTOR,
+                        Math.max(GefangenenDilemmaAdaptiveReplicatorDynamics.MINIMUM_FACTOR, factor));
+                // a short final step says nothing about the step size suitable afterwards
+                if (!(last && errorNorm <= 1.0) || newStepSize > this.stepSize) {
+                    this.stepSize = newStepSize;
+                }
+                if (this.stepSize <= Math.ulp(this.time) * 16) {
+                    throw new IllegalStateException(
+                            String.format("The step size has become too small at time %f.", this.time));
+                }
+            }
+        }
+
+        /**
+         * Performs a tentative step into {@link #nextShares}.
+         *
+         * @param step The size of the step.
+         * @return The norm of the estimated local error relative to the tolerance.
+         */
+        private double attempt(final double step) {
+            final double[][] k = this.stages;
+            for (int stage = 1; stage < k.length; ++stage) {
+                this.stage(step, stage);
+            }
+            System.arraycopy(this.stageShares, 0, this.nextShares, 0, this.nextShares.length);
+
+            final double relativeTolerance = GefangenenDilemmaAdaptiveReplicatorDynamics.this.tolerance;
+            final double absoluteTolerance = relativeTolerance
+                    * GefangenenDilemmaAdaptiveReplicatorDynamics.ABSOLUTE_TOLERANCE_FACTOR;
+            double sum = 0.0;
+            for (int strategy = 0; strategy < this.error.length; ++strategy) {
+                this.error[strategy] = step * (71.0 / 57600.0 * k[0][strategy] - 71.0 / 16695.0 * k[2][strategy]
+                        + 71.0 / 1920.0 * k[3][strategy] - 17253.0 / 339200.0 * k[4][strategy]
+                        + 22.0 / 525.0 * k[5][strategy] - 1.0 / 40.0 * k[6][strategy]);
+                final double scale = absoluteTolerance + relativeTolerance
+                        * Math.max(Math.abs(this.shares[strategy]), Math.abs(this.nextShares[strategy]));
+                final double scaled = this.error[strategy] / scale;
+                sum += scaled * scaled;
+            }
+            this.project(this.nextShares);
+            return Math.sqrt(sum / this.error.length);
+        }
+
+        /**
+         * Evaluates a stage of a step.
+         *
+         * @param step  The size of the step.
+         * @param stage The index of the stage, at least one.
+         */
+        private void stage(final double step, final int stage) {
+            final double[] coefficients = GefangenenDilemmaAdaptiveReplicatorDynamics.TABLEAU[stage - 1];
+            for (int strategy = 0; strategy < this.shares.length; ++strategy) {
+                double increment = 0.0;
+                for (int previous = 0; previous < coefficients.length; ++previous) {
+                    increment += coefficients[previous] * this.stages[previous][strategy];
+                }
+                this.stageShares[strategy] = this.shares[strategy] + step * increment;
+            }
+            GefangenenDilemmaAdaptiveReplicatorDynamics.this.computeRates(this.stageShares, this.payoffs,
+                    this.stages[stage]);
+        }
+
+        /**
+         * Projects shares onto the simplex by clipping negative shares and normalising.
+         *
+         * @param target The shares.
+         */
+        private void project(final double[] target) {
+            double sum = 0.0;
+            for (int strategy = 0; strategy < target.length; ++strategy) {
+                target[strategy] = Math.max(0.0, target[strategy]);
+                sum += target[strategy];
+            }
+            for (int strategy = 0; strategy < target.length; ++strategy) {
+                target[strategy] /= sum;
+            }
+        }
+    }
+}
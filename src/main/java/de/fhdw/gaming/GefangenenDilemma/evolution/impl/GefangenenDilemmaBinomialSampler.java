@@ -0,0 +1,152 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws binomially distributed numbers in expected constant time.
+ * <p>
+ * Small means are sampled by inversion, large ones by the transformed rejection method BTRS of Hörmann, so the cost
+ * does not grow with the number of trials.
+ */
+final class GefangenenDilemmaBinomialSampler {
+
+    /**
+     * The smallest mean sampled by transformed rejection.
+     */
+    private static final double REJECTION_THRESHOLD = 10.0;
+    /**
+     * The number of exactly tabulated logarithms of factorials.
+     */
+    private static final int LOG_FACTORIALS = 16;
+    /**
+     * The logarithms of the factorials of zero to {@link #LOG_FACTORIALS} - 1.
+     */
+    private static final double[] LOG_FACTORIAL_TABLE = new double[GefangenenDilemmaBinomialSampler.LOG_FACTORIALS];
+
+    static {
+        for (int k = 1; k < GefangenenDilemmaBinomialSampler.LOG_FACTORIALS; ++k) {
+            GefangenenDilemmaBinomialSampler.LOG_FACTORIAL_TABLE[k] =
+                    GefangenenDilemmaBinomialSampler.LOG_FACTORIAL_TABLE[k - 1] + Math.log(k);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GefangenenDilemmaBinomialSampler() {
+        // nothing to do
+    }
+
+    /**
+     * Draws the number of successes in a number of independent trials.
+     *
+     * @param random      The source of randomness.
+     * @param trials      The number of trials.
+     * @param probability The probability of success of a single trial.
+     */
+    static int sample(final SplittableRandom random, final int trials, final double probability) {
+        if (trials == 0 || probability <= 0.0) {
+            return 0;
+        }
+        if (probability >= 1.0) {
+            return trials;
+        }
+        if (probability > 0.5) {
+            return trials - GefangenenDilemmaBinomialSampler.sample(random, trials, 1.0 - probability);
+        }
+        if (trials * probability < GefangenenDilemmaBinomialSampler.REJECTION_THRESHOLD) {
+            return GefangenenDilemmaBinomialSampler.sampleByInversion(random, trials, probability);
+        }
+        return GefangenenDilemmaBinomialSampler.sampleByRejection(random, trials, probability);
+    }
+
+    /**
+     * Draws a binomially distributed number by walking the cumulative distribution function.
+     *
+     * @param random      The source of randomness.
+     * @param trials      The number of trials.
+     * @param probability The probability of success, at most 0.5.
+     */
+    private static int sampleByInversion(final SplittableRandom random, final int trials, final double probability) {
+        final double ratio = probability / (1.0 - probability);
+        final double factor = (trials + 1) * ratio;
+        double mass = Math.exp(trials * Math.log1p(-probability));
+        double remaining = random.nextDouble();
+        int successes = 0;
+        while (remaining > mass && successes < trials) {
+            remaining -= mass;
+            ++successes;
+            mass *= factor / successes - ratio;
+        }
+        return successes;
+    }
+
+    /**
+     * Draws a binomially distributed number using the transformed rejection method BTRS.
+     *
+     * @param random      The source of randomness.
+     * @param trials      The number of trials.
+     * @param probability The probability of success, at most 0.5, with a mean of at least
+     *                    {@link #REJECTION_THRESHOLD}.
+     */
+    private static int sampleByRejection(final SplittableRandom random, final int trials, final double probability) {
+        final double deviation = Math.sqrt(trials * probability * (1.0 - probability));
+        final double b = 1.15 + 2.53 * deviation;
+        final double a = -0.0873 + 0.0248 * b + 0.01 * probability;
+        final double c = trials * probability + 0.5;
+        final double alpha = (2.83 + 5.1 / b) * deviation;
+        final double acceptanceBound = 0.92 - 4.2 / b;
+        final double logRatio = Math.log(probability / (1.0 - probability));
+        final int mode = (int) Math.floor((trials + 1) * probability);
+        final double logMode = GefangenenDilemmaBinomialSampler.logFactorial(mode)
+                + GefangenenDilemmaBinomialSampler.logFactorial(trials - mode);
+        while (true) {
+            final double u = random.nextDouble() - 0.5;
+            final double v = random.nextDouble();
+            final double us = 0.5 - Math.abs(u);
+            final long k = (long) Math.floor((2.0 * a / us + b) * u + c);
+            if (k < 0 || k > trials) {
+                continue;
+            }
+            if (us >= 0.07 && v <= acceptanceBound) {
+                return (int) k;
+            }
+            final double logV = Math.log(v * alpha / (a / (us * us) + b));
+            if (logV <= logMode - GefangenenDilemmaBinomialSampler.logFactorial((int) k)
+                    - GefangenenDilemmaBinomialSampler.logFactorial(trials - (int) k) + (k - mode) * logRatio) {
+                return (int) k;
+            }
+        }
+    }
+
+    /**
+     * Returns the natural logarithm of a factorial, using Stirling's series beyond the tabulated values.
+     *
+     * @param k The argument, not negative.
+     */
+    static double logFactorial(final int k) {
+        if (k < GefangenenDilemmaBinomialSampler.LOG_FACTORIALS) {
+            return GefangenenDilemmaBinomialSampler.LOG_FACTORIAL_TABLE[k];
+        }
+        final double n = k;
+        final double inverse = 1.0 / n;
+        final double inverseSquare = inverse * inverse;
+        return (n + 0.5) * Math.log(n) - n + 0.5 * Math.log(2.0 * Math.PI)
+                + inverse * (1.0 / 12.0 - inverseSquare * (1.0 / 360.0 - inverseSquare / 1260.0));
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithm;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithmBuilder;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+
+/**
+ * Implements {@link GefangenenDilemmaGeneticAlgorithmBuilder} by creating a genetic algorithm evaluating the fitness in
+ * parallel.
+ */
+public final class GefangenenDilemmaGeneticAlgorithmBuilderImpl implements GefangenenDilemmaGeneticAlgorithmBuilder {
+
+    /**
+     * The simulator playing the matches, if set.
+     */
+    private Optional<GefangenenDilemmaDecisionTableSimulator> simulator;
+    /**
+     * The fixed part of the opponent pool.
+     */
+    private List<GefangenenDilemmaDecisionTable> opponents;
+    /**
+     * The number of fittest individuals joining the opponent pool of the next generation.
+     */
+    private int coevolvingOpponents;
+    /**
+     * The number of individuals.
+     */
+    private int populationSize;
+    /**
+     * The memory depth of the individuals.
+     */
+    private int memoryDepth;
+    /**
+     * The number of individuals competing for becoming a parent.
+     */
+    private int tournamentSize;
+    /**
+     * The probability of breeding a child by crossover.
+     */
+    private double crossoverProbability;
+    /**
+     * The probability of each entry of a child to be flipped.
+     */
+    private double mutationProbability;
+    /**
+     * The number of fittest individuals surviving unchanged.
+     */
+    private int numberOfElites;
+    /**
+     * The maximum number of fitness values cached.
+     */
+    private int cacheCapacity;
+    /**
+     * The seed of the source of randomness.
+     */
+    private long seed;
+    /**
+     * The pool evaluating the fitness.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a builder using the default parameters.
+     */
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl() {
+        this.simulator = Optional.empty();
+        this.opponents = List.of();
+        this.coevolvingOpponents = 0;
+        this.populationSize = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_POPULATION_SIZE;
+        this.memoryDepth = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_MEMORY_DEPTH;
+        this.tournamentSize = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_TOURNAMENT_SIZE;
+        this.crossoverProbability = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_CROSSOVER_PROBABILITY;
+        this.mutationProbability = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_MUTATION_PROBABILITY;
+        this.numberOfElites = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_NUMBER_OF_ELITES;
+        this.cacheCapacity = GefangenenDilemmaGeneticAlgorithmBuilder.DEFAULT_CACHE_CAPACITY;
+        this.seed = 0L;
+        this.pool = ForkJoinPool.commonPool();
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeSimulator(
+            final GefangenenDilemmaDecisionTableSimulator newSimulator) {
+        this.simulator = Optional.of(Objects.requireNonNull(newSimulator, "newSimulator"));
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeOpponents(
+            final List<GefangenenDilemmaDecisionTable> newOpponents) {
+        this.opponents = List.copyOf(newOpponents);
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeCoevolvingOpponents(final int newCoevolvingOpponents) {
+        this.coevolvingOpponents = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkNotNegative(
+                newCoevolvingOpponents, "number of co-evolving opponents");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changePopulationSize(final int newPopulationSize) {
+        this.populationSize = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkPositive(newPopulationSize,
+                "population size");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeMemoryDepth(final int newMemoryDepth) {
+        if (newMemoryDepth < 0 || newMemoryDepth > GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH) {
+            throw new IllegalArgumentException(String.format("The memory depth must be between 0 and %d, but was %d.",
+                    GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH, newMemoryDepth));
+        }
+        this.memoryDepth = newMemoryDepth;
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeTournamentSize(final int newTournamentSize) {
+        this.tournamentSize = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkPositive(newTournamentSize,
+                "tournament size");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeCrossoverProbability(
+            final double newCrossoverProbability) {
+        this.crossoverProbability = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkProbability(
+                newCrossoverProbability, "crossover probability");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeMutationProbability(
+            final double newMutationProbability) {
+        this.mutationProbability = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkProbability(
+                newMutationProbability, "mutation probability");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeNumberOfElites(final int newNumberOfElites) {
+        this.numberOfElites = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkNotNegative(newNumberOfElites,
+                "number of elites");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeCacheCapacity(final int newCacheCapacity) {
+        this.cacheCapacity = GefangenenDilemmaGeneticAlgorithmBuilderImpl.checkNotNegative(newCacheCapacity,
+                "cache capacity");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changeSeed(final long newSeed) {
+        this.seed = newSeed;
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithmBuilderImpl changePool(final ForkJoinPool newPool) {
+        this.pool = Objects.requireNonNull(newPool, "newPool");
+        return this;
+    }
+
+    @Override
+    public GefangenenDilemmaGeneticAlgorithm build() {
+        if (this.simulator.isEmpty()) {
+            throw new IllegalArgumentException("No simulator has been set.");
+        }
+        if (this.opponents.isEmpty() && this.coevolvingOpponents == 0) {
+            throw new IllegalArgumentException("The opponent pool is empty.");
+        }
+        if (this.numberOfElites > this.populationSize || this.coevolvingOpponents > this.populationSize) {
+            throw new IllegalArgumentException(String.format(
+                    "A population of %d individuals cannot provide %d elites and %d co-evolving opponents.",
+                    this.populationSize, this.numberOfElites, this.coevolvingOpponents));
+        }
+        return new GefangenenDilemmaParallelGeneticAlgorithm(this.simulator.get(), this.opponents,
+                this.coevolvingOpponents, this.populationSize, this.memoryDepth, this.tournamentSize,
+                this.crossoverProbability, this.mutationProbability, this.numberOfElites, this.cacheCapacity,
+                this.seed, this.pool);
+    }
+
+    /**
+     * Checks that a parameter is positive.
+     *
+     * @param value The value of the parameter.
+     * @param name  The name of the parameter.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is not positive.
+     */
+    private static int checkPositive(final int value, final String name) {
+        if (value < 1) {
+            throw new IllegalArgumentException(String.format("The %s must be positive, but is %d.", name, value));
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a parameter is not negative.
+     *
+     * @param value The value of the parameter.
+     * @param name  The name of the parameter.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is negative.
+     */
+    private static int checkNotNegative(final int value, final String name) {
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("The %s must not be negative, but is %d.", name, value));
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a parameter is a probability.
+     *
+     * @param value The value of the parameter.
+     * @param name  The name of the parameter.
+     * @return The value.
+     * @throws IllegalArgumentException if the value is not between zero and one.
+     */
+    private static double checkProbability(final double value, final String name) {
+        if (!(value >= 0.0 && value <= 1.0)) {
+            throw new IllegalArgumentException(String.format("The %s must be between 0 and 1, but is %f.", name,
+                    value));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+
+/**
+ * A Moran process: in each step, an individual chosen proportionally to its fitness reproduces, and its offspring
+ * replaces an individual chosen uniformly at random.
+ * <p>
+ * A step changes at most two counts, so the sums of outcomes per strategy are updated incrementally and a step costs
+ * time linear in the number of strategies, independent of the size of the population. Once a strategy has taken over
+ * the population, the remaining steps are skipped.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class GefangenenDilemmaMoranProcess extends GefangenenDilemmaAbstractPopulationProcess {
+
+    /**
+     * Creates a Moran process.
+     *
+     * @param payoffTable        The payoff table.
+     * @param selectionIntensity The selection intensity, not negative.
+     * @param seed               The seed of the source of randomness.
+     */
+    public GefangenenDilemmaMoranProcess(final GefangenenDilemmaPayoffTable payoffTable,
+            final double selectionIntensity, final long seed) {
+        super(payoffTable, selectionIntensity, seed);
+    }
+
+    @Override
+    void advance(final int[] counts, final int populationSize, final double[] payoffSums, final double[] weights,
+            final int steps) {
+        final GefangenenDilemmaPayoffTable payoffTable = this.getPayoffTable();
+        this.computePayoffSums(counts, payoffSums);
+        for (int step = 0; step < steps && !GefangenenDilemmaAbstractPopulationProcess.isFixated(counts,
+                populationSize); ++step) {
+            final double totalWeight = this.computeWeights(counts, populationSize, payoffSums, weights);
+            final int parent = this.chooseParent(weights, totalWeight);
+            final int victim = this.chooseVictim(counts, populationSize);
+            if (parent != victim) {
+                ++counts[parent];
+                --counts[victim];
+                for (int strategy = 0; strategy < counts.length; ++strategy) {
+                    payoffSums[strategy] += payoffTable.getOutcome(strategy, parent)
+                            - payoffTable.getOutcome(strategy, victim);
+                }
+            }
+        }
+    }
+
+    /**
+     * Chooses the strategy of the reproducing individual.
+     *
+     * @param weights     The total fitness per strategy.
+     * @param totalWeight The sum of all weights.
+     */
+    private int chooseParent(final double[] weights, final double totalWeight) {
+        double remaining = this.getRandom().nextDouble() * totalWeight;
+        int last = 0;
+        for (int strategy = 0; strategy < weights.length; ++strategy) {
+            if (weights[strategy] > 0.0) {
+                remaining -= weights[strategy];
+                last = strategy;
+                if (remaining < 0.0) {
+                    return strategy;
+                }
+            }
+        }
+        // rounding errors may leave a tiny remainder
+        return last;
+    }
+
+    /**
+     * Chooses the strategy of the replaced individual.
+     *
+     * @param counts         The number of individuals per strategy.
+     * @param populationSize The size of the population.
+     */
+    private int chooseVictim(final int[] counts, final int populationSize) {
+        int remaining = this.getRandom().nextInt(populationSize);
+        for (int strategy = 0; strategy < counts.length; ++strategy) {
+            remaining -= counts[strategy];
+            if (remaining < 0) {
+                return strategy;
+            }
+        }
+        throw new IllegalStateException("The population is empty.");
+    }
+}
@@ -0,0 +1,505 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithm;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+
+/**
+ * Implements {@link GefangenenDilemmaGeneticAlgorithm} by evaluating the fitness of the individuals in parallel.
+ * <p>
+ * Breeding is sequential and driven by a single source of randomness, which is cheap compared to playing the matches.
+ * The decision tables whose fitness is neither cached nor already pending in the same generation are split into
+ * ranges evaluated by the tasks of a {@link ForkJoinPool}; each task plays all matches of its range against the
+ * opponent pool in a single call of the simulator, so bit-sliced simulators can fill their blocks. The fitness of a
+ * decision table only depends on the table and the opponent pool, so the result does not depend on the number of
+ * workers.
+ * <p>
+ * Instances are not thread-safe.
+ */
+final class GefangenenDilemmaParallelGeneticAlgorithm implements GefangenenDilemmaGeneticAlgorithm {
+
+    /**
+     * The number of tasks created per worker thread, allowing for load balancing between workers.
+     */
+    private static final int TASKS_PER_WORKER = 8;
+    /**
+     * The smallest number of matches played by a task, allowing the simulator to fill a few blocks.
+     */
+    private static final int MIN_MATCHES_PER_TASK = 256;
+
+    /**
+     * The simulator playing the matches.
+     */
+    private final GefangenenDilemmaDecisionTableSimulator simulator;
+    /**
+     * The fixed part of the opponent pool.
+     */
+    private final List<GefangenenDilemmaDecisionTable> fixedOpponents;
+    /**
+     * The number of fittest individuals joining the opponent pool of the next generation.
+     */
+    private final int coevolvingOpponents;
+    /**
+     * The memory depth of the individuals.
+     */
+    private final int memoryDepth;
+    /**
+     * The number of individuals competing for becoming a parent.
+     */
+    private final int tournamentSize;
+    /**
+     * The probability of breeding a child by crossover.
+     */
+    private final double crossoverProbability;
+    /**
+     * The probability of each entry of a child to be flipped.
+     */
+    private final double mutationProbability;
+    /**
+     * The number of fittest individuals surviving unchanged.
+     */
+    private final int numberOfElites;
+    /**
+     * The maximum number of fitness values cached.
+     */
+    private final int cacheCapacity;
+    /**
+     * The source of randomness.
+     */
+    private final SplittableRandom random;
+    /**
+     * The pool evaluating the fitness.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The fitness of the decision tables evaluated against {@link #opponents}, evicting the least recently used.
+     */
+    private final FitnessCache cache;
+    /**
+     * The opponent pool the current population has been evaluated against.
+     */
+    private List<GefangenenDilemmaDecisionTable> opponents;
+    /**
+     * The individuals, sorted by descending fitness.
+     */
+    private GefangenenDilemmaDecisionTable[] individuals;
+    /**
+     * The fitness of the individuals.
+     */
+    private double[] fitness;
+    /**
+     * The number of generations computed so far.
+     */
+    private long generation;
+    /**
+     * The number of decision tables evaluated by playing matches so far.
+     */
+    private long evaluations;
+
+    /**
+     * Creates a genetic algorithm with a random initial population and evaluates it. The parameters have been checked
+     * by the builder.
+     *
+     * @param simulator            The simulator playing the matches.
+     * @param fixedOpponents       The fixed part of the opponent pool.
+     * @param coevolvingOpponents  The number of fittest individuals joining the opponent pool.
+     * @param populationSize       The number of individuals.
+     * @param memoryDepth          The memory depth of the individuals.
+     * @param tournamentSize       The number of individuals competing for becoming a parent.
+     * @param crossoverProbability The probability of breeding a child by crossover.
+     * @param mutationProbability  The probability of each entry of a child to be flipped.
+     * @param numberOfElites       The number of fittest individuals surviving unchanged.
+     * @param cacheCapacity        The maximum number of fitness values cached.
+     * @param seed                 The seed of the source of randomness.
+     * @param pool                 The pool evaluating the fitness.
+     */
+    GefangenenDilemmaParallelGeneticAlgorithm(final GefangenenDilemmaDecisionTableSimulator simulator,
+            final List<GefangenenDilemmaDecisionTable> fixedOpponents, final int coevolvingOpponents,
+            final int populationSize, final int memoryDepth, final int tournamentSize,
+            final double crossoverProbability, final double mutationProbability, final int numberOfElites,
+            final int cacheCapacity, final long seed, final ForkJoinPool pool) {
+        this.simulator = simulator;
+        this.fixedOpponents = List.copyOf(fixedOpponents);
+        this.coevolvingOpponents = coevolvingOpponents;
+        this.memoryDepth = memoryDepth;
+        this.tournamentSize = tournamentSize;
+        this.crossoverProbability = crossoverProbability;
+        this.mutationProbability = mutationProbability;
+        this.numberOfElites = numberOfElites;
+        this.cacheCapacity = cacheCapacity;
+        this.random = new SplittableRandom(seed);
+        this.pool = pool;
+        this.cache = new FitnessCache(cacheCapacity);
+        this.opponents = List.of();
+        this.individuals = new GefangenenDilemmaDecisionTable[populationSize];
+        this.fitness = new double[populationSize];
+        this.generation = 0;
+        this.evaluations = 0;
+
+        final int numberOfEntries = 1 << 2 * memoryDepth;
+        for (int individual = 0; individual < populationSize; ++individual) {
+            final long[] entries = new long[(numberOfEntries + Long.SIZE - 1) / Long.SIZE];
+            for (int word = 0; word < entries.length; ++word) {
+                entries[word] = this.random.nextLong() & GefangenenDilemmaParallelGeneticAlgorithm.validBits(
+                        numberOfEntries);
+            }
+            this.individuals[individual] = new GefangenenDilemmaDecisionTable(memoryDepth, entries);
+        }
+        this.evaluate(this.createOpponentPool());
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public int getPopulationSize() {
+        return this.individuals.length;
+    }
+
+    @Override
+    public GefangenenDilemmaDecisionTable getIndividual(final int individual) {
+        Objects.checkIndex(individual, this.individuals.length);
+        return this.individuals[individual];
+    }
+
+    @Override
+    public double getFitness(final int individual) {
+        Objects.checkIndex(individual, this.fitness.length);
+        return this.fitness[individual];
+    }
+
+    @Override
+    public long getNumberOfEvaluations() {
+        return this.evaluations;
+    }
+
+    @Override
+    public void advance(final int generations) {
+        if (generations < 0) {
+            throw new IllegalArgumentException(
+                    String.format("The number of generations must not be negative, but is %d.", generations));
+        }
+        for (int step = 0; step < generations; ++step) {
+            final List<GefangenenDilemmaDecisionTable> nextOpponents = this.createOpponentPool();
+            this.breed();
+            this.evaluate(nextOpponents);
+            this.generation++;
+        }
+    }
+
+    /**
+     * Returns the fixed opponents together with the first individuals of the current population.
+     */
+    private List<GefangenenDilemmaDecisionTable> createOpponentPool() {
+        final List<GefangenenDilemmaDecisionTable> result = new ArrayList<>(this.fixedOpponents);
+        result.addAll(Arrays.asList(this.individuals).subList(0, this.coevolvingOpponents));
+        return result;
+    }
+
+    /**
+     * Replaces all but the elites by children of parents chosen by tournament selection.
+     */
+    private void breed() {
+        final int numberOfEntries = 1 << 2 * this.memoryDepth;
+        final GefangenenDilemmaDecisionTable[] children = Arrays.copyOf(this.individuals, this.individuals.length);
+        for (int child = this.numberOfElites; child < children.length; ++child) {
+            final long[] entries = this.individuals[this.select()].toLongArray();
+            if (this.random.nextDouble() < this.crossoverProbability) {
+                final long[] otherEntries = this.individuals[this.select()].toLongArray();
+                for (int word = 0; word < entries.length; ++word) {
+                    final long mask = this.random.nextLong();
+                    entries[word] = entries[word] & mask | otherEntries[word] & ~mask;
+                }
+            }
+            this.mutate(entries, numberOfEntries);
+            children[child] = new GefangenenDilemmaDecisionTable(this.memoryDepth, entries);
+        }
+        this.individuals = children;
+    }
+
+    /**
+     * Chooses a parent by tournament selection. As the population is sorted by descending fitness, the fittest
+     * competitor is the one with the lowest index.
+     *
+     * @return The index of the parent.
+     */
+    private int select() {
+        int result = this.random.nextInt(this.individuals.length);
+        for (int competitor = 1; competitor < this.tournamentSize; ++competitor) {
+            result = Math.min(result, this.random.nextInt(this.individuals.length));
+        }
+        return result;
+    }
+
+    /**
+     * Flips each entry with the mutation probability. The number of flipped entries is drawn first, then distinct
+     * entries are chosen, so the cost only depends on the number of flips.
+     *
+     * @param entries         The bit-packed entries, updated in place.
+     * @param numberOfEntries The number of entries.
+     */
+    private void mutate(final long[] entries, final int numberOfEntries) {
+        final int flips = GefangenenDilemmaBinomialSampler.sample(this.random, numberOfEntries,
+                this.mutationProbability);
+        if (flips == 0) {
+            return;
+        }
+        // for many flips, the entries to keep are chosen instead
+        final boolean complement = flips > numberOfEntries / 2;
+        final long[] mask = new long[entries.length];
+        if (complement) {
+            Arrays.fill(mask, GefangenenDilemmaParallelGeneticAlgorithm.validBits(numberOfEntries));
+        }
+        int remaining = complement ? numberOfEntries - flips : flips;
+        while (remaining > 0) {
+            final int entry = this.random.nextInt(numberOfEntries);
+            final long bit = 1L << entry;
+            if ((mask[entry / Long.SIZE] & bit) == 0 != complement) {
+                mask[entry / Long.SIZE] ^= bit;
+                remaining--;
+            }
+        }
+        for (int word = 0; word < entries.length; ++word) {
+            entries[word] ^= mask[word];
+        }
+    }
+
+    /**
+     * Computes the fitness of the current population and sorts it by descending fitness.
+     *
+     * @param nextOpponents The opponent pool.
+     */
+    private void evaluate(final List<GefangenenDilemmaDecisionTable> nextOpponents) {
+        if (!nextOpponents.equals(this.opponents)) {
+            this.cache.clear();
+        }
+        this.opponents = nextOpponents;
+
+        final Map<GefangenenDilemmaDecisionTable, Integer> pendingIndices = new HashMap<>();
+        final List<GefangenenDilemmaDecisionTable> pending = new ArrayList<>();
+        final int[] pendingIndexOfIndividual = new int[this.individuals.length];
+        for (int individual = 0; individual < this.individuals.length; ++individual) {
+            final GefangenenDilemmaDecisionTable table = this.individuals[individual];
+            final Double cached = this.cache.get(table);
+            if (cached == null) {
+                final Integer pendingIndex = pendingIndices.get(table);
+                if (pendingIndex == null) {
+                    pendingIndices.put(table, pending.size());
+                    pendingIndexOfIndividual[individual] = pending.size();
+                    pending.add(table);
+                } else {
+                    pendingIndexOfIndividual[individual] = pendingIndex;
+                }
+            } else {
+                pendingIndexOfIndividual[individual] = -1;
+                this.fitness[individual] = cached;
+            }
+        }
+
+        final double[] pendingFitness = new double[pending.size()];
+        if (!pending.isEmpty()) {
+            final int threshold = Math.max(
+                    (GefangenenDilemmaParallelGeneticAlgorithm.MIN_MATCHES_PER_TASK + nextOpponents.size() - 1)
+                            / nextOpponents.size(),
+                    pending.size() / (this.pool.getParallelism()
+                            * GefangenenDilemmaParallelGeneticAlgorithm.TASKS_PER_WORKER));
+            this.pool.invoke(new EvaluationTask(pending, pendingFitness, 0, pending.size(), threshold));
+            this.evaluations += pending.size();
+        }
+        for (int individual = 0; individual < this.individuals.length; ++individual) {
+            if (pendingIndexOfIndividual[individual] >= 0) {
+                this.fitness[individual] = pendingFitness[pendingIndexOfIndividual[individual]];
+            }
+        }
+        if (this.cacheCapacity > 0) {
+            for (int index = 0; index < pending.size(); ++index) {
+                this.cache.put(pending.get(index), pendingFitness[index]);
+            }
+        }
+        this.sort();
+    }
+
+    /**
+     * Computes the fitness of a range of decision tables.
+     *
+     * @param tables  The decision tables.
+     * @param fitness Receives the fitness of the decision tables.
+     * @param from    The first decision table (inclusive).
+     * @param to      The last decision table (exclusive).
+     */
+    private void evaluate(final List<GefangenenDilemmaDecisionTable> tables, final double[] fitness, final int from,
+            final int to) {
+        final int numberOfOpponents = this.opponents.size();
+        final List<GefangenenDilemmaDecisionTable> firstPlayerTables = new ArrayList<>((to - from)
+                * numberOfOpponents);
+        final List<GefangenenDilemmaDecisionTable> secondPlayerTables = new ArrayList<>((to - from)
+                * numberOfOpponents);
+        for (int table = from; table < to; ++table) {
+            for (final GefangenenDilemmaDecisionTable opponent : this.opponents) {
+                firstPlayerTables.add(tables.get(table));
+                secondPlayerTables.add(opponent);
+            }
+        }
+        final List<GefangenenDilemmaMatchResult> results = this.simulator.simulate(firstPlayerTables,
+                secondPlayerTables);
+        for (int table = from; table < to; ++table) {
+            double sum = 0.0;
+            for (int opponent = 0; opponent < numberOfOpponents; ++opponent) {
+                sum += results.get((table - from) * numberOfOpponents + opponent).getFirstPlayerOutcome();
+            }
+            fitness[table] = sum / numberOfOpponents;
+        }
+    }
+
+    /**
+     * Sorts the population by descending fitness. Individuals of equal fitness keep their order.
+     */
+    private void sort() {
+        final Integer[] order = new Integer[this.individuals.length];
+        for (int individual = 0; individual < order.length; ++individual) {
+            order[individual] = individual;
+        }
+        Arrays.sort(order, (final Integer first, final Integer second) -> Double.compare(this.fitness[second],
+                this.fitness[first]));
+        final GefangenenDilemmaDecisionTable[] sortedIndividuals = new GefangenenDilemmaDecisionTable[order.length];
+        final double[] sortedFitness = new double[order.length];
+        for (int rank = 0; rank < order.length; ++rank) {
+            sortedIndividuals[rank] = this.individuals[order[rank]];
+            sortedFitness[rank] = this.fitness[order[rank]];
+        }
+        this.individuals = sortedIndividuals;
+        this.fitness = sortedFitness;
+    }
+
+    /**
+     * Returns a mask of the bits of a word used by the entries of a decision table.
+     *
+     * @param numberOfEntries The number of entries of the decision table.
+     */
+    private static long validBits(final int numberOfEntries) {
+        return numberOfEntries >= Long.SIZE ? -1L : (1L << numberOfEntries) - 1;
+    }
+
+    /**
+     * Caches fitness values up to a fixed capacity, evicting the least recently used one.
+     */
+    private static final class FitnessCache extends LinkedHashMap<GefangenenDilemmaDecisionTable, Double> {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The maximum number of fitness values cached.
+         */
+        private final int capacity;
+
+        /**
+         * Creates an empty cache.
+         *
+         * @param capacity The maximum number of fitness values cached.
+         */
+        FitnessCache(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<GefangenenDilemmaDecisionTable, Double> eldest) {
+            return this.size() > this.capacity;
+        }
+    }
+
+    /**
+     * Evaluates a range of decision tables.
+     */
+    private final class EvaluationTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The decision tables.
+         */
+        private final List<GefangenenDilemmaDecisionTable> tables;
+        /**
+         * Receives the fitness of the decision tables.
+         */
+        private final double[] fitness;
+        /**
+         * The first decision table of the range (inclusive).
+         */
+        private final int from;
+        /**
+         * The last decision table of the range (exclusive).
+         */
+        private final int to;
+        /**
+         * The number of decision tables below which the range is not split any further.
+         */
+        private final int threshold;
+
+        /**
+         * Creates a task.
+         *
+         * @param tables    The decision tables.
+         * @param fitness   Receives the fitness of the decision tables.
+         * @param from      The first decision table of the range (inclusive).
+         * @param to        The last decision table of the range (exclusive).
+         * @param threshold The number of decision tables below which the range is not split any further.
+         */
+        EvaluationTask(final List<GefangenenDilemmaDecisionTable> tables, final double[] fitness, final int from,
+                final int to, final int threshold) {
+            this.tables = tables;
+            this.fitness = fitness;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from > this.threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+                RecursiveAction.invokeAll(
+                        new EvaluationTask(this.tables, this.fitness, this.from, middle, this.threshold),
+                        new EvaluationTask(this.tables, this.fitness, middle, this.to, this.threshold));
+            } else {
+                GefangenenDilemmaParallelGeneticAlgorithm.this.evaluate(this.tables, this.fitness, this.from,
+                        this.to);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+
+/**
+ * A Wright-Fisher process: in each step, the whole population is replaced by a new generation whose individuals
+ * choose their parents independently and proportionally to fitness.
+ * <p>
+ * The new counts are drawn from a multinomial distribution as a sequence of binomially distributed numbers, so a
+ * generation costs time quadratic in the number of strategies, independent of the size of the population. Once a
+ * strategy has taken over the population, the remaining generations are skipped.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class GefangenenDilemmaWrightFisherProcess extends GefangenenDilemmaAbstractPopulationProcess {
+
+    /**
+     * Creates a Wright-Fisher process.
+     *
+     * @param payoffTable        The payoff table.
+     * @param selectionIntensity The selection intensity, not negative.
+     * @param seed               The seed of the source of randomness.
+     */
+    public GefangenenDilemmaWrightFisherProcess(final GefangenenDilemmaPayoffTable payoffTable,
+            final double selectionIntensity, final long seed) {
+        super(payoffTable, selectionIntensity, seed);
+    }
+
+    @Override
+    void advance(final int[] counts, final int populationSize, final double[] payoffSums, final double[] weights,
+            final int steps) {
+        for (int step = 0; step < steps && !GefangenenDilemmaAbstractPopulationProcess.isFixated(counts,
+                populationSize); ++step) {
+            this.computePayoffSums(counts, payoffSums);
+            double remainingWeight = this.computeWeights(counts, populationSize, payoffSums, weights);
+            int remainingIndividuals = populationSize;
+            for (int strategy = 0; strategy < counts.length - 1; ++strategy) {
+                final double probability = remainingWeight > 0.0
+                        ? Math.min(1.0, weights[strategy] / remainingWeight)
+                        : 0.0;
+                counts[strategy] = GefangenenDilemmaBinomialSampler.sample(this.getRandom(), remainingIndividuals,
+                        probability);
+                remainingIndividuals -= counts[strategy];
+                remainingWeight -= weights[strategy];
+            }
+            counts[counts.length - 1] = remainingIndividuals;
+        }
+    }
+}
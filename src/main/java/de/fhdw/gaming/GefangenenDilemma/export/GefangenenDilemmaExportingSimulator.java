@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaRoundListener;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Writes the result of every match played by another simulator to a {@link GefangenenDilemmaResultWriter}.
+ * <p>
+ * Passing an exporting simulator to a tournament, or to each tournament of a parameter sweep, streams all match
+ * results to the writer while they are produced, together with the payoff matrices of the wrapped simulator.
+ */
+public final class GefangenenDilemmaExportingSimulator implements GefangenenDilemmaMatchSimulator {
+
+    /**
+     * The simulator playing the matches.
+     */
+    private final GefangenenDilemmaMatchSimulator simulator;
+    /**
+     * The writer receiving the results.
+     */
+    private final GefangenenDilemmaResultWriter writer;
+
+    /**
+     * Creates an exporting simulator.
+     *
+     * @param simulator The simulator playing the matches.
+     * @param writer    The writer receiving the results.
+     */
+    public GefangenenDilemmaExportingSimulator(final GefangenenDilemmaMatchSimulator simulator,
+            final GefangenenDilemmaResultWriter writer) {
+        this.simulator = Objects.requireNonNull(simulator, "simulator");
+        this.writer = Objects.requireNonNull(writer, "writer");
+    }
+
+    @Override
+    public GefangenenDilemmaPayoffMatrix getFirstPlayerOutcomes() {
+        return this.simulator.getFirstPlayerOutcomes();
+    }
+
+    @Override
+    public GefangenenDilemmaPayoffMatrix getSecondPlayerOutcomes() {
+        return this.simulator.getSecondPlayerOutcomes();
+    }
+
+    @Override
+    public GefangenenDilemmaMatchResult simulate(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy) throws GameException, InterruptedException {
+        return this.export(gameId, firstPlayerStrategy, secondPlayerStrategy,
+                this.simulator.simulate(gameId, firstPlayerStrategy, secondPlayerStrategy));
+    }
+
+    @Override
+    public GefangenenDilemmaMatchResult simulate(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy, final GefangenenDilemmaRoundListener listener)
+            throws GameException, InterruptedException {
+        return this.export(gameId, firstPlayerStrategy, secondPlayerStrategy,
+                this.simulator.simulate(gameId, firstPlayerStrategy, secondPlayerStrategy, listener));
+    }
+
+    /**
+     * Writes the result of a match.
+     *
+     * @param gameId               The ID of the match.
+     * @param firstPlayerStrategy  The strategy of the first player.
+     * @param secondPlayerStrategy The strategy of the second player.
+     * @param result               The result of the match.
+     * @return The result of the match.
+     * @throws GameException if the result cannot be written.
+     */
+    private GefangenenDilemmaMatchResult export(final int gameId, final GefangenenDilemmaStrategy firstPlayerStrategy,
+            final GefangenenDilemmaStrategy secondPlayerStrategy, final GefangenenDilemmaMatchResult result)
+            throws GameException {
+        try {
+            this.writer.write(gameId, firstPlayerStrategy, secondPlayerStrategy,
+                    this.simulator.getFirstPlayerOutcomes(), this.simulator.getSecondPlayerOutcomes(), result);
+        } catch (final IOException e) {
+            throw new GameException(String.format("Exporting the result of match %d failed: %s", gameId,
+                    e.getMessage()), e);
+        }
+        return result;
+    }
+}
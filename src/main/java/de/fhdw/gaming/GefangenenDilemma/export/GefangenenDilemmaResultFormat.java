@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+/**
+ * The binary format of exported match results.
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by row groups and a terminating zero. All framing
+ * integers are big-endian. A row group consists of:
+ * <ol>
+ * <li>the number of rows,</li>
+ * <li>the number of strategy names first used in this row group, followed by the names in modified UTF-8; names are
+ * numbered consecutively across row groups, starting at zero,</li>
+ * <li>the number of payoff matrices used in this row group, followed by their outcomes as four doubles each, in the
+ * order of {@link de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix#getOutcome(int)}; matrices are
+ * numbered within the row group, starting at zero,</li>
+ * <li>one block per column in the order of {@link #INT_COLUMNS} and {@link #DOUBLE_COLUMNS}: the length of the
+ * block, followed by the column values in little-endian byte order, byte-shuffled and compressed with
+ * {@link java.util.zip.Deflater}.</li>
+ * </ol>
+ * Byte shuffling stores the first bytes of all values, then the second bytes, and so on, so similar values produce
+ * long runs that compress well.
+ */
+final class GefangenenDilemmaResultFormat {
+
+    /**
+     * Identifies a file of exported results.
+     */
+    static final int MAGIC = 0x47445253;
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 1;
+    /**
+     * The number of integer columns: game ID, first and second strategy, first and second payoff matrix, rounds.
+     */
+    static final int INT_COLUMNS = 6;
+    /**
+     * The number of floating-point columns: first and second score, first and second cooperation rate.
+     */
+    static final int DOUBLE_COLUMNS = 4;
+    /**
+     * The column of the game IDs.
+     */
+    static final int GAME_ID = 0;
+    /**
+     * The column of the dictionary codes of the strategies of the first players.
+     */
+    static final int FIRST_STRATEGY = 1;
+    /**
+     * The column of the dictionary codes of the strategies of the second players.
+     */
+    static final int SECOND_STRATEGY = 2;
+    /**
+     * The column of the row group codes of the payoff matrices of the first players.
+     */
+    static final int FIRST_PAYOFF_MATRIX = 3;
+    /**
+     * The column of the row group codes of the payoff matrices of the second players.
+     */
+    static final int SECOND_PAYOFF_MATRIX = 4;
+    /**
+     * The column of the numbers of rounds.
+     */
+    static final int ROUNDS = 5;
+    /**
+     * The column of the scores of the first players.
+     */
+    static final int FIRST_SCORE = 0;
+    /**
+     * The column of the scores of the second players.
+     */
+    static final int SECOND_SCORE = 1;
+    /**
+     * The column of the cooperation rates of the first players.
+     */
+    static final int FIRST_COOPERATION_RATE = 2;
+    /**
+     * The column of the cooperation rates of the second players.
+     */
+    static final int SECOND_COOPERATION_RATE = 3;
+
+    /**
+     * Prevents instantiation.
+     */
+    private GefangenenDilemmaResultFormat() {
+    }
+
+    /**
+     * Byte-shuffles values.
+     *
+     * @param source The values in little-endian byte order.
+     * @param target Receives the shuffled bytes.
+     * @param count  The number of values.
+     * @param width  The number of bytes per value.
+     */
+    static void shuffle(final byte[] source, final byte[] target, final int count, final int width) {
+        for (int value = 0; value < count; ++value) {
+            for (int b = 0; b < width; ++b) {
+                target[b * count + value] = source[value * width + b];
+            }
+        }
+    }
+
+    /**
+     * Reverts {@link #shuffle(byte[], byte[], int, int)}.
+     *
+     * @param source The shuffled bytes.
+     * @param target Receives the values in little-endian byte order.
+     * @param count  The number of values.
+     * @param width  The number of bytes per value.
+     */
+    static void unshuffle(final byte[] source, final byte[] target, final int count, final int width) {
+        for (int value = 0; value < count; ++value) {
+            for (int b = 0; b < width; ++b) {
+                target[value * width + b] = source[b * count + value];
+            }
+        }
+    }
+}
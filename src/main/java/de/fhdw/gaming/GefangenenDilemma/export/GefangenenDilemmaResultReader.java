@@ -0,0 +1,295 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+
+/**
+ * Reads match results written by {@link GefangenenDilemmaResultWriter}.
+ * <p>
+ * The results are read one row group at a time, so files of any size can be read. A row group is decompressed column
+ * by column into primitive arrays, and the getters return the values of the current row.
+ */
+public final class GefangenenDilemmaResultReader implements AutoCloseable {
+
+    /**
+     * The stream providing the results.
+     */
+    private final DataInputStream input;
+    /**
+     * The strategy names, indexed by dictionary code.
+     */
+    private final List<String> dictionary;
+    /**
+     * The payoff matrices of the current row group, indexed by their codes.
+     */
+    private final List<GefangenenDilemmaPayoffMatrix> matrices;
+    /**
+     * Decompresses the columns.
+     */
+    private final Inflater inflater;
+    /**
+     * The integer columns of the current row group.
+     */
+    private int[][] intColumns;
+    /**
+     * The floating-point columns of the current row group.
+     */
+    private double[][] doubleColumns;
+    /**
+     * The number of rows in the current row group.
+     */
+    private int rows;
+    /**
+     * The current row within the current row group, or {@code -1} before the first row.
+     */
+    private int row;
+    /**
+     * {@code true} if the end of the file has been reached.
+     */
+    private boolean finished;
+
+    /**
+     * Creates a reader.
+     *
+     * @param input The stream providing the results. It is closed when the reader is closed.
+     * @throws IOException if the stream does not start with a header of a supported version.
+     */
+    public GefangenenDilemmaResultReader(final InputStream input) throws IOException {
+        this.input = new DataInputStream(new BufferedInputStream(input));
+        this.dictionary = new ArrayList<>();
+        this.matrices = new ArrayList<>();
+        this.inflater = new Inflater();
+        this.intColumns = new int[GefangenenDilemmaResultFormat.INT_COLUMNS][0];
+        this.doubleColumns = new double[GefangenenDilemmaResultFormat.DOUBLE_COLUMNS][0];
+        this.row = -1;
+
+        if (this.input.readInt() != GefangenenDilemmaResultFormat.MAGIC) {
+            throw new IOException("The stream does not contain exported results.");
+        }
+        final int version = this.input.readInt();
+        if (version != GefangenenDilemmaResultFormat.VERSION) {
+            throw new IOException(String.format("Unsupported version %d.", version));
+        }
+    }
+
+    /**
+     * Moves to the next row.
+     *
+     * @return {@code false} if there are no more rows.
+     * @throws IOException if reading fails or the stream is corrupt.
+     */
+    public boolean next() throws IOException {
+        if (this.row + 1 < this.rows) {
+            this.row++;
+            return true;
+        }
+        if (this.finished || !this.readRowGroup()) {
+            this.finished = true;
+            return false;
+        }
+        this.row = 0;
+        return true;
+    }
+
+    /**
+     * Returns the ID of the match of the current row.
+     */
+    public int getGameId() {
+        return this.getInt(GefangenenDilemmaResultFormat.GAME_ID);
+    }
+
+    /**
+     * Returns the name of the strategy of the first player of the current row.
+     */
+    public String getFirstStrategy() {
+        return this.dictionary.get(this.getInt(GefangenenDilemmaResultFormat.FIRST_STRATEGY));
+    }
+
+    /**
+     * Returns the name of the strategy of the second player of the current row.
+     */
+    public String getSecondStrategy() {
+        return this.dictionary.get(this.getInt(GefangenenDilemmaResultFormat.SECOND_STRATEGY));
+    }
+
+    /**
+     * Returns the payoff matrix of the first player of the current row.
+     */
+    public GefangenenDilemmaPayoffMatrix getFirstPlayerOutcomes() {
+        return this.matrices.get(this.getInt(GefangenenDilemmaResultFormat.FIRST_PAYOFF_MATRIX));
+    }
+
+    /**
+     * Returns the payoff matrix of the second player of the current row.
+     */
+    public GefangenenDilemmaPayoffMatrix getSecondPlayerOutcomes() {
+        return this.matrices.get(this.getInt(GefangenenDilemmaResultFormat.SECOND_PAYOFF_MATRIX));
+    }
+
+    /**
+     * Returns the number of rounds of the current row.
+     */
+    public int getNumberOfRounds() {
+        return this.getInt(GefangenenDilemmaResultFormat.ROUNDS);
+    }
+
+    /**
+     * Returns the total outcome of the first player of the current row.
+     */
+    public double getFirstPlayerScore() {
+        return this.getDouble(GefangenenDilemmaResultFormat.FIRST_SCORE);
+    }
+
+    /**
+     * Returns the total outcome of the second player of the current row.
+     */
+    public double getSecondPlayerScore() {
+        return this.getDouble(GefangenenDilemmaResultFormat.SECOND_SCORE);
+    }
+
+    /**
+     * Returns the share of rounds in which the first player of the current row remained silent.
+     */
+    public double getFirstPlayerCooperationRate() {
+        return this.getDouble(GefangenenDilemmaResultFormat.FIRST_COOPERATION_RATE);
+    }
+
+    /**
+     * Returns the share of rounds in which the second player of the current row remained silent.
+     */
+    public double getSecondPlayerCooperationRate() {
+        return this.getDouble(GefangenenDilemmaResultFormat.SECOND_COOPERATION_RATE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.inflater.end();
+        this.input.close();
+    }
+
+    /**
+     * Returns a value of an integer column in the current row.
+     *
+     * @param column The column.
+     * @throws IllegalStateException if the reader is not positioned at a row.
+     */
+    private int getInt(final int column) {
+        this.checkPositioned();
+        return this.intColumns[column][this.row];
+    }
+
+    /**
+     * Returns a value of a floating-point column in the current row.
+     *
+     * @param column The column.
+     * @throws IllegalStateException if the reader is not positioned at a row.
+     */
+    private double getDouble(final int column) {
+        this.checkPositioned();
+        return this.doubleColumns[column][this.row];
+    }
+
+    /**
+     * Checks that the reader is positioned at a row.
+     *
+     * @throws IllegalStateException if {@link #next()} has not returned {@code true}.
+     */
+    private void checkPositioned() {
+        if (this.row < 0 || this.finished) {
+            throw new IllegalStateException("The reader is not positioned at a row.");
+        }
+    }
+
+    /**
+     * Reads the next row group.
+     *
+     * @return {@code false} if the end of the file has been reached.
+     * @throws IOException if reading fails or the stream is corrupt.
+     */
+    private boolean readRowGroup() throws IOException {
+        final int count = this.input.readInt();
+        if (count == 0) {
+            return false;
+        }
+        if (count < 0) {
+            throw new IOException(String.format("Invalid number of rows: %d.", count));
+        }
+        final int names = this.input.readInt();
+        for (int name = 0; name < names; ++name) {
+            this.dictionary.add(this.input.readUTF());
+        }
+        final int numberOfMatrices = this.input.readInt();
+        if (numberOfMatrices < 0) {
+            throw new IOException(String.format("Invalid number of payoff matrices: %d.", numberOfMatrices));
+        }
+        this.matrices.clear();
+        for (int matrix = 0; matrix < numberOfMatrices; ++matrix) {
+            this.matrices.add(GefangenenDilemmaPayoffMatrix.of(this.input.readDouble(), this.input.readDouble(),
+                    this.input.readDouble(), this.input.readDouble()));
+        }
+
+        if (this.intColumns[0].length < count) {
+            this.intColumns = new int[GefangenenDilemmaResultFormat.INT_COLUMNS][count];
+            this.doubleColumns = new double[GefangenenDilemmaResultFormat.DOUBLE_COLUMNS][count];
+        }
+        for (final int[] column : this.intColumns) {
+            this.readColumn(count, Integer.BYTES).asIntBuffer().get(column, 0, count);
+        }
+        for (final double[] column : this.doubleColumns) {
+            this.readColumn(count, Double.BYTES).asDoubleBuffer().get(column, 0, count);
+        }
+        this.rows = count;
+        return true;
+    }
+
+    /**
+     * Reads, decompresses and unshuffles a column.
+     *
+     * @param count The number of values.
+     * @param width The number of bytes per value.
+     * @return The values in little-endian byte order.
+     * @throws IOException if reading fails or the stream is corrupt.
+     */
+    private ByteBuffer readColumn(final int count, final int width) throws IOException {
+        final byte[] compressed = new byte[this.input.readInt()];
+        this.input.readFully(compressed);
+        final byte[] shuffled = new byte[count * width];
+        this.inflater.reset();
+        this.inflater.setInput(compressed);
+        try {
+            if (this.inflater.inflate(shuffled) != shuffled.length || !this.inflater.finished()) {
+                throw new IOException("A column does not have the expected length.");
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("A column is corrupt.", e);
+        }
+        final byte[] values = new byte[shuffled.length];
+        GefangenenDilemmaResultFormat.unshuffle(shuffled, values, count, width);
+        return ByteBuffer.wrap(values).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,426 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+
+/**
+ * Writes match results column by column, see {@link GefangenenDilemmaResultFormat} for the format.
+ * <p>
+ * Results are collected in primitive arrays, one per column, until a row group is full; the row group is then
+ * compressed and written. Strategies are identified by their {@link Object#toString() names}, which are
+ * dictionary-encoded: each name is written once, and rows refer to it by number. Payoff matrices are
+ * dictionary-encoded per row group by their outcomes, so an exported file does not depend on the process that wrote
+ * it.
+ * <p>
+ * Results of concurrently played matches may be written by the threads playing them. Two row groups are held in
+ * memory: while a full one is compressed and written, the next one is being filled, so only adding a row is
+ * serialized between the writing threads.
+ */
+public final class GefangenenDilemmaResultWriter implements AutoCloseable {
+
+    /**
+     * The default number of rows per row group.
+     */
+    public static final int DEFAULT_ROW_GROUP_SIZE = 1 << 16;
+
+    /**
+     * The stream receiving the results.
+     */
+    private final DataOutputStream output;
+    /**
+     * The number of rows per row group.
+     */
+    private final int rowGroupSize;
+    /**
+     * Guards {@link #current}, {@link #dictionary} and {@link #closed}. Acquired before {@link #outputLock}.
+     */
+    private final ReentrantLock rowLock;
+    /**
+     * Guards {@link #spare}, the stream and the buffers used for compressing.
+     */
+    private final ReentrantLock outputLock;
+    /**
+     * The row group being filled.
+     */
+    private RowGroup current;
+    /**
+     * The row group to be filled next, or {@code null} while it is being written.
+     */
+    private RowGroup spare;
+    /**
+     * The dictionary codes of the strategy names used so far.
+     */
+    private final Map<String, Integer> dictionary;
+    /**
+     * Compresses the columns.
+     */
+    private final Deflater deflater;
+    /**
+     * Holds a column in little-endian byte order.
+     */
+    private final ByteBuffer raw;
+    /**
+     * Holds a byte-shuffled column.
+     */
+    private final byte[] shuffled;
+    /**
+     * Receives a compressed column.
+     */
+    private final ByteArrayOutputStream compressed;
+    /**
+     * Receives the output of the {@link Deflater}.
+     */
+    private final byte[] chunk;
+    /**
+     * {@code true} if the writer has been closed.
+     */
+    private boolean closed;
+
+    /**
+     * Creates a writer with the default row group size.
+     *
+     * @param output The stream receiving the results. It is closed when the writer is closed.
+     * @throws IOException if writing the header fails.
+     */
+    public GefangenenDilemmaResultWriter(final OutputStream output) throws IOException {
+        this(output, GefangenenDilemmaResultWriter.DEFAULT_ROW_GROUP_SIZE);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param output       The stream receiving the results. It is closed when the writer is closed.
+     * @param rowGroupSize The number of rows per row group.
+     * @throws IOException if writing the header fails.
+     */
+    public GefangenenDilemmaResultWriter(final OutputStream output, final int rowGroupSize) throws IOException {
+        if (rowGroupSize < 1 || rowGroupSize > Integer.MAX_VALUE / Double.BYTES) {
+            throw new IllegalArgumentException(String.format("Invalid row group size: %d.", rowGroupSize));
+        }
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        this.rowGroupSize = rowGroupSize;
+        this.rowLock = new ReentrantLock();
+        this.outputLock = new ReentrantLock();
+        this.current = new RowGroup(rowGroupSize);
+        this.spare = new RowGroup(rowGroupSize);
+        this.dictionary = new HashMap<>();
+        this.deflater = new Deflater();
+        this.raw = ByteBuffer.allocate(rowGroupSize * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.shuffled = new byte[rowGroupSize * Double.BYTES];
+        this.compressed = new ByteArrayOutputStream();
+        this.chunk = new byte[8192];
+
+        this.output.writeInt(GefangenenDilemmaResultFormat.MAGIC);
+        this.output.writeInt(GefangenenDilemmaResultFormat.VERSION);
+    }
+
+    /**
+     * Writes the result of a match.
+     *
+     * @param gameId             The ID of the match.
+     * @param firstStrategy      The strategy of the first player.
+     * @param secondStrategy     The strategy of the second player.
+     * @param firstPayoffMatrix  The payoff matrix of the first player.
+     * @param secondPayoffMatrix The payoff matrix of the second player.
+     * @param result             The result of the match.
+     * @throws IOException if writing a row group fails.
+     */
+    public void write(final int gameId, final GefangenenDilemmaStrategy firstStrategy,
+            final GefangenenDilemmaStrategy secondStrategy, final GefangenenDilemmaPayoffMatrix firstPayoffMatrix,
+            final GefangenenDilemmaPayoffMatrix secondPayoffMatrix, final GefangenenDilemmaMatchResult result)
+            throws IOException {
+        final RowGroup full;
+        this.rowLock.lock();
+        try {
+            if (this.closed) {
+                throw new IllegalStateException("The writer has been closed.");
+            }
+            final RowGroup group = this.current;
+            final int row = group.rows;
+            group.intColumns[GefangenenDilemmaResultFormat.GAME_ID][row] = gameId;
+            group.intColumns[GefangenenDilemmaResultFormat.FIRST_STRATEGY][row] = this.encode(group, firstStrategy);
+            group.intColumns[GefangenenDilemmaResultFormat.SECOND_STRATEGY][row] = this.encode(group, secondStrategy);
+            group.intColumns[GefangenenDilemmaResultFormat.FIRST_PAYOFF_MATRIX][row] = group.encode(firstPayoffMatrix);
+            group.intColumns[GefangenenDilemmaResultFormat.SECOND_PAYOFF_MATRIX][row] =
+                    group.encode(secondPayoffMatrix);
+            group.intColumns[GefangenenDilemmaResultFormat.ROUNDS][row] = result.getNumberOfRounds();
+            group.doubleColumns[GefangenenDilemmaResultFormat.FIRST_SCORE][row] = result.getFirstPlayerOutcome();
+            group.doubleColumns[GefangenenDilemmaResultFormat.SECOND_SCORE][row] = result.getSecondPlayerOutcome();
+            group.doubleColumns[GefangenenDilemmaResultFormat.FIRST_COOPERATION_RATE][row] =
+                    (double) result.getFirstPlayerSilentAnswers() / result.getNumberOfRounds();
+            group.doubleColumns[GefangenenDilemmaResultFormat.SECOND_COOPERATION_RATE][row] =
+                    (double) result.getSecondPlayerSilentAnswers() / result.getNumberOfRounds();
+            group.rows++;
+            full = group.rows == this.rowGroupSize ? this.swap() : null;
+        } finally {
+            this.rowLock.unlock();
+        }
+        if (full != null) {
+            this.writeAndRelease(full);
+        }
+    }
+
+    /**
+     * Writes the results collected so far as a row group and flushes the stream.
+     *
+     * @throws IOException if writing fails.
+     */
+    public void flush() throws IOException {
+        final RowGroup full;
+        this.rowLock.lock();
+        try {
+            full = this.swap();
+        } finally {
+            this.rowLock.unlock();
+        }
+        try {
+            if (full.rows > 0) {
+                this.writeRowGroup(full);
+            }
+            this.output.flush();
+        } finally {
+            this.release(full);
+        }
+    }
+
+    /**
+     * Writes the remaining results and the end of the file, and closes the stream.
+     *
+     * @throws IOException if writing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        final RowGroup full;
+        this.rowLock.lock();
+        try {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            full = this.swap();
+        } finally {
+            this.rowLock.unlock();
+        }
+        try {
+            if (full.rows > 0) {
+                this.writeRowGroup(full);
+            }
+            this.output.writeInt(0);
+        } finally {
+            this.deflater.end();
+            this.output.close();
+            this.release(full);
+        }
+    }
+
+    /**
+     * Returns the dictionary code of the name of a strategy, assigning a new code to a new name.
+     *
+     * @param group    The row group using the name.
+     * @param strategy The strategy.
+     */
+    private int encode(final RowGroup group, final GefangenenDilemmaStrategy strategy) {
+        final String name = String.valueOf(strategy);
+        final Integer code = this.dictionary.get(name);
+        if (code != null) {
+            return code;
+        }
+        final int newCode = this.dictionary.size();
+        this.dictionary.put(name, newCode);
+        group.newNames.add(name);
+        return newCode;
+    }
+
+    /**
+     * Replaces the current row group by the spare one. Must be called holding {@link #rowLock}; returns holding
+     * {@link #outputLock} as well, which is acquired before any later row group can be swapped, so row groups are
+     * written in the order they are filled.
+     *
+     * @return The row group replaced.
+     */
+    private RowGroup swap() {
+        this.outputLock.lock();
+        final RowGroup full = this.current;
+        this.current = this.spare;
+        this.spare = null;
+        return full;
+    }
+
+    /**
+     * Writes a row group swapped out by {@link #swap()} and releases {@link #outputLock}.
+     *
+     * @param full The row group.
+     * @throws IOException if writing fails.
+     */
+    private void writeAndRelease(final RowGroup full) throws IOException {
+        try {
+            this.writeRowGroup(full);
+        } finally {
+            this.release(full);
+        }
+    }
+
+    /**
+     * Makes a written row group the spare one and releases {@link #outputLock}.
+     *
+     * @param full The row group.
+     */
+    private void release(final RowGroup full) {
+        full.clear();
+        this.spare = full;
+        this.outputLock.unlock();
+    }
+
+    /**
+     * Writes a row group. Must be called holding {@link #outputLock}.
+     *
+     * @param group The row group.
+     * @throws IOException if writing fails.
+     */
+    private void writeRowGroup(final RowGroup group) throws IOException {
+        this.output.writeInt(group.rows);
+        this.output.writeInt(group.newNames.size());
+        for (final String name : group.newNames) {
+            this.output.writeUTF(name);
+        }
+        this.output.writeInt(group.matrices.size());
+        for (final GefangenenDilemmaPayoffMatrix matrix : group.matrices) {
+            for (int index = 0; index < GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES; ++index) {
+                this.output.writeDouble(matrix.getOutcome(index));
+            }
+        }
+
+        for (final int[] column : group.intColumns) {
+            this.raw.clear();
+            this.raw.asIntBuffer().put(column, 0, group.rows);
+            this.writeColumn(group.rows, Integer.BYTES);
+        }
+        for (final double[] column : group.doubleColumns) {
+            this.raw.clear();
+            this.raw.asDoubleBuffer().put(column, 0, group.rows);
+            this.writeColumn(group.rows, Double.BYTES);
+        }
+    }
+
+    /**
+     * Shuffles, compresses and writes the column held by {@link #raw}.
+     *
+     * @param rows  The number of values.
+     * @param width The number of bytes per value.
+     * @throws IOException if writing fails.
+     */
+    private void writeColumn(final int rows, final int width) throws IOException {
+        final int length = rows * width;
+        GefangenenDilemmaResultFormat.shuffle(this.raw.array(), this.shuffled, rows, width);
+        this.deflater.reset();
+        this.deflater.setInput(this.shuffled, 0, length);
+        this.deflater.finish();
+        this.compressed.reset();
+        while (!this.deflater.finished()) {
+            final int count = this.deflater.deflate(this.chunk);
+            this.compressed.write(this.chunk, 0, count);
+        }
+        this.output.writeInt(this.compressed.size());
+        this.compressed.writeTo(this.output);
+    }
+
+    /**
+     * The rows of a row group and the dictionary entries first used by them.
+     */
+    private static final class RowGroup {
+
+        /**
+         * The integer columns.
+         */
+        private final int[][] intColumns;
+        /**
+         * The floating-point columns.
+         */
+        private final double[][] doubleColumns;
+        /**
+         * The number of rows.
+         */
+        private int rows;
+        /**
+         * The strategy names first used in this row group.
+         */
+        private final List<String> newNames;
+        /**
+         * The payoff matrices used in this row group, indexed by their codes.
+         */
+        private final List<GefangenenDilemmaPayoffMatrix> matrices;
+        /**
+         * The codes of the payoff matrices used in this row group.
+         */
+        private final Map<GefangenenDilemmaPayoffMatrix, Integer> matrixCodes;
+
+        /**
+         * Creates an empty row group.
+         *
+         * @param capacity The maximum number of rows.
+         */
+        RowGroup(final int capacity) {
+            this.intColumns = new int[GefangenenDilemmaResultFormat.INT_COLUMNS][capacity];
+            this.doubleColumns = new double[GefangenenDilemmaResultFormat.DOUBLE_COLUMNS][capacity];
+            this.newNames = new ArrayList<>();
+            this.matrices = new ArrayList<>();
+            this.matrixCodes = new HashMap<>();
+        }
+
+        /**
+         * Returns the code of a payoff matrix within this row group, assigning a new code to a new matrix.
+         *
+         * @param matrix The payoff matrix.
+         */
+        int encode(final GefangenenDilemmaPayoffMatrix matrix) {
+            final Integer code = this.matrixCodes.get(matrix);
+            if (code != null) {
+                return code;
+            }
+            final int newCode = this.matrices.size();
+            this.matrixCodes.put(matrix, newCode);
+            this.matrices.add(matrix);
+            return newCode;
+        }
+
+        /**
+         * Removes all rows and dictionary entries.
+         */
+        void clear() {
+            this.rows = 0;
+            this.newNames.clear();
+            this.matrices.clear();
+            this.matrixCodes.clear();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaRoundListener;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * Appends the rounds of matches to an append-only binary log, see {@link GefangenenDilemmaMatchLogFormat} for the
+ * format.
+ * <p>
+ * Segments are memory-mapped, so appending a record copies 40 bytes into the page cache without a system call. Each
+ * record claims its slot by incrementing an atomic counter, so any number of threads may append concurrently without
+ * locking; only mapping the next segment is synchronized. A background thread forces filled pages to disk at a fixed
+ * interval, and closing the log forces all segments.
+ * <p>
+ * Opening an existing log continues after its longest prefix of complete records, which may end in any segment.
+ * Records after the first incomplete one are discarded, as the slots would otherwise mix old and new records once they
+ * are filled again: later slots of its segment are cleared and later segments are deleted. Empty segment files, as
+ * left by a crash right after creating them, are accepted and extended.
+ */
+public final class GefangenenDilemmaMatchLog implements AutoCloseable {
+
+    /**
+     * The default number of records per segment, making segments 40 MiB in size.
+     */
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 20;
+    /**
+     * The default interval between forcing written records to disk.
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * The directory of the log.
+     */
+    private final Path directory;
+    /**
+     * The number of records per segment.
+     */
+    private final int recordsPerSegment;
+    /**
+     * The index of the next record to be appended.
+     */
+    private final AtomicLong nextRecord;
+    /**
+     * The segments mapped so far, indexed by segment. The array is replaced whenever a segment is added.
+     */
+    private volatile MappedByteBuffer[] segments;
+    /**
+     * Guards {@link #firstUnflushedSegment}, so forcing records to disk never blocks mapping new segments.
+     */
+    private final Object flushLock;
+    /**
+     * The index of the first segment that may contain records not yet forced to disk.
+     */
+    private int firstUnflushedSegment;
+    /**
+     * The thread forcing records to disk.
+     */
+    private final ScheduledExecutorService flusher;
+    /**
+     * {@code true} if the log has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Opens a log with the default segment size and flush interval.
+     *
+     * @param directory The directory of the log. It is created if necessary.
+     * @throws IOException if the log cannot be opened.
+     */
+    public GefangenenDilemmaMatchLog(final Path directory) throws IOException {
+        this(directory, GefangenenDilemmaMatchLog.DEFAULT_RECORDS_PER_SEGMENT,
+                GefangenenDilemmaMatchLog.DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Opens a log.
+     *
+     * @param directory         The directory of the log. It is created if necessary.
+     * @param recordsPerSegment The number of records per segment. Must match the segments of an existing log.
+     * @param flushInterval     The interval between forcing written records to disk.
+     * @throws IOException if the log cannot be opened.
+     */
+    public GefangenenDilemmaMatchLog(final Path directory, final int recordsPerSegment, final Duration flushInterval)
+            throws IOException {
+        if (recordsPerSegment < 1
+                || recordsPerSegment > Integer.MAX_VALUE / GefangenenDilemmaMatchLogFormat.RECORD_SIZE) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid number of records per segment: %d.", recordsPerSegment));
+        }
+        if (Objects.requireNonNull(flushInterval, "flushInterval").isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException(String.format("Invalid flush interval: %s.", flushInterval));
+        }
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.flushLock = new Object();
+
+        final List<Path> existing = GefangenenDilemmaMatchLogFormat.listSegments(this.directory);
+        for (final Path segment : existing) {
+            final long size = Files.size(segment);
+            if (size != 0 && size != this.getSegmentSize()) {
+                throw new IOException(String.format("Segment %s does not hold %d records.", segment,
+                        recordsPerSegment));
+            }
+        }
+        this.segments = new MappedByteBuffer[0];
+        this.nextRecord = new AtomicLong(this.recover(existing));
+
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "GefangenenDilemmaMatchLog-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long interval = flushInterval.toNanos();
+        this.flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the directory of the log.
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Returns the number of records per segment.
+     */
+    public int getRecordsPerSegment() {
+        return this.recordsPerSegment;
+    }
+
+    /**
+     * Returns the number of records appended so far, including records of an existing log.
+     */
+    public long getNumberOfRecords() {
+        return this.nextRecord.get();
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param gameId             The ID of the match.
+     * @param round              The round, starting at zero.
+     * @param firstPlayer        The index of the first player.
+     * @param secondPlayer       The index of the second player.
+     * @param firstPlayerAnswer  The answer of the first player.
+     * @param secondPlayerAnswer The answer of the second player.
+     * @param firstPlayerPayoff  The payoff of the first player.
+     * @param secondPlayerPayoff The payoff of the second player.
+     * @throws IllegalStateException if the log has been closed.
+     * @throws UncheckedIOException  if a new segment cannot be created.
+     */
+    public void append(final int gameId, final int round, final int firstPlayer, final int secondPlayer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES firstPlayerAnswer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES secondPlayerAnswer, final double firstPlayerPayoff,
+            final double secondPlayerPayoff) {
+        if (this.closed) {
+            throw new IllegalStateException("The log has been closed.");
+        }
+        final int flags = GefangenenDilemmaMatchLogFormat.VALID
+                | firstPlayerAnswer.ordinal() << GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_ANSWER_SHIFT
+                | secondPlayerAnswer.ordinal() << GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_ANSWER_SHIFT;
+
+        final long record = this.nextRecord.getAndIncrement();
+        final MappedByteBuffer segment = this.getSegment((int) (record / this.recordsPerSegment));
+        final int offset = (int) (record % this.recordsPerSegment) * GefangenenDilemmaMatchLogFormat.RECORD_SIZE;
+        segment.putInt(offset + GefangenenDilemmaMatchLogFormat.GAME_ID_OFFSET, gameId);
+        segment.putInt(offset + GefangenenDilemmaMatchLogFormat.ROUND_OFFSET, round);
+        segment.putInt(offset + GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_OFFSET, firstPlayer);
+        segment.putInt(offset + GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_OFFSET, secondPlayer);
+        segment.putDouble(offset + GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_PAYOFF_OFFSET, firstPlayerPayoff);
+        segment.putDouble(offset + GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_PAYOFF_OFFSET, secondPlayerPayoff);
+        GefangenenDilemmaMatchLogFormat.FLAGS.setRelease(segment, offset + GefangenenDilemmaMatchLogFormat.FLAGS_OFFSET,
+                flags);
+    }
+
+    /**
+     * Returns a listener appending the rounds of matches between two players to this log.
+     *
+     * @param firstPlayer  The index of the first player.
+     * @param secondPlayer The index of the second player.
+     */
+    public GefangenenDilemmaRoundListener createRoundListener(final int firstPlayer, final int secondPlayer) {
+        return (gameId, round, firstPlayerAnswer, secondPlayerAnswer, firstPlayerPayoff, secondPlayerPayoff) -> this
+                .append(gameId, round, firstPlayer, secondPlayer, firstPlayerAnswer, secondPlayerAnswer,
+                        firstPlayerPayoff, secondPlayerPayoff);
+    }
+
+    /**
+     * Forces the records appended so far to disk. Records still being appended by other threads may or may not be
+     * included.
+     */
+    public void flush() {
+        synchronized (this.flushLock) {
+            final MappedByteBuffer[] current = this.segments;
+            final int lastSegment = (int) Math.min(this.nextRecord.get() / this.recordsPerSegment,
+                    current.length - 1);
+            this.force(current, this.firstUnflushedSegment, lastSegment);
+            // the last segment may still receive records, so it is forced again next time
+            this.firstUnflushedSegment = Math.max(this.firstUnflushedSegment, lastSegment);
+        }
+    }
+
+    /**
+     * Stops the background flushing and forces all records to disk. Records must not be appended concurrently.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        this.flusher.shutdown();
+        try {
+            this.flusher.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // records claimed before an earlier flush may have been completed after it, so every segment is forced
+        synchronized (this.flushLock) {
+            final MappedByteBuffer[] current = this.segments;
+            this.force(current, 0, current.length - 1);
+        }
+    }
+
+    /**
+     * Finds the first incomplete record of an existing log and discards the records following it.
+     *
+     * @param existing The segment files of the log in order.
+     * @return The number of complete records preceding the first incomplete one.
+     * @throws IOException if the log cannot be repaired.
+     */
+    private long recover(final List<Path> existing) throws IOException {
+        long records = 0;
+        int index = 0;
+        while (index < existing.size()) {
+            final MappedByteBuffer segment = this.mapSegment(index++);
+            int valid = 0;
+            while (valid < this.recordsPerSegment && GefangenenDilemmaMatchLogFormat.isValid(
+                    GefangenenDilemmaMatchLogFormat.readFlags(segment,
+                            valid * GefangenenDilemmaMatchLogFormat.RECORD_SIZE))) {
+                ++valid;
+            }
+            records += valid;
+            this.firstUnflushedSegment = index - 1;
+            if (valid < this.recordsPerSegment) {
+                // a crash may leave complete records after an incomplete one; they must not reappear once refilled
+                boolean cleared = false;
+                for (int slot = valid + 1; slot < this.recordsPerSegment; ++slot) {
+                    final int offset = slot * GefangenenDilemmaMatchLogFormat.RECORD_SIZE;
+                    if (GefangenenDilemmaMatchLogFormat.readFlags(segment, offset) != 0) {
+                        segment.putInt(offset + GefangenenDilemmaMatchLogFormat.FLAGS_OFFSET, 0);
+                        cleared = true;
+                    }
+                }
+                if (cleared) {
+                    segment.force();
+                }
+                break;
+            }
+        }
+        // later segments only hold records after the incomplete one; deleting from the end keeps the rest consecutive
+        for (int later = existing.size() - 1; later >= index; --later) {
+            Files.delete(existing.get(later));
+        }
+        return records;
+    }
+
+    /**
+     * Forces a range of segments to disk.
+     *
+     * @param current The segments mapped so far.
+     * @param first   The index of the first segment to force.
+     * @param last    The index of the last segment to force.
+     */
+    private void force(final MappedByteBuffer[] current, final int first, final int last) {
+        for (int index = first; index <= last; ++index) {
+            if (current[index] != null) {
+                current[index].force();
+            }
+        }
+    }
+
+    /**
+     * Returns the size of a segment in bytes.
+     */
+    private long getSegmentSize() {
+        return (long) this.recordsPerSegment * GefangenenDilemmaMatchLogFormat.RECORD_SIZE;
+    }
+
+    /**
+     * Returns a segment, mapping it if necessary.
+     *
+     * @param index The index of the segment.
+     */
+    private MappedByteBuffer getSegment(final int index) {
+        final MappedByteBuffer[] current = this.segments;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        try {
+            return this.mapSegment(index);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps a segment, creating or extending its file if necessary, unless it has already been mapped.
+     *
+     * @param index The index of the segment.
+     * @throws IOException if the segment cannot be mapped.
+     */
+    private synchronized MappedByteBuffer mapSegment(final int index) throws IOException {
+        final MappedByteBuffer[] current = this.segments;
+        if (index < current.length && current[index] != null) {
+            return current[index];
+        }
+        final MappedByteBuffer segment;
+        try (FileChannel channel = FileChannel.open(
+                GefangenenDilemmaMatchLogFormat.segmentFile(this.directory, index), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.getSegmentSize());
+        }
+        segment.order(GefangenenDilemmaMatchLogFormat.BYTE_ORDER);
+        // publish a new array, so threads reading the old one never see a partially initialized element
+        final MappedByteBuffer[] updated = Arrays.copyOf(current, Math.max(current.length, index + 1));
+        updated[index] = segment;
+        this.segments = updated;
+        return segment;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MatchLog[directory=%s, records=%d]", this.directory, this.nextRecord.get());
+    }
+}
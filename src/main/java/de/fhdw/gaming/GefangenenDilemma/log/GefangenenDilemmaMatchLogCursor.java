@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * Iterates over the records of a match log. The getters read the current record directly from the mapped segment.
+ * <p>
+ * A cursor is not thread-safe, but several cursors may read the same log concurrently.
+ */
+public final class GefangenenDilemmaMatchLogCursor {
+
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+
+    /**
+     * The reader mapping the segments.
+     */
+    private final GefangenenDilemmaMatchLogReader reader;
+    /**
+     * The segments known to this cursor, refreshed from the reader when the cursor reaches their end.
+     */
+    private ByteBuffer[] segments;
+    /**
+     * The number of records per segment.
+     */
+    private int recordsPerSegment;
+    /**
+     * The index of the current record, or {@code -1} before the first record.
+     */
+    private long record;
+    /**
+     * The segment holding the current record.
+     */
+    private ByteBuffer segment;
+    /**
+     * The offset of the current record within its segment.
+     */
+    private int offset;
+    /**
+     * The flags of the current record.
+     */
+    private int flags;
+
+    /**
+     * Creates a cursor positioned before the first record.
+     *
+     * @param reader            The reader mapping the segments.
+     * @param segments          The segments mapped so far.
+     * @param recordsPerSegment The number of records per segment.
+     */
+    GefangenenDilemmaMatchLogCursor(final GefangenenDilemmaMatchLogReader reader, final ByteBuffer[] segments,
+            final int recordsPerSegment) {
+        this.reader = reader;
+        this.segments = segments;
+        this.recordsPerSegment = recordsPerSegment;
+        this.record = -1;
+    }
+
+    /**
+     * Moves to the next record.
+     *
+     * @return {@code true} if the cursor has moved, {@code false} if there is no complete record yet. In the latter
+     *         case, the cursor stays at the current record.
+     * @throws UncheckedIOException if a segment created since the last call cannot be mapped.
+     */
+    public boolean next() {
+        final long candidate = this.record + 1;
+        long segmentIndex = candidate / this.recordsPerSegment;
+        if (segmentIndex >= this.segments.length) {
+            // the writer may have created further segments since they were last looked up
+            this.segments = this.reader.refreshSegments();
+            this.recordsPerSegment = this.reader.getRecordsPerSegment();
+            segmentIndex = candidate / this.recordsPerSegment;
+            if (segmentIndex >= this.segments.length) {
+                return false;
+            }
+        }
+        final ByteBuffer candidateSegment = this.segments[(int) segmentIndex];
+        final int candidateOffset = (int) (candidate % this.recordsPerSegment)
+                * GefangenenDilemmaMatchLogFormat.RECORD_SIZE;
+        final int candidateFlags = GefangenenDilemmaMatchLogFormat.readFlags(candidateSegment, candidateOffset);
+        if (!GefangenenDilemmaMatchLogFormat.isValid(candidateFlags)) {
+            return false;
+        }
+        this.record = candidate;
+        this.segment = candidateSegment;
+        this.offset = candidateOffset;
+        this.flags = candidateFlags;
+        return true;
+    }
+
+    /**
+     * Returns the index of the current record within the log.
+     */
+    public long getRecordIndex() {
+        this.checkPositioned();
+        return this.record;
+    }
+
+    /**
+     * Returns the ID of the match of the current record.
+     */
+    public int getGameId() {
+        this.checkPositioned();
+        return this.segment.getInt(this.offset + GefangenenDilemmaMatchLogFormat.GAME_ID_OFFSET);
+    }
+
+    /**
+     * Returns the round of the current record, starting at zero.
+     */
+    public int getRound() {
+        this.checkPositioned();
+        return this.segment.getInt(this.offset + GefangenenDilemmaMatchLogFormat.ROUND_OFFSET);
+    }
+
+    /**
+     * Returns the index of the first player of the current record.
+     */
+    public int getFirstPlayer() {
+        this.checkPositioned();
+        return this.segment.getInt(this.offset + GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_OFFSET);
+    }
+
+    /**
+     * Returns the index of the second player of the current record.
+     */
+    public int getSecondPlayer() {
+        this.checkPositioned();
+        return this.segment.getInt(this.offset + GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_OFFSET);
+    }
+
+    /**
+     * Returns the answer of the first player of the current record.
+     */
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES getFirstPlayerAnswer() {
+        this.checkPositioned();
+        return GefangenenDilemmaMatchLogCursor.ANSWERS[this.flags
+                >>> GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_ANSWER_SHIFT & 1];
+    }
+
+    /**
+     * Returns the answer of the second player of the current record.
+     */
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES getSecondPlayerAnswer() {
+        this.checkPositioned();
+        return GefangenenDilemmaMatchLogCursor.ANSWERS[this.flags
+                >>> GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_ANSWER_SHIFT & 1];
+    }
+
+    /**
+     * Returns the payoff of the first player of the current record.
+     */
+    public double getFirstPlayerPayoff() {
+        this.checkPositioned();
+        return this.segment.getDouble(this.offset + GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_PAYOFF_OFFSET);
+    }
+
+    /**
+     * Returns the payoff of the second player of the current record.
+     */
+    public double getSecondPlayerPayoff() {
+        this.checkPositioned();
+        return this.segment.getDouble(this.offset + GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_PAYOFF_OFFSET);
+    }
+
+    /**
+     * Checks that the cursor is positioned at a record.
+     *
+     * @throws IllegalStateException if {@link #next()} has not yet returned {@code true}.
+     */
+    private void checkPositioned() {
+        if (this.record < 0) {
+            throw new IllegalStateException("The cursor is not positioned at a record.");
+        }
+    }
+}
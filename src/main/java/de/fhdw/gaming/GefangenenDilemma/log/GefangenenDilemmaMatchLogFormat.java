@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The binary format of a match log.
+ * <p>
+ * A log is a directory of segment files named {@code segment-00000000.log}, {@code segment-00000001.log}, and so on.
+ * All segments of a log have the same size and hold a fixed number of records of {@link #RECORD_SIZE} bytes each,
+ * stored in little-endian byte order:
+ *
+ * <pre>
+ * offset  size  field
+ *      0     4  flags: bit 0 marks a complete record, bits 1 and 2 hold the ordinals of the answers
+ *      4     4  game ID
+ *      8     4  round
+ *     12     4  index of the first player
+ *     16     4  index of the second player
+ *     20     4  reserved, zero
+ *     24     8  payoff of the first player
+ *     32     8  payoff of the second player
+ * </pre>
+ *
+ * The flags are written last with release semantics, so a record whose valid bit is set is complete. Segments are
+ * created with their full size and filled with zeros, so the records following the last one written are not valid.
+ */
+final class GefangenenDilemmaMatchLogFormat {
+
+    /**
+     * The size of a record in bytes.
+     */
+    static final int RECORD_SIZE = 40;
+    /**
+     * The offset of the flags.
+     */
+    static final int FLAGS_OFFSET = 0;
+    /**
+     * The offset of the game ID.
+     */
+    static final int GAME_ID_OFFSET = 4;
+    /**
+     * The offset of the round.
+     */
+    static final int ROUND_OFFSET = 8;
+    /**
+     * The offset of the index of the first player.
+     */
+    static final int FIRST_PLAYER_OFFSET = 12;
+    /**
+     * The offset of the index of the second player.
+     */
+    static final int SECOND_PLAYER_OFFSET = 16;
+    /**
+     * The offset of the payoff of the first player.
+     */
+    static final int FIRST_PLAYER_PAYOFF_OFFSET = 24;
+    /**
+     * The offset of the payoff of the second player.
+     */
+    static final int SECOND_PLAYER_PAYOFF_OFFSET = 32;
+    /**
+     * The flag marking a complete record.
+     */
+    static final int VALID = 1;
+    /**
+     * The position of the ordinal of the answer of the first player within the flags.
+     */
+    static final int FIRST_PLAYER_ANSWER_SHIFT = 1;
+    /**
+     * The position of the ordinal of the answer of the second player within the flags.
+     */
+    static final int SECOND_PLAYER_ANSWER_SHIFT = 2;
+    /**
+     * The byte order of all fields.
+     */
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    /**
+     * Accesses the flags of a record with memory ordering semantics.
+     */
+    static final VarHandle FLAGS = MethodHandles.byteBufferViewVarHandle(int[].class,
+            GefangenenDilemmaMatchLogFormat.BYTE_ORDER);
+
+    /**
+     * The pattern of the names of segment files.
+     */
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d{8})\\.log");
+
+    /**
+     * Prevents instantiation.
+     */
+    private GefangenenDilemmaMatchLogFormat() {
+    }
+
+    /**
+     * Reads the flags of a record with acquire semantics, so all other fields of a valid record are visible.
+     *
+     * @param segment The segment.
+     * @param offset  The offset of the record within the segment.
+     */
+    static int readFlags(final ByteBuffer segment, final int offset) {
+        return (int) GefangenenDilemmaMatchLogFormat.FLAGS.getAcquire(segment,
+                offset + GefangenenDilemmaMatchLogFormat.FLAGS_OFFSET);
+    }
+
+    /**
+     * Returns whether flags mark a complete record.
+     *
+     * @param flags The flags.
+     */
+    static boolean isValid(final int flags) {
+        return (flags & GefangenenDilemmaMatchLogFormat.VALID) != 0;
+    }
+
+    /**
+     * Returns the file of a segment.
+     *
+     * @param directory The directory of the log.
+     * @param index     The index of the segment.
+     */
+    static Path segmentFile(final Path directory, final int index) {
+        return directory.resolve(String.format("segment-%08d.log", index));
+    }
+
+    /**
+     * Returns the segment files of a log in order.
+     *
+     * @param directory The directory of the log.
+     * @throws IOException if the directory cannot be read or the segments are not numbered consecutively.
+     */
+    static List<Path> listSegments(final Path directory) throws IOException {
+        final List<Integer> indices = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(file -> {
+                final Matcher matcher = GefangenenDilemmaMatchLogFormat.SEGMENT_NAME
+                        .matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    indices.add(Integer.valueOf(matcher.group(1)));
+                }
+            });
+        }
+        indices.sort(null);
+
+        final List<Path> segments = new ArrayList<>(indices.size());
+        for (int index = 0; index < indices.size(); ++index) {
+            if (indices.get(index) != index) {
+                throw new IOException(String.format("Segment %d of the log in %s is missing.", index, directory));
+            }
+            segments.add(GefangenenDilemmaMatchLogFormat.segmentFile(directory, index));
+        }
+        return segments;
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads a log written by {@link GefangenenDilemmaMatchLog}.
+ * <p>
+ * The segments are memory-mapped read-only, and the records are read in place by
+ * {@link GefangenenDilemmaMatchLogCursor cursors}, without copying or creating objects per record. A log may be read
+ * while it is still being written; cursors stop at the first record not yet complete and may be advanced again later.
+ * Segments created after the reader has been opened are mapped as soon as a cursor reaches them.
+ */
+public final class GefangenenDilemmaMatchLogReader {
+
+    /**
+     * The directory of the log.
+     */
+    private final Path directory;
+    /**
+     * The segments mapped so far, indexed by segment. The array is replaced whenever segments are added.
+     */
+    private volatile ByteBuffer[] segments;
+    /**
+     * The size of a segment in bytes, or {@code -1} if no segment has been mapped yet.
+     */
+    private long segmentSize;
+    /**
+     * The number of records per segment, or {@code 1} if no segment has been mapped yet.
+     */
+    private volatile int recordsPerSegment;
+
+    /**
+     * Opens a log for reading.
+     *
+     * @param directory The directory of the log.
+     * @throws IOException if the log cannot be read.
+     */
+    public GefangenenDilemmaMatchLogReader(final Path directory) throws IOException {
+        this.directory = directory;
+        this.segments = new ByteBuffer[0];
+        this.segmentSize = -1;
+        this.recordsPerSegment = 1;
+        this.mapNewSegments();
+    }
+
+    /**
+     * Returns the number of segments mapped so far.
+     */
+    public int getNumberOfSegments() {
+        return this.segments.length;
+    }
+
+    /**
+     * Returns the number of records per segment.
+     */
+    public int getRecordsPerSegment() {
+        return this.recordsPerSegment;
+    }
+
+    /**
+     * Returns a new cursor positioned before the first record.
+     */
+    public GefangenenDilemmaMatchLogCursor createCursor() {
+        return new GefangenenDilemmaMatchLogCursor(this, this.segments, this.recordsPerSegment);
+    }
+
+    /**
+     * Maps the segments created since the last call and returns all segments mapped so far.
+     *
+     * @throws UncheckedIOException if a segment cannot be mapped.
+     */
+    ByteBuffer[] refreshSegments() {
+        try {
+            return this.mapNewSegments();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Maps the segments created since the last call and returns all segments mapped so far. A segment whose file the
+     * writer has not yet extended to its full size is left for a later call.
+     *
+     * @throws IOException if a segment cannot be mapped.
+     */
+    private synchronized ByteBuffer[] mapNewSegments() throws IOException {
+        final ByteBuffer[] current = this.segments;
+        final List<Path> files = GefangenenDilemmaMatchLogFormat.listSegments(this.directory);
+        ByteBuffer[] updated = current;
+        for (int index = current.length; index < files.size(); ++index) {
+            final Path file = files.get(index);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final long size = channel.size();
+                if (size == 0 || size < this.segmentSize) {
+                    break;
+                }
+                if (size % GefangenenDilemmaMatchLogFormat.RECORD_SIZE != 0 || size > Integer.MAX_VALUE
+                        || this.segmentSize >= 0 && size != this.segmentSize) {
+                    throw new IOException(String.format("Segment %s has an invalid size of %d bytes.", file, size));
+                }
+                this.segmentSize = size;
+                updated = Arrays.copyOf(updated, index + 1);
+                updated[index] = channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                        .order(GefangenenDilemmaMatchLogFormat.BYTE_ORDER);
+            }
+        }
+        if (updated != current) {
+            this.recordsPerSegment = (int) (this.segmentSize / GefangenenDilemmaMatchLogFormat.RECORD_SIZE);
+            this.segments = updated;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaRoundListener;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Replays the matches of a match log with the original strategies and checks that every logged round is reproduced
+ * exactly, payoffs included bit for bit.
+ * <p>
+ * The log is streamed through a {@link GefangenenDilemmaMatchLogCursor}. When the first record of a match is read, the
+ * match is played again by the simulator, with the strategies selected by the logged player indices and the logged
+ * game ID, and its rounds are kept until all records of the match have been compared. Only matches whose records are
+ * still being read are held in memory, so logs of any size can be checked. Of finished and failed matches, only the
+ * IDs are kept, so further records of a finished match are reported as extra rounds, and a later match reusing an ID
+ * is checked on its own from its first round on.
+ * <p>
+ * A replay reproduces a match only if the simulator is configured like the one that played it and the strategies are
+ * deterministic given the game ID and the state, which includes strategies seeding their randomness from the game ID.
+ */
+public final class GefangenenDilemmaMatchReplayer {
+
+    /**
+     * The maximum number of deviations described in a result.
+     */
+    public static final int MAX_REPORTED_MISMATCHES = 100;
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+
+    /**
+     * The strategies, indexed by the player indices of the log.
+     */
+    private final List<GefangenenDilemmaStrategy> strategies;
+    /**
+     * The simulator replaying the matches.
+     */
+    private final GefangenenDilemmaMatchSimulator simulator;
+
+    /**
+     * Creates a replayer.
+     *
+     * @param strategies The strategies, indexed by the player indices of the log.
+     * @param simulator  The simulator replaying the matches.
+     */
+    public GefangenenDilemmaMatchReplayer(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator) {
+        this.strategies = List.copyOf(strategies);
+        this.simulator = Objects.requireNonNull(simulator, "simulator");
+    }
+
+    /**
+     * Checks all matches of a log.
+     *
+     * @param reader The reader of the log.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    public GefangenenDilemmaReplayResult verify(final GefangenenDilemmaMatchLogReader reader)
+            throws GameException, InterruptedException {
+        return this.check(reader.createCursor(), OptionalInt.empty());
+    }
+
+    /**
+     * Checks a single match of a log. The log is still read completely, but only the given match is replayed.
+     *
+     * @param reader The reader of the log.
+     * @param gameId The ID of the match.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    public GefangenenDilemmaReplayResult replay(final GefangenenDilemmaMatchLogReader reader, final int gameId)
+            throws GameException, InterruptedException {
+        return this.check(reader.createCursor(), OptionalInt.of(gameId));
+    }
+
+    /**
+     * Compares the records of a log with replays of their matches.
+     *
+     * @param cursor The cursor reading the log.
+     * @param gameId The ID of the only match to be checked, if any.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private GefangenenDilemmaReplayResult check(final GefangenenDilemmaMatchLogCursor cursor, final OptionalInt gameId)
+            throws GameException, InterruptedException {
+        final Map<Integer, Replay> replays = new HashMap<>();
+        final Map<Integer, Integer> finished = new HashMap<>();
+        final Set<Integer> failed = new HashSet<>();
+        final List<String> mismatches = new ArrayList<>();
+        long checkedRecords = 0;
+        long verifiedMatches = 0;
+        long failedMatches = 0;
+
+        while (cursor.next()) {
+            if (gameId.isPresent() && cursor.getGameId() != gameId.getAsInt()) {
+                continue;
+            }
+            ++checkedRecords;
+            final int id = cursor.getGameId();
+            if (cursor.getRound() == 0) {
+                // a later match reusing the ID settles the earlier one
+                if (finished.remove(id) != null) {
+                    ++verifiedMatches;
+                }
+                failed.remove(id);
+                final Replay superseded = replays.remove(id);
+                if (superseded != null) {
+                    ++failedMatches;
+                    GefangenenDilemmaMatchReplayer.report(mismatches, superseded.describeIncomplete());
+                }
+            } else if (failed.contains(id)) {
+                continue;
+            } else if (finished.containsKey(id)) {
+                failed.add(id);
+                ++failedMatches;
+                GefangenenDilemmaMatchReplayer.report(mismatches, String.format(
+                        "Record %d: Match %d: expected %d rounds, but found more.", cursor.getRecordIndex(), id,
+                        finished.remove(id)));
+                continue;
+            }
+
+            Replay replay = replays.get(id);
+            if (replay == null) {
+                replay = this.replay(id, cursor.getFirstPlayer(), cursor.getSecondPlayer());
+                replays.put(id, replay);
+            }
+            final Optional<String> mismatch = replay.compare(cursor);
+            if (mismatch.isPresent()) {
+                replays.remove(id);
+                failed.add(id);
+                ++failedMatches;
+                GefangenenDilemmaMatchReplayer.report(mismatches,
+                        String.format("Record %d: %s", cursor.getRecordIndex(), mismatch.get()));
+            } else if (replay.isComplete()) {
+                replays.remove(id);
+                finished.put(id, replay.getNumberOfRounds());
+            }
+        }
+
+        verifiedMatches += finished.size();
+        for (final Replay replay : replays.values()) {
+            ++failedMatches;
+            GefangenenDilemmaMatchReplayer.report(mismatches, replay.describeIncomplete());
+        }
+        if (gameId.isPresent() && checkedRecords == 0) {
+            ++failedMatches;
+            mismatches.add(String.format("Match %d is not in the log.", gameId.getAsInt()));
+        }
+        return new GefangenenDilemmaReplayResult(checkedRecords, verifiedMatches, failedMatches, mismatches);
+    }
+
+    /**
+     * Adds the description of a deviation unless {@link #MAX_REPORTED_MISMATCHES} have been described already.
+     *
+     * @param mismatches The descriptions so far.
+     * @param mismatch   The description to add.
+     */
+    private static void report(final List<String> mismatches, final String mismatch) {
+        if (mismatches.size() < GefangenenDilemmaMatchReplayer.MAX_REPORTED_MISMATCHES) {
+            mismatches.add(mismatch);
+        }
+    }
+
+    /**
+     * Replays a match.
+     *
+     * @param gameId       The ID of the match.
+     * @param firstPlayer  The index of the strategy of the first player.
+     * @param secondPlayer The index of the strategy of the second player.
+     * @throws GameException        if a strategy chooses a move that is not allowed by the rules of the game.
+     * @throws InterruptedException if the current thread has been interrupted.
+     */
+    private Replay replay(final int gameId, final int firstPlayer, final int secondPlayer)
+            throws GameException, InterruptedException {
+        final Replay replay = new Replay(gameId, firstPlayer, secondPlayer);
+        if (firstPlayer < 0 || firstPlayer >= this.strategies.size() || secondPlayer < 0
+                || secondPlayer >= this.strategies.size()) {
+            return replay;
+        }
+        this.simulator.simulate(gameId, this.strategies.get(firstPlayer), this.strategies.get(secondPlayer),
+                replay);
+        return replay;
+    }
+
+    /**
+     * The rounds of a replayed match and the progress of comparing them with the log.
+     */
+    private static final class Replay implements GefangenenDilemmaRoundListener {
+
+        /**
+         * The initial number of rounds that can be stored.
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * The ID of the match.
+         */
+        private final int gameId;
+        /**
+         * The index of the strategy of the first player.
+         */
+        private final int firstPlayer;
+        /**
+         * The index of the strategy of the second player.
+         */
+        private final int secondPlayer;
+        /**
+         * The answers per round, encoded like the flags of a record.
+         */
+        private int[] flags;
+        /**
+         * The payoffs per round, the first player's at even and the second player's at odd indices.
+         */
+        private double[] payoffs;
+        /**
+         * The number of rounds replayed.
+         */
+        private int numberOfRounds;
+        /**
+         * The number of rounds compared with the log so far.
+         */
+        private int comparedRounds;
+
+        /**
+         * Creates an empty replay.
+         *
+         * @param gameId       The ID of the match.
+         * @param firstPlayer  The index of the strategy of the first player.
+         * @param secondPlayer The index of the strategy of the second player.
+         */
+        Replay(final int gameId, final int firstPlayer, final int secondPlayer) {
+            this.gameId = gameId;
+            this.firstPlayer = firstPlayer;
+            this.secondPlayer = secondPlayer;
+            this.flags = new int[Replay.INITIAL_CAPACITY];
+            this.payoffs = new double[2 * Replay.INITIAL_CAPACITY];
+        }
+
+        @Override
+        public void roundPlayed(final int id, final int round,
+                final GefangenenDilemmaGameBuilderFactoryImpl.MOVES firstPlayerAnswer,
+                final GefangenenDilemmaGameBuilderFactoryImpl.MOVES secondPlayerAnswer,
+                final double firstPlayerPayoff, final double secondPlayerPayoff) {
+            if (this.numberOfRounds == this.flags.length) {
+                this.flags = Arrays.copyOf(this.flags, 2 * this.flags.length);
+                this.payoffs = Arrays.copyOf(this.payoffs, 2 * this.payoffs.length);
+            }
+            this.flags[this.numberOfRounds] = GefangenenDilemmaMatchLogFormat.VALID
+                    | firstPlayerAnswer.ordinal() << GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_ANSWER_SHIFT
+                    | secondPlayerAnswer.ordinal() << GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_ANSWER_SHIFT;
+            this.payoffs[2 * this.numberOfRounds] = firstPlayerPayoff;
+            this.payoffs[2 * this.numberOfRounds + 1] = secondPlayerPayoff;
+            this.numberOfRounds++;
+        }
+
+        /**
+         * Compares the current record of a cursor with the next replayed round.
+         *
+         * @param cursor The cursor.
+         * @return A description of the deviation, if any.
+         */
+        Optional<String> compare(final GefangenenDilemmaMatchLogCursor cursor) {
+            if (cursor.getFirstPlayer() != this.firstPlayer || cursor.getSecondPlayer() != this.secondPlayer) {
+                return Optional.of(String.format("Match %d: expected players %d and %d, but found %d and %d.",
+                        this.gameId, this.firstPlayer, this.secondPlayer, cursor.getFirstPlayer(),
+                        cursor.getSecondPlayer()));
+            }
+            if (this.numberOfRounds == 0) {
+                return Optional.of(String.format("Match %d: unknown players %d and %d.", this.gameId,
+                        this.firstPlayer, this.secondPlayer));
+            }
+            if (cursor.getRound() != this.comparedRounds) {
+                return Optional.of(String.format("Match %d: expected round %d, but found round %d.", this.gameId,
+                        this.comparedRounds, cursor.getRound()));
+            }
+
+            final int round = this.comparedRounds;
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES firstPlayerAnswer = GefangenenDilemmaMatchReplayer
+                    .ANSWERS[this.flags[round] >>> GefangenenDilemmaMatchLogFormat.FIRST_PLAYER_ANSWER_SHIFT & 1];
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES secondPlayerAnswer = GefangenenDilemmaMatchReplayer
+                    .ANSWERS[this.flags[round] >>> GefangenenDilemmaMatchLogFormat.SECOND_PLAYER_ANSWER_SHIFT & 1];
+            final double firstPlayerPayoff = this.payoffs[2 * round];
+            final double secondPlayerPayoff = this.payoffs[2 * round + 1];
+            if (cursor.getFirstPlayerAnswer() != firstPlayerAnswer
+                    || cursor.getSecondPlayerAnswer() != secondPlayerAnswer
+                    || Double.doubleToLongBits(cursor.getFirstPlayerPayoff())
+                            != Double.doubleToLongBits(firstPlayerPayoff)
+                    || Double.doubleToLongBits(cursor.getSecondPlayerPayoff())
+                            != Double.doubleToLongBits(secondPlayerPayoff)) {
+                return Optional.of(String.format(
+                        "Match %d, round %d: expected %s/%s with payoffs %s/%s, but found %s/%s with payoffs %s/%s.",
+                        this.gameId, round, firstPlayerAnswer, secondPlayerAnswer, firstPlayerPayoff,
+                        secondPlayerPayoff, cursor.getFirstPlayerAnswer(), cursor.getSecondPlayerAnswer(),
+                        cursor.getFirstPlayerPayoff(), cursor.getSecondPlayerPayoff()));
+            }
+            this.comparedRounds++;
+            return Optional.empty();
+        }
+
+        /**
+         * Returns {@code true} if all replayed rounds have been compared.
+         */
+        boolean isComplete() {
+            return this.comparedRounds == this.numberOfRounds;
+        }
+
+        /**
+         * Returns the number of rounds replayed.
+         */
+        int getNumberOfRounds() {
+            return this.numberOfRounds;
+        }
+
+        /**
+         * Describes a match whose log ends before all replayed rounds have been compared.
+         */
+        String describeIncomplete() {
+            return String.format("Match %d: expected %d rounds, but found %d.", this.gameId, this.numberOfRounds,
+                    this.comparedRounds);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The result of checking a match log against a replay of its matches, see {@link GefangenenDilemmaMatchReplayer}.
+ */
+public final class GefangenenDilemmaReplayResult {
+
+    /**
+     * The number of records checked.
+     */
+    private final long checkedRecords;
+    /**
+     * The number of matches whose records all agree with the replay.
+     */
+    private final long verifiedMatches;
+    /**
+     * The number of matches with at least one deviation from the replay.
+     */
+    private final long failedMatches;
+    /**
+     * Descriptions of the first deviations found.
+     */
+    private final List<String> mismatches;
+
+    /**
+     * Creates a replay result.
+     *
+     * @param checkedRecords  The number of records checked.
+     * @param verifiedMatches The number of matches whose records all agree with the replay.
+     * @param failedMatches   The number of matches with at least one deviation from the replay.
+     * @param mismatches      Descriptions of the first deviations found.
+     */
+    public GefangenenDilemmaReplayResult(final long checkedRecords, final long verifiedMatches,
+            final long failedMatches, final List<String> mismatches) {
+        this.checkedRecords = checkedRecords;
+        this.verifiedMatches = verifiedMatches;
+        this.failedMatches = failedMatches;
+        this.mismatches = List.copyOf(mismatches);
+    }
+
+    /**
+     * Returns the number of records checked.
+     */
+    public long getCheckedRecords() {
+        return this.checkedRecords;
+    }
+
+    /**
+     * Returns the number of matches whose records all agree with the replay.
+     */
+    public long getVerifiedMatches() {
+        return this.verifiedMatches;
+    }
+
+    /**
+     * Returns the number of matches with at least one deviation from the replay.
+     */
+    public long getFailedMatches() {
+        return this.failedMatches;
+    }
+
+    /**
+     * Returns descriptions of the first deviations found, at most one per match.
+     */
+    public List<String> getMismatches() {
+        return this.mismatches;
+    }
+
+    /**
+     * Returns {@code true} if the log agrees with the replay.
+     */
+    public boolean isSuccessful() {
+        return this.failedMatches == 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ReplayResult[checkedRecords=%d, verifiedMatches=%d, failedMatches=%d, mismatches=%s]",
+                this.checkedRecords, this.verifiedMatches, this.failedMatches, this.mismatches);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaReplayResult) {
+            final GefangenenDilemmaReplayResult other = (GefangenenDilemmaReplayResult) obj;
+            return this.checkedRecords == other.checkedRecords && this.verifiedMatches == other.verifiedMatches
+                    && this.failedMatches == other.failedMatches && this.mismatches.equals(other.mismatches);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.checkedRecords, this.verifiedMatches, this.failedMatches, this.mismatches);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.lookup;
+
+import java.util.Arrays;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * A deterministic strategy given as a table of answers for each combination of answers in the last rounds. Decision
+ * tables are immutable.
+ * <p>
+ * The table is indexed by a history index holding two bits per round: the own answer in the higher bit and the answer
+ * of the opponent in the lower bit, each being the {@link Enum#ordinal() ordinal} of the answer. The last round
+ * occupies the lowest two bits. Rounds before the first round count as rounds in which both players remained silent.
+ * Entries are stored bit-packed, a set bit meaning "remain silent".
+ */
+public final class GefangenenDilemmaDecisionTable {
+
+    /**
+     * The maximum number of rounds a decision table may depend on.
+     */
+    public static final int MAX_MEMORY_DEPTH = 5;
+    /**
+     * The number of history index bits per round.
+     */
+    private static final int BITS_PER_ROUND = 2;
+    /**
+     * Maps the answers of up to {@link #MAX_MEMORY_DEPTH} rounds to the same bits spread to every second bit.
+     */
+    private static final int[] SPREAD = GefangenenDilemmaDecisionTable.createSpread();
+
+    /**
+     * The number of rounds the answers depend on.
+     */
+    private final int memoryDepth;
+    /**
+     * The bit-packed entries.
+     */
+    private final long[] entries;
+
+    /**
+     * Creates a decision table.
+     *
+     * @param memoryDepth The number of rounds the answers depend on.
+     * @param entries     The bit-packed entries, a set bit meaning "remain silent". Bit {@code i % 64} of word
+     *                    {@code i / 64} holds the entry for history index {@code i}. The array is copied.
+     * @throws IllegalArgumentException if the memory depth is not supported or the number of entries does not match.
+     */
+    public GefangenenDilemmaDecisionTable(final int memoryDepth, final long[] entries) {
+        if (memoryDepth < 0 || memoryDepth > GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH) {
+            throw new IllegalArgumentException(String.format("The memory depth must be between 0 and %d, but was %d.",
+                    GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH, memoryDepth));
+        }
+        final int numberOfEntries = 1 << GefangenenDilemmaDecisionTable.BITS_PER_ROUND * memoryDepth;
+        final int numberOfWords = (numberOfEntries + Long.SIZE - 1) / Long.SIZE;
+        if (entries.length != numberOfWords
+                || numberOfEntries < Long.SIZE && entries[0] >>> numberOfEntries != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "A decision table of memory depth %d has exactly %d entries.", memoryDepth, numberOfEntries));
+        }
+        this.memoryDepth = memoryDepth;
+        this.entries = entries.clone();
+    }
+
+    /**
+     * Returns the number of rounds the answers depend on.
+     */
+    public int getMemoryDepth() {
+        return this.memoryDepth;
+    }
+
+    /**
+     * Returns the number of entries, i.e. the number of history indices.
+     */
+    public int getNumberOfEntries() {
+        return 1 << GefangenenDilemmaDecisionTable.BITS_PER_ROUND * this.memoryDepth;
+    }
+
+    /**
+     * Returns the history index before the first round.
+     */
+    public int getInitialIndex() {
+        return this.getNumberOfEntries() - 1;
+    }
+
+    /**
+     * Returns the history index after a round.
+     *
+     * @param index          The history index before the round.
+     * @param ownAnswer      The own answer in the round.
+     * @param opponentAnswer The answer of the opponent in the round.
+     */
+    public int nextIndex(final int index, final GefangenenDilemmaGameBuilderFactoryImpl.MOVES ownAnswer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES opponentAnswer) {
+        return (index << GefangenenDilemmaDecisionTable.BITS_PER_ROUND | ownAnswer.ordinal() << 1
+                | opponentAnswer.ordinal()) & this.getInitialIndex();
+    }
+
+    /**
+     * Returns the history index after the rounds played so far. Only the most recent rounds of the histories are read,
+     * so this takes constant time.
+     *
+     * @param ownHistory      The own answers.
+     * @param opponentHistory The answers of the opponent.
+     */
+    public int indexOf(final GefangenenDilemmaMoveHistory ownHistory,
+            final GefangenenDilemmaMoveHistory opponentHistory) {
+        return GefangenenDilemmaDecisionTable.SPREAD[ownHistory.getRecentAnswers(this.memoryDepth)] << 1
+                | GefangenenDilemmaDecisionTable.SPREAD[opponentHistory.getRecentAnswers(this.memoryDepth)];
+    }
+
+    /**
+     * Returns whether to remain silent.
+     *
+     * @param index The history index.
+     */
+    public boolean isSilent(final int index) {
+        return (this.entries[index / Long.SIZE] >>> index & 1L) != 0;
+    }
+
+    /**
+     * Returns the answer to give.
+     *
+     * @param index The history index.
+     */
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES getAnswer(final int index) {
+        return this.isSilent(index) ? GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                : GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH;
+    }
+
+    /**
+     * Returns the bit-packed entries as passed to the constructor.
+     */
+    public long[] toLongArray() {
+        return this.entries.clone();
+    }
+
+    /**
+     * Creates the table mapping answers to spread bits.
+     */
+    private static int[] createSpread() {
+        final int[] result = new int[1 << GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH];
+        for (int answers = 0; answers < result.length; ++answers) {
+            for (int round = 0; round < GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH; ++round) {
+                result[answers] |= (answers >>> round & 1) << GefangenenDilemmaDecisionTable.BITS_PER_ROUND * round;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder("DecisionTable[depth=").append(this.memoryDepth).append(", ");
+        for (int index = 0; index < this.getNumberOfEntries(); ++index) {
+            result.append(this.isSilent(index) ? 'R' : 'S');
+        }
+        return result.append(']').toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaDecisionTable) {
+            final GefangenenDilemmaDecisionTable other = (GefangenenDilemmaDecisionTable) obj;
+            return this.memoryDepth == other.memoryDepth && Arrays.equals(this.entries, other.entries);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.memoryDepth + Arrays.hashCode(this.entries);
+    }
+}
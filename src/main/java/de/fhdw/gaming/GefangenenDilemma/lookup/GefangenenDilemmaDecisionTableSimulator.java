@@ -0,0 +1,38 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.lookup;
+
+import java.util.List;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+
+/**
+ * Plays many matches between {@link GefangenenDilemmaDecisionTable decision tables} at once.
+ */
+public interface GefangenenDilemmaDecisionTableSimulator {
+
+    /**
+     * Plays matches between pairs of decision tables.
+     *
+     * @param firstPlayerTables  The decision tables of the first players.
+     * @param secondPlayerTables The decision tables of the second players. Match {@code i} is played between the
+     *                           {@code i}-th tables of both lists.
+     * @return The results of the matches in the order of the tables.
+     * @throws IllegalArgumentException if the lists differ in size.
+     */
+    List<GefangenenDilemmaMatchResult> simulate(List<GefangenenDilemmaDecisionTable> firstPlayerTables,
+            List<GefangenenDilemmaDecisionTable> secondPlayerTables);
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.lookup;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+
+/**
+ * Implements {@link GefangenenDilemmaFiniteMemoryStrategy} by looking up the answer in a
+ * {@link GefangenenDilemmaDecisionTable}.
+ * <p>
+ * The decision table is compiled into an array holding the move for each history index, so computing a move reads the
+ * history index from the most recent rounds of both histories and performs a single array lookup. The strategy keeps
+ * no state between moves and may therefore be shared by matches running concurrently.
+ */
+public final class GefangenenDilemmaDecisionTableStrategy implements GefangenenDilemmaFiniteMemoryStrategy {
+
+    /**
+     * The decision table.
+     */
+    private final GefangenenDilemmaDecisionTable table;
+    /**
+     * The move to return for each history index, sharing the moves as moves are stateless.
+     */
+    private final Optional<GefangenenDilemmaMove>[] moves;
+
+    /**
+     * Creates a {@link GefangenenDilemmaDecisionTableStrategy}.
+     *
+     * @param table       The decision table.
+     * @param moveFactory The factory for creating moves.
+     */
+    @SuppressWarnings("unchecked")
+    public GefangenenDilemmaDecisionTableStrategy(final GefangenenDilemmaDecisionTable table,
+            final GefangenenDilemmaMoveFactory moveFactory) {
+        this.table = Objects.requireNonNull(table, "table");
+        final Optional<GefangenenDilemmaMove> silentMove = Optional.of(moveFactory.createStaySilentMove());
+        final Optional<GefangenenDilemmaMove> snitchMove = Optional.of(moveFactory.createSnitchMove());
+        this.moves = (Optional<GefangenenDilemmaMove>[]) new Optional<?>[table.getNumberOfEntries()];
+        for (int index = 0; index < this.moves.length; ++index) {
+            this.moves[index] = table.isSilent(index) ? silentMove : snitchMove;
+        }
+    }
+
+    /**
+     * Returns the decision table.
+     */
+    public GefangenenDilemmaDecisionTable getTable() {
+        return this.table;
+    }
+
+    @Override
+    public Optional<GefangenenDilemmaMove> computeNextMove(
+            final int gameId,
+            final GefangenenDilemmaPlayer player,
+            final GefangenenDilemmaState state,
+            final long maxComputationTimePerMove) {
+        final int index;
+        if (player.getName().equals(state.getFirstPlayer().getName())) {
+            index = this.table.indexOf(state.getFirstPlayerHistory(), state.getSecondPlayerHistory());
+        } else {
+            index = this.table.indexOf(state.getSecondPlayerHistory(), state.getFirstPlayerHistory());
+        }
+        return this.moves[index];
+    }
+
+    @Override
+    public int getMemoryDepth() {
+        return this.table.getMemoryDepth();
+    }
+
+    @Override
+    public String toString() {
+        return GefangenenDilemmaDecisionTableStrategy.class.getSimpleName() + "[" + this.table + "]";
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaDecisionTableStrategy) {
+            return this.table.equals(((GefangenenDilemmaDecisionTableStrategy) obj).table);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.table.hashCode();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.lookup.factory;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+import de.fhdw.gaming.GefangenenDilemma.lookup.impl.GefangenenDilemmaBitSlicedSimulator;
+
+/**
+ * Implements {@link GefangenenDilemmaDecisionTableSimulatorFactory} by creating simulators which play 64 matches at
+ * once using bitwise operations.
+ */
+public final class GefangenenDilemmaDefaultDecisionTableSimulatorFactory
+        implements GefangenenDilemmaDecisionTableSimulatorFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultDecisionTableSimulatorFactory}.
+     */
+    public GefangenenDilemmaDefaultDecisionTableSimulatorFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaDecisionTableSimulator create(final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes, final int numberOfRounds) {
+        return new GefangenenDilemmaBitSlicedSimulator(firstPlayerOutcomes, secondPlayerOutcomes, numberOfRounds);
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.lookup.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+
+/**
+ * Implements {@link GefangenenDilemmaDecisionTableSimulator} by playing 64 matches at once using bitwise operations.
+ * <p>
+ * All data is bit-sliced: bit {@code m} of a word belongs to match {@code m} of a block of 64 matches, a set bit
+ * meaning "remain silent". For each history index, a word holds the entries of all 64 decision tables; the answers of a
+ * round are selected from these words by a multiplexer tree controlled by the history words of both players. The
+ * number of rounds with each combination of answers is counted by bit-sliced ripple counters, so a round costs about
+ * {@code 2 * 4^depth} word operations for all 64 matches, {@code depth} being the largest memory depth in the block.
+ * <p>
+ * The results equal those of playing the decision tables one match at a time. Outcomes are computed as the number of
+ * rounds with each combination of answers times its outcome, which may differ in the last bits from summing up the
+ * outcomes round by round if they are not integral.
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public final class GefangenenDilemmaBitSlicedSimulator implements GefangenenDilemmaDecisionTableSimulator {
+
+    /**
+     * The number of matches played at once.
+     */
+    private static final int LANES = Long.SIZE;
+    /**
+     * The number of bits per round counter, sufficient for any {@code int} number of rounds.
+     */
+    private static final int COUNTER_BITS = Integer.SIZE - 1;
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes;
+    /**
+     * The payoff matrix of the second player.
+     */
+    private final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes;
+    /**
+     * The number of rounds per match.
+     */
+    private final int numberOfRounds;
+
+    /**
+     * Creates a bit-sliced simulator.
+     *
+     * @param firstPlayerOutcomes  The payoff matrix of the first player.
+     * @param secondPlayerOutcomes The payoff matrix of the second player.
+     * @param numberOfRounds       The number of rounds per match.
+     */
+    public GefangenenDilemmaBitSlicedSimulator(final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes,
+            final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes, final int numberOfRounds) {
+        this.firstPlayerOutcomes = Objects.requireNonNull(firstPlayerOutcomes, "firstPlayerOutcomes");
+        this.secondPlayerOutcomes = Objects.requireNonNull(secondPlayerOutcomes, "secondPlayerOutcomes");
+        if (numberOfRounds < 1) {
+            throw new IllegalArgumentException(
+                    String.format("At least one round must be played, but %d rounds were requested.", numberOfRounds));
+        }
+        this.numberOfRounds = numberOfRounds;
+    }
+
+    @Override
+    public List<GefangenenDilemmaMatchResult> simulate(final List<GefangenenDilemmaDecisionTable> firstPlayerTables,
+            final List<GefangenenDilemmaDecisionTable> secondPlayerTables) {
+        if (firstPlayerTables.size() != secondPlayerTables.size()) {
+            throw new IllegalArgumentException(String.format("%d first players cannot play against %d second players.",
+                    firstPlayerTables.size(), secondPlayerTables.size()));
+        }
+        final List<GefangenenDilemmaMatchResult> results = new ArrayList<>(firstPlayerTables.size());
+        for (int start = 0; start < firstPlayerTables.size(); start += GefangenenDilemmaBitSlicedSimulator.LANES) {
+            final int lanes = Math.min(GefangenenDilemmaBitSlicedSimulator.LANES, firstPlayerTables.size() - start);
+            this.simulateBlock(firstPlayerTables.subList(start, start + lanes),
+                    secondPlayerTables.subList(start, start + lanes), results);
+        }
+        return results;
+    }
+
+    /**
+     * Plays up to 64 matches at once.
+     *
+     * @param firstPlayerTables  The decision tables of the first players.
+     * @param secondPlayerTables The decision tables of the second players.
+     * @param results            Receives the results of the matches.
+     */
+    private void simulateBlock(final List<GefangenenDilemmaDecisionTable> firstPlayerTables,
+            final List<GefangenenDilemmaDecisionTable> secondPlayerTables,
+            final List<GefangenenDilemmaMatchResult> results) {
+        int depth = 0;
+        for (int lane = 0; lane < firstPlayerTables.size(); ++lane) {
+            depth = Math.max(depth, Math.max(firstPlayerTables.get(lane).getMemoryDepth(),
+                    secondPlayerTables.get(lane).getMemoryDepth()));
+        }
+        final long[] firstPlayerEntries = GefangenenDilemmaBitSlicedSimulator.slice(firstPlayerTables, depth);
+        final long[] secondPlayerEntries = GefangenenDilemmaBitSlicedSimulator.slice(secondPlayerTables, depth);
+
+        // the answers of the last rounds, the last round first; rounds before the first one count as silent
+        final long[] firstPlayerHistory = new long[depth];
+        final long[] secondPlayerHistory = new long[depth];
+        Arrays.fill(firstPlayerHistory, -1L);
+        Arrays.fill(secondPlayerHistory, -1L);
+        final long[] selectors = new long[2 * depth];
+        final long[] scratch = new long[Math.max(1, firstPlayerEntries.length / 2)];
+        // counters for the combinations indexed 1 to 3; the rest of the rounds have index 0
+        final long[][] counters = new long[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES][];
+        for (int index = 1; index < GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES; ++index) {
+            counters[index] = new long[GefangenenDilemmaBitSlicedSimulator.COUNTER_BITS];
+        }
+
+        for (int round = 0; round < this.numberOfRounds; ++round) {
+            for (int k = 0; k < depth; ++k) {
+                selectors[2 * k + 1] = firstPlayerHistory[k];
+                selectors[2 * k] = secondPlayerHistory[k];
+            }
+            final long firstPlayerSilent = GefangenenDilemmaBitSlicedSimulator.select(firstPlayerEntries, selectors,
+                    scratch);
+            for (int k = 0; k < depth; ++k) {
+                selectors[2 * k + 1] = secondPlayerHistory[k];
+                selectors[2 * k] = firstPlayerHistory[k];
+            }
+            final long secondPlayerSilent = GefangenenDilemmaBitSlicedSimulator.select(secondPlayerEntries,
+                    selectors, scratch);
+
+            if (depth > 0) {
+                System.arraycopy(firstPlayerHistory, 0, firstPlayerHistory, 1, depth - 1);
+                System.arraycopy(secondPlayerHistory, 0, secondPlayerHistory, 1, depth - 1);
+                firstPlayerHistory[0] = firstPlayerSilent;
+                secondPlayerHistory[0] = secondPlayerSilent;
+            }
+            GefangenenDilemmaBitSlicedSimulator.increment(
+                    counters[GefangenenDilemmaBitSlicedSimulator.indexOf(false, true)],
+                    ~firstPlayerSilent & secondPlayerSilent);
+            GefangenenDilemmaBitSlicedSimulator.increment(
+                    counters[GefangenenDilemmaBitSlicedSimulator.indexOf(true, false)],
+                    firstPlayerSilent & ~secondPlayerSilent);
+            GefangenenDilemmaBitSlicedSimulator.increment(
+                    counters[GefangenenDilemmaBitSlicedSimulator.indexOf(true, true)],
+                    firstPlayerSilent & secondPlayerSilent);
+        }
+
+        final int[] rounds = new int[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES];
+        for (int lane = 0; lane < firstPlayerTables.size(); ++lane) {
+            rounds[0] = this.numberOfRounds;
+            for (int index = 1; index < GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES; ++index) {
+                rounds[index] = GefangenenDilemmaBitSlicedSimulator.count(counters[index], lane);
+                rounds[0] -= rounds[index];
+            }
+            double firstPlayerOutcome = 0.0;
+            double secondPlayerOutcome = 0.0;
+            for (int index = 0; index < GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES; ++index) {
+                firstPlayerOutcome += rounds[index] * this.firstPlayerOutcomes.getOutcome(index);
+                secondPlayerOutcome += rounds[index] * this.secondPlayerOutcomes.getOutcome(index);
+            }
+            final int bothSilent = rounds[GefangenenDilemmaBitSlicedSimulator.indexOf(true, true)];
+            results.add(new GefangenenDilemmaMatchResult(
+                    this.numberOfRounds,
+                    firstPlayerOutcome,
+                    secondPlayerOutcome,
+                    rounds[GefangenenDilemmaBitSlicedSimulator.indexOf(true, false)] + bothSilent,
+                    rounds[GefangenenDilemmaBitSlicedSimulator.indexOf(false, true)] + bothSilent));
+        }
+    }
+
+    /**
+     * Returns the payoff matrix index of a combination of answers.
+     *
+     * @param firstPlayerSilent  Whether the first player remained silent.
+     * @param secondPlayerSilent Whether the second player remained silent.
+     */
+    private static int indexOf(final boolean firstPlayerSilent, final boolean secondPlayerSilent) {
+        return GefangenenDilemmaPayoffMatrix.indexOf(
+                firstPlayerSilent ? GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                        : GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH,
+                secondPlayerSilent ? GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT
+                        : GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH);
+    }
+
+    /**
+     * Transposes decision tables into one word per history index. Tables with a smaller memory depth ignore the
+     * additional older rounds.
+     *
+     * @param tables The decision tables, at most 64.
+     * @param depth  The memory depth to use.
+     */
+    private static long[] slice(final List<GefangenenDilemmaDecisionTable> tables, final int depth) {
+        final long[] result = new long[1 << 2 * depth];
+        for (int lane = 0; lane < tables.size(); ++lane) {
+            final GefangenenDilemmaDecisionTable table = tables.get(lane);
+            final int mask = table.getNumberOfEntries() - 1;
+            for (int index = 0; index < result.length; ++index) {
+                if (table.isSilent(index & mask)) {
+                    result[index] |= 1L << lane;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Selects the entries addressed by bit-sliced history indices.
+     *
+     * @param entries   The bit-sliced entries, one word per history index.
+     * @param selectors The bit-sliced history indices, one word per index bit, the lowest bit first.
+     * @param scratch   Space for intermediate results of at least half the size of the entries.
+     */
+    private static long select(final long[] entries, final long[] selectors, final long[] scratch) {
+        if (entries.length == 1) {
+            return entries[0];
+        }
+        int size = entries.length / 2;
+        for (int j = 0; j < size; ++j) {
+            scratch[j] = entries[2 * j] ^ (entries[2 * j] ^ entries[2 * j + 1]) & selectors[0];
+        }
+        for (int level = 1; size > 1; ++level) {
+            size /= 2;
+            for (int j = 0; j < size; ++j) {
+                scratch[j] = scratch[2 * j] ^ (scratch[2 * j] ^ scratch[2 * j + 1]) & selectors[level];
+            }
+        }
+        return scratch[0];
+    }
+
+    /**
+     * Increments a bit-sliced counter.
+     *
+     * @param counter The counter, one word per bit, the lowest bit first.
+     * @param lanes   The matches whose counters are to be incremented.
+     */
+    private static void increment(final long[] counter, final long lanes) {
+        long carry = lanes;
+        for (int bit = 0; carry != 0; ++bit) {
+            final long next = counter[bit] & carry;
+            counter[bit] ^= carry;
+            carry = next;
+        }
+    }
+
+    /**
+     * Returns the value of a bit-sliced counter for one match.
+     *
+     * @param counter The counter, one word per bit, the lowest bit first.
+     * @param lane    The match.
+     */
+    private static int count(final long[] counter, final int lane) {
+        int result = 0;
+        for (int bit = 0; bit < counter.length; ++bit) {
+            result |= (int) (counter[bit] >>> lane & 1L) << bit;
+        }
+        return result;
+    }
+}
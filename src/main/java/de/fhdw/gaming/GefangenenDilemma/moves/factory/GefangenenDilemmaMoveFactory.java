@@ -19,6 +19,9 @@ import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
 
 /**
  * Allows to create Demo moves.
+ * <p>
+ * Moves are immutable and stateless, so implementations may return the same instance on each call, and callers may
+ * keep and reuse the moves returned.
  */
 public interface GefangenenDilemmaMoveFactory {
 
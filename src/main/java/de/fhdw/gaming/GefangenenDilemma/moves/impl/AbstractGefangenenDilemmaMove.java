@@ -15,6 +15,7 @@
  */
 package de.fhdw.gaming.GefangenenDilemma.moves.impl;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
 import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
 
 /**
@@ -34,4 +35,9 @@ public abstract class AbstractGefangenenDilemmaMove implements GefangenenDilemma
     protected AbstractGefangenenDilemmaMove() {
         // nothing to do
     }
+
+    /**
+     * Returns the answer given by this move.
+     */
+    public abstract GefangenenDilemmaGameBuilderFactoryImpl.MOVES getAnswer();
 }
@@ -19,18 +19,27 @@ import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
 import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
 
 /**
- * Implements {@link GefangenenDilemmaMoveFactory}.
+ * Implements {@link GefangenenDilemmaMoveFactory} by returning shared move instances.
  */
 public final class GefangenenDilemmaDefaultMoveFactory implements GefangenenDilemmaMoveFactory {
 
+    /**
+     * The move saying "yes".
+     */
+    private static final GefangenenDilemmaMove STAY_SILENT_MOVE = new GefangenenDilemmaStaySilentMove();
+    /**
+     * The move saying "no".
+     */
+    private static final GefangenenDilemmaMove SNITCH_MOVE = new GefangenenDilemmaSnitchMove();
+
     @Override
     public GefangenenDilemmaMove createStaySilentMove() {
-        return new GefangenenDilemmaStaySilentMove();
+        return GefangenenDilemmaDefaultMoveFactory.STAY_SILENT_MOVE;
     }
 
     @Override
     public GefangenenDilemmaMove createSnitchMove() {
-        return new GefangenenDilemmaSnitchMove();
+        return GefangenenDilemmaDefaultMoveFactory.SNITCH_MOVE;
     }
 
 }
@@ -23,11 +23,16 @@ import de.fhdw.gaming.core.domain.GameException;
 /**
  * Says "no".
  */
-public class GefangenenDilemmaSnitchMove extends AbstractGefangenenDilemmaMove {
+public final class GefangenenDilemmaSnitchMove extends AbstractGefangenenDilemmaMove {
 
     @Override
     public void applyTo(final GefangenenDilemmaState state, final GefangenenDilemmaPlayer player) throws GameException {
-        player.setAnswer(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH);
+        player.setAnswer(this.getAnswer());
+    }
+
+    @Override
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES getAnswer() {
+        return GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH;
     }
 
     @Override
@@ -23,11 +23,16 @@ import de.fhdw.gaming.core.domain.GameException;
 /**
  * Says "yes".
  */
-public class GefangenenDilemmaStaySilentMove extends AbstractGefangenenDilemmaMove {
+public final class GefangenenDilemmaStaySilentMove extends AbstractGefangenenDilemmaMove {
 
     @Override
     public void applyTo(final GefangenenDilemmaState state, final GefangenenDilemmaPlayer player) throws GameException {
-        player.setAnswer(GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT);
+        player.setAnswer(this.getAnswer());
+    }
+
+    @Override
+    public GefangenenDilemmaGameBuilderFactoryImpl.MOVES getAnswer() {
+        return GefangenenDilemmaGameBuilderFactoryImpl.MOVES.REMAINSILENT;
     }
 
     @Override
@@ -0,0 +1,435 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.network;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An undirected graph stored in compressed sparse row form. Graphs are immutable.
+ * <p>
+ * The neighbours of all nodes are stored consecutively in a single {@code int} array; the neighbours of node
+ * {@code n} occupy the indices from {@code offsets[n]} (inclusive) to {@code offsets[n + 1]} (exclusive). An edge is
+ * stored once per end, so the graph needs eight bytes per edge and four bytes per node. Parallel edges are kept,
+ * self-loops are dropped.
+ */
+public final class GefangenenDilemmaGraph {
+
+    /**
+     * The index of the first neighbour of each node, followed by the total number of neighbours.
+     */
+    private final int[] offsets;
+    /**
+     * The neighbours of all nodes.
+     */
+    private final int[] neighbours;
+
+    /**
+     * Creates a graph.
+     *
+     * @param offsets    The index of the first neighbour of each node, followed by the total number of neighbours.
+     * @param neighbours The neighbours of all nodes.
+     */
+    private GefangenenDilemmaGraph(final int[] offsets, final int[] neighbours) {
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+    }
+
+    /**
+     * Creates a graph from arrays of edges.
+     *
+     * @param numberOfNodes The number of nodes.
+     * @param sources       One end of each edge.
+     * @param targets       The other end of each edge.
+     * @throws IllegalArgumentException if the arrays differ in length or refer to a node that does not exist.
+     */
+    public static GefangenenDilemmaGraph fromEdges(final int numberOfNodes, final int[] sources, final int[] targets) {
+        if (sources.length != targets.length) {
+            throw new IllegalArgumentException(
+                    String.format("%d sources were passed for %d targets.", sources.length, targets.length));
+        }
+        final DegreeCounter counter = new DegreeCounter();
+        counter.ensureNodes(numberOfNodes);
+        for (int edge = 0; edge < sources.length; ++edge) {
+            GefangenenDilemmaGraph.checkNode(sources[edge], numberOfNodes);
+            GefangenenDilemmaGraph.checkNode(targets[edge], numberOfNodes);
+            counter.add(sources[edge], targets[edge]);
+        }
+        final Builder builder = new Builder(counter);
+        for (int edge = 0; edge < sources.length; ++edge) {
+            builder.add(sources[edge], targets[edge]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Loads a graph from a file listing one edge per line.
+     * <p>
+     * Each line holds the two ends of an edge as non-negative integers separated by white space or a comma; further
+     * columns are ignored, as are empty lines and lines starting with {@code #} or {@code %}. The file is read twice,
+     * first to count the neighbours of each node and then to store them, so apart from the graph itself only a
+     * buffer of constant size is allocated. The number of nodes is one more than the largest node found.
+     *
+     * @param file The file.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public static GefangenenDilemmaGraph load(final Path file) throws IOException {
+        final DegreeCounter counter = new DegreeCounter();
+        try (EdgeListParser parser = new EdgeListParser(Files.newInputStream(file))) {
+            while (parser.next()) {
+                counter.add(parser.source, parser.target);
+            }
+        }
+        final Builder builder = new Builder(counter);
+        try (EdgeListParser parser = new EdgeListParser(Files.newInputStream(file))) {
+            while (parser.next()) {
+                builder.add(parser.source, parser.target);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns the number of nodes.
+     */
+    public int getNumberOfNodes() {
+        return this.offsets.length - 1;
+    }
+
+    /**
+     * Returns the number of edges.
+     */
+    public long getNumberOfEdges() {
+        return this.offsets[this.offsets.length - 1] / 2;
+    }
+
+    /**
+     * Returns the number of neighbours of a node.
+     *
+     * @param node The node.
+     * @throws IndexOutOfBoundsException if the node does not exist.
+     */
+    public int getDegree(final int node) {
+        Objects.checkIndex(node, this.getNumberOfNodes());
+        return this.offsets[node + 1] - this.offsets[node];
+    }
+
+    /**
+     * Returns the index of the first neighbour of a node in {@link #getNeighbour(int)}.
+     *
+     * @param node The node, or the number of nodes to obtain the total number of neighbours.
+     */
+    public int getFirstNeighbourIndex(final int node) {
+        return this.offsets[node];
+    }
+
+    /**
+     * Returns a neighbour.
+     *
+     * @param index The index of the neighbour, between {@link #getFirstNeighbourIndex(int)} of a node (inclusive)
+     *              and that of the next node (exclusive).
+     */
+    public int getNeighbour(final int index) {
+        return this.neighbours[index];
+    }
+
+    /**
+     * Returns the neighbours of a node. The array is copied.
+     *
+     * @param node The node.
+     * @throws IndexOutOfBoundsException if the node does not exist.
+     */
+    public int[] getNeighbours(final int node) {
+        Objects.checkIndex(node, this.getNumberOfNodes());
+        return Arrays.copyOfRange(this.neighbours, this.offsets[node], this.offsets[node + 1]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Graph[nodes=%d, edges=%d]", this.getNumberOfNodes(), this.getNumberOfEdges());
+    }
+
+    /**
+     * Checks that a node exists.
+     *
+     * @param node          The node.
+     * @param numberOfNodes The number of nodes.
+     */
+    private static void checkNode(final int node, final int numberOfNodes) {
+        if (node < 0 || node >= numberOfNodes) {
+            throw new IllegalArgumentException(
+                    String.format("Node %d does not exist in a graph of %d nodes.", node, numberOfNodes));
+        }
+    }
+
+    /**
+     * Counts the neighbours of each node while the edges are passed for the first time.
+     */
+    private static final class DegreeCounter {
+
+        /**
+         * The number of neighbours per node. The array grows as larger nodes are found.
+         */
+        private int[] degrees = new int[16];
+        /**
+         * The number of nodes.
+         */
+        private int numberOfNodes;
+        /**
+         * The number of neighbours of all nodes.
+         */
+        private long totalDegree;
+
+        /**
+         * Makes sure that nodes exist.
+         *
+         * @param count The number of nodes that must exist.
+         */
+        void ensureNodes(final int count) {
+            if (count > this.degrees.length) {
+                this.degrees = Arrays.copyOf(this.degrees, Math.max(count, (int) Math.min(Integer.MAX_VALUE - 8L,
+                        2L * this.degrees.length)));
+            }
+            this.numberOfNodes = Math.max(this.numberOfNodes, count);
+        }
+
+        /**
+         * Counts an edge.
+         *
+         * @param source One end of the edge.
+         * @param target The other end of the edge.
+         */
+        void add(final int source, final int target) {
+            this.ensureNodes(Math.max(source, target) + 1);
+            if (source != target) {
+                this.degrees[source]++;
+                this.degrees[target]++;
+                this.totalDegree += 2;
+                if (this.totalDegree > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("The graph has too many edges.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the neighbours of each node while the edges are passed for the second time.
+     */
+    private static final class Builder {
+
+        /**
+         * The index of the first neighbour of each node, followed by the total number of neighbours.
+         */
+        private final int[] offsets;
+        /**
+         * The index at which the next neighbour of each node is stored.
+         */
+        private final int[] cursors;
+        /**
+         * The neighbours of all nodes.
+         */
+        private final int[] neighbours;
+
+        /**
+         * Creates a builder.
+         *
+         * @param counter The neighbours counted per node.
+         */
+        Builder(final DegreeCounter counter) {
+            this.offsets = new int[counter.numberOfNodes + 1];
+            for (int node = 0; node < counter.numberOfNodes; ++node) {
+                this.offsets[node + 1] = this.offsets[node] + counter.degrees[node];
+            }
+            this.cursors = Arrays.copyOf(this.offsets, counter.numberOfNodes);
+            this.neighbours = new int[(int) counter.totalDegree];
+        }
+
+        /**
+         * Stores an edge.
+         *
+         * @param source One end of the edge.
+         * @param target The other end of the edge.
+         */
+        void add(final int source, final int target) {
+            if (source >= this.cursors.length || target >= this.cursors.length) {
+                throw new IllegalStateException("The edges have changed since they were counted.");
+            }
+            if (source != target) {
+                this.neighbours[this.cursors[source]++] = target;
+                this.neighbours[this.cursors[target]++] = source;
+            }
+        }
+
+        /**
+         * Returns the graph.
+         */
+        GefangenenDilemmaGraph build() {
+            for (int node = 0; node < this.cursors.length; ++node) {
+                if (this.cursors[node] != this.offsets[node + 1]) {
+                    throw new IllegalStateException("The edges have changed since they were counted.");
+                }
+            }
+            return new GefangenenDilemmaGraph(this.offsets, this.neighbours);
+        }
+    }
+
+    /**
+     * Parses an edge list without creating an object per line.
+     */
+    private static final class EdgeListParser implements AutoCloseable {
+
+        /**
+         * The input.
+         */
+        private final InputStream input;
+        /**
+         * One end of the edge parsed last.
+         */
+        private int source;
+        /**
+         * The other end of the edge parsed last.
+         */
+        private int target;
+        /**
+         * The number of the current line, starting at one.
+         */
+        private long line;
+        /**
+         * The character read last, or -1 at the end of the input.
+         */
+        private int current;
+
+        /**
+         * Creates a parser.
+         *
+         * @param input The input.
+         * @throws IOException if reading fails.
+         */
+        EdgeListParser(final InputStream input) throws IOException {
+            this.input = new BufferedInputStream(input, 1 << 16);
+            this.line = 1;
+            this.current = this.input.read();
+        }
+
+        /**
+         * Parses the next edge.
+         *
+         * @return {@code false} if the end of the input has been reached.
+         * @throws IOException if reading fails or the line is malformed.
+         */
+        boolean next() throws IOException {
+            while (true) {
+                this.skipBlanks();
+                if (this.current == -1) {
+                    return false;
+                }
+                if (this.current == '\n' || this.current == '\r') {
+                    this.nextLine();
+                } else if (this.current == '#' || this.current == '%') {
+                    this.skipLine();
+                } else {
+                    this.source = this.parseNode();
+                    this.skipSeparator();
+                    this.target = this.parseNode();
+                    this.skipLine();
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Parses a node.
+         *
+         * @throws IOException if reading fails or no node is found.
+         */
+        private int parseNode() throws IOException {
+            if (this.current < '0' || this.current > '9') {
+                throw new IOException(String.format("Line %d: expected a node.", this.line));
+            }
+            long value = 0;
+            while (this.current >= '0' && this.current <= '9') {
+                value = value * 10 + this.current - '0';
+                if (value >= Integer.MAX_VALUE) {
+                    throw new IOException(String.format("Line %d: node is too large.", this.line));
+                }
+                this.current = this.input.read();
+            }
+            return (int) value;
+        }
+
+        /**
+         * Skips the separator between the ends of an edge.
+         *
+         * @throws IOException if reading fails.
+         */
+        private void skipSeparator() throws IOException {
+            this.skipBlanks();
+            if (this.current == ',') {
+                this.current = this.input.read();
+                this.skipBlanks();
+            }
+        }
+
+        /**
+         * Skips spaces and tabs.
+         *
+         * @throws IOException if reading fails.
+         */
+        private void skipBlanks() throws IOException {
+            while (this.current == ' ' || this.current == '\t') {
+                this.current = this.input.read();
+            }
+        }
+
+        /**
+         * Skips the rest of the current line including the line break.
+         *
+         * @throws IOException if reading fails.
+         */
+        private void skipLine() throws IOException {
+            while (this.current != -1 && this.current != '\n' && this.current != '\r') {
+                this.current = this.input.read();
+            }
+            if (this.current != -1) {
+                this.nextLine();
+            }
+        }
+
+        /**
+         * Consumes a line break.
+         *
+         * @throws IOException if reading fails.
+         */
+        private void nextLine() throws IOException {
+            final int lineBreak = this.current;
+            this.current = this.input.read();
+            if (lineBreak == '\r' && this.current == '\n') {
+                this.current = this.input.read();
+            }
+            this.line++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.input.close();
+        }
+    }
+}
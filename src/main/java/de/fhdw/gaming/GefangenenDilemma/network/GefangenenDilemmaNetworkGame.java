@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.network;
+
+/**
+ * Agents placed on the nodes of a {@link GefangenenDilemmaGraph}, each playing one of a fixed set of strategies.
+ * <p>
+ * In each generation, every edge is played as a match, and every agent sums up the outcomes of the matches against
+ * its neighbours. Then every agent imitates the strategy of the neighbour with the highest total outcome, keeping its
+ * own strategy unless a neighbour is strictly better. All agents are updated synchronously. Strategies are identified
+ * by their index in the payoff table the game has been created with.
+ */
+public interface GefangenenDilemmaNetworkGame {
+
+    /**
+     * Returns the graph.
+     */
+    GefangenenDilemmaGraph getGraph();
+
+    /**
+     * Returns the number of generations computed so far.
+     */
+    long getGeneration();
+
+    /**
+     * Returns the strategy of an agent.
+     *
+     * @param node The node of the agent.
+     * @throws IndexOutOfBoundsException if the node does not exist.
+     */
+    int getStrategy(int node);
+
+    /**
+     * Returns the total outcome of an agent in the last generation, or zero before the first generation.
+     *
+     * @param node The node of the agent.
+     * @throws IndexOutOfBoundsException if the node does not exist.
+     */
+    double getPayoff(int node);
+
+    /**
+     * Returns the number of agents per strategy.
+     */
+    long[] countStrategies();
+
+    /**
+     * Computes the next generations.
+     *
+     * @param generations The number of generations to compute.
+     */
+    void advance(int generations);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.network.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaGraph;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaNetworkGame;
+import de.fhdw.gaming.GefangenenDilemma.network.impl.GefangenenDilemmaParallelNetworkGame;
+
+/**
+ * Implements {@link GefangenenDilemmaNetworkGameFactory} by creating network games which compute each generation in
+ * parallel ranges of nodes on a {@link ForkJoinPool}.
+ */
+public final class GefangenenDilemmaDefaultNetworkGameFactory implements GefangenenDilemmaNetworkGameFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultNetworkGameFactory}.
+     */
+    public GefangenenDilemmaDefaultNetworkGameFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaNetworkGame createNetworkGame(final GefangenenDilemmaGraph graph,
+            final GefangenenDilemmaPayoffTable payoffTable, final int[] strategies) {
+        return new GefangenenDilemmaParallelNetworkGame(graph, payoffTable, strategies);
+    }
+
+    @Override
+    public GefangenenDilemmaNetworkGame createNetworkGame(final GefangenenDilemmaGraph graph,
+            final GefangenenDilemmaPayoffTable payoffTable, final int[] strategies, final ForkJoinPool pool) {
+        return new GefangenenDilemmaParallelNetworkGame(graph, payoffTable, strategies, pool);
+    }
+}
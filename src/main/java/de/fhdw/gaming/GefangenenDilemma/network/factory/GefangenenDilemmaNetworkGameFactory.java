@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.network.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaGraph;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaNetworkGame;
+
+/**
+ * Represents a factory creating {@link GefangenenDilemmaNetworkGame network games}.
+ */
+public interface GefangenenDilemmaNetworkGameFactory {
+
+    /**
+     * Creates a network game using the common {@link ForkJoinPool}.
+     *
+     * @param graph       The graph.
+     * @param payoffTable The outcomes of the strategies.
+     * @param strategies  The initial strategies of the agents, indexed by node. The array is copied.
+     * @return The network game.
+     * @throws IllegalArgumentException if the number of strategies does not match the graph or a strategy is invalid.
+     */
+    GefangenenDilemmaNetworkGame createNetworkGame(GefangenenDilemmaGraph graph,
+            GefangenenDilemmaPayoffTable payoffTable, int[] strategies);
+
+    /**
+     * Creates a network game.
+     *
+     * @param graph       The graph.
+     * @param payoffTable The outcomes of the strategies.
+     * @param strategies  The initial strategies of the agents, indexed by node. The array is copied.
+     * @param pool        The pool computing the generations.
+     * @return The network game.
+     * @throws IllegalArgumentException if the number of strategies does not match the graph or a strategy is invalid.
+     */
+    GefangenenDilemmaNetworkGame createNetworkGame(GefangenenDilemmaGraph graph,
+            GefangenenDilemmaPayoffTable payoffTable, int[] strategies, ForkJoinPool pool);
+}
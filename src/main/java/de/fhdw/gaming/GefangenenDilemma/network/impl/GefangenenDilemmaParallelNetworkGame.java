@@ -0,0 +1,307 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.network.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaGraph;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaNetworkGame;
+
+/**
+ * Implements {@link GefangenenDilemmaNetworkGame} using flat arrays and parallel ranges of nodes.
+ * <p>
+ * A generation consists of two passes over the nodes: the first computes the total outcome of each agent into a
+ * {@code double} array, the second writes the imitated strategies into a second {@code int} array, which then replaces
+ * the first one. Each pass only reads the arrays written by the preceding pass, so the ranges of nodes are processed by
+ * the tasks of a {@link ForkJoinPool} without any synchronisation, and the result does not depend on the number of
+ * workers. Ranges are split at the middle of their edges rather than of their nodes, so hubs of scale-free graphs do
+ * not unbalance the load.
+ * <p>
+ * The outcomes of matches are looked up in a {@link GefangenenDilemmaPayoffTable}. Among equally good neighbours, the
+ * first one in the adjacency list wins.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class GefangenenDilemmaParallelNetworkGame implements GefangenenDilemmaNetworkGame {
+
+    /**
+     * The number of tasks created per worker thread, allowing for load balancing between workers.
+     */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * The graph.
+     */
+    private final GefangenenDilemmaGraph graph;
+    /**
+     * The outcomes of the strategies, indexed by {@code strategy * numberOfStrategies + opponent}.
+     */
+    private final double[] outcomes;
+    /**
+     * The number of strategies.
+     */
+    private final int numberOfStrategies;
+    /**
+     * The pool executing the ranges of nodes.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The total outcomes of the agents in the last generation.
+     */
+    private final double[] payoffs;
+    /**
+     * The strategies of the agents.
+     */
+    private int[] strategies;
+    /**
+     * The buffer receiving the strategies of the next generation.
+     */
+    private int[] nextStrategies;
+    /**
+     * The number of generations computed so far.
+     */
+    private long generation;
+
+    /**
+     * Creates a network game using the common {@link ForkJoinPool}.
+     *
+     * @param graph       The graph.
+     * @param payoffTable The outcomes of the strategies.
+     * @param strategies  The initial strategies of the agents, indexed by node. The array is copied.
+     */
+    public GefangenenDilemmaParallelNetworkGame(final GefangenenDilemmaGraph graph,
+            final GefangenenDilemmaPayoffTable payoffTable, final int[] strategies) {
+        this(graph, payoffTable, strategies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a network game.
+     *
+     * @param graph       The graph.
+     * @param payoffTable The outcomes of the strategies.
+     * @param strategies  The initial strategies of the agents, indexed by node. The array is copied.
+     * @param pool        The pool executing the ranges of nodes.
+     * @throws IllegalArgumentException if the number of strategies does not match the graph or a strategy is invalid.
+     */
+    public GefangenenDilemmaParallelNetworkGame(final GefangenenDilemmaGraph graph,
+            final GefangenenDilemmaPayoffTable payoffTable, final int[] strategies, final ForkJoinPool pool) {
+        this.graph = Objects.requireNonNull(graph, "graph");
+        if (strategies.length != graph.getNumberOfNodes()) {
+            throw new IllegalArgumentException(String.format("%d strategies were passed for %d nodes.",
+                    strategies.length, graph.getNumberOfNodes()));
+        }
+        this.numberOfStrategies = payoffTable.getNumberOfStrategies();
+        for (final int strategy : strategies) {
+            if (strategy < 0 || strategy >= this.numberOfStrategies) {
+                throw new IllegalArgumentException(String.format("Strategy %d does not exist.", strategy));
+            }
+        }
+        this.outcomes = new double[this.numberOfStrategies * this.numberOfStrategies];
+        for (int strategy = 0; strategy < this.numberOfStrategies; ++strategy) {
+            for (int opponent = 0; opponent < this.numberOfStrategies; ++opponent) {
+                this.outcomes[strategy * this.numberOfStrategies + opponent] = payoffTable.getOutcome(strategy,
+                        opponent);
+            }
+        }
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.strategies = strategies.clone();
+        this.nextStrategies = new int[strategies.length];
+        this.payoffs = new double[strategies.length];
+        this.generation = 0;
+    }
+
+    @Override
+    public GefangenenDilemmaGraph getGraph() {
+        return this.graph;
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public int getStrategy(final int node) {
+        Objects.checkIndex(node, this.strategies.length);
+        return this.strategies[node];
+    }
+
+    @Override
+    public double getPayoff(final int node) {
+        Objects.checkIndex(node, this.payoffs.length);
+        return this.payoffs[node];
+    }
+
+    @Override
+    public long[] countStrategies() {
+        final long[] counts = new long[this.numberOfStrategies];
+        for (final int strategy : this.strategies) {
+            counts[strategy]++;
+        }
+        return counts;
+    }
+
+    @Override
+    public void advance(final int generations) {
+        final int numberOfNodes = this.graph.getNumberOfNodes();
+        // nodes without edges still cost some work, so they are weighted like an edge
+        final long work = this.graph.getFirstNeighbourIndex(numberOfNodes) + (long) numberOfNodes;
+        final long threshold = Math.max(1,
+                work / (this.pool.getParallelism() * GefangenenDilemmaParallelNetworkGame.TASKS_PER_WORKER));
+        for (int step = 0; step < generations; ++step) {
+            this.pool.invoke(new NodeRangeTask(0, numberOfNodes, threshold, true));
+            this.pool.invoke(new NodeRangeTask(0, numberOfNodes, threshold, false));
+            final int[] swap = this.strategies;
+            this.strategies = this.nextStrategies;
+            this.nextStrategies = swap;
+            this.generation++;
+        }
+    }
+
+    /**
+     * Computes the total outcomes of a range of agents.
+     *
+     * @param from The first node (inclusive).
+     * @param to   The last node (exclusive).
+     */
+    private void computePayoffs(final int from, final int to) {
+        final GefangenenDilemmaGraph topology = this.graph;
+        final int[] current = this.strategies;
+        int index = topology.getFirstNeighbourIndex(from);
+        for (int node = from; node < to; ++node) {
+            final int end = topology.getFirstNeighbourIndex(node + 1);
+            final int base = current[node] * this.numberOfStrategies;
+            double payoff = 0.0;
+            for (; index < end; ++index) {
+                payoff += this.outcomes[base + current[topology.getNeighbour(index)]];
+            }
+            this.payoffs[node] = payoff;
+        }
+    }
+
+    /**
+     * Lets a range of agents imitate their best neighbour.
+     *
+     * @param from The first node (inclusive).
+     * @param to   The last node (exclusive).
+     */
+    private void imitate(final int from, final int to) {
+        final GefangenenDilemmaGraph topology = this.graph;
+        int index = topology.getFirstNeighbourIndex(from);
+        for (int node = from; node < to; ++node) {
+            final int end = topology.getFirstNeighbourIndex(node + 1);
+            int best = node;
+            for (; index < end; ++index) {
+                final int neighbour = topology.getNeighbour(index);
+                if (this.payoffs[neighbour] > this.payoffs[best]) {
+                    best = neighbour;
+                }
+            }
+            this.nextStrategies[node] = this.strategies[best];
+        }
+    }
+
+    /**
+     * Returns the amount of work of a range of nodes.
+     *
+     * @param from The first node (inclusive).
+     * @param to   The last node (exclusive).
+     */
+    private long work(final int from, final int to) {
+        return (long) this.graph.getFirstNeighbourIndex(to) - this.graph.getFirstNeighbourIndex(from) + to - from;
+    }
+
+    /**
+     * Returns the node splitting a range into two halves of about the same amount of work.
+     *
+     * @param from The first node (inclusive).
+     * @param to   The last node (exclusive).
+     */
+    private int split(final int from, final int to) {
+        final long half = this.work(from, to) / 2;
+        int low = from + 1;
+        int high = to - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (this.work(from, middle) < half) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Processes a range of consecutive nodes.
+     */
+    private final class NodeRangeTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first node of the range (inclusive).
+         */
+        private final int from;
+        /**
+         * The last node of the range (exclusive).
+         */
+        private final int to;
+        /**
+         * The amount of work below which the range is not split any further.
+         */
+        private final long threshold;
+        /**
+         * Whether to compute the outcomes rather than to imitate.
+         */
+        private final boolean payoffPass;
+
+        /**
+         * Creates a task.
+         *
+         * @param from       The first node of the range (inclusive).
+         * @param to         The last node of the range (exclusive).
+         * @param threshold  The amount of work below which the range is not split any further.
+         * @param payoffPass Whether to compute the outcomes rather than to imitate.
+         */
+        NodeRangeTask(final int from, final int to, final long threshold, final boolean payoffPass) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.payoffPass = payoffPass;
+        }
+
+        @Override
+        protected void compute() {
+            final GefangenenDilemmaParallelNetworkGame game = GefangenenDilemmaParallelNetworkGame.this;
+            if (this.to - this.from > 1 && game.work(this.from, this.to) > this.threshold) {
+                final int middle = game.split(this.from, this.to);
+                RecursiveAction.invokeAll(new NodeRangeTask(this.from, middle, this.threshold, this.payoffPass),
+                        new NodeRangeTask(middle, this.to, this.threshold, this.payoffPass));
+            } else if (this.payoffPass) {
+                game.computePayoffs(this.from, this.to);
+            } else {
+                game.imitate(this.from, this.to);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.noise;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives independent sources of randomness for single moves.
+ * <p>
+ * The source of a move only depends on a seed, the game, the round and the seat of the player, so random decisions are
+ * reproducible regardless of the thread computing the move or the order in which games are played, and no source of
+ * randomness is shared between threads. The inputs are combined by the mixing function of {@link SplittableRandom},
+ * so neighbouring games, rounds and seats yield unrelated sources.
+ */
+public final class GefangenenDilemmaMoveRandom {
+
+    /**
+     * The increment of the mixing steps, the golden ratio as used by {@link SplittableRandom}.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private GefangenenDilemmaMoveRandom() {
+        // nothing to do
+    }
+
+    /**
+     * Creates the source of randomness of a move.
+     *
+     * @param seed   The seed, e.g. of a tournament.
+     * @param gameId The ID of the game.
+     * @param round  The round, starting at zero.
+     * @param seat   The seat of the player, zero for the first player and one for the second player.
+     */
+    public static SplittableRandom create(final long seed, final int gameId, final int round, final int seat) {
+        // mixing the seed first keeps seeds and games from cancelling out
+        long state = GefangenenDilemmaMoveRandom.mix(seed);
+        state = GefangenenDilemmaMoveRandom.mix(state + GefangenenDilemmaMoveRandom.GOLDEN_GAMMA + gameId);
+        state = GefangenenDilemmaMoveRandom.mix(state + GefangenenDilemmaMoveRandom.GOLDEN_GAMMA + round);
+        state = GefangenenDilemmaMoveRandom.mix(state + GefangenenDilemmaMoveRandom.GOLDEN_GAMMA + seat);
+        return new SplittableRandom(state);
+    }
+
+    /**
+     * Mixes the bits of a value, using the finalizer of the 64-bit variant of MurmurHash3 as improved by Stafford.
+     *
+     * @param value The value.
+     */
+    private static long mix(final long value) {
+        long result = (value ^ value >>> 30) * 0xbf58476d1ce4e5b9L;
+        result = (result ^ result >>> 27) * 0x94d049bb133111ebL;
+        return result ^ result >>> 31;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.noise;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.AbstractGefangenenDilemmaMove;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Implements {@link GefangenenDilemmaStrategy} by flipping the answers of another strategy with a given probability,
+ * modelling a trembling hand.
+ * <p>
+ * Whether a move is flipped is decided by a source of randomness created by {@link GefangenenDilemmaMoveRandom} from
+ * the seed of the strategy, the game, the round and the seat of the player, so noisy matches are reproducible and the
+ * strategy may be shared by matches running concurrently. Moves other than snitching and remaining silent, including
+ * no move at all, are passed on unchanged.
+ * <p>
+ * A noisy strategy never implements {@link GefangenenDilemmaFiniteMemoryStrategy}, as its answers do not repeat with
+ * the answers of the last rounds.
+ */
+public final class GefangenenDilemmaNoisyStrategy implements GefangenenDilemmaStrategy {
+
+    /**
+     * The strategy whose answers are flipped.
+     */
+    private final GefangenenDilemmaStrategy strategy;
+    /**
+     * The probability of a move to be flipped.
+     */
+    private final double noiseProbability;
+    /**
+     * The seed of the sources of randomness.
+     */
+    private final long seed;
+    /**
+     * The move replacing a flipped snitching move, created once as moves are stateless.
+     */
+    private final Optional<GefangenenDilemmaMove> silentMove;
+    /**
+     * The move replacing a flipped silent move, created once as moves are stateless.
+     */
+    private final Optional<GefangenenDilemmaMove> snitchMove;
+
+    /**
+     * Creates a {@link GefangenenDilemmaNoisyStrategy}.
+     *
+     * @param strategy         The strategy whose answers are flipped.
+     * @param noiseProbability The probability of a move to be flipped.
+     * @param seed             The seed of the sources of randomness.
+     * @param moveFactory      The factory for creating moves.
+     * @throws IllegalArgumentException if the probability is not between zero and one.
+     */
+    public GefangenenDilemmaNoisyStrategy(final GefangenenDilemmaStrategy strategy, final double noiseProbability,
+            final long seed, final GefangenenDilemmaMoveFactory moveFactory) {
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        if (!(noiseProbability >= 0.0 && noiseProbability <= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("The noise probability must be between 0 and 1, but is %f.", noiseProbability));
+        }
+        this.noiseProbability = noiseProbability;
+        this.seed = seed;
+        this.silentMove = Optional.of(moveFactory.createStaySilentMove());
+        this.snitchMove = Optional.of(moveFactory.createSnitchMove());
+    }
+
+    /**
+     * Returns the strategy whose answers are flipped.
+     */
+    public GefangenenDilemmaStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Returns the probability of a move to be flipped.
+     */
+    public double getNoiseProbability() {
+        return this.noiseProbability;
+    }
+
+    @Override
+    public Optional<GefangenenDilemmaMove> computeNextMove(
+            final int gameId,
+            final GefangenenDilemmaPlayer player,
+            final GefangenenDilemmaState state,
+            final long maxComputationTimePerMove) throws GameException, InterruptedException {
+        final Optional<GefangenenDilemmaMove> move = this.strategy.computeNextMove(gameId, player, state,
+                maxComputationTimePerMove);
+        if (move.isEmpty() || !(move.get() instanceof AbstractGefangenenDilemmaMove)) {
+            return move;
+        }
+        final int seat = player.getName().equals(state.getFirstPlayer().getName()) ? 0 : 1;
+        if (GefangenenDilemmaMoveRandom.create(this.seed, gameId, state.getNumberOfPlayedRounds(), seat)
+                .nextDouble() >= this.noiseProbability) {
+            return move;
+        }
+        return ((AbstractGefangenenDilemmaMove) move.get())
+                .getAnswer() == GefangenenDilemmaGameBuilderFactoryImpl.MOVES.SNITCH ? this.silentMove
+                        : this.snitchMove;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, noise=%s]", GefangenenDilemmaNoisyStrategy.class.getSimpleName(), this.strategy,
+                this.noiseProbability);
+    }
+}
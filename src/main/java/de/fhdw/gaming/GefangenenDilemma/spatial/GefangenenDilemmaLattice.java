@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.spatial;
+
+/**
+ * A two-dimensional toroidal grid of agents, each playing one of a fixed set of strategies.
+ * <p>
+ * In each generation, every agent plays against its eight neighbours and then imitates the strategy of the neighbour
+ * with the highest total outcome, keeping its own strategy unless a neighbour is strictly better. All agents are
+ * updated synchronously. Strategies are identified by their index in the payoff table the lattice has been created
+ * with.
+ */
+public interface GefangenenDilemmaLattice {
+
+    /**
+     * Returns the number of columns.
+     */
+    int getWidth();
+
+    /**
+     * Returns the number of rows.
+     */
+    int getHeight();
+
+    /**
+     * Returns the number of generations computed so far.
+     */
+    long getGeneration();
+
+    /**
+     * Returns the strategy of an agent.
+     *
+     * @param column The column of the agent.
+     * @param row    The row of the agent.
+     * @throws IndexOutOfBoundsException if the position is outside of the lattice.
+     */
+    int getStrategy(int column, int row);
+
+    /**
+     * Returns the number of agents per strategy.
+     */
+    long[] countStrategies();
+
+    /**
+     * Computes the next generations.
+     *
+     * @param generations The number of generations to compute.
+     */
+    void advance(int generations);
+}
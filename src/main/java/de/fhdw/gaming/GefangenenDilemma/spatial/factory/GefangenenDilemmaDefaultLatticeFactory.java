@@ -0,0 +1,48 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.spatial.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.spatial.GefangenenDilemmaLattice;
+import de.fhdw.gaming.GefangenenDilemma.spatial.impl.GefangenenDilemmaParallelLattice;
+
+/**
+ * Implements {@link GefangenenDilemmaLatticeFactory} by creating lattices which compute each generation in parallel
+ * stripes on a {@link ForkJoinPool}.
+ */
+public final class GefangenenDilemmaDefaultLatticeFactory implements GefangenenDilemmaLatticeFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultLatticeFactory}.
+     */
+    public GefangenenDilemmaDefaultLatticeFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaLattice createLattice(final GefangenenDilemmaPayoffTable payoffTable, final int width,
+            final int height, final int[] strategies) {
+        return new GefangenenDilemmaParallelLattice(payoffTable, width, height, strategies);
+    }
+
+    @Override
+    public GefangenenDilemmaLattice createLattice(final GefangenenDilemmaPayoffTable payoffTable, final int width,
+            final int height, final int[] strategies, final ForkJoinPool pool) {
+        return new GefangenenDilemmaParallelLattice(payoffTable, width, height, strategies, pool);
+    }
+}
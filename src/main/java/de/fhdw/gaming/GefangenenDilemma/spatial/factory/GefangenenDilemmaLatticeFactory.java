@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.spatial.factory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.spatial.GefangenenDilemmaLattice;
+
+/**
+ * Represents a factory creating {@link GefangenenDilemmaLattice lattices}.
+ */
+public interface GefangenenDilemmaLatticeFactory {
+
+    /**
+     * Creates a lattice using the common {@link ForkJoinPool}.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param width       The number of columns.
+     * @param height      The number of rows.
+     * @param strategies  The initial strategies of the agents, row by row. The array is copied.
+     * @return The lattice.
+     * @throws IllegalArgumentException if the size of the lattice or a strategy is invalid.
+     */
+    GefangenenDilemmaLattice createLattice(GefangenenDilemmaPayoffTable payoffTable, int width, int height,
+            int[] strategies);
+
+    /**
+     * Creates a lattice.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param width       The number of columns.
+     * @param height      The number of rows.
+     * @param strategies  The initial strategies of the agents, row by row. The array is copied.
+     * @param pool        The pool computing the generations.
+     * @return The lattice.
+     * @throws IllegalArgumentException if the size of the lattice or a strategy is invalid.
+     */
+    GefangenenDilemmaLattice createLattice(GefangenenDilemmaPayoffTable payoffTable, int width, int height,
+            int[] strategies, ForkJoinPool pool);
+}
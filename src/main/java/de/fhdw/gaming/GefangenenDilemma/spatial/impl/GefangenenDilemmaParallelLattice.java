@@ -0,0 +1,304 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.spatial.impl;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.spatial.GefangenenDilemmaLattice;
+
+/**
+ * Implements {@link GefangenenDilemmaLattice} using flat arrays and parallel stripes of rows.
+ * <p>
+ * The strategies are stored row by row in an {@code int} array. A generation consists of two passes over the lattice:
+ * the first computes the total outcome of each agent into a {@code double} array, the second writes the imitated
+ * strategies into a second {@code int} array, which then replaces the first one. Each pass only reads the arrays
+ * written by the preceding pass, so the stripes of rows are processed by the tasks of a {@link ForkJoinPool} without
+ * any synchronisation, and the result does not depend on the number of workers.
+ * <p>
+ * The outcomes of matches are looked up in a {@link GefangenenDilemmaPayoffTable}, so no match is played while the
+ * lattice evolves. Among equally good neighbours, the first one in reading order wins.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class GefangenenDilemmaParallelLattice implements GefangenenDilemmaLattice {
+
+    /**
+     * The number of tasks created per worker thread, allowing for load balancing between workers.
+     */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * The outcomes of the strategies, indexed by {@code strategy * numberOfStrategies + opponent}.
+     */
+    private final double[] outcomes;
+    /**
+     * The number of strategies.
+     */
+    private final int numberOfStrategies;
+    /**
+     * The number of columns.
+     */
+    private final int width;
+    /**
+     * The number of rows.
+     */
+    private final int height;
+    /**
+     * The pool executing the stripes.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The total outcomes of the agents in the last generation.
+     */
+    private final double[] payoffs;
+    /**
+     * The strategies of the agents, row by row.
+     */
+    private int[] strategies;
+    /**
+     * The buffer receiving the strategies of the next generation.
+     */
+    private int[] nextStrategies;
+    /**
+     * The number of generations computed so far.
+     */
+    private long generation;
+
+    /**
+     * Creates a lattice using the common {@link ForkJoinPool}.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param width       The number of columns.
+     * @param height      The number of rows.
+     * @param strategies  The initial strategies of the agents, row by row. The array is copied.
+     */
+    public GefangenenDilemmaParallelLattice(final GefangenenDilemmaPayoffTable payoffTable, final int width,
+            final int height, final int[] strategies) {
+        this(payoffTable, width, height, strategies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a lattice.
+     *
+     * @param payoffTable The outcomes of the strategies.
+     * @param width       The number of columns.
+     * @param height      The number of rows.
+     * @param strategies  The initial strategies of the agents, row by row. The array is copied.
+     * @param pool        The pool executing the stripes.
+     * @throws IllegalArgumentException if the size of the lattice or a strategy is invalid.
+     */
+    public GefangenenDilemmaParallelLattice(final GefangenenDilemmaPayoffTable payoffTable, final int width,
+            final int height, final int[] strategies, final ForkJoinPool pool) {
+        if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("A lattice of %d x %d agents is not supported.", width, height));
+        }
+        if (strategies.length != width * height) {
+            throw new IllegalArgumentException(String.format("%d strategies were passed for %d agents.",
+                    strategies.length, width * height));
+        }
+        this.numberOfStrategies = payoffTable.getNumberOfStrategies();
+        for (final int strategy : strategies) {
+            if (strategy < 0 || strategy >= this.numberOfStrategies) {
+                throw new IllegalArgumentException(String.format("Strategy %d does not exist.", strategy));
+            }
+        }
+        this.outcomes = new double[this.numberOfStrategies * this.numberOfStrategies];
+        for (int strategy = 0; strategy < this.numberOfStrategies; ++strategy) {
+            for (int opponent = 0; opponent < this.numberOfStrategies; ++opponent) {
+                this.outcomes[strategy * this.numberOfStrategies + opponent] = payoffTable.getOutcome(strategy,
+                        opponent);
+            }
+        }
+        this.width = width;
+        this.height = height;
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.strategies = strategies.clone();
+        this.nextStrategies = new int[strategies.length];
+        this.payoffs = new double[strategies.length];
+        this.generation = 0;
+    }
+
+    @Override
+    public int getWidth() {
+        return this.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return this.height;
+    }
+
+    @Override
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    @Override
+    public int getStrategy(final int column, final int row) {
+        Objects.checkIndex(column, this.width);
+        Objects.checkIndex(row, this.height);
+        return this.strategies[row * this.width + column];
+    }
+
+    @Override
+    public long[] countStrategies() {
+        final long[] counts = new long[this.numberOfStrategies];
+        for (final int strategy : this.strategies) {
+            counts[strategy]++;
+        }
+        return counts;
+    }
+
+    @Override
+    public void advance(final int generations) {
+        final int threshold = Math.max(1,
+                this.height / (this.pool.getParallelism() * GefangenenDilemmaParallelLattice.TASKS_PER_WORKER));
+        for (int step = 0; step < generations; ++step) {
+            this.pool.invoke(new StripeTask(0, this.height, threshold, true));
+            this.pool.invoke(new StripeTask(0, this.height, threshold, false));
+            final int[] swap = this.strategies;
+            this.strategies = this.nextStrategies;
+            this.nextStrategies = swap;
+            this.generation++;
+        }
+    }
+
+    /**
+     * Computes the total outcomes of the agents in a range of rows.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (exclusive).
+     */
+    private void computePayoffs(final int fromRow, final int toRow) {
+        final int[] current = this.strategies;
+        for (int row = fromRow; row < toRow; ++row) {
+            final int above = (row == 0 ? this.height - 1 : row - 1) * this.width;
+            final int middle = row * this.width;
+            final int below = (row == this.height - 1 ? 0 : row + 1) * this.width;
+            for (int column = 0; column < this.width; ++column) {
+                final int left = column == 0 ? this.width - 1 : column - 1;
+                final int right = column == this.width - 1 ? 0 : column + 1;
+                final int base = current[middle + column] * this.numberOfStrategies;
+                this.payoffs[middle + column] = this.outcomes[base + current[above + left]]
+                        + this.outcomes[base + current[above + column]]
+                        + this.outcomes[base + current[above + right]]
+                        + this.outcomes[base + current[middle + left]]
+                        + this.outcomes[base + current[middle + right]]
+                        + this.outcomes[base + current[below + left]]
+                        + this.outcomes[base + current[below + column]]
+                        + this.outcomes[base + current[below + right]];
+            }
+        }
+    }
+
+    /**
+     * Lets the agents in a range of rows imitate their best neighbour.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (exclusive).
+     */
+    private void imitate(final int fromRow, final int toRow) {
+        for (int row = fromRow; row < toRow; ++row) {
+            final int above = (row == 0 ? this.height - 1 : row - 1) * this.width;
+            final int middle = row * this.width;
+            final int below = (row == this.height - 1 ? 0 : row + 1) * this.width;
+            for (int column = 0; column < this.width; ++column) {
+                final int left = column == 0 ? this.width - 1 : column - 1;
+                final int right = column == this.width - 1 ? 0 : column + 1;
+                int best = middle + column;
+                best = this.better(best, above + left);
+                best = this.better(best, above + column);
+                best = this.better(best, above + right);
+                best = this.better(best, middle + left);
+                best = this.better(best, middle + right);
+                best = this.better(best, below + left);
+                best = this.better(best, below + column);
+                best = this.better(best, below + right);
+                this.nextStrategies[middle + column] = this.strategies[best];
+            }
+        }
+    }
+
+    /**
+     * Returns the agent with the higher total outcome, preferring the current one on ties.
+     *
+     * @param current   The index of the best agent so far.
+     * @param candidate The index of the agent to compare with.
+     */
+    private int better(final int current, final int candidate) {
+        return this.payoffs[candidate] > this.payoffs[current] ? candidate : current;
+    }
+
+    /**
+     * Processes a stripe of consecutive rows.
+     */
+    private final class StripeTask extends RecursiveAction {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first row of the stripe (inclusive).
+         */
+        private final int fromRow;
+        /**
+         * The last row of the stripe (exclusive).
+         */
+        private final int toRow;
+        /**
+         * The number of rows below which the stripe is not split any further.
+         */
+        private final int threshold;
+        /**
+         * Whether to compute the outcomes rather than to imitate.
+         */
+        private final boolean payoffPass;
+
+        /**
+         * Creates a task.
+         *
+         * @param fromRow    The first row of the stripe (inclusive).
+         * @param toRow      The last row of the stripe (exclusive).
+         * @param threshold  The number of rows below which the stripe is not split any further.
+         * @param payoffPass Whether to compute the outcomes rather than to imitate.
+         */
+        StripeTask(final int fromRow, final int toRow, final int threshold, final boolean payoffPass) {
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.threshold = threshold;
+            this.payoffPass = payoffPass;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.toRow - this.fromRow > this.threshold) {
+                final int middle = (this.fromRow + this.toRow) >>> 1;
+                RecursiveAction.invokeAll(new StripeTask(this.fromRow, middle, this.threshold, this.payoffPass),
+                        new StripeTask(middle, this.toRow, this.threshold, this.payoffPass));
+            } else if (this.payoffPass) {
+                GefangenenDilemmaParallelLattice.this.computePayoffs(this.fromRow, this.toRow);
+            } else {
+                GefangenenDilemmaParallelLattice.this.imitate(this.fromRow, this.toRow);
+            }
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * Collects statistics of games played concurrently.
+ * <p>
+ * Games are recorded into striped {@link LongAdder} and {@link DoubleAdder} counters, so recording threads do not
+ * contend with each other. The counters exist twice: games are recorded into the bank of the current epoch, and taking
+ * a snapshot switches to the other bank, waits for the recordings still in progress in the old bank, and moves its
+ * counters into totals only seen by snapshots. Thus a snapshot contains every game either completely or not at all,
+ * while recording threads never wait; a recording which overlaps with switching banks simply starts over in the new
+ * bank. Only the number of recordings in progress per bank is a single atomic counter, as waiting for it to drop to
+ * zero must not be fooled by a sum over stripes.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class GefangenenDilemmaStatistics {
+
+    /**
+     * All possible answers, indexed by their ordinal.
+     */
+    private static final GefangenenDilemmaGameBuilderFactoryImpl.MOVES[] ANSWERS =
+            GefangenenDilemmaGameBuilderFactoryImpl.MOVES.values();
+
+    /**
+     * The two banks of counters, the current one being selected by the lowest bit of the epoch.
+     */
+    private final Bank[] banks;
+    /**
+     * The number of bank switches so far.
+     */
+    private volatile long epoch;
+    /**
+     * The number of games started according to the last snapshot.
+     */
+    private long startedGames;
+    /**
+     * The number of games finished according to the last snapshot.
+     */
+    private long finishedGames;
+    /**
+     * The number of rounds per combination of answers according to the last snapshot.
+     */
+    private final long[] rounds;
+    /**
+     * The total outcome per strategy according to the last snapshot.
+     */
+    private final Map<String, Double> strategyOutcomes;
+    /**
+     * The number of finished games per strategy according to the last snapshot.
+     */
+    private final Map<String, Long> strategyGames;
+
+    /**
+     * Creates empty statistics.
+     */
+    public GefangenenDilemmaStatistics() {
+        this.banks = new Bank[] {new Bank(), new Bank() };
+        this.epoch = 0;
+        this.rounds = new long[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES];
+        this.strategyOutcomes = new HashMap<>();
+        this.strategyGames = new HashMap<>();
+    }
+
+    /**
+     * Records that a game has been started.
+     */
+    public void recordStarted() {
+        final Bank bank = this.enter();
+        bank.startedGames.increment();
+        bank.active.decrementAndGet();
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param firstPlayerStrategy  The name of the strategy of the first player.
+     * @param firstPlayerHistory   The answers of the first player.
+     * @param firstPlayerOutcome   The total outcome of the first player.
+     * @param secondPlayerStrategy The name of the strategy of the second player.
+     * @param secondPlayerHistory  The answers of the second player.
+     * @param secondPlayerOutcome  The total outcome of the second player.
+     */
+    public void recordFinished(final String firstPlayerStrategy, final GefangenenDilemmaMoveHistory firstPlayerHistory,
+            final double firstPlayerOutcome, final String secondPlayerStrategy,
+            final GefangenenDilemmaMoveHistory secondPlayerHistory, final double secondPlayerOutcome) {
+        final int[] counts = new int[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES];
+        for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES first : GefangenenDilemmaStatistics.ANSWERS) {
+            for (final GefangenenDilemmaGameBuilderFactoryImpl.MOVES second : GefangenenDilemmaStatistics.ANSWERS) {
+                counts[GefangenenDilemmaPayoffMatrix.indexOf(first, second)] = firstPlayerHistory.count(first,
+                        secondPlayerHistory, second);
+            }
+        }
+
+        final Bank bank = this.enter();
+        for (int cell = 0; cell < counts.length; ++cell) {
+            bank.rounds[cell].add(counts[cell]);
+        }
+        bank.strategy(firstPlayerStrategy).record(firstPlayerOutcome);
+        bank.strategy(secondPlayerStrategy).record(secondPlayerOutcome);
+        bank.finishedGames.increment();
+        bank.active.decrementAndGet();
+    }
+
+    /**
+     * Returns the statistics of all games recorded completely so far.
+     */
+    public synchronized GefangenenDilemmaStatisticsSnapshot snapshot() {
+        final long oldEpoch = this.epoch;
+        final Bank bank = this.banks[(int) (oldEpoch & 1)];
+        this.epoch = oldEpoch + 1;
+        // recordings entering the old bank from now on notice the new epoch and leave it again without writing
+        while (bank.active.get() != 0) {
+            Thread.onSpinWait();
+        }
+
+        this.startedGames += bank.startedGames.sumThenReset();
+        this.finishedGames += bank.finishedGames.sumThenReset();
+        for (int cell = 0; cell < this.rounds.length; ++cell) {
+            this.rounds[cell] += bank.rounds[cell].sumThenReset();
+        }
+        for (final Map.Entry<String, StrategyCounters> entry : bank.strategies.entrySet()) {
+            this.strategyOutcomes.merge(entry.getKey(), entry.getValue().outcome.sumThenReset(), Double::sum);
+            this.strategyGames.merge(entry.getKey(), entry.getValue().games.sumThenReset(), Long::sum);
+        }
+        return new GefangenenDilemmaStatisticsSnapshot(this.startedGames, this.finishedGames, this.rounds,
+                this.strategyOutcomes, this.strategyGames);
+    }
+
+    /**
+     * Enters the bank of the current epoch. The caller must decrement {@link Bank#active} when done.
+     */
+    private Bank enter() {
+        while (true) {
+            final long currentEpoch = this.epoch;
+            final Bank bank = this.banks[(int) (currentEpoch & 1)];
+            bank.active.incrementAndGet();
+            if (this.epoch == currentEpoch) {
+                return bank;
+            }
+            bank.active.decrementAndGet();
+        }
+    }
+
+    /**
+     * The counters of a single strategy.
+     */
+    private static final class StrategyCounters {
+
+        /**
+         * The total outcome.
+         */
+        private final DoubleAdder outcome = new DoubleAdder();
+        /**
+         * The number of finished games.
+         */
+        private final LongAdder games = new LongAdder();
+
+        /**
+         * Records the outcome of a game.
+         *
+         * @param gameOutcome The outcome.
+         */
+        void record(final double gameOutcome) {
+            this.outcome.add(gameOutcome);
+            this.games.increment();
+        }
+    }
+
+    /**
+     * A bank of counters.
+     */
+    private static final class Bank {
+
+        /**
+         * The number of recordings in progress.
+         */
+        private final AtomicLong active = new AtomicLong();
+        /**
+         * The number of games started.
+         */
+        private final LongAdder startedGames = new LongAdder();
+        /**
+         * The number of games finished.
+         */
+        private final LongAdder finishedGames = new LongAdder();
+        /**
+         * The number of rounds per combination of answers.
+         */
+        private final LongAdder[] rounds;
+        /**
+         * The counters per strategy.
+         */
+        private final ConcurrentMap<String, StrategyCounters> strategies = new ConcurrentHashMap<>();
+
+        /**
+         * Creates a bank.
+         */
+        Bank() {
+            this.rounds = new LongAdder[GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES];
+            for (int cell = 0; cell < this.rounds.length; ++cell) {
+                this.rounds[cell] = new LongAdder();
+            }
+        }
+
+        /**
+         * Returns the counters of a strategy, creating them if necessary.
+         *
+         * @param name The name of the strategy.
+         */
+        StrategyCounters strategy(final String name) {
+            final StrategyCounters counters = this.strategies.get(name);
+            return counters != null ? counters : this.strategies.computeIfAbsent(name, key -> new StrategyCounters());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.Move;
+import de.fhdw.gaming.core.domain.Observer;
+import de.fhdw.gaming.core.domain.Player;
+import de.fhdw.gaming.core.domain.State;
+
+/**
+ * Records started and finished games into {@link GefangenenDilemmaStatistics}.
+ * <p>
+ * The observer itself is stateless, so a single instance may observe any number of games concurrently. Strategies are
+ * identified by their {@link Object#toString() string representation}.
+ */
+public final class GefangenenDilemmaStatisticsObserver implements Observer {
+
+    /**
+     * The statistics.
+     */
+    private final GefangenenDilemmaStatistics statistics;
+
+    /**
+     * Creates an observer.
+     *
+     * @param statistics The statistics.
+     */
+    public GefangenenDilemmaStatisticsObserver(final GefangenenDilemmaStatistics statistics) {
+        this.statistics = Objects.requireNonNull(statistics, "statistics");
+    }
+
+    @Override
+    public void started(final Game<?, ?, ?, ?> game, final State<?, ?> state) {
+        this.statistics.recordStarted();
+    }
+
+    @Override
+    public void nextPlayersComputed(final Game<?, ?, ?, ?> game, final State<?, ?> state,
+            final Set<? extends Player<?>> players) {
+        // nothing to do
+    }
+
+    @Override
+    public void illegalPlayerRejected(final Game<?, ?, ?, ?> game, final Player<?> player) {
+        // nothing to do
+    }
+
+    @Override
+    public void legalMoveApplied(final Game<?, ?, ?, ?> game, final State<?, ?> state, final Player<?> player,
+            final Move<?, ?> move) {
+        // nothing to do
+    }
+
+    @Override
+    public void illegalMoveRejected(final Game<?, ?, ?, ?> game, final State<?, ?> state, final Player<?> player,
+            final Optional<Move<?, ?>> move, final String reason) {
+        // nothing to do
+    }
+
+    @Override
+    public void overdueMoveRejected(final Game<?, ?, ?, ?> game, final State<?, ?> state, final Player<?> player,
+            final Optional<Move<?, ?>> chosenMove) {
+        // nothing to do
+    }
+
+    @Override
+    public void playerResigned(final Game<?, ?, ?, ?> game, final State<?, ?> state, final Player<?> player) {
+        // nothing to do
+    }
+
+    @Override
+    public void playerOvertaken(final Game<?, ?, ?, ?> game, final State<?, ?> state, final Player<?> overtakenPlayer,
+            final Player<?> overtakingPlayer) {
+        // nothing to do
+    }
+
+    @Override
+    public void finished(final Game<?, ?, ?, ?> game, final State<?, ?> state) {
+        if (state instanceof GefangenenDilemmaState) {
+            final GefangenenDilemmaState gefangenenDilemmaState = (GefangenenDilemmaState) state;
+            this.statistics.recordFinished(
+                    String.valueOf(game.getStrategies().get(gefangenenDilemmaState.getFirstPlayer().getName())),
+                    gefangenenDilemmaState.getFirstPlayerHistory(), gefangenenDilemmaState.getFirstPlayerTotalOutcome(),
+                    String.valueOf(game.getStrategies().get(gefangenenDilemmaState.getSecondPlayer().getName())),
+                    gefangenenDilemmaState.getSecondPlayerHistory(),
+                    gefangenenDilemmaState.getSecondPlayerTotalOutcome());
+        }
+    }
+}
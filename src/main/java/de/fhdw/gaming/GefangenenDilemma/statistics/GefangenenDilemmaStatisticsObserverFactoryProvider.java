@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import java.util.List;
+
+import de.fhdw.gaming.core.domain.ObserverFactory;
+import de.fhdw.gaming.core.domain.ObserverFactoryProvider;
+
+/**
+ * Provides an observer recording all games into shared {@link GefangenenDilemmaStatistics}. Pass it to
+ * {@code GefangenenDilemmaGameBuilder#changeObserverFactoryProvider} of every game to be recorded.
+ */
+public final class GefangenenDilemmaStatisticsObserverFactoryProvider implements ObserverFactoryProvider {
+
+    /**
+     * The statistics.
+     */
+    private final GefangenenDilemmaStatistics statistics;
+    /**
+     * The factory of the observer.
+     */
+    private final ObserverFactory observerFactory;
+
+    /**
+     * Creates a provider recording into new statistics.
+     */
+    public GefangenenDilemmaStatisticsObserverFactoryProvider() {
+        this(new GefangenenDilemmaStatistics());
+    }
+
+    /**
+     * Creates a provider.
+     *
+     * @param statistics The statistics to record into.
+     */
+    public GefangenenDilemmaStatisticsObserverFactoryProvider(final GefangenenDilemmaStatistics statistics) {
+        this.statistics = statistics;
+        final GefangenenDilemmaStatisticsObserver observer = new GefangenenDilemmaStatisticsObserver(statistics);
+        this.observerFactory = () -> observer;
+    }
+
+    /**
+     * Returns the statistics.
+     */
+    public GefangenenDilemmaStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    @Override
+    public List<ObserverFactory> getObserverFactories() {
+        return List.of(this.observerFactory);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+
+/**
+ * The statistics of the games recorded up to some point in time. Snapshots are immutable.
+ */
+public final class GefangenenDilemmaStatisticsSnapshot {
+
+    /**
+     * The number of games started.
+     */
+    private final long startedGames;
+    /**
+     * The number of games finished.
+     */
+    private final long finishedGames;
+    /**
+     * The number of rounds per combination of answers, indexed like {@link GefangenenDilemmaPayoffMatrix}.
+     */
+    private final long[] rounds;
+    /**
+     * The total outcome per strategy.
+     */
+    private final Map<String, Double> strategyOutcomes;
+    /**
+     * The number of finished games per strategy.
+     */
+    private final Map<String, Long> strategyGames;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param startedGames     The number of games started.
+     * @param finishedGames    The number of games finished.
+     * @param rounds           The number of rounds per combination of answers, indexed like
+     *                         {@link GefangenenDilemmaPayoffMatrix}. The array is copied.
+     * @param strategyOutcomes The total outcome per strategy.
+     * @param strategyGames    The number of finished games per strategy.
+     */
+    public GefangenenDilemmaStatisticsSnapshot(final long startedGames, final long finishedGames, final long[] rounds,
+            final Map<String, Double> strategyOutcomes, final Map<String, Long> strategyGames) {
+        if (rounds.length != GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES) {
+            throw new IllegalArgumentException(
+                    String.format("%d round counts were passed instead of %d.", rounds.length,
+                            GefangenenDilemmaPayoffMatrix.NUMBER_OF_OUTCOMES));
+        }
+        this.startedGames = startedGames;
+        this.finishedGames = finishedGames;
+        this.rounds = rounds.clone();
+        this.strategyOutcomes = Collections.unmodifiableMap(new TreeMap<>(strategyOutcomes));
+        this.strategyGames = Collections.unmodifiableMap(new TreeMap<>(strategyGames));
+    }
+
+    /**
+     * Returns the number of games started.
+     */
+    public long getStartedGames() {
+        return this.startedGames;
+    }
+
+    /**
+     * Returns the number of games finished.
+     */
+    public long getFinishedGames() {
+        return this.finishedGames;
+    }
+
+    /**
+     * Returns the number of rounds of finished games in which the players gave a given combination of answers.
+     *
+     * @param answerOfFirstPlayer  The answer of the first player.
+     * @param answerOfSecondPlayer The answer of the second player.
+     */
+    public long getRounds(final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfFirstPlayer,
+            final GefangenenDilemmaGameBuilderFactoryImpl.MOVES answerOfSecondPlayer) {
+        return this.rounds[GefangenenDilemmaPayoffMatrix.indexOf(answerOfFirstPlayer, answerOfSecondPlayer)];
+    }
+
+    /**
+     * Returns the number of rounds of finished games.
+     */
+    public long getTotalRounds() {
+        return Arrays.stream(this.rounds).sum();
+    }
+
+    /**
+     * Returns the strategies which took part in finished games.
+     */
+    public Set<String> getStrategies() {
+        return this.strategyGames.keySet();
+    }
+
+    /**
+     * Returns the total outcome of a strategy in finished games.
+     *
+     * @param strategy The name of the strategy.
+     */
+    public double getTotalOutcome(final String strategy) {
+        return this.strategyOutcomes.getOrDefault(strategy, 0.0);
+    }
+
+    /**
+     * Returns the number of finished games a strategy took part in, counting a game twice if it played both seats.
+     *
+     * @param strategy The name of the strategy.
+     */
+    public long getGames(final String strategy) {
+        return this.strategyGames.getOrDefault(strategy, 0L);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatisticsSnapshot[started=%d, finished=%d, rounds=%s, outcomes=%s, games=%s]",
+                this.startedGames, this.finishedGames, Arrays.toString(this.rounds), this.strategyOutcomes,
+                this.strategyGames);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaStatisticsSnapshot) {
+            final GefangenenDilemmaStatisticsSnapshot other = (GefangenenDilemmaStatisticsSnapshot) obj;
+            return this.startedGames == other.startedGames && this.finishedGames == other.finishedGames
+                    && Arrays.equals(this.rounds, other.rounds) && this.strategyOutcomes.equals(other.strategyOutcomes)
+                    && this.strategyGames.equals(other.strategyGames);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.startedGames, this.finishedGames, Arrays.hashCode(this.rounds),
+                this.strategyOutcomes, this.strategyGames);
+    }
+}
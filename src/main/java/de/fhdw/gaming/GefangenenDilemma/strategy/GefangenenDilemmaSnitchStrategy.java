@@ -17,6 +17,7 @@ package de.fhdw.gaming.GefangenenDilemma.strategy;
 
 import java.util.Optional;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
@@ -26,12 +27,12 @@ import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFacto
 /**
  * Implements {@link GefangenenDilemmaStrategy} by always saying "no".
  */
-public final class GefangenenDilemmaSnitchStrategy implements GefangenenDilemmaStrategy {
+public final class GefangenenDilemmaSnitchStrategy implements GefangenenDilemmaFiniteMemoryStrategy {
 
     /**
-     * The factory for creating Demo moves.
+     * The move to return, created once as moves are stateless.
      */
-    private final GefangenenDilemmaMoveFactory moveFactory;
+    private final Optional<GefangenenDilemmaMove> nextMove;
 
     /**
      * Creates an {@link GefangenenDilemmaSnitchStrategy}.
@@ -39,7 +40,7 @@ public final class GefangenenDilemmaSnitchStrategy implements GefangenenDilemmaS
      * @param moveFactory The factory for creating Demo moves.
      */
     GefangenenDilemmaSnitchStrategy(final GefangenenDilemmaMoveFactory moveFactory) {
-        this.moveFactory = moveFactory;
+        this.nextMove = Optional.of(moveFactory.createSnitchMove());
     }
 
     @Override
@@ -48,7 +49,12 @@ public final class GefangenenDilemmaSnitchStrategy implements GefangenenDilemmaS
             final GefangenenDilemmaPlayer player,
             final GefangenenDilemmaState state,
             final long maxComputationTimePerMove) {
-        return Optional.of(this.moveFactory.createSnitchMove());
+        return this.nextMove;
+    }
+
+    @Override
+    public int getMemoryDepth() {
+        return 0;
     }
 
     @Override
@@ -17,6 +17,7 @@ package de.fhdw.gaming.GefangenenDilemma.strategy;
 
 import java.util.Optional;
 
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
 import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
@@ -26,12 +27,12 @@ import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFacto
 /**
  * Implements {@link GefangenenDilemmaStrategy} by always saying "yes".
  */
-public final class GefangenenDilemmaStaySilentStrategy implements GefangenenDilemmaStrategy {
+public final class GefangenenDilemmaStaySilentStrategy implements GefangenenDilemmaFiniteMemoryStrategy {
 
     /**
-     * The factory for creating Demo moves.
+     * The move to return, created once as moves are stateless.
      */
-    private final GefangenenDilemmaMoveFactory moveFactory;
+    private final Optional<GefangenenDilemmaMove> nextMove;
 
     /**
      * Creates an {@link GefangenenDilemmaStaySilentStrategy}.
@@ -39,7 +40,7 @@ public final class GefangenenDilemmaStaySilentStrategy implements GefangenenDile
      * @param moveFactory The factory for creating Demo moves.
      */
     GefangenenDilemmaStaySilentStrategy(final GefangenenDilemmaMoveFactory moveFactory) {
-        this.moveFactory = moveFactory;
+        this.nextMove = Optional.of(moveFactory.createStaySilentMove());
     }
 
     @Override
@@ -48,7 +49,12 @@ public final class GefangenenDilemmaStaySilentStrategy implements GefangenenDile
             final GefangenenDilemmaPlayer player,
             final GefangenenDilemmaState state,
             final long maxComputationTimePerMove) {
-        return Optional.of(this.moveFactory.createStaySilentMove());
+        return this.nextMove;
+    }
+
+    @Override
+    public int getMemoryDepth() {
+        return 0;
     }
 
     @Override
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.tournament;
+
+import java.util.Objects;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+
+/**
+ * The accumulated result of one strategy in a {@link GefangenenDilemmaTournament}.
+ */
+public final class GefangenenDilemmaTournamentStanding {
+
+    /**
+     * The strategy.
+     */
+    private final GefangenenDilemmaStrategy strategy;
+    /**
+     * The sum of the outcomes of all matches the strategy took part in.
+     */
+    private final double totalOutcome;
+    /**
+     * The number of matches the strategy took part in. A match against itself counts twice.
+     */
+    private final long numberOfMatches;
+
+    /**
+     * Creates a standing.
+     *
+     * @param strategy        The strategy.
+     * @param totalOutcome    The sum of the outcomes of all matches the strategy took part in.
+     * @param numberOfMatches The number of matches the strategy took part in.
+     */
+    public GefangenenDilemmaTournamentStanding(final GefangenenDilemmaStrategy strategy, final double totalOutcome,
+            final long numberOfMatches) {
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.totalOutcome = totalOutcome;
+        this.numberOfMatches = numberOfMatches;
+    }
+
+    /**
+     * Returns the strategy.
+     */
+    public GefangenenDilemmaStrategy getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Returns the sum of the outcomes of all matches the strategy took part in.
+     */
+    public double getTotalOutcome() {
+        return this.totalOutcome;
+    }
+
+    /**
+     * Returns the number of matches the strategy took part in. A match against itself counts twice.
+     */
+    public long getNumberOfMatches() {
+        return this.numberOfMatches;
+    }
+
+    /**
+     * Returns the average outcome per match.
+     */
+    public double getAverageOutcome() {
+        return this.numberOfMatches == 0 ? 0.0 : this.totalOutcome / this.numberOfMatches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TournamentStanding[strategy=%s, totalOutcome=%s, numberOfMatches=%d]", this.strategy,
+                this.totalOutcome, this.numberOfMatches);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj instanceof GefangenenDilemmaTournamentStanding) {
+            final GefangenenDilemmaTournamentStanding other = (GefangenenDilemmaTournamentStanding) obj;
+            return this.strategy.equals(other.strategy)
+                    && Double.compare(this.totalOutcome, other.totalOutcome) == 0
+                    && this.numberOfMatches == other.numberOfMatches;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.strategy, this.totalOutcome, this.numberOfMatches);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.tournament.factory;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLog;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournament;
+import de.fhdw.gaming.GefangenenDilemma.tournament.impl.GefangenenDilemmaRoundRobinTournament;
+
+/**
+ * Implements {@link GefangenenDilemmaTournamentFactory} by creating tournaments which play their matches on a
+ * {@link ForkJoinPool}.
+ */
+public final class GefangenenDilemmaDefaultTournamentFactory implements GefangenenDilemmaTournamentFactory {
+
+    /**
+     * Creates a {@link GefangenenDilemmaDefaultTournamentFactory}.
+     */
+    public GefangenenDilemmaDefaultTournamentFactory() {
+        // nothing to do
+    }
+
+    @Override
+    public GefangenenDilemmaTournament createRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions) {
+        return new GefangenenDilemmaRoundRobinTournament(strategies, simulator, repetitions);
+    }
+
+    @Override
+    public GefangenenDilemmaTournament createRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions, final ForkJoinPool pool) {
+        return new GefangenenDilemmaRoundRobinTournament(strategies, simulator, repetitions, pool);
+    }
+
+    @Override
+    public GefangenenDilemmaTournament createRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions, final ForkJoinPool pool,
+            final GefangenenDilemmaMatchLog log) {
+        return new GefangenenDilemmaRoundRobinTournament(strategies, simulator, repetitions, pool, log);
+    }
+}
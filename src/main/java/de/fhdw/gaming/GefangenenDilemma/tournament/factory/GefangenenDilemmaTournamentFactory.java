@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.tournament.factory;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLog;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournament;
+
+/**
+ * Represents a factory creating {@link GefangenenDilemmaTournament tournaments}.
+ */
+public interface GefangenenDilemmaTournamentFactory {
+
+    /**
+     * Creates a round-robin tournament using the common {@link ForkJoinPool}. Every ordered pairing of strategies,
+     * including self-play, is played the given number of times.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @return The tournament.
+     */
+    GefangenenDilemmaTournament createRoundRobinTournament(List<GefangenenDilemmaStrategy> strategies,
+            GefangenenDilemmaMatchSimulator simulator, int repetitions);
+
+    /**
+     * Creates a round-robin tournament. Every ordered pairing of strategies, including self-play, is played the given
+     * number of times.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @param pool        The pool executing the matches.
+     * @return The tournament.
+     */
+    GefangenenDilemmaTournament createRoundRobinTournament(List<GefangenenDilemmaStrategy> strategies,
+            GefangenenDilemmaMatchSimulator simulator, int repetitions, ForkJoinPool pool);
+
+    /**
+     * Creates a round-robin tournament appending the rounds of all matches to a log. Every ordered pairing of
+     * strategies, including self-play, is played the given number of times.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @param pool        The pool executing the matches.
+     * @param log         The log receiving the rounds of all matches.
+     * @return The tournament.
+     */
+    GefangenenDilemmaTournament createRoundRobinTournament(List<GefangenenDilemmaStrategy> strategies,
+            GefangenenDilemmaMatchSimulator simulator, int repetitions, ForkJoinPool pool,
+            GefangenenDilemmaMatchLog log);
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright © 2021-2023 Fachhochschule für die Wirtschaft (FHDW) Hannover
+ *
+ * This file is part of ipspiel24-demo.
+ *
+ * Ipspiel24-demo is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by the Free Software Foundation, either version 3 of the License, or (at your option) any later
+ * version.
+ *
+ * Ipspiel24-demo is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with ipspiel24-demo. If not, see
+ * <http://www.gnu.org/licenses/>.
+ */
+package de.fhdw.gaming.GefangenenDilemma.tournament.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchFailedException;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLog;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournament;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournamentStanding;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Implements {@link GefangenenDilemmaTournament} by letting every strategy play against every strategy, including
+ * itself, in both seats and a given number of times.
+ * <p>
+ * The matches are numbered consecutively and split recursively into tasks of a {@link ForkJoinPool}, so idle workers
+ * steal pending ranges of matches from busy ones. Each task sums up the outcomes in private arrays which are merged
+ * when the tasks are joined, so workers do not share any mutable state. The number of a match is passed to the
+ * strategies as game ID; as the split is deterministic, repeated runs yield identical results.
+ * <p>
+ * As strategies are shared between the workers, they must be thread-safe.
+ * <p>
+ * If a {@link GefangenenDilemmaMatchLog} is given, every round of every match is appended to it, with the indices of
+ * the strategies as player indices. Matches are then played round by round, without extrapolating cycles.
+ */
+public final class GefangenenDilemmaRoundRobinTournament implements GefangenenDilemmaTournament {
+
+    /**
+     * The number of tasks created per worker thread, allowing for load balancing between workers.
+     */
+    private static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * The participating strategies.
+     */
+    private final List<GefangenenDilemmaStrategy> strategies;
+    /**
+     * The simulator playing the matches.
+     */
+    private final GefangenenDilemmaMatchSimulator simulator;
+    /**
+     * How often each pairing is played.
+     */
+    private final int repetitions;
+    /**
+     * The pool executing the matches.
+     */
+    private final ForkJoinPool pool;
+    /**
+     * The log receiving the rounds of all matches, if any.
+     */
+    private final Optional<GefangenenDilemmaMatchLog> log;
+
+    /**
+     * Creates a round-robin tournament using the common {@link ForkJoinPool}.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     */
+    public GefangenenDilemmaRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions) {
+        this(strategies, simulator, repetitions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a round-robin tournament.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @param pool        The pool executing the matches.
+     */
+    public GefangenenDilemmaRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions, final ForkJoinPool pool) {
+        this(strategies, simulator, repetitions, pool, Optional.empty());
+    }
+
+    /**
+     * Creates a round-robin tournament logging all rounds.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @param pool        The pool executing the matches.
+     * @param log         The log receiving the rounds of all matches.
+     */
+    public GefangenenDilemmaRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions, final ForkJoinPool pool,
+            final GefangenenDilemmaMatchLog log) {
+        this(strategies, simulator, repetitions, pool, Optional.of(Objects.requireNonNull(log, "log")));
+    }
+
+    /**
+     * Creates a round-robin tournament.
+     *
+     * @param strategies  The participating strategies.
+     * @param simulator   The simulator playing the matches.
+     * @param repetitions How often each pairing is played.
+     * @param pool        The pool executing the matches.
+     * @param log         The log receiving the rounds of all matches, if any.
+     */
+    private GefangenenDilemmaRoundRobinTournament(final List<GefangenenDilemmaStrategy> strategies,
+            final GefangenenDilemmaMatchSimulator simulator, final int repetitions, final ForkJoinPool pool,
+            final Optional<GefangenenDilemmaMatchLog> log) {
+        this.log = log;
+        this.strategies = List.copyOf(strategies);
+        this.simulator = Objects.requireNonNull(simulator, "simulator");
+        this.repetitions = repetitions;
+        this.pool = Objects.requireNonNull(pool, "pool");
+
+        if (repetitions < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Each pairing must be played at least once, but %d repetitions were requested.",
+                            repetitions));
+        }
+        if ((long) this.strategies.size() * this.strategies.size() * repetitions > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The tournament has too many matches for game IDs to be unique.");
+        }
+    }
+
+    @Override
+    public List<GefangenenDilemmaTournamentStanding> play() throws GameException, InterruptedException {
+        final int numberOfMatches = this.strategies.size() * this.strategies.size() * this.repetitions;
+        final int threshold = Math.max(1, numberOfMatches
+                / (this.pool.getParallelism() * GefangenenDilemmaRoundRobinTournament.TASKS_PER_WORKER));
+
+        final Totals totals;
+        try {
+            totals = this.pool.invoke(new MatchRangeTask(0, numberOfMatches, threshold));
+        } catch (final GefangenenDilemmaMatchFailedException e) {
+            throw e.rethrowCause();
+        }
+
+        final List<GefangenenDilemmaTournamentStanding> standings = new ArrayList<>(this.strategies.size());
+        for (int i = 0; i < this.strategies.size(); ++i) {
+            standings.add(new GefangenenDilemmaTournamentStanding(this.strategies.get(i), totals.outcomes[i],
+                    totals.matches[i]));
+        }
+        standings.sort(Comparator.comparingDouble(GefangenenDilemmaTournamentStanding::getTotalOutcome).reversed());
+        return standings;
+    }
+
+    /**
+     * The outcomes summed up per strategy.
+     */
+    private static final class Totals {
+
+        /**
+         * The sum of the outcomes per strategy.
+         */
+        private final double[] outcomes;
+        /**
+         * The number of matches per strategy.
+         */
+        private final long[] matches;
+
+        /**
+         * Creates empty totals.
+         *
+         * @param numberOfStrategies The number of strategies.
+         */
+        Totals(final int numberOfStrategies) {
+            this.outcomes = new double[numberOfStrategies];
+            this.matches = new long[numberOfStrategies];
+        }
+
+        /**
+         * Adds other totals to these ones.
+         *
+         * @param other The totals to add.
+         * @return {@code this}
+         */
+        Totals add(final Totals other) {
+            for (int i = 0; i < this.outcomes.length; ++i) {
+                this.outcomes[i] += other.outcomes[i];
+                this.matches[i] += other.matches[i];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Plays a consecutive range of matches.
+     */
+    private final class MatchRangeTask extends RecursiveTask<Totals> {
+
+        /**
+         * The serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first match of the range (inclusive).
+         */
+        private final int from;
+        /**
+         * The last match of the range (exclusive).
+         */
+        private final int to;
+        /**
+         * The number of matches below which the range is not split any further.
+         */
+        private final int threshold;
+
+        /**
+         * Creates a task.
+         *
+         * @param from      The first match of the range (inclusive).
+         * @param to        The last match of the range (exclusive).
+         * @param threshold The number of matches below which the range is not split any further.
+         */
+        MatchRangeTask(final int from, final int to, final int threshold) {
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (this.to - this.from > this.threshold) {
+                final int middle = (this.from + this.to) >>> 1;
+                final MatchRangeTask left = new MatchRangeTask(this.from, middle, this.threshold);
+                left.fork();
+                final Totals right = new MatchRangeTask(middle, this.to, this.threshold).compute();
+                return left.join().add(right);
+            }
+
+            final List<GefangenenDilemmaStrategy> participants = GefangenenDilemmaRoundRobinTournament.this.strategies;
+            final int matchesPerFirstStrategy = participants.size()
+                    * GefangenenDilemmaRoundRobinTournament.this.repetitions;
+            final Totals totals = new Totals(participants.size());
+            for (int match = this.from; match < this.to; ++match) {
+                final int first = match / matchesPerFirstStrategy;
+                final int second = match / GefangenenDilemmaRoundRobinTournament.this.repetitions
+                        % participants.size();
+                final GefangenenDilemmaMatchResult result = this.simulate(match, first, second);
+                totals.outcomes[first] += result.getFirstPlayerOutcome();
+                totals.matches[first]++;
+                totals.outcomes[second] += result.getSecondPlayerOutcome();
+                totals.matches[second]++;
+            }
+            return totals;
+        }
+
+        /**
+         * Plays a single match.
+         *
+         * @param gameId The ID of the match.
+         * @param first  The index of the strategy of the first player.
+         * @param second The index of the strategy of the second player.
+         */
+        private GefangenenDilemmaMatchResult simulate(final int gameId, final int first, final int second) {
+            final GefangenenDilemmaRoundRobinTournament tournament = GefangenenDilemmaRoundRobinTournament.this;
+            try {
+                if (tournament.log.isPresent()) {
+                    return tournament.simulator.simulate(gameId, tournament.strategies.get(first),
+                            tournament.strategies.get(second), tournament.log.get().createRoundListener(first, second));
+                }
+                return tournament.simulator.simulate(gameId, tournament.strategies.get(first),
+                        tournament.strategies.get(second));
+            } catch (final GameException e) {
+                throw new GefangenenDilemmaMatchFailedException(e);
+            } catch (final InterruptedException e) {
+                throw GefangenenDilemmaMatchFailedException.interrupted(e);
+            }
+        }
+    }
+}
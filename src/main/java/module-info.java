@@ -14,10 +14,28 @@
  * <http://www.gnu.org/licenses/>.
  */
 module de.fhdw.gaming.GefangenenDilemma {
+    exports de.fhdw.gaming.GefangenenDilemma.analysis;
+    exports de.fhdw.gaming.GefangenenDilemma.analysis.factory;
     exports de.fhdw.gaming.GefangenenDilemma.domain;
     exports de.fhdw.gaming.GefangenenDilemma.domain.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.estimation;
+    exports de.fhdw.gaming.GefangenenDilemma.estimation.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.evolution;
+    exports de.fhdw.gaming.GefangenenDilemma.evolution.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.export;
+    exports de.fhdw.gaming.GefangenenDilemma.log;
+    exports de.fhdw.gaming.GefangenenDilemma.lookup;
+    exports de.fhdw.gaming.GefangenenDilemma.lookup.factory;
     exports de.fhdw.gaming.GefangenenDilemma.moves;
     exports de.fhdw.gaming.GefangenenDilemma.moves.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.network;
+    exports de.fhdw.gaming.GefangenenDilemma.network.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.noise;
+    exports de.fhdw.gaming.GefangenenDilemma.spatial;
+    exports de.fhdw.gaming.GefangenenDilemma.spatial.factory;
+    exports de.fhdw.gaming.GefangenenDilemma.statistics;
+    exports de.fhdw.gaming.GefangenenDilemma.tournament;
+    exports de.fhdw.gaming.GefangenenDilemma.tournament.factory;
 
     requires transitive de.fhdw.gaming.core;
 
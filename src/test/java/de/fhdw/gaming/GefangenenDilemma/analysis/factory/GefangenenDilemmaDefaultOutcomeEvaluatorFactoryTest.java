@@ -0,0 +1,47 @@
+package de.fhdw.gaming.GefangenenDilemma.analysis.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaExpectedOutcome;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaMemoryOneRule;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultOutcomeEvaluatorFactory}.
+ */
+final class GefangenenDilemmaDefaultOutcomeEvaluatorFactoryTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+
+    /**
+     * Tests that the created evaluator uses the given payoff matrices and discount factor.
+     */
+    @Test
+    void testCreate() {
+        final GefangenenDilemmaOutcomeEvaluatorFactory factory = new GefangenenDilemmaDefaultOutcomeEvaluatorFactory();
+        final GefangenenDilemmaExpectedOutcome outcome = factory
+                .create(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 0.5)
+                .evaluate(new GefangenenDilemmaMemoryOneRule(0.0, 0.0, 0.0, 0.0, 0.0),
+                        new GefangenenDilemmaMemoryOneRule(1.0, 1.0, 1.0, 1.0, 1.0));
+        assertThat(outcome.getFirstPlayerAverageOutcome(), is(closeTo(0.0, 1e-9)));
+        assertThat(outcome.getSecondPlayerAverageOutcome(), is(closeTo(-10.0, 1e-9)));
+        assertThat(outcome.getSecondPlayerDiscountedOutcome(), is(closeTo(-20.0, 1e-9)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> factory.create(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1.0));
+    }
+}
@@ -0,0 +1,110 @@
+package de.fhdw.gaming.GefangenenDilemma.analysis.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaExpectedOutcome;
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaMemoryOneRule;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaMarkovOutcomeEvaluator}.
+ */
+final class GefangenenDilemmaMarkovOutcomeEvaluatorTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The discount factor.
+     */
+    private static final double DISCOUNT_FACTOR = 0.9;
+    /**
+     * The tolerated numerical error.
+     */
+    private static final double EPSILON = 1e-9;
+    /**
+     * Always snitches.
+     */
+    private static final GefangenenDilemmaMemoryOneRule ALWAYS_SNITCH = new GefangenenDilemmaMemoryOneRule(
+            0.0, 0.0, 0.0, 0.0, 0.0);
+    /**
+     * Always remains silent.
+     */
+    private static final GefangenenDilemmaMemoryOneRule ALWAYS_STAY_SILENT = new GefangenenDilemmaMemoryOneRule(
+            1.0, 1.0, 1.0, 1.0, 1.0);
+
+    /**
+     * The evaluator under test.
+     */
+    private final GefangenenDilemmaMarkovOutcomeEvaluator evaluator = new GefangenenDilemmaMarkovOutcomeEvaluator(
+            FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, DISCOUNT_FACTOR);
+
+    /**
+     * Tests two unconditional strategies.
+     */
+    @Test
+    void testUnconditionalStrategies() {
+        final GefangenenDilemmaExpectedOutcome outcome = this.evaluator.evaluate(ALWAYS_SNITCH, ALWAYS_STAY_SILENT);
+        assertThat(outcome.getStationaryProbability(MOVES.SNITCH, MOVES.REMAINSILENT), is(closeTo(1.0, EPSILON)));
+        assertThat(outcome.getFirstPlayerAverageOutcome(), is(closeTo(0.0, EPSILON)));
+        assertThat(outcome.getSecondPlayerAverageOutcome(), is(closeTo(-10.0, EPSILON)));
+        assertThat(outcome.getFirstPlayerDiscountedOutcome(), is(closeTo(0.0, EPSILON)));
+        assertThat(outcome.getSecondPlayerDiscountedOutcome(), is(closeTo(-100.0, EPSILON)));
+    }
+
+    /**
+     * Tests random strategies, whose chain has a unique stationary distribution.
+     */
+    @Test
+    void testRandomStrategies() {
+        final GefangenenDilemmaMemoryOneRule random = new GefangenenDilemmaMemoryOneRule(0.5, 0.5, 0.5, 0.5, 0.5);
+        final GefangenenDilemmaExpectedOutcome outcome = this.evaluator.evaluate(random, random);
+        assertThat(outcome.getStationaryProbability(MOVES.REMAINSILENT, MOVES.SNITCH), is(closeTo(0.25, EPSILON)));
+        assertThat(outcome.getFirstPlayerAverageOutcome(), is(closeTo(-4.75, EPSILON)));
+        assertThat(outcome.getSecondPlayerDiscountedOutcome(), is(closeTo(-47.5, EPSILON)));
+    }
+
+    /**
+     * Tests tit for tat against itself, whose long-run behaviour depends on the first round.
+     */
+    @Test
+    void testTitForTat() {
+        final GefangenenDilemmaMemoryOneRule titForTat = new GefangenenDilemmaMemoryOneRule(1.0, 0.0, 1.0, 0.0, 1.0);
+        final GefangenenDilemmaExpectedOutcome cooperating = this.evaluator.evaluate(titForTat, titForTat);
+        assertThat(cooperating.getFirstPlayerAverageOutcome(), is(closeTo(-1.0, EPSILON)));
+        assertThat(cooperating.getSecondPlayerDiscountedOutcome(), is(closeTo(-10.0, EPSILON)));
+
+        // starting with snitching leads to alternating answers
+        final GefangenenDilemmaMemoryOneRule suspicious = new GefangenenDilemmaMemoryOneRule(0.0, 0.0, 1.0, 0.0, 1.0);
+        final GefangenenDilemmaExpectedOutcome alternating = this.evaluator.evaluate(suspicious, titForTat);
+        assertThat(alternating.getStationaryProbability(MOVES.SNITCH, MOVES.REMAINSILENT), is(closeTo(0.5, EPSILON)));
+        assertThat(alternating.getFirstPlayerAverageOutcome(), is(closeTo(-5.0, EPSILON)));
+        assertThat(alternating.getSecondPlayerAverageOutcome(), is(closeTo(-5.0, EPSILON)));
+        assertThat(alternating.getFirstPlayerDiscountedOutcome(),
+                is(closeTo(-10.0 * DISCOUNT_FACTOR / (1.0 - DISCOUNT_FACTOR * DISCOUNT_FACTOR), EPSILON)));
+    }
+
+    /**
+     * Tests that invalid parameters are rejected.
+     */
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMemoryOneRule(1.5, 0.0, 0.0, 0.0, 0.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMarkovOutcomeEvaluator(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1.0));
+    }
+}
@@ -0,0 +1,166 @@
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaMoveHistory}.
+ */
+final class GefangenenDilemmaMoveHistoryTest {
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#add(MOVES)} and {@link GefangenenDilemmaMoveHistory#get(int)} beyond a
+     * single word.
+     */
+    @Test
+    void testAddAndGet() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        for (int round = 0; round < 200; ++round) {
+            history.add(round % 3 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT);
+        }
+        assertThat(history.size(), is(equalTo(200)));
+        for (int round = 0; round < 200; ++round) {
+            assertThat(history.get(round), is(equalTo(round % 3 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT)));
+        }
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> history.get(200));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#getLast()}.
+     */
+    @Test
+    void testGetLast() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        assertThat(history.getLast(), is(equalTo(Optional.empty())));
+        history.add(MOVES.REMAINSILENT);
+        history.add(MOVES.SNITCH);
+        assertThat(history.getLast(), is(equalTo(Optional.of(MOVES.SNITCH))));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#getRecentAnswers(int)}, also for copies and before the first round.
+     */
+    @Test
+    void testGetRecentAnswers() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        assertThat(history.getRecentAnswers(3), is(equalTo(0b111)));
+        history.add(MOVES.SNITCH);
+        history.add(MOVES.REMAINSILENT);
+        assertThat(history.getRecentAnswers(0), is(equalTo(0)));
+        assertThat(history.getRecentAnswers(3), is(equalTo(0b101)));
+
+        final GefangenenDilemmaMoveHistory copy = new GefangenenDilemmaMoveHistory(history);
+        copy.add(MOVES.SNITCH);
+        assertThat(copy.getRecentAnswers(3), is(equalTo(0b010)));
+        assertThat(history.getRecentAnswers(3), is(equalTo(0b101)));
+
+        for (int round = 0; round < 40; ++round) {
+            history.add(MOVES.SNITCH);
+        }
+        assertThat(history.getRecentAnswers(Integer.SIZE), is(equalTo(0)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> history.getRecentAnswers(Integer.SIZE + 1));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#count(MOVES)}.
+     */
+    @Test
+    void testCount() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        for (int round = 0; round < 100; ++round) {
+            history.add(round < 30 ? MOVES.SNITCH : MOVES.REMAINSILENT);
+        }
+        assertThat(history.count(MOVES.SNITCH), is(equalTo(30)));
+        assertThat(history.count(MOVES.REMAINSILENT), is(equalTo(70)));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#count(MOVES, GefangenenDilemmaMoveHistory, MOVES)}.
+     */
+    @Test
+    void testCountWithOpponent() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        final GefangenenDilemmaMoveHistory opponentHistory = new GefangenenDilemmaMoveHistory();
+        for (int round = 0; round < 150; ++round) {
+            history.add(round % 2 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT);
+            opponentHistory.add(round % 3 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT);
+        }
+        opponentHistory.add(MOVES.SNITCH);
+        assertThat(history.count(MOVES.SNITCH, opponentHistory, MOVES.SNITCH), is(equalTo(25)));
+        assertThat(history.count(MOVES.SNITCH, opponentHistory, MOVES.REMAINSILENT), is(equalTo(50)));
+        assertThat(history.count(MOVES.REMAINSILENT, opponentHistory, MOVES.SNITCH), is(equalTo(25)));
+        assertThat(history.count(MOVES.REMAINSILENT, opponentHistory, MOVES.REMAINSILENT), is(equalTo(50)));
+    }
+
+    /**
+     * Tests that a copy is independent of its source.
+     */
+    @Test
+    void testCopy() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        history.add(MOVES.SNITCH);
+        final GefangenenDilemmaMoveHistory copy = new GefangenenDilemmaMoveHistory(history);
+        assertThat(copy, is(equalTo(history)));
+
+        copy.add(MOVES.REMAINSILENT);
+        assertThat(copy, is(not(equalTo(history))));
+        assertThat(history.size(), is(equalTo(1)));
+
+        history.add(MOVES.REMAINSILENT);
+        assertThat(copy, is(equalTo(history)));
+        assertThat(copy.hashCode(), is(equalTo(history.hashCode())));
+    }
+
+    /**
+     * Tests that histories sharing storage with their source diverge correctly, also beyond a single word.
+     */
+    @Test
+    void testCopyOnWrite() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        for (int round = 0; round < 70; ++round) {
+            history.add(MOVES.REMAINSILENT);
+        }
+        final GefangenenDilemmaMoveHistory first = new GefangenenDilemmaMoveHistory(history);
+        final GefangenenDilemmaMoveHistory second = new GefangenenDilemmaMoveHistory(history);
+        first.add(MOVES.REMAINSILENT);
+        second.add(MOVES.SNITCH);
+        for (int round = 0; round < 100; ++round) {
+            second.add(MOVES.SNITCH);
+            history.add(MOVES.REMAINSILENT);
+        }
+
+        assertThat(first.size(), is(equalTo(71)));
+        assertThat(first.count(MOVES.REMAINSILENT), is(equalTo(71)));
+        assertThat(second.size(), is(equalTo(171)));
+        assertThat(second.count(MOVES.REMAINSILENT), is(equalTo(70)));
+        assertThat(second.get(70), is(equalTo(MOVES.SNITCH)));
+        assertThat(history.count(MOVES.SNITCH), is(equalTo(0)));
+
+        final GefangenenDilemmaMoveHistory truncated = new GefangenenDilemmaMoveHistory();
+        for (int round = 0; round < 71; ++round) {
+            truncated.add(MOVES.REMAINSILENT);
+        }
+        assertThat(first, is(equalTo(truncated)));
+        assertThat(first.hashCode(), is(equalTo(truncated.hashCode())));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMoveHistory#toString()}.
+     */
+    @Test
+    void testToString() {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        history.add(MOVES.SNITCH);
+        history.add(MOVES.REMAINSILENT);
+        assertThat(history.toString(), is(equalTo("MoveHistory[SR]")));
+    }
+}
@@ -0,0 +1,96 @@
+package de.fhdw.gaming.GefangenenDilemma.domain;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaPayoffMatrix}.
+ */
+final class GefangenenDilemmaPayoffMatrixTest {
+
+    /**
+     * The possible outcomes as nested maps.
+     */
+    private static final Map<MOVES, Map<MOVES, Double>> POSSIBLE_OUTCOMES = Map.of(
+            MOVES.SNITCH, Map.of(MOVES.SNITCH, -8.0d, MOVES.REMAINSILENT, 0.0d),
+            MOVES.REMAINSILENT, Map.of(MOVES.SNITCH, -10.0d, MOVES.REMAINSILENT, -1.0d));
+
+    /**
+     * Tests {@link GefangenenDilemmaPayoffMatrix#getOutcome(MOVES, MOVES)}.
+     */
+    @Test
+    void testGetOutcome() {
+        final GefangenenDilemmaPayoffMatrix matrix = GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0);
+        assertThat(matrix.getOutcome(MOVES.SNITCH, MOVES.SNITCH), is(equalTo(-8.0)));
+        assertThat(matrix.getOutcome(MOVES.SNITCH, MOVES.REMAINSILENT), is(equalTo(0.0)));
+        assertThat(matrix.getOutcome(MOVES.REMAINSILENT, MOVES.SNITCH), is(equalTo(-10.0)));
+        assertThat(matrix.getOutcome(MOVES.REMAINSILENT, MOVES.REMAINSILENT), is(equalTo(-1.0)));
+        assertThat(matrix.getOutcome(GefangenenDilemmaPayoffMatrix.indexOf(MOVES.REMAINSILENT, MOVES.SNITCH)),
+                is(equalTo(-10.0)));
+    }
+
+    /**
+     * Tests the conversion from and to nested maps.
+     */
+    @Test
+    void testMapConversion() {
+        final GefangenenDilemmaPayoffMatrix matrix = GefangenenDilemmaPayoffMatrix.fromMap(POSSIBLE_OUTCOMES);
+        assertThat(matrix, is(sameInstance(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0))));
+        assertThat(matrix.asMap(), is(equalTo(POSSIBLE_OUTCOMES)));
+    }
+
+    /**
+     * Tests that a missing outcome is rejected.
+     */
+    @Test
+    void testFromMapWithMissingOutcome() {
+        final Map<MOVES, Map<MOVES, Double>> outcomes = Map.of(
+                MOVES.SNITCH, Map.of(MOVES.SNITCH, -8.0d, MOVES.REMAINSILENT, 0.0d),
+                MOVES.REMAINSILENT, Map.of(MOVES.SNITCH, -10.0d));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GefangenenDilemmaPayoffMatrix.fromMap(outcomes));
+    }
+
+    /**
+     * Tests that equal outcomes yield the same payoff matrix.
+     */
+    @Test
+    void testInterning() {
+        final GefangenenDilemmaPayoffMatrix matrix = GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0);
+        assertThat(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0), is(sameInstance(matrix)));
+        assertThat(GefangenenDilemmaPayoffMatrix.fromMap(POSSIBLE_OUTCOMES), is(sameInstance(matrix)));
+
+        final GefangenenDilemmaPayoffMatrix other = GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0);
+        assertThat(other, is(not(sameInstance(matrix))));
+        assertThat(other.getOutcome(MOVES.SNITCH, MOVES.REMAINSILENT), is(equalTo(-10.0)));
+    }
+
+    /**
+     * Tests that an interned payoff matrix is released once it is no longer referenced.
+     */
+    @Test
+    void testRelease() throws InterruptedException {
+        GefangenenDilemmaPayoffMatrix matrix = GefangenenDilemmaPayoffMatrix.of(-3.25, 1.5, -7.75, 0.125);
+        final WeakReference<GefangenenDilemmaPayoffMatrix> reference = new WeakReference<>(matrix);
+        matrix = null;
+        for (int attempt = 0; attempt < 100 && reference.get() != null; ++attempt) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertThat(reference.get() == null, is(true));
+
+        final GefangenenDilemmaPayoffMatrix recreated = GefangenenDilemmaPayoffMatrix.of(-3.25, 1.5, -7.75, 0.125);
+        assertThat(recreated.getOutcome(MOVES.SNITCH, MOVES.SNITCH), is(equalTo(-3.25)));
+        assertThat(recreated, is(sameInstance(GefangenenDilemmaPayoffMatrix.of(-3.25, 1.5, -7.75, 0.125))));
+    }
+}
@@ -0,0 +1,43 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultMatchSimulatorFactory}.
+ */
+final class GefangenenDilemmaDefaultMatchSimulatorFactoryTest {
+
+    /**
+     * Tests that the created simulator plays with the given payoff matrices and number of rounds.
+     */
+    @Test
+    void testCreate() throws Exception {
+        final GefangenenDilemmaMatchSimulator simulator = new GefangenenDilemmaDefaultMatchSimulatorFactory().create(
+                GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 3);
+        final GefangenenDilemmaDefaultMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMatchResult result = simulator.simulate(1,
+                new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory));
+        assertThat(result.getNumberOfRounds(), is(equalTo(3)));
+        assertThat(result.getFirstPlayerOutcome(), is(equalTo(0.0)));
+        assertThat(result.getSecondPlayerOutcome(), is(equalTo(-30.0)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaDefaultMatchSimulatorFactory().create(
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 0));
+    }
+}
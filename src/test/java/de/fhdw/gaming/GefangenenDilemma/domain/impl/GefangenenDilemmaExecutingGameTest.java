@@ -0,0 +1,256 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.AbstractGefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaExecutingGame}.
+ */
+final class GefangenenDilemmaExecutingGameTest {
+
+    /**
+     * The executor computing the moves.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Creates the executor.
+     */
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Shuts the executor down.
+     */
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Tests that a builder with an executor creates an executing game which plays all rounds.
+     */
+    @Test
+    void testPlay() throws Exception {
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(new GefangenenDilemmaDefaultMoveFactory());
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame(staySilent)) {
+            assertThat(game, is(instanceOf(GefangenenDilemmaExecutingGame.class)));
+            final GefangenenDilemmaState state = this.play(game);
+            assertThat(state.getNumberOfPlayedRounds(), is(equalTo(3)));
+            assertThat(state.getFirstPlayerTotalOutcome(), is(equalTo(-3.0)));
+        }
+    }
+
+    /**
+     * Tests that an illegal move is replaced by a generated move.
+     */
+    @Test
+    void testIllegalMoveIsReplaced() throws Exception {
+        final GefangenenDilemmaMove illegalMove = (state, player) -> {
+            throw new GameException("must not be applied");
+        };
+        final GefangenenDilemmaStrategy illegal = (gameId, player, state, maxComputationTimePerMove) -> Optional
+                .of(illegalMove);
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame(illegal)) {
+            assertThat(this.play(game).getFirstPlayerHistory().count(MOVES.SNITCH), is(equalTo(3)));
+        }
+    }
+
+    /**
+     * Tests that no move can be made before the game has been started.
+     */
+    @Test
+    void testMakeMoveBeforeStart() throws Exception {
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(new GefangenenDilemmaDefaultMoveFactory());
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame(staySilent)) {
+            Assertions.assertThrows(IllegalStateException.class, game::makeMove);
+        }
+    }
+
+    /**
+     * Tests that both strategies of a round compute their moves at the same time with simultaneous moves.
+     */
+    @Test
+    void testSimultaneousMovesOverlap() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        // each strategy waits for the other one, which only succeeds if both are computing at once
+        final GefangenenDilemmaStrategy meeting = (gameId, player, state, maxComputationTimePerMove) -> {
+            try {
+                barrier.await();
+            } catch (final BrokenBarrierException e) {
+                throw new GameException("The other strategy has stopped computing.", e);
+            }
+            return Optional.of(moveFactory.createStaySilentMove());
+        };
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame(meeting, meeting, true)) {
+            final GefangenenDilemmaState state = this.play(game);
+            assertThat(state.getFirstPlayerHistory().count(MOVES.REMAINSILENT), is(equalTo(3)));
+            assertThat(state.getSecondPlayerHistory().count(MOVES.REMAINSILENT), is(equalTo(3)));
+        }
+    }
+
+    /**
+     * Tests that no strategy sees the answer of the other player in the current round with simultaneous moves, and
+     * that the outcomes match a game without simultaneous moves.
+     */
+    @Test
+    void testSimultaneousMovesHideOpponentAnswer() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final AtomicBoolean answerSeen = new AtomicBoolean();
+        final GefangenenDilemmaStrategy watching = (gameId, player, state, maxComputationTimePerMove) -> {
+            if (state.getFirstPlayer().getAnswer().isPresent()) {
+                answerSeen.set(true);
+            }
+            return Optional.of(state.getNumberOfPlayedRounds() % 2 == 0 ? moveFactory.createStaySilentMove()
+                    : moveFactory.createSnitchMove());
+        };
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = this.createGame(snitch, watching, true)) {
+            final GefangenenDilemmaState state = this.play(game);
+            assertThat(answerSeen.get(), is(equalTo(false)));
+            assertThat(state.getSecondPlayerHistory().toString(), is(equalTo("MoveHistory[RSR]")));
+            assertThat(state.getFirstPlayerTotalOutcome(), is(equalTo(-8.0)));
+            assertThat(state.getSecondPlayerTotalOutcome(), is(equalTo(-28.0)));
+        }
+    }
+
+    /**
+     * Tests that both strategies share the deadline of a round with simultaneous moves.
+     */
+    @Test
+    void testSimultaneousMovesShareDeadline() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final GefangenenDilemmaStrategy blocking = (gameId, player, state, maxComputationTimePerMove) -> {
+            release.await();
+            return Optional.empty();
+        };
+        // the deadline is taken at time 0; whenever the game looks at the clock again, the hour has passed, so
+        // waiting for the second strategy until a deadline of its own would block the game for an hour
+        final AtomicInteger reads = new AtomicInteger();
+        final LongSupplier clock = () -> reads.getAndIncrement() == 0 ? 0L : TimeUnit.HOURS.toNanos(1);
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        final GefangenenDilemmaStateImpl initialState = new GefangenenDilemmaStateImpl(
+                builder.createPlayerBuilder().changeName("A")
+                        .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0)).build(),
+                builder.createPlayerBuilder().changeName("B")
+                        .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0)).build(),
+                1);
+        try (GefangenenDilemmaExecutingGame game = new GefangenenDilemmaExecutingGame(1, initialState,
+                Map.of("A", blocking, "B", blocking), TimeUnit.HOURS.toSeconds(1),
+                AbstractGefangenenDilemmaMove.class::isInstance, new GefangenenDilemmaMoveGeneratorImpl(),
+                List::of, this.executor, true, clock)) {
+            final GefangenenDilemmaState state = this.play(game);
+            assertThat(state.getFirstPlayerHistory().count(MOVES.SNITCH), is(equalTo(1)));
+            assertThat(state.getSecondPlayerHistory().count(MOVES.SNITCH), is(equalTo(1)));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Tests that simultaneous moves need an executor.
+     */
+    @Test
+    void testSimultaneousMovesWithoutExecutor() throws Exception {
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory()
+                .create(new GefangenenDilemmaDefaultMoveFactory());
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        builder.changeSimultaneousMoves(true);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("A")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0)).build(), snitch);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("B")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0)).build(), snitch);
+        Assertions.assertThrows(GameException.class, () -> builder.build(1));
+    }
+
+    /**
+     * Plays a game to its end on the current thread.
+     *
+     * @param game The game.
+     * @return The final state.
+     */
+    private GefangenenDilemmaState play(final Game<GefangenenDilemmaPlayer, GefangenenDilemmaState,
+            GefangenenDilemmaMove, GefangenenDilemmaStrategy> game) throws GameException, InterruptedException {
+        game.start();
+        while (!game.isFinished()) {
+            game.makeMove();
+        }
+        return game.getState();
+    }
+
+    /**
+     * Creates a game of three rounds whose moves are computed on the executor.
+     *
+     * @param strategy The strategy of both players.
+     */
+    private Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+            GefangenenDilemmaStrategy> createGame(final GefangenenDilemmaStrategy strategy)
+                    throws GameException, InterruptedException {
+        return this.createGame(strategy, strategy, false);
+    }
+
+    /**
+     * Creates a game of three rounds whose moves are computed on the executor.
+     *
+     * @param firstStrategy     The strategy of the first player.
+     * @param secondStrategy    The strategy of the second player.
+     * @param simultaneousMoves {@code true} if both players compute their moves of a round concurrently.
+     */
+    private Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+            GefangenenDilemmaStrategy> createGame(final GefangenenDilemmaStrategy firstStrategy,
+                    final GefangenenDilemmaStrategy secondStrategy, final boolean simultaneousMoves)
+                    throws GameException, InterruptedException {
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        builder.changeMaximumComputationTimePerMove(60).changeNumberOfRounds(3);
+        builder.changeExecutor(this.executor).changeSimultaneousMoves(simultaneousMoves);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("A")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0)).build(), firstStrategy);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("B")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0)).build(), secondStrategy);
+        return builder.build(1);
+    }
+}
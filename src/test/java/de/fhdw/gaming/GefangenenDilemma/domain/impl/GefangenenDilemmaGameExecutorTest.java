@@ -0,0 +1,153 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameExecutor;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaGameExecutor} together with strategies computing their moves on its executor.
+ */
+final class GefangenenDilemmaGameExecutorTest {
+
+    /**
+     * Tests playing many games concurrently.
+     */
+    @Test
+    void testPlayManyGames() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        try (GefangenenDilemmaGameExecutor executor = new GefangenenDilemmaGameExecutor()) {
+            final List<Future<GefangenenDilemmaState>> results = new ArrayList<>();
+            for (int id = 0; id < 1000; ++id) {
+                results.add(executor.play(this.createGame(id, executor, staySilent, staySilent, 60)));
+            }
+            for (final Future<GefangenenDilemmaState> result : results) {
+                assertThat(result.get().getFirstPlayerTotalOutcome(), is(equalTo(-3.0)));
+            }
+        }
+    }
+
+    /**
+     * Tests that games waiting for their strategies occupy no platform threads if virtual threads are used.
+     */
+    @Test
+    void testBlockedGamesKeepPlatformThreadsBounded() throws Exception {
+        final int numberOfGames = 10_000;
+        final CountDownLatch started = new CountDownLatch(numberOfGames);
+        final CountDownLatch release = new CountDownLatch(1);
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final GefangenenDilemmaStrategy blocking = (gameId, player, state, maxComputationTimePerMove) -> {
+            started.countDown();
+            release.await();
+            return Optional.of(moveFactory.createStaySilentMove());
+        };
+        try (GefangenenDilemmaGameExecutor executor = new GefangenenDilemmaGameExecutor()) {
+            Assumptions.assumeTrue(executor.isUsingVirtualThreads());
+            final int platformThreadsBefore = Thread.getAllStackTraces().size();
+            final List<Future<GefangenenDilemmaState>> results = new ArrayList<>();
+            try {
+                for (int id = 0; id < numberOfGames; ++id) {
+                    results.add(executor.play(this.createGame(id, executor, blocking, staySilent, 60)));
+                }
+                started.await();
+                assertThat(Thread.getAllStackTraces().size(),
+                        is(lessThanOrEqualTo(platformThreadsBefore + Runtime.getRuntime().availableProcessors() + 32)));
+            } finally {
+                release.countDown();
+            }
+            for (final Future<GefangenenDilemmaState> result : results) {
+                assertThat(result.get().getFirstPlayerTotalOutcome(), is(equalTo(-3.0)));
+            }
+        }
+    }
+
+    /**
+     * Tests that a strategy exceeding the maximum computation time per move is replaced by a generated move.
+     */
+    @Test
+    void testTimeout() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final GefangenenDilemmaStrategy slow = (gameId, player, state, maxComputationTimePerMove) -> {
+            Thread.sleep(60_000);
+            return Optional.of(moveFactory.createStaySilentMove());
+        };
+        try (GefangenenDilemmaGameExecutor executor = new GefangenenDilemmaGameExecutor()) {
+            final Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                    GefangenenDilemmaStrategy> game = this.createGame(1, executor, slow, staySilent, 1);
+            final GefangenenDilemmaState state = executor.play(game).get();
+            assertThat(state.getNumberOfPlayedRounds(), is(equalTo(3)));
+            assertThat(state.getFirstPlayerHistory().count(MOVES.SNITCH), is(equalTo(3)));
+        }
+    }
+
+    /**
+     * Tests that an exception of a strategy is reported by the future.
+     */
+    @Test
+    void testFailingStrategy() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy failing = (gameId, player, state, maxComputationTimePerMove) -> {
+            throw new GameException("failed");
+        };
+        try (GefangenenDilemmaGameExecutor executor = new GefangenenDilemmaGameExecutor()) {
+            final Future<GefangenenDilemmaState> result = executor.play(this.createGame(1, executor, failing,
+                    new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory), 60));
+            final ExecutionException e = Assertions.assertThrows(ExecutionException.class, result::get);
+            assertThat(e.getCause(), is(instanceOf(GameException.class)));
+        }
+    }
+
+    /**
+     * Creates a game whose strategies compute their moves on the executor.
+     *
+     * @param id                        The ID of the game.
+     * @param executor                  The executor.
+     * @param firstStrategy             The strategy of the first player.
+     * @param secondStrategy            The strategy of the second player.
+     * @param maxComputationTimePerMove The maximum computation time per move in seconds.
+     */
+    private Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+            GefangenenDilemmaStrategy> createGame(final int id, final GefangenenDilemmaGameExecutor executor,
+                    final GefangenenDilemmaStrategy firstStrategy, final GefangenenDilemmaStrategy secondStrategy,
+                    final int maxComputationTimePerMove) throws GameException, InterruptedException {
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        builder.changeMaximumComputationTimePerMove(maxComputationTimePerMove).changeNumberOfRounds(3);
+        builder.changeExecutor(executor.getExecutorService());
+        builder.addPlayer(builder.createPlayerBuilder().changeName("A")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0)).build(), firstStrategy);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("B")
+                .changePayoffMatrix(GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0)).build(), secondStrategy);
+        return builder.build(id);
+    }
+}
@@ -0,0 +1,134 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.core.domain.PlayerState;
+
+/**
+ * Tests {@link GefangenenDilemmaStateImpl} in games consisting of more than one round.
+ */
+final class GefangenenDilemmaIteratedStateImplTest {
+
+    /**
+     * The possible outcomes of both players.
+     */
+    private static final Map<MOVES, Map<MOVES, Double>> POSSIBLE_OUTCOMES = Map.of(
+            MOVES.SNITCH, Map.of(MOVES.SNITCH, -8.0d, MOVES.REMAINSILENT, 0.0d),
+            MOVES.REMAINSILENT, Map.of(MOVES.SNITCH, -10.0d, MOVES.REMAINSILENT, -1.0d));
+
+    /**
+     * The player A.
+     */
+    private GefangenenDilemmaPlayer playerA;
+    /**
+     * The player B.
+     */
+    private GefangenenDilemmaPlayer playerB;
+    /**
+     * The state of a game with three rounds.
+     */
+    private GefangenenDilemmaState state;
+
+    /**
+     * Initialises default test objects.
+     */
+    @BeforeEach
+    void setUp() throws Exception {
+        this.playerA = new GefangenenDilemmaPlayerImpl("A", POSSIBLE_OUTCOMES);
+        this.playerB = new GefangenenDilemmaPlayerImpl("B", POSSIBLE_OUTCOMES);
+        this.state = new GefangenenDilemmaStateImpl(this.playerA, this.playerB, 3);
+    }
+
+    /**
+     * Tests that a state needs at least one round.
+     */
+    @Test
+    void testCtorWithoutRounds() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaStateImpl(this.playerA, this.playerB, 0));
+    }
+
+    /**
+     * Tests that both players answer again until all rounds have been played and that the outcomes are summed up.
+     */
+    @Test
+    void testNextTurn() {
+        this.playRound(MOVES.REMAINSILENT, MOVES.REMAINSILENT);
+        assertThat(this.state.getNumberOfPlayedRounds(), is(equalTo(1)));
+        assertThat(this.state.computeNextPlayers(), is(equalTo(Set.of(this.playerA, this.playerB))));
+        assertThat(this.playerA.getState(), is(equalTo(PlayerState.PLAYING)));
+
+        this.playRound(MOVES.SNITCH, MOVES.REMAINSILENT);
+        this.playRound(MOVES.SNITCH, MOVES.SNITCH);
+        assertThat(this.state.getNumberOfPlayedRounds(), is(equalTo(3)));
+        assertThat(this.state.computeNextPlayers(), is(empty()));
+
+        assertThat(this.state.getFirstPlayerTotalOutcome(), is(equalTo(-9.0)));
+        assertThat(this.state.getSecondPlayerTotalOutcome(), is(equalTo(-9.0)));
+        assertThat(this.playerA.getState(), is(equalTo(PlayerState.LOST)));
+        assertThat(this.playerA.getOutcome(), is(equalTo(Optional.of(-9.0))));
+        assertThat(this.playerB.getOutcome(), is(equalTo(Optional.of(-9.0))));
+
+        assertThat(this.state.getFirstPlayerHistory().toString(), is(equalTo("MoveHistory[RSS]")));
+        assertThat(this.state.getSecondPlayerHistory().toString(), is(equalTo("MoveHistory[RRS]")));
+
+        // further turns do not change a finished game
+        this.state.nextTurn();
+        assertThat(this.state.getNumberOfPlayedRounds(), is(equalTo(3)));
+        assertThat(this.state.getFirstPlayerTotalOutcome(), is(equalTo(-9.0)));
+    }
+
+    /**
+     * Tests that a round is only completed after both players have answered.
+     */
+    @Test
+    void testNextTurnWithOneAnswer() {
+        this.playerA.setAnswer(MOVES.SNITCH);
+        this.state.nextTurn();
+        assertThat(this.state.getNumberOfPlayedRounds(), is(equalTo(0)));
+        assertThat(this.state.computeNextPlayers(), is(equalTo(Set.of(this.playerB))));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaStateImpl#deepCopy()} between rounds.
+     */
+    @Test
+    void testDeepCopy() {
+        this.playRound(MOVES.REMAINSILENT, MOVES.SNITCH);
+        final GefangenenDilemmaState stateCopy = this.state.deepCopy();
+        assertThat(stateCopy, is(equalTo(this.state)));
+
+        this.playRound(MOVES.REMAINSILENT, MOVES.SNITCH);
+        assertThat(stateCopy, is(not(equalTo(this.state))));
+        assertThat(stateCopy.getNumberOfPlayedRounds(), is(equalTo(1)));
+        assertThat(stateCopy.getFirstPlayerTotalOutcome(), is(equalTo(-10.0)));
+    }
+
+    /**
+     * Lets both players answer and completes the round.
+     *
+     * @param answerOfA The answer of player A.
+     * @param answerOfB The answer of player B.
+     */
+    private void playRound(final MOVES answerOfA, final MOVES answerOfB) {
+        this.playerA.setAnswer(answerOfA);
+        this.state.nextTurn();
+        this.playerB.setAnswer(answerOfB);
+        this.state.nextTurn();
+    }
+}
@@ -0,0 +1,53 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaMatchFailedException}.
+ */
+final class GefangenenDilemmaMatchFailedExceptionTest {
+
+    /**
+     * Tests that a game exception is recovered, also if the exception has been wrapped again.
+     */
+    @Test
+    void testRethrowGameException() {
+        final GameException cause = new GameException("failed");
+        final GefangenenDilemmaMatchFailedException wrapped = new GefangenenDilemmaMatchFailedException(
+                new GefangenenDilemmaMatchFailedException(cause));
+        final GameException thrown = Assertions.assertThrows(GameException.class, wrapped::rethrowCause);
+        assertThat(thrown, is(sameInstance(cause)));
+    }
+
+    /**
+     * Tests that an interruption is recovered and restores the interrupt status.
+     */
+    @Test
+    void testRethrowInterruptedException() {
+        final InterruptedException cause = new InterruptedException();
+        final GefangenenDilemmaMatchFailedException exception = GefangenenDilemmaMatchFailedException
+                .interrupted(cause);
+        assertThat(Thread.interrupted(), is(equalTo(true)));
+        final InterruptedException thrown = Assertions.assertThrows(InterruptedException.class,
+                exception::rethrowCause);
+        assertThat(thrown, is(sameInstance(cause)));
+    }
+
+    /**
+     * Tests that an exception without a checked cause is returned for the caller to throw.
+     */
+    @Test
+    void testRethrowOther() throws Exception {
+        final GefangenenDilemmaMatchFailedException exception = new GefangenenDilemmaMatchFailedException(
+                new IllegalStateException());
+        assertThat(exception.rethrowCause(), is(sameInstance(exception)));
+    }
+}
@@ -0,0 +1,244 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaFiniteMemoryStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaMatchSimulatorImpl}.
+ */
+final class GefangenenDilemmaMatchSimulatorImplTest {
+
+    /**
+     * The possible outcomes of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The possible outcomes of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The number of rounds per match.
+     */
+    private static final int NUMBER_OF_ROUNDS = 7;
+
+    /**
+     * Tests that the simulator yields the same outcomes as a game run by the game engine.
+     */
+    @Test
+    void testParityWithDefaultGame() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final List<GefangenenDilemmaStrategy> strategies = List.of(
+                new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory));
+        final GefangenenDilemmaMatchSimulatorImpl simulator = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS);
+
+        for (final GefangenenDilemmaStrategy firstStrategy : strategies) {
+            for (final GefangenenDilemmaStrategy secondStrategy : strategies) {
+                final GefangenenDilemmaMatchResult result = simulator.simulate(1, firstStrategy, secondStrategy);
+                try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                        GefangenenDilemmaStrategy> game = this.createGame(firstStrategy, secondStrategy)) {
+                    game.start();
+                    while (!game.isFinished()) {
+                        game.makeMove();
+                    }
+                    final GefangenenDilemmaState state = game.getState();
+                    assertThat(result.getNumberOfRounds(), is(equalTo(state.getNumberOfPlayedRounds())));
+                    assertThat(Optional.of(result.getFirstPlayerOutcome()),
+                            is(equalTo(state.getFirstPlayer().getOutcome())));
+                    assertThat(Optional.of(result.getSecondPlayerOutcome()),
+                            is(equalTo(state.getSecondPlayer().getOutcome())));
+                    assertThat(result.getFirstPlayerSilentAnswers(),
+                            is(equalTo(state.getFirstPlayerHistory().count(MOVES.REMAINSILENT))));
+                    assertThat(result.getSecondPlayerSilentAnswers(),
+                            is(equalTo(state.getSecondPlayerHistory().count(MOVES.REMAINSILENT))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the outcome of a single match.
+     */
+    @Test
+    void testSimulate() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMatchResult result = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS).simulate(
+                        1,
+                        new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory));
+        assertThat(result, is(equalTo(new GefangenenDilemmaMatchResult(NUMBER_OF_ROUNDS, 0.0, -70.0, 0, 7))));
+    }
+
+    /**
+     * Tests that a long match between deterministic strategies is extrapolated correctly.
+     */
+    @Test
+    void testSimulateLongMatch() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMatchResult result = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1_000_000).simulate(
+                        1,
+                        new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory));
+        assertThat(result, is(equalTo(new GefangenenDilemmaMatchResult(1_000_000, 0.0, -10_000_000.0, 0, 1_000_000))));
+    }
+
+    /**
+     * Tests that extrapolating a cycle yields the same result as playing all rounds.
+     */
+    @Test
+    void testCycleExtrapolationParity() throws Exception {
+        final GefangenenDilemmaStrategy titForTat = new TitForTat(MOVES.REMAINSILENT);
+        final GefangenenDilemmaStrategy suspiciousTitForTat = new TitForTat(MOVES.SNITCH);
+        for (final int numberOfRounds : new int[] {1, 2, 3, 1000, 1001 }) {
+            final GefangenenDilemmaMatchSimulatorImpl simulator = new GefangenenDilemmaMatchSimulatorImpl(
+                    FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, numberOfRounds);
+            final GefangenenDilemmaMatchResult extrapolated = simulator.simulate(1, suspiciousTitForTat, titForTat);
+            // wrapping hides the finite memory, so all rounds are played
+            final GefangenenDilemmaMatchResult played = simulator.simulate(1, suspiciousTitForTat::computeNextMove,
+                    titForTat::computeNextMove);
+            assertThat(extrapolated, is(equalTo(played)));
+        }
+    }
+
+    /**
+     * Tests that every round is reported to a listener, even if the match could be extrapolated.
+     */
+    @Test
+    void testRoundListener() throws Exception {
+        final GefangenenDilemmaMatchSimulatorImpl simulator = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1000);
+        final GefangenenDilemmaStrategy titForTat = new TitForTat(MOVES.REMAINSILENT);
+        final GefangenenDilemmaStrategy suspiciousTitForTat = new TitForTat(MOVES.SNITCH);
+        final List<String> rounds = new ArrayList<>();
+        final double[] outcomes = new double[2];
+        final GefangenenDilemmaMatchResult result = simulator.simulate(3, suspiciousTitForTat, titForTat,
+                (gameId, round, firstPlayerAnswer, secondPlayerAnswer, firstPlayerPayoff, secondPlayerPayoff) -> {
+                    assertThat(gameId, is(equalTo(3)));
+                    assertThat(round, is(equalTo(rounds.size())));
+                    rounds.add(firstPlayerAnswer.name() + "/" + secondPlayerAnswer.name());
+                    outcomes[0] += firstPlayerPayoff;
+                    outcomes[1] += secondPlayerPayoff;
+                });
+        assertThat(rounds.size(), is(equalTo(1000)));
+        assertThat(rounds.subList(0, 3), is(equalTo(List.of("SNITCH/REMAINSILENT", "REMAINSILENT/SNITCH",
+                "SNITCH/REMAINSILENT"))));
+        assertThat(outcomes[0], is(equalTo(result.getFirstPlayerOutcome())));
+        assertThat(outcomes[1], is(equalTo(result.getSecondPlayerOutcome())));
+        assertThat(result, is(equalTo(simulator.simulate(3, suspiciousTitForTat, titForTat))));
+    }
+
+    /**
+     * Tests that a strategy not returning a move is treated like the game engine does.
+     */
+    @Test
+    void testSimulateWithoutMove() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMatchResult result = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1).simulate(
+                        1,
+                        (gameId, player, state, maxComputationTimePerMove) -> Optional.empty(),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory));
+        assertThat(result.getFirstPlayerSilentAnswers(), is(equalTo(0)));
+    }
+
+    /**
+     * Tests that an illegal move is rejected.
+     */
+    @Test
+    void testSimulateWithIllegalMove() {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMove illegalMove = (state, player) -> player.setAnswer(MOVES.REMAINSILENT);
+        Assertions.assertThrows(GameException.class, () -> new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1).simulate(
+                        1,
+                        (gameId, player, state, maxComputationTimePerMove) -> Optional.of(illegalMove),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory)));
+    }
+
+    /**
+     * Creates a game using the game engine.
+     *
+     * @param firstStrategy  The strategy of the first player.
+     * @param secondStrategy The strategy of the second player.
+     */
+    private Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+            GefangenenDilemmaStrategy> createGame(final GefangenenDilemmaStrategy firstStrategy,
+                    final GefangenenDilemmaStrategy secondStrategy) throws GameException, InterruptedException {
+        final GefangenenDilemmaGameBuilderImpl builder = new GefangenenDilemmaGameBuilderImpl();
+        builder.changeMaximumComputationTimePerMove(60).changeNumberOfRounds(NUMBER_OF_ROUNDS);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("A")
+                .changePayoffMatrix(FIRST_PLAYER_OUTCOMES).build(), firstStrategy);
+        builder.addPlayer(builder.createPlayerBuilder().changeName("B")
+                .changePayoffMatrix(SECOND_PLAYER_OUTCOMES).build(), secondStrategy);
+        return builder.build(1);
+    }
+
+    /**
+     * Repeats the last answer of the opponent.
+     */
+    private static final class TitForTat implements GefangenenDilemmaFiniteMemoryStrategy {
+
+        /**
+         * The answer in the first round.
+         */
+        private final MOVES initialAnswer;
+        /**
+         * The move factory.
+         */
+        private final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+
+        /**
+         * Creates the strategy.
+         *
+         * @param initialAnswer The answer in the first round.
+         */
+        TitForTat(final MOVES initialAnswer) {
+            this.initialAnswer = initialAnswer;
+        }
+
+        @Override
+        public Optional<GefangenenDilemmaMove> computeNextMove(final int gameId, final GefangenenDilemmaPlayer player,
+                final GefangenenDilemmaState state, final long maxComputationTimePerMove) {
+            final GefangenenDilemmaMoveHistory opponentHistory = player.equals(state.getFirstPlayer())
+                    ? state.getSecondPlayerHistory()
+                    : state.getFirstPlayerHistory();
+            return Optional.of(opponentHistory.getLast().orElse(this.initialAnswer) == MOVES.SNITCH
+                    ? this.moveFactory.createSnitchMove()
+                    : this.moveFactory.createStaySilentMove());
+        }
+
+        @Override
+        public int getMemoryDepth() {
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package de.fhdw.gaming.GefangenenDilemma.domain.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+
+/**
+ * Tests that computing and applying moves does not allocate memory in steady state.
+ */
+final class GefangenenDilemmaMoveAllocationTest {
+
+    /**
+     * The number of moves made before measuring.
+     */
+    private static final int WARM_UP_MOVES = 100_000;
+    /**
+     * The number of moves measured.
+     */
+    private static final int MEASURED_MOVES = 1_000_000;
+    /**
+     * The number of bytes tolerated for the measurement itself.
+     */
+    private static final long TOLERATED_BYTES = 1024;
+
+    /**
+     * Tests that the default move factory returns shared moves and the strategies return shared {@code Optional}s.
+     */
+    @Test
+    void testFlyweights() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        assertThat(moveFactory.createSnitchMove(), is(sameInstance(moveFactory.createSnitchMove())));
+        assertThat(moveFactory.createStaySilentMove(), is(sameInstance(moveFactory.createStaySilentMove())));
+
+        final GefangenenDilemmaStrategy strategy = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        assertThat(strategy.computeNextMove(1, null, null, 0), is(sameInstance(strategy.computeNextMove(2, null,
+                null, 0))));
+    }
+
+    /**
+     * Tests that no memory is allocated per move once the code is warm.
+     */
+    @Test
+    void testMovesDoNotAllocate() throws Exception {
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        final Method getAllocatedBytes = this.findAllocatedBytesMethod(threadBean);
+        Assumptions.assumeTrue(getAllocatedBytes != null, "per-thread allocation counters unavailable");
+
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final GefangenenDilemmaPayoffMatrix matrix = GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0);
+        final GefangenenDilemmaPlayer player = new GefangenenDilemmaPlayerImpl("A", matrix);
+        final GefangenenDilemmaState state = new GefangenenDilemmaStateImpl(player,
+                new GefangenenDilemmaPlayerImpl("B", matrix));
+
+        this.makeMoves(snitch, staySilent, player, state, WARM_UP_MOVES);
+        final long threadId = Thread.currentThread().getId();
+        final long before = (Long) getAllocatedBytes.invoke(threadBean, threadId);
+        this.makeMoves(snitch, staySilent, player, state, MEASURED_MOVES);
+        final long after = (Long) getAllocatedBytes.invoke(threadBean, threadId);
+
+        assertThat(after - before, is(lessThan(TOLERATED_BYTES)));
+    }
+
+    /**
+     * Lets a player alternately snitch and stay silent.
+     *
+     * @param snitch        The snitching strategy.
+     * @param staySilent    The silent strategy.
+     * @param player        The player.
+     * @param state         The state.
+     * @param numberOfMoves The number of moves to make.
+     */
+    private void makeMoves(final GefangenenDilemmaStrategy snitch, final GefangenenDilemmaStrategy staySilent,
+            final GefangenenDilemmaPlayer player, final GefangenenDilemmaState state, final int numberOfMoves)
+            throws Exception {
+        for (int i = 0; i < numberOfMoves; ++i) {
+            final GefangenenDilemmaStrategy strategy = (i & 1) == 0 ? snitch : staySilent;
+            final GefangenenDilemmaMove move = strategy.computeNextMove(1, player, state, 0).orElseThrow();
+            move.applyTo(state, player);
+            player.resetAnswer();
+        }
+    }
+
+    /**
+     * Returns the method reporting the bytes allocated by a thread, or {@code null} if the JVM does not support it.
+     *
+     * @param threadBean The thread management bean.
+     */
+    private Method findAllocatedBytesMethod(final ThreadMXBean threadBean) {
+        try {
+            final Class<?> extendedBean = Class.forName("com.sun.management.ThreadMXBean");
+            if (!extendedBean.isInstance(threadBean)) {
+                return null;
+            }
+            final Method isSupported = extendedBean.getMethod("isThreadAllocatedMemorySupported");
+            final Method isEnabled = extendedBean.getMethod("isThreadAllocatedMemoryEnabled");
+            if (!(Boolean) isSupported.invoke(threadBean) || !(Boolean) isEnabled.invoke(threadBean)) {
+                return null;
+            }
+            return extendedBean.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (final ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
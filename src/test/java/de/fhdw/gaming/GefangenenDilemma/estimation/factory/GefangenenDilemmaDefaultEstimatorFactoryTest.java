@@ -0,0 +1,60 @@
+package de.fhdw.gaming.GefangenenDilemma.estimation.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.factory.GefangenenDilemmaDefaultMatchSimulatorFactory;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimate;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultEstimatorFactory}.
+ */
+final class GefangenenDilemmaDefaultEstimatorFactoryTest {
+
+    /**
+     * The simulator playing ten rounds per match.
+     */
+    private static final GefangenenDilemmaMatchSimulator SIMULATOR = new GefangenenDilemmaDefaultMatchSimulatorFactory()
+            .create(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                    GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 10);
+
+    /**
+     * The factory under test.
+     */
+    private final GefangenenDilemmaEstimatorFactory factory = new GefangenenDilemmaDefaultEstimatorFactory();
+
+    /**
+     * Tests that the created Monte Carlo estimators stop after the first batch for a deterministic pair.
+     */
+    @Test
+    void testCreateMonteCarloEstimator() throws Exception {
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory()
+                .create(new GefangenenDilemmaDefaultMoveFactory());
+        final GefangenenDilemmaMatchEstimate estimate = this.factory.createMonteCarloEstimator(SIMULATOR, 0.95, 0.1,
+                100_000).estimate(snitch, snitch);
+        assertThat(estimate.isConverged(), is(equalTo(true)));
+        assertThat(estimate.getFirstPlayerMean(), is(equalTo(-80.0)));
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThat(this.factory.createMonteCarloEstimator(SIMULATOR, 0.95, 0.1, 1000, 10, pool)
+                    .estimate(snitch, snitch), is(equalTo(new GefangenenDilemmaMatchEstimate(10, -80.0, 0.0, -80.0,
+                            0.0, true))));
+        } finally {
+            pool.shutdown();
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.factory.createMonteCarloEstimator(SIMULATOR, 0.95, 0.1, 1000, 1, pool));
+    }
+}
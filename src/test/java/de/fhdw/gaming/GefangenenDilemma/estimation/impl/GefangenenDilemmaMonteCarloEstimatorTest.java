@@ -0,0 +1,133 @@
+package de.fhdw.gaming.GefangenenDilemma.estimation.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.estimation.GefangenenDilemmaMatchEstimate;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.noise.GefangenenDilemmaNoisyStrategy;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaMonteCarloEstimator}.
+ */
+final class GefangenenDilemmaMonteCarloEstimatorTest {
+
+    /**
+     * The factory for creating moves.
+     */
+    private static final GefangenenDilemmaMoveFactory MOVE_FACTORY = new GefangenenDilemmaDefaultMoveFactory();
+    /**
+     * The simulator playing twenty rounds per match.
+     */
+    private static final GefangenenDilemmaMatchSimulatorImpl SIMULATOR = new GefangenenDilemmaMatchSimulatorImpl(
+            GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+            GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 20);
+    /**
+     * Always remaining silent.
+     */
+    private static final GefangenenDilemmaStrategy STAY_SILENT = new GefangenenDilemmaStaySilentStrategyFactory()
+            .create(MOVE_FACTORY);
+    /**
+     * Remaining silent, but snitching by mistake in one of ten rounds.
+     */
+    private static final GefangenenDilemmaStrategy NOISY_STAY_SILENT = new GefangenenDilemmaNoisyStrategy(STAY_SILENT,
+            0.1, 5L, MOVE_FACTORY);
+
+    /**
+     * Tests that a deterministic pair stops after the first batch.
+     */
+    @Test
+    void testDeterministicPair() throws Exception {
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(MOVE_FACTORY);
+        final GefangenenDilemmaMatchEstimate estimate = new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.95, 0.1,
+                100_000).estimate(snitch, snitch);
+        assertThat(estimate, is(equalTo(new GefangenenDilemmaMatchEstimate(
+                GefangenenDilemmaMonteCarloEstimator.DEFAULT_BATCH_SIZE, -160.0, 0.0, -160.0, 0.0, true))));
+    }
+
+    /**
+     * Tests that a noisy pair is played until the requested width is reached and that the means are close to the
+     * expected outcomes.
+     */
+    @Test
+    void testNoisyPair() throws Exception {
+        final GefangenenDilemmaMatchEstimate estimate = new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.95, 0.5,
+                100_000).estimate(NOISY_STAY_SILENT, STAY_SILENT);
+        assertThat(estimate.isConverged(), is(equalTo(true)));
+        assertThat(estimate.getNumberOfMatches(), is(greaterThan((long) GefangenenDilemmaMonteCarloEstimator
+                .DEFAULT_BATCH_SIZE)));
+        assertThat(2.0 * estimate.getFirstPlayerHalfWidth(), is(lessThanOrEqualTo(0.5)));
+        assertThat(2.0 * estimate.getSecondPlayerHalfWidth(), is(lessThanOrEqualTo(0.5)));
+        // per round, the first player gets 0.9 * -1 and the second player 0.9 * -1 + 0.1 * -10
+        assertThat(estimate.getFirstPlayerMean(), is(closeTo(-18.0, 0.5)));
+        assertThat(estimate.getSecondPlayerMean(), is(closeTo(-38.0, 0.5)));
+    }
+
+    /**
+     * Tests that the estimate does not depend on the number of workers.
+     */
+    @Test
+    void testReproducibility() throws Exception {
+        final ForkJoinPool singleWorker = new ForkJoinPool(1);
+        final ForkJoinPool fourWorkers = new ForkJoinPool(4);
+        try {
+            final GefangenenDilemmaMatchEstimate first = new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.99,
+                    0.5, 100_000, 100, singleWorker).estimate(NOISY_STAY_SILENT, NOISY_STAY_SILENT);
+            final GefangenenDilemmaMatchEstimate second = new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.99,
+                    0.5, 100_000, 100, fourWorkers).estimate(NOISY_STAY_SILENT, NOISY_STAY_SILENT);
+            assertThat(second, is(equalTo(first)));
+        } finally {
+            singleWorker.shutdown();
+            fourWorkers.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the estimator stops after the maximum number of matches.
+     */
+    @Test
+    void testMaxMatches() throws Exception {
+        final GefangenenDilemmaMatchEstimate estimate = new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.95,
+                1.0e-6, 300, 128, ForkJoinPool.commonPool()).estimate(NOISY_STAY_SILENT, STAY_SILENT);
+        assertThat(estimate.getNumberOfMatches(), is(equalTo(300L)));
+        assertThat(estimate.isConverged(), is(equalTo(false)));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaMonteCarloEstimator#normalQuantile(double)}.
+     */
+    @Test
+    void testNormalQuantile() {
+        assertThat(GefangenenDilemmaMonteCarloEstimator.normalQuantile(0.5), is(closeTo(0.0, 1.0e-9)));
+        assertThat(GefangenenDilemmaMonteCarloEstimator.normalQuantile(0.975), is(closeTo(1.959964, 1.0e-6)));
+        assertThat(GefangenenDilemmaMonteCarloEstimator.normalQuantile(0.001), is(closeTo(-3.090232, 1.0e-6)));
+    }
+
+    /**
+     * Tests that invalid parameters are rejected.
+     */
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 1.0, 0.1, 1000));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.95, 0.0, 1000));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMonteCarloEstimator(SIMULATOR, 0.95, 0.1, 100));
+    }
+}
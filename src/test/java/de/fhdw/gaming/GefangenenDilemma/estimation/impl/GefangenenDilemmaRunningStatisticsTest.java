@@ -0,0 +1,49 @@
+package de.fhdw.gaming.GefangenenDilemma.estimation.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GefangenenDilemmaRunningStatistics}.
+ */
+final class GefangenenDilemmaRunningStatisticsTest {
+
+    /**
+     * Tests mean and variance of a small sequence.
+     */
+    @Test
+    void testAdd() {
+        final GefangenenDilemmaRunningStatistics statistics = new GefangenenDilemmaRunningStatistics();
+        assertThat(statistics.getVariance(), is(equalTo(0.0)));
+        for (final double value : new double[] {2.0, 4.0, 4.0, 4.0, 5.0, 5.0, 7.0, 9.0 }) {
+            statistics.add(value);
+        }
+        assertThat(statistics.getCount(), is(equalTo(8L)));
+        assertThat(statistics.getMean(), is(closeTo(5.0, 1.0e-12)));
+        assertThat(statistics.getVariance(), is(closeTo(32.0 / 7.0, 1.0e-12)));
+        assertThat(statistics.getStandardError(), is(closeTo(Math.sqrt(32.0 / 7.0 / 8.0), 1.0e-12)));
+    }
+
+    /**
+     * Tests that merging statistics of parts equals adding all values, also for values with a large offset.
+     */
+    @Test
+    void testMerge() {
+        final GefangenenDilemmaRunningStatistics all = new GefangenenDilemmaRunningStatistics();
+        final GefangenenDilemmaRunningStatistics first = new GefangenenDilemmaRunningStatistics();
+        final GefangenenDilemmaRunningStatistics second = new GefangenenDilemmaRunningStatistics();
+        for (int i = 0; i < 1000; ++i) {
+            final double value = 1.0e9 + i % 7;
+            all.add(value);
+            (i < 300 ? first : second).add(value);
+        }
+        first.merge(second).merge(new GefangenenDilemmaRunningStatistics());
+        assertThat(first.getCount(), is(equalTo(1000L)));
+        assertThat(first.getMean(), is(closeTo(all.getMean(), 1.0e-6)));
+        assertThat(first.getVariance(), is(closeTo(all.getVariance(), 1.0e-6)));
+    }
+}
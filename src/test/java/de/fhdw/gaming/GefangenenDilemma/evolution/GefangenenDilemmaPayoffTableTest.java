@@ -0,0 +1,84 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.analysis.GefangenenDilemmaMemoryOneRule;
+import de.fhdw.gaming.GefangenenDilemma.analysis.impl.GefangenenDilemmaMarkovOutcomeEvaluator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaPayoffTable}.
+ */
+final class GefangenenDilemmaPayoffTableTest {
+
+    /**
+     * Tests computing a payoff table from matches.
+     */
+    @Test
+    void testCompute() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaPayoffTable table = GefangenenDilemmaPayoffTable.compute(
+                List.of(new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory)),
+                new GefangenenDilemmaMatchSimulatorImpl(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 10));
+        assertThat(table, is(equalTo(new GefangenenDilemmaPayoffTable(new double[][] {
+            {-80.0, 0.0 },
+            {-100.0, -10.0 } }))));
+    }
+
+    /**
+     * Tests that the seat of a strategy does not matter for asymmetric payoff matrices.
+     */
+    @Test
+    void testComputeAveragesSeats() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaPayoffTable table = GefangenenDilemmaPayoffTable.compute(
+                List.of(new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory),
+                        new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory)),
+                new GefangenenDilemmaMatchSimulatorImpl(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                        GefangenenDilemmaPayoffMatrix.of(-6.0, -12.0, 2.0, -3.0), 1));
+        assertThat(table.getOutcome(0, 0), is(equalTo(-7.0)));
+        assertThat(table.getOutcome(0, 1), is(equalTo(1.0)));
+        assertThat(table.getOutcome(1, 0), is(equalTo(-11.0)));
+        assertThat(table.getOutcome(1, 1), is(equalTo(-2.0)));
+    }
+
+    /**
+     * Tests computing a payoff table from the exact outcomes of memory-one strategies.
+     */
+    @Test
+    void testEvaluate() {
+        final GefangenenDilemmaPayoffTable table = GefangenenDilemmaPayoffTable.evaluate(
+                List.of(new GefangenenDilemmaMemoryOneRule(0.0, 0.0, 0.0, 0.0, 0.0),
+                        new GefangenenDilemmaMemoryOneRule(1.0, 1.0, 1.0, 1.0, 1.0)),
+                new GefangenenDilemmaMarkovOutcomeEvaluator(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 0.5));
+        assertThat(table, is(equalTo(new GefangenenDilemmaPayoffTable(new double[][] {
+            {-8.0, 0.0 },
+            {-10.0, -1.0 } }))));
+    }
+
+    /**
+     * Tests that a table must be square.
+     */
+    @Test
+    void testCtorWithInvalidTable() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaPayoffTable(new double[0][]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaPayoffTable(new double[][] {{1.0, 2.0 }, {3.0 } }));
+    }
+}
@@ -0,0 +1,89 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithm;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.factory.GefangenenDilemmaDefaultDecisionTableSimulatorFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultEvolutionFactory}.
+ */
+final class GefangenenDilemmaDefaultEvolutionFactoryTest {
+
+    /**
+     * The payoff table of always snitching against always remaining silent over ten rounds.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-80.0, 0.0 },
+        {-100.0, -10.0 } });
+
+    /**
+     * The factory under test.
+     */
+    private final GefangenenDilemmaEvolutionFactory factory = new GefangenenDilemmaDefaultEvolutionFactory();
+
+    /**
+     * Tests that the created Moran process lets the dominant strategy take over the population.
+     */
+    @Test
+    void testCreateMoranProcess() {
+        final int[] counts = {10, 90 };
+        this.factory.createMoranProcess(TABLE, 1.0, 7).advance(counts, 10_000);
+        assertThat(counts, is(equalTo(new int[] {100, 0 })));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.factory.createMoranProcess(TABLE, -1.0, 7));
+    }
+
+    /**
+     * Tests that the created Wright-Fisher process lets the dominant strategy take over the population.
+     */
+    @Test
+    void testCreateWrightFisherProcess() {
+        final int[] counts = {10, 90 };
+        this.factory.createWrightFisherProcess(TABLE, 1.0, 7).advance(counts, 100);
+        assertThat(counts, is(equalTo(new int[] {100, 0 })));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.factory.createWrightFisherProcess(TABLE, -1.0, 7));
+    }
+
+    /**
+     * Tests that the created replicator dynamics let the dominant strategy take over the population.
+     */
+    @Test
+    void testCreateReplicatorDynamics() {
+        final double[][] shares = this.factory.createReplicatorDynamics(TABLE, 1e-9).solve(new double[] {0.5, 0.5 },
+                new double[] {0.0, 10.0 });
+        assertThat(shares[0][0], is(closeTo(0.5, 1e-9)));
+        assertThat(shares[1][0], is(closeTo(1.0, 1e-6)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.factory.createReplicatorDynamics(TABLE, 0.0));
+    }
+
+    /**
+     * Tests that the created genetic algorithm builder evolves exploiting an opponent always remaining silent.
+     */
+    @Test
+    void testCreateGeneticAlgorithmBuilder() {
+        final GefangenenDilemmaDecisionTable staySilent = new GefangenenDilemmaDecisionTable(0, new long[] {1L });
+        final GefangenenDilemmaGeneticAlgorithm algorithm = this.factory.createGeneticAlgorithmBuilder()
+                .changeSimulator(new GefangenenDilemmaDefaultDecisionTableSimulatorFactory().create(
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                        GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 10))
+                .changeOpponents(List.of(staySilent)).changePopulationSize(20).changeMemoryDepth(1).build();
+        algorithm.advance(20);
+        assertThat(algorithm.getFitness(0), is(equalTo(0.0)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.factory.createGeneticAlgorithmBuilder().changePopulationSize(0));
+    }
+}
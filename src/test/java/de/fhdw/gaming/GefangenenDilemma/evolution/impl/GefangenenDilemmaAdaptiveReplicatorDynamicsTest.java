@@ -0,0 +1,93 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaReplicatorDynamics;
+
+/**
+ * Tests {@link GefangenenDilemmaAdaptiveReplicatorDynamics}.
+ */
+final class GefangenenDilemmaAdaptiveReplicatorDynamicsTest {
+
+    /**
+     * Tests that a strategy with a constant advantage grows logistically.
+     */
+    @Test
+    void testLogisticGrowth() {
+        final GefangenenDilemmaReplicatorDynamics dynamics = new GefangenenDilemmaAdaptiveReplicatorDynamics(
+                new GefangenenDilemmaPayoffTable(new double[][] {{1.0, 1.0 }, {0.0, 0.0 } }), 1e-9);
+        final double[] times = {0.0, 0.5, 1.0, 5.0, 20.0 };
+        final double[][] shares = dynamics.solve(new double[] {1.0, 9.0 }, times);
+        for (int index = 0; index < times.length; ++index) {
+            final double growth = Math.exp(times[index]);
+            final double expected = 0.1 * growth / (0.9 + 0.1 * growth);
+            assertThat(shares[index][0], is(closeTo(expected, 1e-7)));
+            assertThat(shares[index][1], is(closeTo(1.0 - expected, 1e-7)));
+        }
+    }
+
+    /**
+     * Tests that the product of the shares is conserved by rock-paper-scissors, whose orbits are closed.
+     */
+    @Test
+    void testRockPaperScissors() {
+        final GefangenenDilemmaReplicatorDynamics dynamics = new GefangenenDilemmaAdaptiveReplicatorDynamics(
+                new GefangenenDilemmaPayoffTable(new double[][] {
+                    {0.0, -1.0, 1.0 },
+                    {1.0, 0.0, -1.0 },
+                    {-1.0, 1.0, 0.0 } }),
+                1e-10);
+        final double[][] shares = dynamics.solve(new double[] {0.5, 0.3, 0.2 }, new double[] {100.0 });
+        assertThat(shares[0][0] * shares[0][1] * shares[0][2], is(closeTo(0.5 * 0.3 * 0.2, 1e-6)));
+    }
+
+    /**
+     * Tests that a thousand strategies keep shares summing up to one.
+     */
+    @Test
+    void testManyStrategies() {
+        final SplittableRandom random = new SplittableRandom(17);
+        final double[][] outcomes = new double[1000][1000];
+        final double[] initialShares = new double[1000];
+        for (int strategy = 0; strategy < outcomes.length; ++strategy) {
+            for (int opponent = 0; opponent < outcomes.length; ++opponent) {
+                outcomes[strategy][opponent] = random.nextDouble(-10.0, 0.0);
+            }
+            initialShares[strategy] = random.nextDouble();
+        }
+        final double[][] shares = new GefangenenDilemmaAdaptiveReplicatorDynamics(
+                new GefangenenDilemmaPayoffTable(outcomes), 1e-6).solve(initialShares, new double[] {50.0 });
+        double sum = 0.0;
+        for (final double share : shares[0]) {
+            assertThat(share >= 0.0, is(true));
+            sum += share;
+        }
+        assertThat(sum, is(closeTo(1.0, 1e-12)));
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    void testInvalidArguments() {
+        final GefangenenDilemmaPayoffTable table = new GefangenenDilemmaPayoffTable(new double[2][2]);
+        final GefangenenDilemmaReplicatorDynamics dynamics = new GefangenenDilemmaAdaptiveReplicatorDynamics(table,
+                1e-6);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> dynamics.solve(new double[] {1.0 }, new double[] {1.0 }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> dynamics.solve(new double[] {0.0, 0.0 }, new double[] {1.0 }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> dynamics.solve(new double[] {1.0, 1.0 }, new double[] {2.0, 1.0 }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaAdaptiveReplicatorDynamics(table, 0.0));
+    }
+}
@@ -0,0 +1,68 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GefangenenDilemmaBinomialSampler}.
+ */
+final class GefangenenDilemmaBinomialSamplerTest {
+
+    /**
+     * The number of samples drawn per distribution.
+     */
+    private static final int SAMPLES = 200_000;
+
+    /**
+     * Tests the mean and the variance of the samples for small and large means.
+     */
+    @Test
+    void testMoments() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final int[] trials = {5, 100, 1_000_000, 1_000_000, 1_000_000 };
+        final double[] probabilities = {0.3, 0.05, 0.5, 0.9, 0.000_003 };
+        for (int test = 0; test < trials.length; ++test) {
+            double sum = 0.0;
+            double sumOfSquares = 0.0;
+            for (int sample = 0; sample < SAMPLES; ++sample) {
+                final int value = GefangenenDilemmaBinomialSampler.sample(random, trials[test], probabilities[test]);
+                sum += value;
+                sumOfSquares += (double) value * value;
+            }
+            final double mean = trials[test] * probabilities[test];
+            final double variance = mean * (1.0 - probabilities[test]);
+            final double sampleMean = sum / SAMPLES;
+            assertThat(sampleMean, is(closeTo(mean, 5.0 * Math.sqrt(variance / SAMPLES))));
+            assertThat(sumOfSquares / SAMPLES - sampleMean * sampleMean, is(closeTo(variance, 0.02 * variance)));
+        }
+    }
+
+    /**
+     * Tests the degenerate cases.
+     */
+    @Test
+    void testDegenerate() {
+        final SplittableRandom random = new SplittableRandom(1);
+        assertThat(GefangenenDilemmaBinomialSampler.sample(random, 0, 0.5), is(equalTo(0)));
+        assertThat(GefangenenDilemmaBinomialSampler.sample(random, 17, 0.0), is(equalTo(0)));
+        assertThat(GefangenenDilemmaBinomialSampler.sample(random, 17, 1.0), is(equalTo(17)));
+    }
+
+    /**
+     * Tests that Stirling's series continues the tabulated logarithms of factorials.
+     */
+    @Test
+    void testLogFactorial() {
+        double expected = 0.0;
+        for (int k = 1; k < 40; ++k) {
+            expected += Math.log(k);
+            assertThat(GefangenenDilemmaBinomialSampler.logFactorial(k), is(closeTo(expected, 1e-10)));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+
+/**
+ * Tests {@link GefangenenDilemmaMoranProcess}.
+ */
+final class GefangenenDilemmaMoranProcessTest {
+
+    /**
+     * The payoff table of always snitching against always remaining silent over ten rounds.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-80.0, 0.0 },
+        {-100.0, -10.0 } });
+
+    /**
+     * Tests that the dominant strategy takes over the population.
+     */
+    @Test
+    void testFixation() {
+        final int[] counts = {10, 990 };
+        new GefangenenDilemmaMoranProcess(TABLE, 1.0, 7).advance(counts, 100_000);
+        assertThat(counts, is(equalTo(new int[] {1000, 0 })));
+    }
+
+    /**
+     * Tests that neutral drift keeps the size of a large population over many steps.
+     */
+    @Test
+    void testNeutralDrift() {
+        final int[] counts = {300_000, 300_000, 400_000 };
+        final GefangenenDilemmaPayoffTable table = new GefangenenDilemmaPayoffTable(new double[3][3]);
+        new GefangenenDilemmaMoranProcess(table, 0.0, 7).advance(counts, 100_000);
+        assertThat(Arrays.stream(counts).sum(), is(equalTo(1_000_000)));
+        assertThat(counts[0] > 0 && counts[1] > 0 && counts[2] > 0, is(equalTo(true)));
+    }
+
+    /**
+     * Tests that the same seed yields the same evolution.
+     */
+    @Test
+    void testDeterminism() {
+        final int[] first = {500, 500 };
+        final int[] second = {500, 500 };
+        new GefangenenDilemmaMoranProcess(TABLE, 0.01, 3).advance(first, 1000);
+        new GefangenenDilemmaMoranProcess(TABLE, 0.01, 3).advance(second, 1000);
+        assertThat(first, is(equalTo(second)));
+    }
+
+    /**
+     * Tests that invalid populations are rejected.
+     */
+    @Test
+    void testInvalidPopulation() {
+        final GefangenenDilemmaMoranProcess process = new GefangenenDilemmaMoranProcess(TABLE, 1.0, 7);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> process.advance(new int[] {1, 0 }, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> process.advance(new int[] {1, -1 }, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> process.advance(new int[] {1, 1, 1 }, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMoranProcess(TABLE, -1.0, 7));
+    }
+}
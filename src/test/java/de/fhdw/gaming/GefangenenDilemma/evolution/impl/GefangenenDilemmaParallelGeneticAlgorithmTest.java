@@ -0,0 +1,153 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithm;
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaGeneticAlgorithmBuilder;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+import de.fhdw.gaming.GefangenenDilemma.lookup.impl.GefangenenDilemmaBitSlicedSimulator;
+
+/**
+ * Tests {@link GefangenenDilemmaParallelGeneticAlgorithm}.
+ */
+final class GefangenenDilemmaParallelGeneticAlgorithmTest {
+
+    /**
+     * The simulator playing twenty rounds per match.
+     */
+    private static final GefangenenDilemmaDecisionTableSimulator SIMULATOR = new GefangenenDilemmaBitSlicedSimulator(
+            GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+            GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 20);
+    /**
+     * Always remaining silent.
+     */
+    private static final GefangenenDilemmaDecisionTable STAY_SILENT = new GefangenenDilemmaDecisionTable(0,
+            new long[] {1L });
+    /**
+     * Tit for tat.
+     */
+    private static final GefangenenDilemmaDecisionTable TIT_FOR_TAT = new GefangenenDilemmaDecisionTable(1,
+            new long[] {0b1010L });
+
+    /**
+     * Tests that exploiting an opponent always remaining silent is found, and that the fitness of the fittest
+     * individual equals its outcome.
+     */
+    @Test
+    void testEvolution() {
+        final GefangenenDilemmaGeneticAlgorithm algorithm = this.createBuilder().changeOpponents(List.of(STAY_SILENT))
+                .changeMemoryDepth(2).build();
+        algorithm.advance(30);
+
+        assertThat(algorithm.getGeneration(), is(equalTo(30L)));
+        assertThat(algorithm.getFitness(0), is(equalTo(0.0)));
+        assertThat(SIMULATOR.simulate(List.of(algorithm.getIndividual(0)), List.of(STAY_SILENT)).get(0)
+                .getFirstPlayerOutcome(), is(equalTo(0.0)));
+        for (int individual = 1; individual < algorithm.getPopulationSize(); ++individual) {
+            assertThat(algorithm.getFitness(individual) <= algorithm.getFitness(individual - 1), is(equalTo(true)));
+        }
+    }
+
+    /**
+     * Tests that the same seed yields the same evolution, regardless of the number of workers.
+     */
+    @Test
+    void testDeterminism() {
+        final ForkJoinPool singleWorker = new ForkJoinPool(1);
+        final ForkJoinPool fourWorkers = new ForkJoinPool(4);
+        try {
+            final GefangenenDilemmaGeneticAlgorithm first = this.createBuilder()
+                    .changeOpponents(List.of(STAY_SILENT, TIT_FOR_TAT)).changePool(singleWorker).build();
+            final GefangenenDilemmaGeneticAlgorithm second = this.createBuilder()
+                    .changeOpponents(List.of(STAY_SILENT, TIT_FOR_TAT)).changePool(fourWorkers).build();
+            first.advance(20);
+            second.advance(20);
+            for (int individual = 0; individual < first.getPopulationSize(); ++individual) {
+                assertThat(second.getIndividual(individual), is(equalTo(first.getIndividual(individual))));
+                assertThat(second.getFitness(individual), is(equalTo(first.getFitness(individual))));
+            }
+        } finally {
+            singleWorker.shutdown();
+            fourWorkers.shutdown();
+        }
+    }
+
+    /**
+     * Tests that decision tables seen before are not evaluated again while the opponent pool stays the same.
+     */
+    @Test
+    void testCache() {
+        // without variation, all children are copies of evaluated individuals
+        final GefangenenDilemmaGeneticAlgorithm cached = this.createBuilder().changeOpponents(List.of(TIT_FOR_TAT))
+                .changeCrossoverProbability(0.0).changeMutationProbability(0.0).build();
+        final long initialEvaluations = cached.getNumberOfEvaluations();
+        cached.advance(10);
+        assertThat(cached.getNumberOfEvaluations(), is(equalTo(initialEvaluations)));
+
+        final GefangenenDilemmaGeneticAlgorithm uncached = this.createBuilder().changeOpponents(List.of(TIT_FOR_TAT))
+                .changeCrossoverProbability(0.0).changeMutationProbability(0.0).changeCacheCapacity(0).build();
+        uncached.advance(10);
+        assertThat(uncached.getNumberOfEvaluations(), is(greaterThan(initialEvaluations)));
+        assertThat(uncached.getIndividual(0), is(equalTo(cached.getIndividual(0))));
+
+        // co-evolution changes the opponent pool in each generation
+        final GefangenenDilemmaGeneticAlgorithm coevolving = this.createBuilder().changeCoevolvingOpponents(5)
+                .changeCrossoverProbability(0.0).changeMutationProbability(0.0).build();
+        final long coevolvingEvaluations = coevolving.getNumberOfEvaluations();
+        coevolving.advance(1);
+        assertThat(coevolving.getNumberOfEvaluations(), is(greaterThan(coevolvingEvaluations)));
+    }
+
+    /**
+     * Tests that the cache does not grow beyond its capacity, evicting the least recently used fitness values.
+     */
+    @Test
+    void testCacheCapacity() {
+        final GefangenenDilemmaGeneticAlgorithm unbounded = this.createBuilder().changeOpponents(List.of(TIT_FOR_TAT))
+                .changeCrossoverProbability(0.0).changeMutationProbability(0.0).build();
+        final GefangenenDilemmaGeneticAlgorithm bounded = this.createBuilder().changeOpponents(List.of(TIT_FOR_TAT))
+                .changeCrossoverProbability(0.0).changeMutationProbability(0.0).changeCacheCapacity(1).build();
+        final long initialEvaluations = bounded.getNumberOfEvaluations();
+        unbounded.advance(1);
+        bounded.advance(1);
+        assertThat(unbounded.getNumberOfEvaluations(), is(equalTo(initialEvaluations)));
+        assertThat(bounded.getNumberOfEvaluations(), is(greaterThan(initialEvaluations)));
+        assertThat(bounded.getIndividual(0), is(equalTo(unbounded.getIndividual(0))));
+        assertThat(bounded.getFitness(0), is(equalTo(unbounded.getFitness(0))));
+    }
+
+    /**
+     * Tests that invalid parameters are rejected.
+     */
+    @Test
+    void testInvalidParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaGeneticAlgorithmBuilderImpl().changeOpponents(List.of(STAY_SILENT)).build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.createBuilder().build());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.createBuilder()
+                .changeOpponents(List.of(STAY_SILENT)).changeNumberOfElites(51).build());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.createBuilder().changeMemoryDepth(GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH + 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> this.createBuilder().changeMutationProbability(1.5));
+    }
+
+    /**
+     * Creates a builder for a small population.
+     */
+    private GefangenenDilemmaGeneticAlgorithmBuilder createBuilder() {
+        return new GefangenenDilemmaGeneticAlgorithmBuilderImpl().changeSimulator(SIMULATOR).changePopulationSize(50)
+                .changeMemoryDepth(1).changeSeed(11L);
+    }
+}
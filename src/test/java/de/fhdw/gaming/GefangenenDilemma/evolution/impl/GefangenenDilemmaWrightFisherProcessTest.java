@@ -0,0 +1,60 @@
+package de.fhdw.gaming.GefangenenDilemma.evolution.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+
+/**
+ * Tests {@link GefangenenDilemmaWrightFisherProcess}.
+ */
+final class GefangenenDilemmaWrightFisherProcessTest {
+
+    /**
+     * Tests that the dominant strategy takes over a population of a million individuals.
+     */
+    @Test
+    void testFixation() {
+        final int[] counts = {1000, 999_000 };
+        new GefangenenDilemmaWrightFisherProcess(new GefangenenDilemmaPayoffTable(new double[][] {
+            {-80.0, 0.0 },
+            {-100.0, -10.0 } }), 0.1, 7).advance(counts, 100_000);
+        assertThat(counts, is(equalTo(new int[] {1_000_000, 0 })));
+    }
+
+    /**
+     * Tests that a population of a million individuals keeps its size over a hundred thousand generations.
+     */
+    @Test
+    void testManyGenerations() {
+        final int[] counts = {250_000, 250_000, 250_000, 250_000 };
+        final double[][] outcomes = new double[4][4];
+        for (int strategy = 0; strategy < 4; ++strategy) {
+            // every strategy is best against the next one, which keeps all of them alive for a while
+            outcomes[strategy][(strategy + 1) % 4] = 1.0;
+        }
+        new GefangenenDilemmaWrightFisherProcess(new GefangenenDilemmaPayoffTable(outcomes), 0.001, 7)
+                .advance(counts, 100_000);
+        assertThat(Arrays.stream(counts).sum(), is(equalTo(1_000_000)));
+    }
+
+    /**
+     * Tests that the same seed yields the same evolution.
+     */
+    @Test
+    void testDeterminism() {
+        final GefangenenDilemmaPayoffTable table = new GefangenenDilemmaPayoffTable(new double[][] {
+            {-80.0, 0.0 },
+            {-100.0, -10.0 } });
+        final int[] first = {500, 500 };
+        final int[] second = {500, 500 };
+        new GefangenenDilemmaWrightFisherProcess(table, 0.01, 3).advance(first, 10);
+        new GefangenenDilemmaWrightFisherProcess(table, 0.01, 3).advance(second, 10);
+        assertThat(first, is(equalTo(second)));
+    }
+}
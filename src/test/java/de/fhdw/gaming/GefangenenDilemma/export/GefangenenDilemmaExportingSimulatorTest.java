@@ -0,0 +1,97 @@
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournamentStanding;
+import de.fhdw.gaming.GefangenenDilemma.tournament.impl.GefangenenDilemmaRoundRobinTournament;
+
+/**
+ * Tests {@link GefangenenDilemmaExportingSimulator}.
+ */
+final class GefangenenDilemmaExportingSimulatorTest {
+
+    /**
+     * Tests that the payoff matrices are those of the wrapped simulator.
+     */
+    @Test
+    void testPayoffMatrices() throws Exception {
+        final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes = GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0,
+                -1.0);
+        final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes = GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0,
+                -1.0);
+        try (GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(new ByteArrayOutputStream(), 5)) {
+            final GefangenenDilemmaExportingSimulator simulator = new GefangenenDilemmaExportingSimulator(
+                    new GefangenenDilemmaMatchSimulatorImpl(firstPlayerOutcomes, secondPlayerOutcomes, 10), writer);
+            assertThat(simulator.getFirstPlayerOutcomes(), is(sameInstance(firstPlayerOutcomes)));
+            assertThat(simulator.getSecondPlayerOutcomes(), is(sameInstance(secondPlayerOutcomes)));
+        }
+    }
+
+    /**
+     * Tests exporting the matches of a sweep over two payoff matrices of the first player.
+     */
+    @Test
+    void testExportSweep() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final List<GefangenenDilemmaStrategy> strategies = List.of(
+                new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory),
+                new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory));
+        final GefangenenDilemmaPayoffMatrix secondPlayerOutcomes = GefangenenDilemmaPayoffMatrix.of(
+                -8.0, -10.0, 0.0, -1.0);
+        final List<GefangenenDilemmaPayoffMatrix> sweep = List.of(
+                GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+                GefangenenDilemmaPayoffMatrix.of(-6.0, 0.0, -10.0, -2.0));
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Map<String, Double> expected = new HashMap<>();
+        try (GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(bytes, 5)) {
+            for (final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes : sweep) {
+                final List<GefangenenDilemmaTournamentStanding> standings = new GefangenenDilemmaRoundRobinTournament(
+                        strategies,
+                        new GefangenenDilemmaExportingSimulator(
+                                new GefangenenDilemmaMatchSimulatorImpl(firstPlayerOutcomes, secondPlayerOutcomes, 10),
+                                writer),
+                        3).play();
+                for (final GefangenenDilemmaTournamentStanding standing : standings) {
+                    expected.put(firstPlayerOutcomes + "/" + standing.getStrategy(),
+                            standing.getTotalOutcome());
+                }
+            }
+        }
+
+        final Map<String, Double> actual = new HashMap<>();
+        int rows = 0;
+        try (GefangenenDilemmaResultReader reader = new GefangenenDilemmaResultReader(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            while (reader.next()) {
+                assertThat(reader.getNumberOfRounds(), is(equalTo(10)));
+                assertThat(reader.getSecondPlayerOutcomes(), is(equalTo(secondPlayerOutcomes)));
+                actual.merge(reader.getFirstPlayerOutcomes() + "/" + reader.getFirstStrategy(),
+                        reader.getFirstPlayerScore(), Double::sum);
+                actual.merge(reader.getFirstPlayerOutcomes() + "/" + reader.getSecondStrategy(),
+                        reader.getSecondPlayerScore(), Double::sum);
+                ++rows;
+            }
+        }
+        assertThat(rows, is(equalTo(2 * 4 * 3)));
+        assertThat(actual, is(equalTo(expected)));
+    }
+}
@@ -0,0 +1,226 @@
+package de.fhdw.gaming.GefangenenDilemma.export;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+
+/**
+ * Tests {@link GefangenenDilemmaResultWriter} together with {@link GefangenenDilemmaResultReader}.
+ */
+final class GefangenenDilemmaResultWriterTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+
+    /**
+     * Tests that written results are read back, across several row groups and with names and payoff matrices first
+     * used in later row groups.
+     */
+    @Test
+    void testWriteAndRead() throws Exception {
+        final GefangenenDilemmaStrategy[] strategies = new GefangenenDilemmaStrategy[5];
+        for (int i = 0; i < strategies.length; ++i) {
+            strategies[i] = new NamedStrategy("Strategy " + i);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(bytes, 3)) {
+            for (int gameId = 0; gameId < 10; ++gameId) {
+                writer.write(gameId, strategies[gameId / 2], strategies[gameId % 3],
+                        this.getFirstPlayerOutcomes(gameId), SECOND_PLAYER_OUTCOMES, new GefangenenDilemmaMatchResult(
+                                4, -gameId, 0.5 * gameId, gameId % 5, 4 - gameId % 5));
+            }
+        }
+
+        try (GefangenenDilemmaResultReader reader = new GefangenenDilemmaResultReader(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (int gameId = 0; gameId < 10; ++gameId) {
+                assertThat(reader.next(), is(equalTo(true)));
+                assertThat(reader.getGameId(), is(equalTo(gameId)));
+                assertThat(reader.getFirstStrategy(), is(equalTo("Strategy " + gameId / 2)));
+                assertThat(reader.getSecondStrategy(), is(equalTo("Strategy " + gameId % 3)));
+                assertThat(reader.getFirstPlayerOutcomes(), is(equalTo(this.getFirstPlayerOutcomes(gameId))));
+                assertThat(reader.getSecondPlayerOutcomes(), is(equalTo(SECOND_PLAYER_OUTCOMES)));
+                assertThat(reader.getNumberOfRounds(), is(equalTo(4)));
+                assertThat(reader.getFirstPlayerScore(), is(equalTo((double) -gameId)));
+                assertThat(reader.getSecondPlayerScore(), is(equalTo(0.5 * gameId)));
+                assertThat(reader.getFirstPlayerCooperationRate(), is(equalTo(gameId % 5 / 4.0)));
+                assertThat(reader.getSecondPlayerCooperationRate(), is(equalTo((4 - gameId % 5) / 4.0)));
+            }
+            assertThat(reader.next(), is(equalTo(false)));
+            Assertions.assertThrows(IllegalStateException.class, reader::getGameId);
+        }
+    }
+
+    /**
+     * Tests that results written concurrently are all stored exactly once.
+     */
+    @Test
+    void testConcurrentWrite() throws Exception {
+        final int threads = 4;
+        final int rowsPerThread = 10_000;
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(bytes, 1000)) {
+            final List<Thread> writers = new ArrayList<>();
+            final List<Exception> failures = new CopyOnWriteArrayList<>();
+            for (int thread = 0; thread < threads; ++thread) {
+                final GefangenenDilemmaStrategy strategy = new NamedStrategy("Strategy " + thread);
+                final int firstGameId = thread * rowsPerThread;
+                writers.add(new Thread(() -> {
+                    try {
+                        for (int gameId = firstGameId; gameId < firstGameId + rowsPerThread; ++gameId) {
+                            writer.write(gameId, strategy, strategy, this.getFirstPlayerOutcomes(gameId),
+                                    SECOND_PLAYER_OUTCOMES, new GefangenenDilemmaMatchResult(1, gameId, 0.0, 0, 1));
+                        }
+                    } catch (final IOException e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+            writers.forEach(Thread::start);
+            for (final Thread thread : writers) {
+                thread.join();
+            }
+            assertThat(failures, is(equalTo(List.of())));
+        }
+
+        final BitSet gameIds = new BitSet();
+        try (GefangenenDilemmaResultReader reader = new GefangenenDilemmaResultReader(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            while (reader.next()) {
+                final int gameId = reader.getGameId();
+                assertThat(gameIds.get(gameId), is(equalTo(false)));
+                gameIds.set(gameId);
+                assertThat(reader.getFirstStrategy(), is(equalTo("Strategy " + gameId / rowsPerThread)));
+                assertThat(reader.getFirstPlayerOutcomes(), is(equalTo(this.getFirstPlayerOutcomes(gameId))));
+                assertThat(reader.getFirstPlayerScore(), is(equalTo((double) gameId)));
+            }
+        }
+        assertThat(gameIds.cardinality(), is(equalTo(threads * rowsPerThread)));
+    }
+
+    /**
+     * Tests that repetitive results are compressed well.
+     */
+    @Test
+    void testCompression() throws Exception {
+        final GefangenenDilemmaStrategy strategy = new NamedStrategy("A strategy with a rather long name");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final int rows = 100_000;
+        try (GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(bytes)) {
+            for (int gameId = 0; gameId < rows; ++gameId) {
+                writer.write(gameId, strategy, strategy, FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES,
+                        new GefangenenDilemmaMatchResult(100, -100.0, -100.0, 100, 100));
+            }
+        }
+        // a row takes 64 bytes uncompressed
+        assertThat(bytes.size(), is(lessThan(rows * 64 / 20)));
+
+        long count = 0;
+        try (GefangenenDilemmaResultReader reader = new GefangenenDilemmaResultReader(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            while (reader.next()) {
+                assertThat(reader.getGameId(), is(equalTo((int) count)));
+                ++count;
+            }
+        }
+        assertThat(count, is(equalTo((long) rows)));
+    }
+
+    /**
+     * Tests reading a file without results.
+     */
+    @Test
+    void testEmpty() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new GefangenenDilemmaResultWriter(bytes).close();
+        try (GefangenenDilemmaResultReader reader = new GefangenenDilemmaResultReader(
+                new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(reader.next(), is(equalTo(false)));
+        }
+    }
+
+    /**
+     * Tests that invalid input and use are rejected.
+     */
+    @Test
+    void testInvalidUse() throws Exception {
+        Assertions.assertThrows(IOException.class,
+                () -> new GefangenenDilemmaResultReader(new ByteArrayInputStream(new byte[8])));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaResultWriter(new ByteArrayOutputStream(), 0));
+
+        final GefangenenDilemmaResultWriter writer = new GefangenenDilemmaResultWriter(new ByteArrayOutputStream());
+        writer.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> writer.write(1, new NamedStrategy("A"),
+                new NamedStrategy("B"), FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES,
+                new GefangenenDilemmaMatchResult(1, 0.0, 0.0, 0, 0)));
+    }
+
+    /**
+     * Returns the payoff matrix of the first player of a match, alternating between two matrices.
+     *
+     * @param gameId The ID of the match.
+     */
+    private GefangenenDilemmaPayoffMatrix getFirstPlayerOutcomes(final int gameId) {
+        return gameId % 4 == 3 ? SECOND_PLAYER_OUTCOMES : FIRST_PLAYER_OUTCOMES;
+    }
+
+    /**
+     * A strategy with a name, never returning a move.
+     */
+    private static final class NamedStrategy implements GefangenenDilemmaStrategy {
+
+        /**
+         * The name.
+         */
+        private final String name;
+
+        /**
+         * Creates the strategy.
+         *
+         * @param name The name.
+         */
+        NamedStrategy(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Optional<GefangenenDilemmaMove> computeNextMove(final int gameId, final GefangenenDilemmaPlayer player,
+                final GefangenenDilemmaState state, final long maxComputationTimePerMove) {
+            return Optional.empty();
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+}
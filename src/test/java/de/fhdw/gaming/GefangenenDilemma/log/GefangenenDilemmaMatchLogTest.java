@@ -0,0 +1,286 @@
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaMatchLog} together with {@link GefangenenDilemmaMatchLogReader}.
+ */
+final class GefangenenDilemmaMatchLogTest {
+
+    /**
+     * The flush interval used by the tests.
+     */
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    /**
+     * Tests that appended records are read back, also across segments.
+     */
+    @Test
+    void testAppendAndRead(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 10; ++round) {
+                log.append(7, round, 1, 2, round % 2 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT,
+                        round % 3 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT, -round, 0.5 * round);
+            }
+            assertThat(log.getNumberOfRecords(), is(equalTo(10L)));
+        }
+
+        final GefangenenDilemmaMatchLogReader reader = new GefangenenDilemmaMatchLogReader(directory);
+        assertThat(reader.getNumberOfSegments(), is(equalTo(3)));
+        assertThat(reader.getRecordsPerSegment(), is(equalTo(4)));
+        final GefangenenDilemmaMatchLogCursor cursor = reader.createCursor();
+        for (int round = 0; round < 10; ++round) {
+            assertThat(cursor.next(), is(equalTo(true)));
+            assertThat(cursor.getRecordIndex(), is(equalTo((long) round)));
+            assertThat(cursor.getGameId(), is(equalTo(7)));
+            assertThat(cursor.getRound(), is(equalTo(round)));
+            assertThat(cursor.getFirstPlayer(), is(equalTo(1)));
+            assertThat(cursor.getSecondPlayer(), is(equalTo(2)));
+            assertThat(cursor.getFirstPlayerAnswer(),
+                    is(equalTo(round % 2 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT)));
+            assertThat(cursor.getSecondPlayerAnswer(),
+                    is(equalTo(round % 3 == 0 ? MOVES.SNITCH : MOVES.REMAINSILENT)));
+            assertThat(cursor.getFirstPlayerPayoff(), is(equalTo((double) -round)));
+            assertThat(cursor.getSecondPlayerPayoff(), is(equalTo(0.5 * round)));
+        }
+        assertThat(cursor.next(), is(equalTo(false)));
+        assertThat(cursor.getRound(), is(equalTo(9)));
+    }
+
+    /**
+     * Tests that reopening a log continues after its last record.
+     */
+    @Test
+    void testReopen(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 5; ++round) {
+                log.append(1, round, 0, 0, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+            }
+        }
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            assertThat(log.getNumberOfRecords(), is(equalTo(5L)));
+            for (int round = 0; round < 3; ++round) {
+                log.append(2, round, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            }
+        }
+        Assertions.assertThrows(IOException.class,
+                () -> new GefangenenDilemmaMatchLog(directory, 8, FLUSH_INTERVAL));
+
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        final List<Integer> gameIds = new ArrayList<>();
+        while (cursor.next()) {
+            gameIds.add(cursor.getGameId());
+        }
+        assertThat(gameIds, is(equalTo(List.of(1, 1, 1, 1, 1, 2, 2, 2))));
+    }
+
+    /**
+     * Tests that reopening a log with an incomplete record discards the complete records following it.
+     */
+    @Test
+    void testReopenAfterGap(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 6; ++round) {
+                log.append(1, round, 0, 0, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+            }
+        }
+        // simulate a crash while the third record was being appended
+        try (FileChannel channel = FileChannel.open(GefangenenDilemmaMatchLogFormat.segmentFile(directory, 0),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES),
+                    2 * GefangenenDilemmaMatchLogFormat.RECORD_SIZE + GefangenenDilemmaMatchLogFormat.FLAGS_OFFSET);
+        }
+
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, FLUSH_INTERVAL)) {
+            assertThat(log.getNumberOfRecords(), is(equalTo(2L)));
+            log.append(2, 0, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+        }
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, FLUSH_INTERVAL)) {
+            assertThat(log.getNumberOfRecords(), is(equalTo(3L)));
+        }
+
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        final List<Integer> gameIds = new ArrayList<>();
+        while (cursor.next()) {
+            gameIds.add(cursor.getGameId());
+        }
+        assertThat(gameIds, is(equalTo(List.of(1, 1, 2))));
+    }
+
+    /**
+     * Tests that reopening a log with an incomplete record in an earlier segment discards all later segments.
+     */
+    @Test
+    void testReopenAfterGapInEarlierSegment(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 10; ++round) {
+                log.append(1, round, 0, 0, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+            }
+        }
+        // simulate a crash while the second record was being appended, after later segments had been filled
+        try (FileChannel channel = FileChannel.open(GefangenenDilemmaMatchLogFormat.segmentFile(directory, 0),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES),
+                    GefangenenDilemmaMatchLogFormat.RECORD_SIZE + GefangenenDilemmaMatchLogFormat.FLAGS_OFFSET);
+        }
+
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            assertThat(log.getNumberOfRecords(), is(equalTo(1L)));
+            assertThat(GefangenenDilemmaMatchLogFormat.listSegments(directory).size(), is(equalTo(1)));
+            for (int round = 0; round < 4; ++round) {
+                log.append(2, round, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            }
+        }
+
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        final List<Integer> gameIds = new ArrayList<>();
+        while (cursor.next()) {
+            gameIds.add(cursor.getGameId());
+        }
+        assertThat(gameIds, is(equalTo(List.of(1, 2, 2, 2, 2))));
+    }
+
+    /**
+     * Tests that reopening a log accepts an empty segment file left by a crash right after creating it.
+     */
+    @Test
+    void testReopenWithEmptySegment(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 8; ++round) {
+                log.append(1, round, 0, 0, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+            }
+        }
+        Files.createFile(GefangenenDilemmaMatchLogFormat.segmentFile(directory, 2));
+
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 4, FLUSH_INTERVAL)) {
+            assertThat(log.getNumberOfRecords(), is(equalTo(8L)));
+            log.append(2, 0, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+        }
+
+        final GefangenenDilemmaMatchLogReader reader = new GefangenenDilemmaMatchLogReader(directory);
+        assertThat(reader.getNumberOfSegments(), is(equalTo(3)));
+        final GefangenenDilemmaMatchLogCursor cursor = reader.createCursor();
+        final List<Integer> gameIds = new ArrayList<>();
+        while (cursor.next()) {
+            gameIds.add(cursor.getGameId());
+        }
+        assertThat(gameIds, is(equalTo(List.of(1, 1, 1, 1, 1, 1, 1, 1, 2))));
+    }
+
+    /**
+     * Tests that records appended concurrently are all stored exactly once.
+     */
+    @Test
+    void testConcurrentAppend(@TempDir final Path directory) throws Exception {
+        final int threads = 4;
+        final int recordsPerThread = 20_000;
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 1000, FLUSH_INTERVAL)) {
+            final List<Thread> writers = new ArrayList<>();
+            for (int thread = 0; thread < threads; ++thread) {
+                final int gameId = thread;
+                writers.add(new Thread(() -> {
+                    for (int round = 0; round < recordsPerThread; ++round) {
+                        log.append(gameId, round, gameId, gameId, MOVES.SNITCH, MOVES.REMAINSILENT, round, -round);
+                    }
+                }));
+            }
+            writers.forEach(Thread::start);
+            for (final Thread writer : writers) {
+                writer.join();
+            }
+        }
+
+        final int[] nextRound = new int[threads];
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        long records = 0;
+        while (cursor.next()) {
+            // the records of one thread keep their order
+            assertThat(cursor.getRound(), is(equalTo(nextRound[cursor.getGameId()]++)));
+            assertThat(cursor.getFirstPlayerPayoff(), is(equalTo((double) cursor.getRound())));
+            ++records;
+        }
+        assertThat(records, is(equalTo((long) threads * recordsPerThread)));
+    }
+
+    /**
+     * Tests that a cursor picks up records appended after it has reached the end.
+     */
+    @Test
+    void testReadWhileWriting(@TempDir final Path directory) throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 16, FLUSH_INTERVAL)) {
+            log.append(1, 0, 0, 1, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+            final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory)
+                    .createCursor();
+            assertThat(cursor.next(), is(equalTo(true)));
+            assertThat(cursor.next(), is(equalTo(false)));
+
+            log.append(1, 1, 0, 1, MOVES.SNITCH, MOVES.REMAINSILENT, 0.0, -10.0);
+            assertThat(cursor.next(), is(equalTo(true)));
+            assertThat(cursor.getRound(), is(equalTo(1)));
+            assertThat(cursor.getSecondPlayerPayoff(), is(equalTo(-10.0)));
+        }
+    }
+
+    /**
+     * Tests that a cursor follows a log being written into segments created after the reader has been opened.
+     */
+    @Test
+    void testReadWhileWritingAcrossSegments(@TempDir final Path directory) throws Exception {
+        final GefangenenDilemmaMatchLogReader reader = new GefangenenDilemmaMatchLogReader(directory);
+        final GefangenenDilemmaMatchLogCursor cursor = reader.createCursor();
+        assertThat(cursor.next(), is(equalTo(false)));
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 2, FLUSH_INTERVAL)) {
+            for (int round = 0; round < 7; ++round) {
+                log.append(3, round, 0, 1, MOVES.SNITCH, MOVES.REMAINSILENT, 0.0, -10.0);
+                assertThat(cursor.next(), is(equalTo(true)));
+                assertThat(cursor.getRound(), is(equalTo(round)));
+                assertThat(cursor.next(), is(equalTo(false)));
+            }
+        }
+        assertThat(reader.getNumberOfSegments(), is(equalTo(4)));
+        assertThat(reader.getRecordsPerSegment(), is(equalTo(2)));
+    }
+
+    /**
+     * Tests that a cursor must be positioned before reading.
+     */
+    @Test
+    void testCursorNotPositioned(@TempDir final Path directory) throws Exception {
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        assertThat(cursor.next(), is(equalTo(false)));
+        Assertions.assertThrows(IllegalStateException.class, cursor::getGameId);
+    }
+
+    /**
+     * Tests that a closed log rejects records and that invalid arguments are rejected.
+     */
+    @Test
+    void testInvalidUse(@TempDir final Path directory) throws Exception {
+        final GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory);
+        log.close();
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> log.append(1, 0, 0, 1, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMatchLog(directory, 0, FLUSH_INTERVAL));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaMatchLog(directory, 4, Duration.ZERO));
+    }
+}
@@ -0,0 +1,205 @@
+package de.fhdw.gaming.GefangenenDilemma.log;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.tournament.impl.GefangenenDilemmaRoundRobinTournament;
+
+/**
+ * Tests {@link GefangenenDilemmaMatchReplayer}.
+ */
+final class GefangenenDilemmaMatchReplayerTest {
+
+    /**
+     * The possible outcomes of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The possible outcomes of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The number of rounds per match.
+     */
+    private static final int NUMBER_OF_ROUNDS = 10;
+
+    /**
+     * Tests that a logged tournament is reproduced, including strategies seeding their randomness from the game ID.
+     */
+    @Test
+    void testVerify(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        this.playTournament(directory, strategies);
+
+        final GefangenenDilemmaReplayResult result = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(FIRST_PLAYER_OUTCOMES)).verify(new GefangenenDilemmaMatchLogReader(directory));
+        assertThat(result.isSuccessful(), is(equalTo(true)));
+        assertThat(result.getVerifiedMatches(), is(equalTo(18L)));
+        assertThat(result.getCheckedRecords(), is(equalTo(18L * NUMBER_OF_ROUNDS)));
+        assertThat(result.getMismatches(), is(equalTo(List.of())));
+    }
+
+    /**
+     * Tests replaying a single match.
+     */
+    @Test
+    void testReplay(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        this.playTournament(directory, strategies);
+        final GefangenenDilemmaMatchReplayer replayer = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(FIRST_PLAYER_OUTCOMES));
+        final GefangenenDilemmaMatchLogReader reader = new GefangenenDilemmaMatchLogReader(directory);
+
+        assertThat(replayer.replay(reader, 7), is(equalTo(
+                new GefangenenDilemmaReplayResult(NUMBER_OF_ROUNDS, 1, 0, List.of()))));
+        assertThat(replayer.replay(reader, 18), is(equalTo(
+                new GefangenenDilemmaReplayResult(0, 0, 1, List.of("Match 18 is not in the log.")))));
+    }
+
+    /**
+     * Tests that a changed engine is detected.
+     */
+    @Test
+    void testVerifyChangedPayoffs(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        this.playTournament(directory, strategies);
+
+        final GefangenenDilemmaReplayResult result = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -2.0)))
+                        .verify(new GefangenenDilemmaMatchLogReader(directory));
+        assertThat(result.isSuccessful(), is(equalTo(false)));
+        // only matches in which both players stay silent in some round are affected
+        assertThat(result.getFailedMatches() + result.getVerifiedMatches(), is(equalTo(18L)));
+        assertThat(result.getMismatches().size(), is(equalTo((int) result.getFailedMatches())));
+        assertThat(result.getMismatches().get(0).contains("with payoffs -2.0/-1.0, but found REMAINSILENT/"
+                + "REMAINSILENT with payoffs -1.0/-1.0"), is(equalTo(true)));
+    }
+
+    /**
+     * Tests that deviating answers, missing rounds and unknown players are detected.
+     */
+    @Test
+    void testVerifyDeviations(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, Duration.ofMillis(10))) {
+            // snitching against staying silent, but with the wrong answer in round 1
+            log.append(1, 0, 1, 0, MOVES.SNITCH, MOVES.REMAINSILENT, 0.0, -10.0);
+            log.append(1, 1, 1, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            // only the first two rounds of a match
+            log.append(2, 0, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            log.append(2, 1, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            log.append(3, 0, 5, 0, MOVES.SNITCH, MOVES.SNITCH, -8.0, -8.0);
+        }
+
+        final GefangenenDilemmaReplayResult result = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(FIRST_PLAYER_OUTCOMES)).verify(new GefangenenDilemmaMatchLogReader(directory));
+        assertThat(result.getCheckedRecords(), is(equalTo(5L)));
+        assertThat(result.getVerifiedMatches(), is(equalTo(0L)));
+        assertThat(result.getFailedMatches(), is(equalTo(3L)));
+        assertThat(result.getMismatches(), is(equalTo(List.of(
+                "Record 1: Match 1, round 1: expected SNITCH/REMAINSILENT with payoffs 0.0/-10.0, but found "
+                        + "REMAINSILENT/REMAINSILENT with payoffs -1.0/-1.0.",
+                "Record 4: Match 3: unknown players 5 and 0.",
+                "Match 2: expected 10 rounds, but found 2."))));
+    }
+
+    /**
+     * Tests that records following the last round of a match are reported as extra rounds.
+     */
+    @Test
+    void testVerifyExtraRecord(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, Duration.ofMillis(10))) {
+            this.createSimulator(FIRST_PLAYER_OUTCOMES).simulate(1, strategies.get(0), strategies.get(0),
+                    log.createRoundListener(0, 0));
+            log.append(1, NUMBER_OF_ROUNDS, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            log.append(1, NUMBER_OF_ROUNDS + 1, 0, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+        }
+
+        final GefangenenDilemmaReplayResult result = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(FIRST_PLAYER_OUTCOMES)).verify(new GefangenenDilemmaMatchLogReader(directory));
+        assertThat(result, is(equalTo(new GefangenenDilemmaReplayResult(NUMBER_OF_ROUNDS + 2, 0, 1,
+                List.of("Record 10: Match 1: expected 10 rounds, but found more.")))));
+    }
+
+    /**
+     * Tests that later matches reusing a game ID are checked on their own.
+     */
+    @Test
+    void testVerifyReusedGameId(@TempDir final Path directory) throws Exception {
+        final List<GefangenenDilemmaStrategy> strategies = this.createStrategies();
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 8, Duration.ofMillis(10))) {
+            this.createSimulator(FIRST_PLAYER_OUTCOMES).simulate(1, strategies.get(0), strategies.get(0),
+                    log.createRoundListener(0, 0));
+            this.createSimulator(FIRST_PLAYER_OUTCOMES).simulate(1, strategies.get(1), strategies.get(0),
+                    log.createRoundListener(1, 0));
+            // a third match with the same ID, deviating in its first round
+            log.append(1, 0, 1, 0, MOVES.REMAINSILENT, MOVES.REMAINSILENT, -1.0, -1.0);
+            log.append(1, 1, 1, 0, MOVES.SNITCH, MOVES.REMAINSILENT, 0.0, -10.0);
+        }
+
+        final GefangenenDilemmaReplayResult result = new GefangenenDilemmaMatchReplayer(strategies,
+                this.createSimulator(FIRST_PLAYER_OUTCOMES)).verify(new GefangenenDilemmaMatchLogReader(directory));
+        assertThat(result, is(equalTo(new GefangenenDilemmaReplayResult(2 * NUMBER_OF_ROUNDS + 2, 2, 1, List.of(
+                "Record 20: Match 1, round 0: expected SNITCH/REMAINSILENT with payoffs 0.0/-10.0, but found "
+                        + "REMAINSILENT/REMAINSILENT with payoffs -1.0/-1.0.")))));
+    }
+
+    /**
+     * Creates the strategies of the tests: staying silent, snitching, and answering randomly based on the game ID.
+     */
+    private List<GefangenenDilemmaStrategy> createStrategies() {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy random = (gameId, player, state, maxComputationTimePerMove) -> Optional.of(
+                new SplittableRandom(31L * gameId + state.getNumberOfPlayedRounds()).nextBoolean()
+                        ? moveFactory.createSnitchMove()
+                        : moveFactory.createStaySilentMove());
+        return List.of(new GefangenenDilemmaStaySilentStrategyFactory().create(moveFactory),
+                new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory), random);
+    }
+
+    /**
+     * Creates a simulator.
+     *
+     * @param firstPlayerOutcomes The payoff matrix of the first player.
+     */
+    private GefangenenDilemmaMatchSimulatorImpl createSimulator(
+            final GefangenenDilemmaPayoffMatrix firstPlayerOutcomes) {
+        return new GefangenenDilemmaMatchSimulatorImpl(firstPlayerOutcomes, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS);
+    }
+
+    /**
+     * Plays a logged tournament in which each pairing is played twice.
+     *
+     * @param directory  The directory of the log.
+     * @param strategies The strategies.
+     */
+    private void playTournament(final Path directory, final List<GefangenenDilemmaStrategy> strategies)
+            throws Exception {
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 64, Duration.ofMillis(10))) {
+            new GefangenenDilemmaRoundRobinTournament(strategies, this.createSimulator(FIRST_PLAYER_OUTCOMES), 2,
+                    ForkJoinPool.commonPool(), log).play();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package de.fhdw.gaming.GefangenenDilemma.lookup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.lookup.impl.GefangenenDilemmaBitSlicedSimulator;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaDecisionTableStrategy}.
+ */
+final class GefangenenDilemmaDecisionTableStrategyTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The number of rounds per match.
+     */
+    private static final int NUMBER_OF_ROUNDS = 30;
+
+    /**
+     * Tests that matches between decision table strategies end like the matches between the decision tables
+     * simulated by {@link GefangenenDilemmaBitSlicedSimulator}, for all supported memory depths and both seats.
+     */
+    @Test
+    void testParityWithBitSlicedSimulator() throws Exception {
+        final SplittableRandom random = new SplittableRandom(4711);
+        final List<GefangenenDilemmaDecisionTable> firstPlayerTables = new ArrayList<>();
+        final List<GefangenenDilemmaDecisionTable> secondPlayerTables = new ArrayList<>();
+        for (int match = 0; match < 60; ++match) {
+            firstPlayerTables.add(this.createRandomTable(random,
+                    random.nextInt(GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH + 1)));
+            secondPlayerTables.add(this.createRandomTable(random,
+                    random.nextInt(GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH + 1)));
+        }
+
+        final List<GefangenenDilemmaMatchResult> expected = new GefangenenDilemmaBitSlicedSimulator(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS).simulate(firstPlayerTables,
+                        secondPlayerTables);
+
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaMatchSimulatorImpl simulator = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS);
+        for (int match = 0; match < 60; ++match) {
+            assertThat(simulator.simulate(match,
+                    new GefangenenDilemmaDecisionTableStrategy(firstPlayerTables.get(match), moveFactory),
+                    new GefangenenDilemmaDecisionTableStrategy(secondPlayerTables.get(match), moveFactory)),
+                    is(equalTo(expected.get(match))));
+        }
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaDecisionTableStrategy#getMemoryDepth()}, equality and the textual representation.
+     */
+    @Test
+    void testTable() {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaDecisionTable titForTat = new GefangenenDilemmaDecisionTable(1, new long[] {0b1010L });
+        final GefangenenDilemmaDecisionTableStrategy strategy = new GefangenenDilemmaDecisionTableStrategy(titForTat,
+                moveFactory);
+        assertThat(strategy.getMemoryDepth(), is(equalTo(1)));
+        assertThat(strategy.getTable(), is(equalTo(titForTat)));
+        assertThat(strategy, is(equalTo(new GefangenenDilemmaDecisionTableStrategy(
+                new GefangenenDilemmaDecisionTable(1, new long[] {0b1010L }), moveFactory))));
+        assertThat(strategy, is(not(equalTo(new GefangenenDilemmaDecisionTableStrategy(
+                new GefangenenDilemmaDecisionTable(1, new long[] {0b0101L }), moveFactory)))));
+        assertThat(strategy.toString(),
+                is(equalTo("GefangenenDilemmaDecisionTableStrategy[DecisionTable[depth=1, SRSR]]")));
+    }
+
+    /**
+     * Creates a random decision table.
+     *
+     * @param random      The source of randomness.
+     * @param memoryDepth The memory depth.
+     */
+    private GefangenenDilemmaDecisionTable createRandomTable(final SplittableRandom random, final int memoryDepth) {
+        final int numberOfEntries = 1 << 2 * memoryDepth;
+        final long[] entries = new long[(numberOfEntries + Long.SIZE - 1) / Long.SIZE];
+        for (int word = 0; word < entries.length; ++word) {
+            entries[word] = random.nextLong();
+        }
+        if (numberOfEntries < Long.SIZE) {
+            entries[0] &= (1L << numberOfEntries) - 1;
+        }
+        return new GefangenenDilemmaDecisionTable(memoryDepth, entries);
+    }
+}
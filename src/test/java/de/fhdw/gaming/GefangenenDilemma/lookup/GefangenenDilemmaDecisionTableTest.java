@@ -0,0 +1,83 @@
+package de.fhdw.gaming.GefangenenDilemma.lookup;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaDecisionTable}.
+ */
+final class GefangenenDilemmaDecisionTableTest {
+
+    /**
+     * Tests the history index of a decision table depending on two rounds.
+     */
+    @Test
+    void testNextIndex() {
+        final GefangenenDilemmaDecisionTable table = new GefangenenDilemmaDecisionTable(2, new long[] {0L });
+        assertThat(table.getNumberOfEntries(), is(equalTo(16)));
+        assertThat(table.getInitialIndex(), is(equalTo(0b1111)));
+        final int afterFirstRound = table.nextIndex(table.getInitialIndex(), MOVES.SNITCH, MOVES.REMAINSILENT);
+        assertThat(afterFirstRound, is(equalTo(0b1101)));
+        assertThat(table.nextIndex(afterFirstRound, MOVES.REMAINSILENT, MOVES.SNITCH), is(equalTo(0b0110)));
+    }
+
+    /**
+     * Tests that {@link GefangenenDilemmaDecisionTable#indexOf} equals the history index obtained by replaying all
+     * rounds.
+     */
+    @Test
+    void testIndexOf() {
+        final SplittableRandom random = new SplittableRandom(7);
+        for (int memoryDepth = 0; memoryDepth <= GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH; ++memoryDepth) {
+            final GefangenenDilemmaDecisionTable table = new GefangenenDilemmaDecisionTable(memoryDepth,
+                    new long[((1 << 2 * memoryDepth) + Long.SIZE - 1) / Long.SIZE]);
+            final GefangenenDilemmaMoveHistory own = new GefangenenDilemmaMoveHistory();
+            final GefangenenDilemmaMoveHistory opponent = new GefangenenDilemmaMoveHistory();
+            int index = table.getInitialIndex();
+            for (int round = 0; round < 80; ++round) {
+                assertThat(table.indexOf(own, opponent), is(equalTo(index)));
+                final MOVES ownAnswer = random.nextBoolean() ? MOVES.SNITCH : MOVES.REMAINSILENT;
+                final MOVES opponentAnswer = random.nextBoolean() ? MOVES.SNITCH : MOVES.REMAINSILENT;
+                own.add(ownAnswer);
+                opponent.add(opponentAnswer);
+                index = table.nextIndex(index, ownAnswer, opponentAnswer);
+            }
+        }
+    }
+
+    /**
+     * Tests tit for tat given as decision table.
+     */
+    @Test
+    void testGetAnswer() {
+        // remain silent if the opponent remained silent in the last round, i.e. at odd indices
+        final GefangenenDilemmaDecisionTable titForTat = new GefangenenDilemmaDecisionTable(1, new long[] {0b1010L });
+        assertThat(titForTat.getAnswer(titForTat.getInitialIndex()), is(equalTo(MOVES.REMAINSILENT)));
+        assertThat(titForTat.getAnswer(titForTat.nextIndex(0, MOVES.REMAINSILENT, MOVES.SNITCH)),
+                is(equalTo(MOVES.SNITCH)));
+        assertThat(titForTat.toString(), is(equalTo("DecisionTable[depth=1, SRSR]")));
+    }
+
+    /**
+     * Tests that entries not matching the memory depth are rejected.
+     */
+    @Test
+    void testInvalidEntries() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaDecisionTable(1, new long[] {0b10000L }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaDecisionTable(4, new long[] {0L }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaDecisionTable(GefangenenDilemmaDecisionTable.MAX_MEMORY_DEPTH + 1,
+                        new long[1 << 6]));
+    }
+}
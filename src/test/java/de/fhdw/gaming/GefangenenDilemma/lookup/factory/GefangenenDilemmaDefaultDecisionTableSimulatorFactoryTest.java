@@ -0,0 +1,51 @@
+package de.fhdw.gaming.GefangenenDilemma.lookup.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableSimulator;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultDecisionTableSimulatorFactory}.
+ */
+final class GefangenenDilemmaDefaultDecisionTableSimulatorFactoryTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+
+    /**
+     * Tests that the created simulator plays with the given payoff matrices and number of rounds.
+     */
+    @Test
+    void testCreate() {
+        final GefangenenDilemmaDecisionTableSimulatorFactory factory =
+                new GefangenenDilemmaDefaultDecisionTableSimulatorFactory();
+        final GefangenenDilemmaDecisionTableSimulator simulator = factory.create(FIRST_PLAYER_OUTCOMES,
+                SECOND_PLAYER_OUTCOMES, 5);
+        final GefangenenDilemmaDecisionTable alwaysSnitch = new GefangenenDilemmaDecisionTable(1, new long[] {0L });
+        final GefangenenDilemmaDecisionTable alwaysStaySilent = new GefangenenDilemmaDecisionTable(1,
+                new long[] {0b1111L });
+        assertThat(simulator.simulate(List.of(alwaysSnitch), List.of(alwaysStaySilent)),
+                is(equalTo(List.of(new GefangenenDilemmaMatchResult(5, 0.0, -50.0, 0, 5)))));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> factory.create(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 0));
+    }
+}
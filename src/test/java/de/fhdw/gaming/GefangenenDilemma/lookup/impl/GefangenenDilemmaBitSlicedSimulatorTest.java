@@ -0,0 +1,117 @@
+package de.fhdw.gaming.GefangenenDilemma.lookup.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+
+/**
+ * Tests {@link GefangenenDilemmaBitSlicedSimulator}.
+ */
+final class GefangenenDilemmaBitSlicedSimulatorTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+    /**
+     * The number of rounds per match.
+     */
+    private static final int NUMBER_OF_ROUNDS = 40;
+
+    /**
+     * Tests that the results equal those of playing one match at a time, for more matches than fit into one block and
+     * for decision tables of different memory depths.
+     */
+    @Test
+    void testParityWithMatchSimulator() throws Exception {
+        final SplittableRandom random = new SplittableRandom(42);
+        final List<GefangenenDilemmaDecisionTable> firstPlayerTables = new ArrayList<>();
+        final List<GefangenenDilemmaDecisionTable> secondPlayerTables = new ArrayList<>();
+        for (int match = 0; match < 150; ++match) {
+            firstPlayerTables.add(this.createRandomTable(random, random.nextInt(4)));
+            secondPlayerTables.add(this.createRandomTable(random, random.nextInt(4)));
+        }
+
+        final List<GefangenenDilemmaMatchResult> results = new GefangenenDilemmaBitSlicedSimulator(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS).simulate(firstPlayerTables,
+                        secondPlayerTables);
+
+        final GefangenenDilemmaMatchSimulatorImpl simulator = new GefangenenDilemmaMatchSimulatorImpl(
+                FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, NUMBER_OF_ROUNDS);
+        assertThat(results.size(), is(equalTo(150)));
+        for (int match = 0; match < 150; ++match) {
+            assertThat(results.get(match), is(equalTo(simulator.simulate(match,
+                    this.createStrategy(firstPlayerTables.get(match)),
+                    this.createStrategy(secondPlayerTables.get(match))))));
+        }
+    }
+
+    /**
+     * Tests that lists of different sizes are rejected.
+     */
+    @Test
+    void testSimulateWithDifferentSizes() {
+        final GefangenenDilemmaDecisionTable table = new GefangenenDilemmaDecisionTable(0, new long[] {1L });
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaBitSlicedSimulator(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1)
+                        .simulate(List.of(table), List.of()));
+    }
+
+    /**
+     * Creates a random decision table.
+     *
+     * @param random      The source of randomness.
+     * @param memoryDepth The memory depth.
+     */
+    private GefangenenDilemmaDecisionTable createRandomTable(final SplittableRandom random, final int memoryDepth) {
+        final int numberOfEntries = 1 << 2 * memoryDepth;
+        final long entries = numberOfEntries == Long.SIZE ? random.nextLong()
+                : random.nextLong() & (1L << numberOfEntries) - 1;
+        return new GefangenenDilemmaDecisionTable(memoryDepth, new long[] {entries });
+    }
+
+    /**
+     * Creates a strategy playing a decision table by looking at the histories of the state.
+     *
+     * @param table The decision table.
+     */
+    private GefangenenDilemmaStrategy createStrategy(final GefangenenDilemmaDecisionTable table) {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        return (gameId, player, state, maxComputationTimePerMove) -> {
+            final boolean first = player.equals(state.getFirstPlayer());
+            final GefangenenDilemmaMoveHistory own = first ? state.getFirstPlayerHistory()
+                    : state.getSecondPlayerHistory();
+            final GefangenenDilemmaMoveHistory opponent = first ? state.getSecondPlayerHistory()
+                    : state.getFirstPlayerHistory();
+            int index = table.getInitialIndex();
+            for (int round = 0; round < own.size(); ++round) {
+                index = table.nextIndex(index, own.get(round), opponent.get(round));
+            }
+            return Optional.of(table.isSilent(index) ? moveFactory.createStaySilentMove()
+                    : moveFactory.createSnitchMove());
+        };
+    }
+}
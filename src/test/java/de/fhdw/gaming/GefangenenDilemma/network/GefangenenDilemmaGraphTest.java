@@ -0,0 +1,63 @@
+package de.fhdw.gaming.GefangenenDilemma.network;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link GefangenenDilemmaGraph}.
+ */
+final class GefangenenDilemmaGraphTest {
+
+    /**
+     * Tests {@link GefangenenDilemmaGraph#fromEdges(int, int[], int[])}.
+     */
+    @Test
+    void testFromEdges() {
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaGraph.fromEdges(5, new int[] {0, 0, 1, 3 },
+                new int[] {1, 2, 2, 3 });
+        assertThat(graph.getNumberOfNodes(), is(equalTo(5)));
+        assertThat(graph.getNumberOfEdges(), is(equalTo(3L)));
+        assertThat(graph.getNeighbours(0), is(equalTo(new int[] {1, 2 })));
+        assertThat(graph.getNeighbours(2), is(equalTo(new int[] {0, 1 })));
+        assertThat(graph.getDegree(3), is(equalTo(0)));
+        assertThat(graph.getDegree(4), is(equalTo(0)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> GefangenenDilemmaGraph.fromEdges(2, new int[] {0 }, new int[] {2 }));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaGraph#load(Path)}.
+     */
+    @Test
+    void testLoad(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("edges.txt");
+        Files.writeString(file, "# comment\n0 1\r\n\n1\t2 0.5\n%another comment\n7,0\n", StandardCharsets.US_ASCII);
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaGraph.load(file);
+        assertThat(graph.getNumberOfNodes(), is(equalTo(8)));
+        assertThat(graph.getNumberOfEdges(), is(equalTo(3L)));
+        assertThat(graph.getNeighbours(0), is(equalTo(new int[] {1, 7 })));
+        assertThat(graph.getNeighbours(1), is(equalTo(new int[] {0, 2 })));
+        assertThat(graph.getNeighbours(7), is(equalTo(new int[] {0 })));
+    }
+
+    /**
+     * Tests that a malformed edge list is rejected.
+     */
+    @Test
+    void testLoadMalformed(@TempDir final Path directory) throws IOException {
+        final Path file = directory.resolve("edges.txt");
+        Files.writeString(file, "0 1\n2 x\n", StandardCharsets.US_ASCII);
+        final IOException e = Assertions.assertThrows(IOException.class, () -> GefangenenDilemmaGraph.load(file));
+        assertThat(e.getMessage(), is(equalTo("Line 2: expected a node.")));
+    }
+}
@@ -0,0 +1,56 @@
+package de.fhdw.gaming.GefangenenDilemma.network.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaGraph;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaNetworkGame;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultNetworkGameFactory}.
+ */
+final class GefangenenDilemmaDefaultNetworkGameFactoryTest {
+
+    /**
+     * The payoff table of always snitching (0) against always remaining silent (1) in a single round.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-8.0, 0.0 },
+        {-10.0, -1.0 } });
+
+    /**
+     * Tests that the created network games play on the given graph with the given strategies.
+     */
+    @Test
+    void testCreateNetworkGame() {
+        final GefangenenDilemmaNetworkGameFactory factory = new GefangenenDilemmaDefaultNetworkGameFactory();
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaGraph.fromEdges(3, new int[] {0, 1 },
+                new int[] {1, 2 });
+        final int[] strategies = {0, 1, 1 };
+        final GefangenenDilemmaNetworkGame game = factory.createNetworkGame(graph, TABLE, strategies);
+        assertThat(game.getGraph(), is(sameInstance(graph)));
+        assertThat(game.countStrategies(), is(equalTo(new long[] {1, 2 })));
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final GefangenenDilemmaNetworkGame pooled = factory.createNetworkGame(graph, TABLE, strategies, pool);
+            pooled.advance(1);
+            game.advance(1);
+            assertThat(pooled.getGeneration(), is(equalTo(1L)));
+            assertThat(pooled.countStrategies(), is(equalTo(game.countStrategies())));
+        } finally {
+            pool.shutdown();
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> factory.createNetworkGame(graph, TABLE, new int[] {0, 1 }));
+    }
+}
@@ -0,0 +1,117 @@
+package de.fhdw.gaming.GefangenenDilemma.network.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaGraph;
+import de.fhdw.gaming.GefangenenDilemma.network.GefangenenDilemmaNetworkGame;
+
+/**
+ * Tests {@link GefangenenDilemmaParallelNetworkGame}.
+ */
+final class GefangenenDilemmaParallelNetworkGameTest {
+
+    /**
+     * The payoff table of always snitching (0) against always remaining silent (1) in a single round.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-8.0, 0.0 },
+        {-10.0, -1.0 } });
+
+    /**
+     * Tests a generation on a star whose centre remains silent.
+     */
+    @Test
+    void testStar() {
+        // the centre 0 is connected to 1, 2 and 3; leaf 3 is also connected to 4
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaGraph.fromEdges(5, new int[] {0, 0, 0, 3 },
+                new int[] {1, 2, 3, 4 });
+        final GefangenenDilemmaNetworkGame game = new GefangenenDilemmaParallelNetworkGame(graph, TABLE,
+                new int[] {1, 1, 1, 0, 1 });
+        game.advance(1);
+        assertThat(game.getPayoff(0), is(equalTo(-12.0)));
+        assertThat(game.getPayoff(3), is(equalTo(0.0)));
+        assertThat(game.getPayoff(4), is(equalTo(-10.0)));
+        assertThat(game.countStrategies(), is(equalTo(new long[] {3, 2 })));
+        assertThat(game.getStrategy(0), is(equalTo(0)));
+        assertThat(game.getStrategy(1), is(equalTo(1)));
+        assertThat(game.getStrategy(4), is(equalTo(0)));
+    }
+
+    /**
+     * Tests that the result on a scale-free graph does not depend on the number of workers.
+     */
+    @Test
+    void testIndependentOfParallelism() {
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaParallelNetworkGameTest.createScaleFreeGraph(5000, 3);
+        final SplittableRandom random = new SplittableRandom(11);
+        final int[] strategies = new int[graph.getNumberOfNodes()];
+        for (int node = 0; node < strategies.length; ++node) {
+            strategies[node] = random.nextInt(2);
+        }
+        final GefangenenDilemmaPayoffTable table = new GefangenenDilemmaPayoffTable(new double[][] {
+            {0.0, 1.6 },
+            {0.0, 1.0 } });
+
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            final GefangenenDilemmaNetworkGame sequential = new GefangenenDilemmaParallelNetworkGame(graph, table,
+                    strategies, single);
+            final GefangenenDilemmaNetworkGame parallel = new GefangenenDilemmaParallelNetworkGame(graph, table,
+                    strategies, many);
+            sequential.advance(10);
+            parallel.advance(10);
+            for (int node = 0; node < strategies.length; ++node) {
+                assertThat(parallel.getStrategy(node), is(equalTo(sequential.getStrategy(node))));
+                assertThat(parallel.getPayoff(node), is(equalTo(sequential.getPayoff(node))));
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    /**
+     * Tests that invalid strategies are rejected.
+     */
+    @Test
+    void testCtorWithInvalidStrategies() {
+        final GefangenenDilemmaGraph graph = GefangenenDilemmaGraph.fromEdges(2, new int[] {0 }, new int[] {1 });
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaParallelNetworkGame(graph, TABLE, new int[] {0 }));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaParallelNetworkGame(graph, TABLE, new int[] {0, 2 }));
+    }
+
+    /**
+     * Creates a graph by preferential attachment.
+     *
+     * @param numberOfNodes The number of nodes.
+     * @param edgesPerNode  The number of edges added with each node.
+     */
+    private static GefangenenDilemmaGraph createScaleFreeGraph(final int numberOfNodes, final int edgesPerNode) {
+        final SplittableRandom random = new SplittableRandom(3);
+        final int numberOfEdges = (numberOfNodes - 1) * edgesPerNode;
+        final int[] sources = new int[numberOfEdges];
+        final int[] targets = new int[numberOfEdges];
+        int edge = 0;
+        for (int node = 1; node < numberOfNodes; ++node) {
+            for (int added = 0; added < edgesPerNode; ++added) {
+                sources[edge] = node;
+                // choosing the end of a random earlier edge prefers nodes of high degree
+                targets[edge] = edge == 0 ? 0 : (random.nextBoolean() ? sources : targets)[random.nextInt(edge)];
+                ++edge;
+            }
+        }
+        return GefangenenDilemmaGraph.fromEdges(numberOfNodes, sources, targets);
+    }
+}
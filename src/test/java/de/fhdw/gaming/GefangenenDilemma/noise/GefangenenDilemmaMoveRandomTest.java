@@ -0,0 +1,36 @@
+package de.fhdw.gaming.GefangenenDilemma.noise;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link GefangenenDilemmaMoveRandom}.
+ */
+final class GefangenenDilemmaMoveRandomTest {
+
+    /**
+     * Tests that equal inputs yield equal sources and that neighbouring inputs yield different sources.
+     */
+    @Test
+    void testCreate() {
+        assertThat(GefangenenDilemmaMoveRandom.create(1L, 2, 3, 0).nextLong(),
+                is(equalTo(GefangenenDilemmaMoveRandom.create(1L, 2, 3, 0).nextLong())));
+
+        final Set<Long> values = new HashSet<>();
+        for (int gameId = 0; gameId < 10; ++gameId) {
+            for (int round = 0; round < 10; ++round) {
+                for (int seat = 0; seat < 2; ++seat) {
+                    values.add(GefangenenDilemmaMoveRandom.create(1L, gameId, round, seat).nextLong());
+                    values.add(GefangenenDilemmaMoveRandom.create(2L, gameId, round, seat).nextLong());
+                }
+            }
+        }
+        assertThat(values.size(), is(equalTo(400)));
+    }
+}
@@ -0,0 +1,119 @@
+package de.fhdw.gaming.GefangenenDilemma.noise;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchResult;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTable;
+import de.fhdw.gaming.GefangenenDilemma.lookup.GefangenenDilemmaDecisionTableStrategy;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaNoisyStrategy}.
+ */
+final class GefangenenDilemmaNoisyStrategyTest {
+
+    /**
+     * The factory for creating moves.
+     */
+    private static final GefangenenDilemmaMoveFactory MOVE_FACTORY = new GefangenenDilemmaDefaultMoveFactory();
+    /**
+     * The simulator playing 1000 rounds per match.
+     */
+    private static final GefangenenDilemmaMatchSimulatorImpl SIMULATOR = new GefangenenDilemmaMatchSimulatorImpl(
+            GefangenenDilemmaPayoffMatrix.of(-8.0, 0.0, -10.0, -1.0),
+            GefangenenDilemmaPayoffMatrix.of(-8.0, -10.0, 0.0, -1.0), 1000);
+
+    /**
+     * Tests that the answers are flipped with about the given probability, independently for both seats.
+     */
+    @Test
+    void testNoiseProbability() throws Exception {
+        final GefangenenDilemmaStrategy noisy = new GefangenenDilemmaNoisyStrategy(
+                new GefangenenDilemmaStaySilentStrategyFactory().create(MOVE_FACTORY), 0.1, 42L, MOVE_FACTORY);
+        final GefangenenDilemmaMatchResult result = SIMULATOR.simulate(1, noisy, noisy);
+        // 100 flips are expected, the bounds are about three standard deviations away
+        assertThat(Math.abs(1000 - result.getFirstPlayerSilentAnswers() - 100) < 30, is(equalTo(true)));
+        assertThat(Math.abs(1000 - result.getSecondPlayerSilentAnswers() - 100) < 30, is(equalTo(true)));
+        assertThat(result.getFirstPlayerSilentAnswers(), is(not(equalTo(result.getSecondPlayerSilentAnswers()))));
+    }
+
+    /**
+     * Tests the extreme probabilities.
+     */
+    @Test
+    void testExtremeProbabilities() throws Exception {
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(MOVE_FACTORY);
+        final GefangenenDilemmaStrategy titForTat = new GefangenenDilemmaDecisionTableStrategy(
+                new GefangenenDilemmaDecisionTable(1, new long[] {0b1010L }), MOVE_FACTORY);
+        assertThat(SIMULATOR.simulate(1, new GefangenenDilemmaNoisyStrategy(titForTat, 0.0, 1L, MOVE_FACTORY),
+                snitch), is(equalTo(SIMULATOR.simulate(1, titForTat, snitch))));
+
+        final GefangenenDilemmaMatchResult flipped = SIMULATOR.simulate(1,
+                new GefangenenDilemmaNoisyStrategy(snitch, 1.0, 1L, MOVE_FACTORY), snitch);
+        assertThat(flipped.getFirstPlayerSilentAnswers(), is(equalTo(1000)));
+        assertThat(flipped.getSecondPlayerSilentAnswers(), is(equalTo(0)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaNoisyStrategy(snitch, -0.1, 1L, MOVE_FACTORY));
+    }
+
+    /**
+     * Tests that matches played concurrently yield the same results as matches played one after another, and that
+     * the results depend on the seed.
+     */
+    @Test
+    void testReproducibility() throws Exception {
+        final GefangenenDilemmaStrategy titForTat = new GefangenenDilemmaDecisionTableStrategy(
+                new GefangenenDilemmaDecisionTable(1, new long[] {0b1010L }), MOVE_FACTORY);
+        final GefangenenDilemmaStrategy noisy = new GefangenenDilemmaNoisyStrategy(titForTat, 0.05, 7L, MOVE_FACTORY);
+
+        final List<GefangenenDilemmaMatchResult> concurrent = IntStream.range(0, 64).parallel()
+                .mapToObj((final int gameId) -> this.simulate(gameId, noisy)).collect(Collectors.toList());
+        for (int gameId = 0; gameId < 64; ++gameId) {
+            assertThat(this.simulate(gameId, noisy), is(equalTo(concurrent.get(gameId))));
+        }
+        assertThat(this.simulate(0, new GefangenenDilemmaNoisyStrategy(titForTat, 0.05, 8L, MOVE_FACTORY)),
+                is(not(equalTo(concurrent.get(0)))));
+    }
+
+    /**
+     * Tests {@link GefangenenDilemmaNoisyStrategy#toString()}.
+     */
+    @Test
+    void testToString() {
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(MOVE_FACTORY);
+        assertThat(new GefangenenDilemmaNoisyStrategy(snitch, 0.25, 1L, MOVE_FACTORY).toString(),
+                is(equalTo("GefangenenDilemmaNoisyStrategy[GefangenenDilemmaSnitchStrategy, noise=0.25]")));
+    }
+
+    /**
+     * Plays a match of a strategy against itself.
+     *
+     * @param gameId   The ID of the match.
+     * @param strategy The strategy.
+     */
+    private GefangenenDilemmaMatchResult simulate(final int gameId, final GefangenenDilemmaStrategy strategy) {
+        try {
+            return SIMULATOR.simulate(gameId, strategy, strategy);
+        } catch (final GameException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package de.fhdw.gaming.GefangenenDilemma.spatial.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.spatial.GefangenenDilemmaLattice;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultLatticeFactory}.
+ */
+final class GefangenenDilemmaDefaultLatticeFactoryTest {
+
+    /**
+     * The payoff table of always snitching against always remaining silent over ten rounds.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-80.0, 0.0 },
+        {-100.0, -10.0 } });
+
+    /**
+     * Tests that the created lattices have the given size and strategies.
+     */
+    @Test
+    void testCreateLattice() {
+        final GefangenenDilemmaLatticeFactory factory = new GefangenenDilemmaDefaultLatticeFactory();
+        final int[] strategies = {0, 1, 1, 1, 1, 1 };
+        final GefangenenDilemmaLattice lattice = factory.createLattice(TABLE, 3, 2, strategies);
+        assertThat(lattice.getWidth(), is(equalTo(3)));
+        assertThat(lattice.getHeight(), is(equalTo(2)));
+        assertThat(lattice.countStrategies(), is(equalTo(new long[] {1, 5 })));
+
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            final GefangenenDilemmaLattice pooled = factory.createLattice(TABLE, 3, 2, strategies, pool);
+            pooled.advance(1);
+            lattice.advance(1);
+            assertThat(pooled.getGeneration(), is(equalTo(1L)));
+            assertThat(pooled.countStrategies(), is(equalTo(lattice.countStrategies())));
+        } finally {
+            pool.shutdown();
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> factory.createLattice(TABLE, 0, 2, new int[0]));
+    }
+}
@@ -0,0 +1,104 @@
+package de.fhdw.gaming.GefangenenDilemma.spatial.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.evolution.GefangenenDilemmaPayoffTable;
+import de.fhdw.gaming.GefangenenDilemma.spatial.GefangenenDilemmaLattice;
+
+/**
+ * Tests {@link GefangenenDilemmaParallelLattice}.
+ */
+final class GefangenenDilemmaParallelLatticeTest {
+
+    /**
+     * The payoff table of always snitching (0) against always remaining silent (1) over ten rounds.
+     */
+    private static final GefangenenDilemmaPayoffTable TABLE = new GefangenenDilemmaPayoffTable(new double[][] {
+        {-80.0, 0.0 },
+        {-100.0, -10.0 } });
+
+    /**
+     * Tests that a single snitch spreads to its neighbours, also across the borders of the torus.
+     */
+    @Test
+    void testSnitchSpreads() {
+        final int[] strategies = new int[10 * 8];
+        Arrays.fill(strategies, 1);
+        strategies[0] = 0;
+        final GefangenenDilemmaLattice lattice = new GefangenenDilemmaParallelLattice(TABLE, 10, 8, strategies);
+
+        lattice.advance(1);
+        assertThat(lattice.getGeneration(), is(equalTo(1L)));
+        assertThat(lattice.countStrategies(), is(equalTo(new long[] {9, 71 })));
+        assertThat(lattice.getStrategy(9, 7), is(equalTo(0)));
+        assertThat(lattice.getStrategy(1, 1), is(equalTo(0)));
+        assertThat(lattice.getStrategy(2, 1), is(equalTo(1)));
+    }
+
+    /**
+     * Tests that a homogeneous lattice does not change.
+     */
+    @Test
+    void testHomogeneous() {
+        final int[] strategies = new int[16 * 16];
+        Arrays.fill(strategies, 1);
+        final GefangenenDilemmaLattice lattice = new GefangenenDilemmaParallelLattice(TABLE, 16, 16, strategies);
+        lattice.advance(5);
+        assertThat(lattice.countStrategies(), is(equalTo(new long[] {0, 256 })));
+    }
+
+    /**
+     * Tests that the result does not depend on the number of workers.
+     */
+    @Test
+    void testIndependentOfParallelism() {
+        final double[][] outcomes = {{0.0, 1.9, 0.5 }, {0.0, 1.0, 0.3 }, {0.4, 0.2, 0.6 } };
+        final GefangenenDilemmaPayoffTable table = new GefangenenDilemmaPayoffTable(outcomes);
+        final SplittableRandom random = new SplittableRandom(5);
+        final int[] strategies = new int[257 * 131];
+        for (int agent = 0; agent < strategies.length; ++agent) {
+            strategies[agent] = random.nextInt(3);
+        }
+
+        final ForkJoinPool single = new ForkJoinPool(1);
+        final ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            final GefangenenDilemmaLattice sequential = new GefangenenDilemmaParallelLattice(table, 257, 131,
+                    strategies, single);
+            final GefangenenDilemmaLattice parallel = new GefangenenDilemmaParallelLattice(table, 257, 131,
+                    strategies, many);
+            sequential.advance(20);
+            parallel.advance(20);
+            for (int row = 0; row < 131; ++row) {
+                for (int column = 0; column < 257; ++column) {
+                    assertThat(parallel.getStrategy(column, row), is(equalTo(sequential.getStrategy(column, row))));
+                }
+            }
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    /**
+     * Tests that invalid lattices are rejected.
+     */
+    @Test
+    void testCtorWithInvalidArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaParallelLattice(TABLE, 0, 1, new int[0]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaParallelLattice(TABLE, 2, 2, new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new GefangenenDilemmaParallelLattice(TABLE, 2, 1, new int[] {0, 2 }));
+    }
+}
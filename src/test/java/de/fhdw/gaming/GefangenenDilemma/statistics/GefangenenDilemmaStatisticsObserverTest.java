@@ -0,0 +1,113 @@
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilder;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaGameBuilderFactory;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPlayer;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaState;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+import de.fhdw.gaming.GefangenenDilemma.moves.GefangenenDilemmaMove;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.core.domain.Game;
+import de.fhdw.gaming.core.domain.GameBuilderFactory;
+import de.fhdw.gaming.core.ui.InputProvider;
+import de.fhdw.gaming.core.ui.util.ChainedInputProvider;
+import de.fhdw.gaming.core.ui.util.NonInteractiveInputProvider;
+
+/**
+ * Tests {@link GefangenenDilemmaStatisticsObserver} observing games played by the game engine.
+ */
+final class GefangenenDilemmaStatisticsObserverTest {
+
+    /**
+     * Tests recording games played by the game engine.
+     */
+    @Test
+    void testObserveGames() throws Exception {
+        final GefangenenDilemmaStatisticsObserverFactoryProvider provider =
+                new GefangenenDilemmaStatisticsObserverFactoryProvider();
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        this.play(provider, snitch, staySilent);
+        this.play(provider, staySilent, staySilent);
+
+        final GefangenenDilemmaStatisticsSnapshot snapshot = provider.getStatistics().snapshot();
+        assertThat(snapshot.getStartedGames(), is(equalTo(2L)));
+        assertThat(snapshot.getFinishedGames(), is(equalTo(2L)));
+        assertThat(snapshot.getRounds(MOVES.SNITCH, MOVES.REMAINSILENT), is(equalTo(3L)));
+        assertThat(snapshot.getRounds(MOVES.REMAINSILENT, MOVES.REMAINSILENT), is(equalTo(3L)));
+        assertThat(snapshot.getTotalRounds(), is(equalTo(6L)));
+        assertThat(snapshot.getTotalOutcome(snitch.toString()), is(equalTo(0.0)));
+        assertThat(snapshot.getTotalOutcome(staySilent.toString()), is(equalTo(-36.0)));
+        assertThat(snapshot.getGames(staySilent.toString()), is(equalTo(3L)));
+    }
+
+    /**
+     * Plays a game of three rounds.
+     *
+     * @param provider       The provider of the observers.
+     * @param firstStrategy  The strategy of the first player.
+     * @param secondStrategy The strategy of the second player.
+     */
+    private void play(final GefangenenDilemmaStatisticsObserverFactoryProvider provider,
+            final GefangenenDilemmaStrategy firstStrategy, final GefangenenDilemmaStrategy secondStrategy)
+            throws Exception {
+        final GefangenenDilemmaGameBuilderFactory factory = new GefangenenDilemmaGameBuilderFactoryImpl();
+        final GefangenenDilemmaGameBuilder builder = factory.createGameBuilder(new ChainedInputProvider(
+                new NonInteractiveInputProvider()
+                        .fixedInteger(GameBuilderFactory.PARAM_MAX_COMPUTATION_TIME_PER_MOVE, 60)
+                        .fixedInteger(GefangenenDilemmaGameBuilderFactory.PARAM_NUMBER_OF_ROUNDS, 3),
+                (final Map<String, Object> gameData) -> new ChainedInputProvider(
+                        this.createPlayerInputProvider("A", firstStrategy, -8, 0, -10, -1),
+                        (final Map<String, Object> firstPlayerData) -> this.createPlayerInputProvider("B",
+                                secondStrategy, -8, -10, 0, -1))));
+        builder.changeObserverFactoryProvider(provider);
+        try (Game<GefangenenDilemmaPlayer, GefangenenDilemmaState, GefangenenDilemmaMove,
+                GefangenenDilemmaStrategy> game = builder.build(1)) {
+            game.start();
+            while (!game.isFinished()) {
+                game.makeMove();
+            }
+        }
+    }
+
+    /**
+     * Creates an input provider for the data of a player.
+     *
+     * @param name                          The name of the player.
+     * @param strategy                      The strategy of the player.
+     * @param outcomeOnSnitchSnitch         The outcome if both players snitch.
+     * @param outcomeOnSnitchStaySilent     The outcome if the first player snitches and the second one remains silent.
+     * @param outcomeOnStaySilentSnitch     The outcome if the first player remains silent and the second one snitches.
+     * @param outcomeOnStaySilentStaySilent The outcome if both players remain silent.
+     */
+    private InputProvider createPlayerInputProvider(final String name, final GefangenenDilemmaStrategy strategy,
+            final int outcomeOnSnitchSnitch, final int outcomeOnSnitchStaySilent, final int outcomeOnStaySilentSnitch,
+            final int outcomeOnStaySilentStaySilent) {
+        return new NonInteractiveInputProvider()
+                .fixedString(GameBuilderFactory.PARAM_PLAYER_NAME, name)
+                .fixedObject(GameBuilderFactory.PARAM_PLAYER_STRATEGY, strategy)
+                .fixedInteger(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_SNITCH,
+                        outcomeOnSnitchSnitch)
+                .fixedInteger(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_SNITCH_STAYSILENT,
+                        outcomeOnSnitchStaySilent)
+                .fixedInteger(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_STAYSILENT_SNITCH,
+                        outcomeOnStaySilentSnitch)
+                .fixedInteger(GefangenenDilemmaGameBuilderFactory.PARAM_PLAYER_OUTCOME_ON_STAYSILENT_STAYSILENT,
+                        outcomeOnStaySilentStaySilent);
+    }
+}
@@ -0,0 +1,116 @@
+package de.fhdw.gaming.GefangenenDilemma.statistics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMoveHistory;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaGameBuilderFactoryImpl.MOVES;
+
+/**
+ * Tests {@link GefangenenDilemmaStatistics}.
+ */
+final class GefangenenDilemmaStatisticsTest {
+
+    /**
+     * Tests recording games.
+     */
+    @Test
+    void testRecord() {
+        final GefangenenDilemmaStatistics statistics = new GefangenenDilemmaStatistics();
+        statistics.recordStarted();
+        statistics.recordStarted();
+        statistics.recordFinished("A", GefangenenDilemmaStatisticsTest.history(MOVES.SNITCH, MOVES.SNITCH), -16.0,
+                "B", GefangenenDilemmaStatisticsTest.history(MOVES.SNITCH, MOVES.REMAINSILENT), -18.0);
+
+        final GefangenenDilemmaStatisticsSnapshot snapshot = statistics.snapshot();
+        assertThat(snapshot.getStartedGames(), is(equalTo(2L)));
+        assertThat(snapshot.getFinishedGames(), is(equalTo(1L)));
+        assertThat(snapshot.getRounds(MOVES.SNITCH, MOVES.SNITCH), is(equalTo(1L)));
+        assertThat(snapshot.getRounds(MOVES.SNITCH, MOVES.REMAINSILENT), is(equalTo(1L)));
+        assertThat(snapshot.getRounds(MOVES.REMAINSILENT, MOVES.SNITCH), is(equalTo(0L)));
+        assertThat(snapshot.getStrategies(), is(equalTo(Set.of("A", "B"))));
+        assertThat(snapshot.getTotalOutcome("B"), is(equalTo(-18.0)));
+
+        // later snapshots include the games of earlier ones
+        statistics.recordFinished("A", GefangenenDilemmaStatisticsTest.history(MOVES.REMAINSILENT), -1.0,
+                "A", GefangenenDilemmaStatisticsTest.history(MOVES.REMAINSILENT), -1.0);
+        final GefangenenDilemmaStatisticsSnapshot laterSnapshot = statistics.snapshot();
+        assertThat(laterSnapshot.getFinishedGames(), is(equalTo(2L)));
+        assertThat(laterSnapshot.getTotalRounds(), is(equalTo(3L)));
+        assertThat(laterSnapshot.getTotalOutcome("A"), is(equalTo(-18.0)));
+        assertThat(laterSnapshot.getGames("A"), is(equalTo(3L)));
+    }
+
+    /**
+     * Tests that snapshots taken while games are recorded concurrently contain whole games only.
+     */
+    @Test
+    void testConsistentSnapshots() throws Exception {
+        final GefangenenDilemmaStatistics statistics = new GefangenenDilemmaStatistics();
+        final GefangenenDilemmaMoveHistory first = GefangenenDilemmaStatisticsTest.history(MOVES.SNITCH,
+                MOVES.REMAINSILENT);
+        final GefangenenDilemmaMoveHistory second = GefangenenDilemmaStatisticsTest.history(MOVES.REMAINSILENT,
+                MOVES.SNITCH);
+        final int gamesPerThread = 20_000;
+        final List<Thread> writers = new ArrayList<>();
+        for (int thread = 0; thread < 4; ++thread) {
+            writers.add(new Thread(() -> {
+                for (int game = 0; game < gamesPerThread; ++game) {
+                    statistics.recordStarted();
+                    statistics.recordFinished("A", first, -10.0, "B", second, -11.0);
+                }
+            }));
+        }
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    final GefangenenDilemmaStatisticsSnapshot snapshot = statistics.snapshot();
+                    assertThat(snapshot.getTotalRounds(), is(equalTo(2 * snapshot.getFinishedGames())));
+                    assertThat(snapshot.getGames("A"), is(equalTo(snapshot.getFinishedGames())));
+                    assertThat(snapshot.getTotalOutcome("B"), is(equalTo(-11.0 * snapshot.getFinishedGames())));
+                    assertThat(snapshot.getStartedGames() >= snapshot.getFinishedGames(), is(true));
+                }
+            } catch (final AssertionError e) {
+                failure.set(e);
+            }
+        });
+        writers.forEach(Thread::start);
+        reader.start();
+        for (final Thread writer : writers) {
+            writer.join();
+        }
+        running.set(false);
+        reader.join();
+        assertThat(failure.get(), is(equalTo(null)));
+
+        final long games = 4L * gamesPerThread;
+        assertThat(statistics.snapshot(), is(equalTo(new GefangenenDilemmaStatisticsSnapshot(games, games,
+                new long[] {0, games, games, 0 }, Map.of("A", -10.0 * games, "B", -11.0 * games),
+                Map.of("A", games, "B", games)))));
+    }
+
+    /**
+     * Creates a history.
+     *
+     * @param answers The answers.
+     */
+    private static GefangenenDilemmaMoveHistory history(final MOVES... answers) {
+        final GefangenenDilemmaMoveHistory history = new GefangenenDilemmaMoveHistory();
+        for (final MOVES answer : answers) {
+            history.add(answer);
+        }
+        return history;
+    }
+}
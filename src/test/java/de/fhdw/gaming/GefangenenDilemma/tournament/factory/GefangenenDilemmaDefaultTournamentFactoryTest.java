@@ -0,0 +1,89 @@
+package de.fhdw.gaming.GefangenenDilemma.tournament.factory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaMatchSimulator;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.factory.GefangenenDilemmaDefaultMatchSimulatorFactory;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLog;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournamentStanding;
+
+/**
+ * Tests {@link GefangenenDilemmaDefaultTournamentFactory}.
+ */
+final class GefangenenDilemmaDefaultTournamentFactoryTest {
+
+    /**
+     * The payoff matrix of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The payoff matrix of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+
+    /**
+     * Tests that the created round-robin tournaments play every pairing the given number of times.
+     */
+    @Test
+    void testCreateRoundRobinTournament() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final GefangenenDilemmaMatchSimulator simulator = new GefangenenDilemmaDefaultMatchSimulatorFactory()
+                .create(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 10);
+        final List<GefangenenDilemmaTournamentStanding> expected = List.of(
+                new GefangenenDilemmaTournamentStanding(snitch, 2 * -160.0, 8),
+                new GefangenenDilemmaTournamentStanding(staySilent, 2 * -220.0, 8));
+
+        final GefangenenDilemmaTournamentFactory factory = new GefangenenDilemmaDefaultTournamentFactory();
+        assertThat(factory.createRoundRobinTournament(List.of(staySilent, snitch), simulator, 2).play(),
+                is(equalTo(expected)));
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThat(factory.createRoundRobinTournament(List.of(staySilent, snitch), simulator, 2, pool).play(),
+                    is(equalTo(expected)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that the created round-robin tournaments with a log append all rounds to it.
+     */
+    @Test
+    void testCreateRoundRobinTournamentWithLog(@TempDir final Path directory) throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final GefangenenDilemmaMatchSimulator simulator = new GefangenenDilemmaDefaultMatchSimulatorFactory()
+                .create(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 10);
+
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 16, Duration.ofMillis(10))) {
+            new GefangenenDilemmaDefaultTournamentFactory()
+                    .createRoundRobinTournament(List.of(staySilent, snitch), simulator, 2, ForkJoinPool.commonPool(),
+                            log)
+                    .play();
+            assertThat(log.getNumberOfRecords(), is(equalTo(8L * 10)));
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package de.fhdw.gaming.GefangenenDilemma.tournament.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaPayoffMatrix;
+import de.fhdw.gaming.GefangenenDilemma.domain.GefangenenDilemmaStrategy;
+import de.fhdw.gaming.GefangenenDilemma.domain.impl.GefangenenDilemmaMatchSimulatorImpl;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLog;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLogCursor;
+import de.fhdw.gaming.GefangenenDilemma.log.GefangenenDilemmaMatchLogReader;
+import de.fhdw.gaming.GefangenenDilemma.moves.factory.GefangenenDilemmaMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.moves.impl.GefangenenDilemmaDefaultMoveFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaSnitchStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.strategy.GefangenenDilemmaStaySilentStrategyFactory;
+import de.fhdw.gaming.GefangenenDilemma.tournament.GefangenenDilemmaTournamentStanding;
+import de.fhdw.gaming.core.domain.GameException;
+
+/**
+ * Tests {@link GefangenenDilemmaRoundRobinTournament}.
+ */
+final class GefangenenDilemmaRoundRobinTournamentTest {
+
+    /**
+     * The possible outcomes of the first player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix FIRST_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, 0.0, -10.0, -1.0);
+    /**
+     * The possible outcomes of the second player.
+     */
+    private static final GefangenenDilemmaPayoffMatrix SECOND_PLAYER_OUTCOMES = GefangenenDilemmaPayoffMatrix.of(
+            -8.0, -10.0, 0.0, -1.0);
+
+    /**
+     * Tests {@link GefangenenDilemmaRoundRobinTournament#play()}.
+     */
+    @Test
+    void testPlay() throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final List<GefangenenDilemmaTournamentStanding> standings = new GefangenenDilemmaRoundRobinTournament(
+                    List.of(staySilent, snitch),
+                    new GefangenenDilemmaMatchSimulatorImpl(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 10),
+                    3,
+                    pool).play();
+
+            // per repetition: snitch vs. itself -80/-80, snitch vs. silent 0 twice, silent vs. itself -10/-10 and
+            // silent vs. snitch -100 twice
+            assertThat(standings, is(equalTo(List.of(
+                    new GefangenenDilemmaTournamentStanding(snitch, 3 * -160.0, 12),
+                    new GefangenenDilemmaTournamentStanding(staySilent, 3 * -220.0, 12)))));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests that all rounds of all matches are logged.
+     */
+    @Test
+    void testPlayWithLog(@TempDir final Path directory) throws Exception {
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy snitch = new GefangenenDilemmaSnitchStrategyFactory().create(moveFactory);
+        final GefangenenDilemmaStrategy staySilent = new GefangenenDilemmaStaySilentStrategyFactory()
+                .create(moveFactory);
+        final List<GefangenenDilemmaTournamentStanding> standings;
+        try (GefangenenDilemmaMatchLog log = new GefangenenDilemmaMatchLog(directory, 16, Duration.ofMillis(10))) {
+            standings = new GefangenenDilemmaRoundRobinTournament(
+                    List.of(staySilent, snitch),
+                    new GefangenenDilemmaMatchSimulatorImpl(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 10),
+                    3,
+                    ForkJoinPool.commonPool(),
+                    log).play();
+        }
+
+        final double[] outcomes = new double[2];
+        long records = 0;
+        final GefangenenDilemmaMatchLogCursor cursor = new GefangenenDilemmaMatchLogReader(directory).createCursor();
+        while (cursor.next()) {
+            outcomes[cursor.getFirstPlayer()] += cursor.getFirstPlayerPayoff();
+            outcomes[cursor.getSecondPlayer()] += cursor.getSecondPlayerPayoff();
+            ++records;
+        }
+        assertThat(records, is(equalTo(12L * 10)));
+        assertThat(outcomes[0], is(equalTo(standings.get(1).getTotalOutcome())));
+        assertThat(outcomes[1], is(equalTo(standings.get(0).getTotalOutcome())));
+    }
+
+    /**
+     * Tests that an exception of a match is passed on.
+     */
+    @Test
+    void testPlayWithFailingMatch() {
+        final GefangenenDilemmaStrategy failing = (gameId, player, state, maxComputationTimePerMove) -> {
+            throw new GameException("failed");
+        };
+        final GefangenenDilemmaRoundRobinTournament tournament = new GefangenenDilemmaRoundRobinTournament(
+                List.of(failing),
+                new GefangenenDilemmaMatchSimulatorImpl(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1),
+                1);
+        Assertions.assertThrows(GameException.class, tournament::play);
+    }
+
+    /**
+     * Tests that the strategies receive unique game IDs.
+     */
+    @Test
+    void testGameIds() throws Exception {
+        final Set<Integer> gameIds = ConcurrentHashMap.newKeySet();
+        final GefangenenDilemmaMoveFactory moveFactory = new GefangenenDilemmaDefaultMoveFactory();
+        final GefangenenDilemmaStrategy recording = (gameId, player, state, maxComputationTimePerMove) -> {
+            gameIds.add(gameId);
+            return Optional.of(moveFactory.createSnitchMove());
+        };
+        new GefangenenDilemmaRoundRobinTournament(
+                List.of(recording, recording, recording),
+                new GefangenenDilemmaMatchSimulatorImpl(FIRST_PLAYER_OUTCOMES, SECOND_PLAYER_OUTCOMES, 1),
+                5).play();
+        assertThat(gameIds.size(), is(equalTo(45)));
+    }
+}